@@ -0,0 +1,163 @@
+/**
+ * BenchmarkWorld.java
+ * Builds seeded BenumZombs worlds with a chosen number of buildings, zombies and projectiles for the benchmarks
+ * @author Richard Pu
+ * @version 1.0
+ * @since 2026-10-17
+ */
+
+package benchmarks;
+
+import game.BenumZombsGame;
+import game.GameSimulation;
+import helpers.RandomGeneration;
+import java.awt.Image;
+import java.awt.Rectangle;
+import java.util.Random;
+import objects.Buildings.Building;
+import objects.Projectile;
+import systems.BuildingSystem;
+
+public class BenchmarkWorld {
+    public static final long DEFAULT_SEED = 42L;
+
+    private static final int GRID = BenumZombsGame.GRID_SIZE;
+    private static final int CENTER = BenumZombsGame.OFFSET + (BenumZombsGame.PLAY_AREA / 2 / GRID) * GRID;
+
+    private final GameSimulation simulation;
+    private final Random random;
+    private Building firstTower;
+
+    /**
+     * Constructor for BenchmarkWorld
+     * Precondition: counts are non-negative
+     * Postcondition: a world with a stash, the given buildings, zombies and projectiles is created from the seed
+     * @param seed the seed for the layout
+     * @param resourceCount the number of extra trees and stones to spawn
+     * @param buildingCount the number of buildings to place around the stash
+     * @param zombieCount the number of zombies to spawn around the base
+     * @param projectileCount the number of projectiles flying over the base
+     */
+    public BenchmarkWorld(long seed, int resourceCount, int buildingCount, int zombieCount, int projectileCount) {
+        System.setProperty("java.awt.headless", "true");
+        RandomGeneration.setSeed(seed);
+        random = new Random(seed);
+
+        simulation = new GameSimulation("Benchmark");
+        simulation.getResourceSystem().spawnResources(resourceCount);
+        simulation.getResourceSystem().devModeAddResources();
+
+        placeBuildings(buildingCount);
+        spawnZombies(zombieCount);
+        spawnProjectiles(projectileCount);
+    }
+
+    /**
+     * Places the stash in the middle of the play area and fills a square around it, every fifth building a tower
+     * Precondition: N/A
+     * Postcondition: the stash and buildingCount other buildings are placed
+     * @param buildingCount the number of buildings to place
+     */
+    private void placeBuildings(int buildingCount) {
+        BuildingSystem buildingSystem = simulation.getBuildingSystem();
+        simulation.placeBuilding(buildingSystem.getBuildingInSlot(10), CENTER, CENTER);
+
+        int step = GRID * 2; // Large enough for towers
+        int side = (int) Math.ceil(Math.sqrt(buildingCount + 1));
+        int start = CENTER - (side / 2) * step;
+        int placed = 0;
+        for (int row = 0; row < side && placed < buildingCount; row++) {
+            for (int col = 0; col < side && placed < buildingCount; col++) {
+                int x = start + col * step;
+                int y = start + row * step;
+                if (x == CENTER && y == CENTER) {
+                    continue; // Stash
+                }
+
+                int slot = (placed % 5 == 4) ? 3 + (placed / 5) % 5 : 0; // Arrow, Cannon, Melee, Bomb and Mage towers between walls
+                Building building = simulation.placeBuilding(buildingSystem.getBuildingInSlot(slot), x, y);
+                if (slot != 0 && firstTower == null) {
+                    firstTower = building;
+                }
+                placed++;
+            }
+        }
+    }
+
+    /**
+     * Spawns zombies in a ring around the base
+     * Precondition: N/A
+     * Postcondition: zombieCount zombies are added to the zombie system
+     * @param zombieCount the number of zombies to spawn
+     */
+    private void spawnZombies(int zombieCount) {
+        for (int i = 0; i < zombieCount; i++) {
+            double angle = random.nextDouble() * Math.PI * 2;
+            double radius = GRID * 8 + random.nextDouble() * GRID * 25;
+            int tier = 1 + random.nextInt(6);
+            int level = 1 + random.nextInt(10);
+            simulation.getZombieSystem().getZombieStore().add(CENTER + Math.cos(angle) * radius, CENTER + Math.sin(angle) * radius, tier, level);
+        }
+    }
+
+    /**
+     * Spawns tower projectiles over the base heading outwards
+     * Precondition: N/A
+     * Postcondition: projectileCount projectiles are added to the building system
+     * @param projectileCount the number of projectiles to spawn
+     */
+    private void spawnProjectiles(int projectileCount) {
+        BuildingSystem buildingSystem = simulation.getBuildingSystem();
+        Image sprite = buildingSystem.getBuildingInSlot(3).getProjectileImage();
+        for (int i = 0; i < projectileCount; i++) {
+            double x = CENTER + (random.nextDouble() - 0.5) * GRID * 30;
+            double y = CENTER + (random.nextDouble() - 0.5) * GRID * 30;
+            double angle = random.nextDouble() * Math.PI * 2;
+            int radius = (i % 4 == 0) ? 50 : 0; // Every fourth projectile deals area damage
+            buildingSystem.addProjectile(new Projectile(x, y, angle, 10, 40, radius, sprite));
+        }
+    }
+
+    /**
+     * Creates seeded query boxes scattered over the base, sized like a zombie or player
+     * Precondition: count is positive
+     * Postcondition: returns count rectangles
+     * @param seed the seed for the boxes
+     * @param count the number of boxes to create
+     * @return the query boxes
+     */
+    public static Rectangle[] createQueryBoxes(long seed, int count) {
+        Random random = new Random(seed);
+        Rectangle[] boxes = new Rectangle[count];
+        for (int i = 0; i < count; i++) {
+            int x = CENTER + (int) ((random.nextDouble() - 0.5) * GRID * 60);
+            int y = CENTER + (int) ((random.nextDouble() - 0.5) * GRID * 60);
+            int size = (i % 2 == 0) ? 35 : 50;
+            boxes[i] = new Rectangle(x, y, size, size);
+        }
+        return boxes;
+    }
+
+    /**
+     * Gets the simulation holding the world
+     * Precondition: N/A
+     * Postcondition: returns the simulation
+     * @return the simulation
+     */
+    public GameSimulation getSimulation() {
+        return simulation;
+    }
+
+    /**
+     * Gets the first tower placed, used for targeting benchmarks
+     * Precondition: N/A
+     * Postcondition: returns the first tower, or the stash if no tower was placed
+     * @return a placed tower
+     */
+    public Building getFirstTower() {
+        if (firstTower != null) {
+            return firstTower;
+        }
+        return simulation.getBuildingSystem().getActiveStash();
+    }
+}
@@ -0,0 +1,96 @@
+/**
+ * CollisionBenchmark.java
+ * JMH benchmarks for the CollisionSystem queries run by movement, placement and zombie targeting
+ * @author Richard Pu
+ * @version 1.0
+ * @since 2026-10-17
+ */
+
+package benchmarks;
+
+import java.awt.Rectangle;
+import java.util.concurrent.TimeUnit;
+import objects.Buildings.Building;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import systems.BuildingSystem;
+import systems.CollisionSystem;
+import systems.ResourceSystem;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollisionBenchmark {
+    private static final int QUERY_COUNT = 1024; // Power of two so the index can wrap with a mask
+
+    @Param({"25", "500"})
+    public int resourceCount;
+
+    @Param({"50", "250", "1000"})
+    public int buildingCount;
+
+    private ResourceSystem resourceSystem;
+    private BuildingSystem buildingSystem;
+    private Rectangle[] queries;
+    private int next = 0;
+
+    /**
+     * Builds the seeded world and the query boxes
+     * Precondition: N/A
+     * Postcondition: systems and queries are ready
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkWorld world = new BenchmarkWorld(BenchmarkWorld.DEFAULT_SEED, resourceCount, buildingCount, 0, 0);
+        resourceSystem = world.getSimulation().getResourceSystem();
+        buildingSystem = world.getSimulation().getBuildingSystem();
+        queries = BenchmarkWorld.createQueryBoxes(BenchmarkWorld.DEFAULT_SEED, QUERY_COUNT);
+    }
+
+    /**
+     * Gets the next query box, cycling through all of them
+     * Precondition: setUp has run
+     * Postcondition: returns a query box and advances the index
+     * @return the next query box
+     */
+    private Rectangle nextQuery() {
+        Rectangle query = queries[next];
+        next = (next + 1) & (QUERY_COUNT - 1);
+        return query;
+    }
+
+    /**
+     * Measures a resource overlap check, run by player and zombie movement every tick
+     * Precondition: setUp has run
+     * Postcondition: N/A
+     * @return whether the query hit a resource
+     */
+    @Benchmark
+    public boolean checkResourceCollision() {
+        return CollisionSystem.checkResourceCollision(nextQuery(), resourceSystem);
+    }
+
+    /**
+     * Measures a colliding building lookup, run by every untargeted zombie every tick
+     * Precondition: setUp has run
+     * Postcondition: N/A
+     * @return the building hit, or null
+     */
+    @Benchmark
+    public Building getCollidingBuilding() {
+        return CollisionSystem.getCollidingBuilding(nextQuery(), buildingSystem);
+    }
+}
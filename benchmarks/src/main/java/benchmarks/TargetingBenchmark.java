@@ -0,0 +1,66 @@
+/**
+ * TargetingBenchmark.java
+ * JMH benchmark for the closest zombie search every tower runs each tick
+ * @author Richard Pu
+ * @version 1.0
+ * @since 2026-10-17
+ */
+
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import objects.Buildings.Building;
+import objects.Zombie;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import systems.ZombieSystem;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TargetingBenchmark {
+    @Param({"100", "1000", "5000"})
+    public int zombieCount;
+
+    @Param({"50", "250"})
+    public int buildingCount;
+
+    private Building tower;
+    private ZombieSystem zombieSystem;
+
+    /**
+     * Builds the seeded world and picks a tower to search from
+     * Precondition: N/A
+     * Postcondition: tower and zombie system are ready
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkWorld world = new BenchmarkWorld(BenchmarkWorld.DEFAULT_SEED, 0, buildingCount, zombieCount, 0);
+        tower = world.getFirstTower();
+        zombieSystem = world.getSimulation().getZombieSystem();
+    }
+
+    /**
+     * Measures one closest zombie search
+     * Precondition: setUp has run
+     * Postcondition: N/A
+     * @return the closest zombie in range, or null
+     */
+    @Benchmark
+    public Zombie findClosestZombie() {
+        return tower.findClosestZombie(zombieSystem);
+    }
+}
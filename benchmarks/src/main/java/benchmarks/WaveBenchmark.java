@@ -0,0 +1,131 @@
+/**
+ * WaveBenchmark.java
+ * JMH benchmarks for the per-tick zombie and building updates that dominate a night wave
+ * @author Richard Pu
+ * @version 1.0
+ * @since 2026-10-17
+ */
+
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+import objects.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import systems.BuildingSystem;
+import systems.DamageSystem;
+import systems.GameClock;
+import systems.ResourceSystem;
+import systems.ZombieStore;
+import systems.ZombieSystem;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WaveBenchmark {
+    private static final float DAY_TIME = 0.0f; // Keeps ZombieSystem from spawning a wave during the measurement
+    private static final int TICKS = 10; // Ticks timed from each fresh world, few enough that the counts still describe it
+
+    @Param({"100", "1000"})
+    public int zombieCount;
+
+    @Param({"50", "250"})
+    public int buildingCount;
+
+    @Param({"0", "200"})
+    public int projectileCount;
+
+    private GameClock clock;
+    private Player player;
+    private ResourceSystem resourceSystem;
+    private BuildingSystem buildingSystem;
+    private ZombieSystem zombieSystem;
+    private DamageSystem damageSystem;
+
+    /**
+     * Rebuilds the seeded world before every invocation, since updates move and kill zombies and towers fire new projectiles
+     * Precondition: N/A
+     * Postcondition: a fresh world is ready
+     */
+    @Setup(Level.Invocation)
+    public void setUp() {
+        BenchmarkWorld world = new BenchmarkWorld(BenchmarkWorld.DEFAULT_SEED, 0, buildingCount, zombieCount, projectileCount);
+        clock = world.getSimulation().getClock();
+        player = world.getSimulation().getPlayer();
+        resourceSystem = world.getSimulation().getResourceSystem();
+        buildingSystem = world.getSimulation().getBuildingSystem();
+        zombieSystem = world.getSimulation().getZombieSystem();
+        damageSystem = world.getSimulation().getDamageSystem();
+    }
+
+    /**
+     * Measures ZombieSystem.update, including the projectile hit loop, area damage and the damage apply phase
+     * Precondition: setUp has run
+     * Postcondition: the world is advanced by TICKS zombie updates
+     * @return the number of zombies left
+     */
+    @Benchmark
+    @OperationsPerInvocation(TICKS)
+    public int zombieSystemUpdate() {
+        for (int tick = 0; tick < TICKS; tick++) {
+            clock.advance();
+            zombieSystem.update(player, buildingSystem, resourceSystem, DAY_TIME, 1);
+            damageSystem.apply(clock.getMillis());
+            zombieSystem.removeDeadZombies();
+        }
+        return zombieSystem.getZombieCount();
+    }
+
+    /**
+     * Measures ZombieSystem.updateZombie alone for every zombie, the movement, collision and attack part of a tick
+     * Precondition: setUp has run
+     * Postcondition: every zombie is moved TICKS times
+     * @return the x-coordinate of the last zombie, so the work is not optimized away
+     */
+    @Benchmark
+    @OperationsPerInvocation(TICKS)
+    public double zombieUpdate() {
+        ZombieStore zombies = zombieSystem.getZombieStore();
+        double last = 0;
+        for (int tick = 0; tick < TICKS; tick++) {
+            clock.advance();
+            for (int i = 0; i < zombies.size(); i++) {
+                zombieSystem.updateZombie(i, player, buildingSystem, resourceSystem, clock.getTick());
+                last = zombies.getX(i);
+            }
+            damageSystem.apply(clock.getMillis());
+        }
+        return last;
+    }
+
+    /**
+     * Measures BuildingSystem.update, covering tower targeting, firing, regen and projectile movement
+     * Precondition: setUp has run
+     * Postcondition: the world is advanced by TICKS building updates
+     * @return the number of live projectiles
+     */
+    @Benchmark
+    @OperationsPerInvocation(TICKS)
+    public int buildingSystemUpdate() {
+        for (int tick = 0; tick < TICKS; tick++) {
+            clock.advance();
+            buildingSystem.update(resourceSystem, zombieSystem);
+            damageSystem.apply(clock.getMillis());
+        }
+        return buildingSystem.getProjectiles().size();
+    }
+}
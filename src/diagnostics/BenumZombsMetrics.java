@@ -0,0 +1,228 @@
+/**
+ * BenumZombsMetrics.java
+ * The BenumZombsMetrics class for BenumZombs, publishing live simulation counters to JMX without touching the simulation lock
+ * @author Richard Pu
+ * @version 1.0
+ * @since 2026-10-17
+ */
+
+package diagnostics;
+
+import game.GameSimulation;
+import helpers.Log;
+import helpers.Logger;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import systems.CollisionSystem;
+import systems.ResourceSystem;
+
+public class BenumZombsMetrics implements BenumZombsMetricsMBean {
+    private static final Logger LOG = Log.getLogger("BenumZombsMetrics.java");
+
+    public static final String OBJECT_NAME = "benumzombs:type=Metrics";
+    private static final long RATE_WINDOW_NANOS = 1_000_000_000L; // Ticks per second is measured over about a second
+    private static BenumZombsMetrics registered; // The metrics under OBJECT_NAME, guarded by the class lock
+
+    private final PhaseHistogram tickTimes;
+
+    //************* Published Values *************//
+    // Written once per tick by the simulation thread, read by JMX threads, so a read never waits for a tick
+    private volatile int zombieCount;
+    private volatile int buildingCount;
+    private volatile int projectileCount;
+    private volatile int wave;
+    private volatile float timeOfDay;
+    private volatile int wood;
+    private volatile int stone;
+    private volatile int gold;
+    private volatile int tokens;
+    private volatile long collisionQueriesLastTick;
+    private volatile double ticksPerSecond;
+    private final LongAdder tickCount = new LongAdder();
+    private final LongAdder collisionQueriesTotal = new LongAdder();
+
+    //************* Rate Window *************//
+    // Only touched by the simulation thread
+    private long windowStart = -1;
+    private long windowTicks = 0;
+
+    /**
+     * Constructor for BenumZombsMetrics
+     * Precondition: tickTimes is the histogram the simulation records its tick durations in
+     * Postcondition: metrics are created with every value at zero
+     * @param tickTimes the histogram of tick durations
+     */
+    public BenumZombsMetrics(PhaseHistogram tickTimes) {
+        this.tickTimes = tickTimes;
+    }
+
+    /**
+     * Publishes the simulation's counts at the end of a tick
+     * Precondition: called from the simulation thread at the end of GameSimulation.tick
+     * Postcondition: every attribute reflects this tick
+     * @param simulation the simulation that just ticked
+     */
+    public void update(GameSimulation simulation) {
+        ResourceSystem resources = simulation.getResourceSystem();
+        zombieCount = simulation.getZombieSystem().getZombieCount();
+        buildingCount = simulation.getBuildingSystem().getPlacedBuildings().size();
+        projectileCount = simulation.getPlayer().getProjectiles().size() + simulation.getBuildingSystem().getProjectiles().size();
+        wave = simulation.getWaveCount();
+        timeOfDay = simulation.getClock().getTimeOfDay();
+        wood = resources.getWoodCount();
+        stone = resources.getStoneCount();
+        gold = resources.getGoldCount();
+        tokens = resources.getTokenCount();
+
+        long queries = CollisionSystem.takeQueryCount();
+        collisionQueriesLastTick = queries;
+        collisionQueriesTotal.add(queries);
+
+        //************* Ticks per Second *************//
+        tickCount.increment();
+        long now = System.nanoTime();
+        if (windowStart < 0) {
+            windowStart = now;
+        }
+        windowTicks++;
+        if (now - windowStart >= RATE_WINDOW_NANOS) {
+            ticksPerSecond = windowTicks * 1_000_000_000.0 / (now - windowStart);
+            windowStart = now;
+            windowTicks = 0;
+        }
+    }
+
+    /**
+     * Registers these metrics with the platform MBean server, replacing any game registered before
+     * Precondition: N/A
+     * Postcondition: JMX clients can read the metrics under OBJECT_NAME, or the failure is printed
+     */
+    public void register() {
+        synchronized (BenumZombsMetrics.class) {
+            try {
+                MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+                ObjectName name = new ObjectName(OBJECT_NAME);
+                if (server.isRegistered(name)) {
+                    server.unregisterMBean(name);
+                }
+                server.registerMBean(this, name);
+                registered = this;
+            } catch (JMException e) {
+                LOG.warn("Could not register metrics: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Removes these metrics from the platform MBean server when their game ends, so JMX clients stop showing frozen values
+     * Precondition: N/A
+     * Postcondition: OBJECT_NAME is unregistered if these metrics hold it, a newer game's metrics are left alone
+     */
+    public void unregister() {
+        synchronized (BenumZombsMetrics.class) {
+            if (registered != this) {
+                return; // A newer game registered over this one before it was stopped
+            }
+            registered = null;
+            try {
+                MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+                ObjectName name = new ObjectName(OBJECT_NAME);
+                if (server.isRegistered(name)) {
+                    server.unregisterMBean(name);
+                }
+            } catch (JMException e) {
+                LOG.warn("Could not unregister metrics: " + e.getMessage());
+            }
+        }
+    }
+
+    //************* Attributes *************//
+
+    @Override
+    public int getZombieCount() {
+        return zombieCount;
+    }
+
+    @Override
+    public int getBuildingCount() {
+        return buildingCount;
+    }
+
+    @Override
+    public int getProjectileCount() {
+        return projectileCount;
+    }
+
+    @Override
+    public int getWave() {
+        return wave;
+    }
+
+    @Override
+    public float getTimeOfDay() {
+        return timeOfDay;
+    }
+
+    @Override
+    public long getTickCount() {
+        return tickCount.sum();
+    }
+
+    @Override
+    public double getTicksPerSecond() {
+        return ticksPerSecond;
+    }
+
+    @Override
+    public double getTickTimeP50Micros() {
+        return tickTimes.getPercentile(0.50) / 1000.0;
+    }
+
+    @Override
+    public double getTickTimeP95Micros() {
+        return tickTimes.getPercentile(0.95) / 1000.0;
+    }
+
+    @Override
+    public double getTickTimeP99Micros() {
+        return tickTimes.getPercentile(0.99) / 1000.0;
+    }
+
+    @Override
+    public double getTickTimeMaxMicros() {
+        return tickTimes.getMax() / 1000.0;
+    }
+
+    @Override
+    public int getWood() {
+        return wood;
+    }
+
+    @Override
+    public int getStone() {
+        return stone;
+    }
+
+    @Override
+    public int getGold() {
+        return gold;
+    }
+
+    @Override
+    public int getTokens() {
+        return tokens;
+    }
+
+    @Override
+    public long getCollisionQueriesLastTick() {
+        return collisionQueriesLastTick;
+    }
+
+    @Override
+    public long getCollisionQueriesTotal() {
+        return collisionQueriesTotal.sum();
+    }
+}
@@ -0,0 +1,151 @@
+/**
+ * BenumZombsMetricsMBean.java
+ * The BenumZombsMetricsMBean interface for BenumZombs, the attributes JMX clients can read from a running game
+ * @author Richard Pu
+ * @version 1.0
+ * @since 2026-10-17
+ */
+
+package diagnostics;
+
+public interface BenumZombsMetricsMBean {
+    //************* Counts *************//
+    /**
+     * Gets the number of zombies alive
+     * Precondition: N/A
+     * Postcondition: returns the zombie count at the end of the last tick
+     * @return the number of zombies
+     */
+    int getZombieCount();
+
+    /**
+     * Gets the number of placed buildings
+     * Precondition: N/A
+     * Postcondition: returns the building count at the end of the last tick
+     * @return the number of buildings
+     */
+    int getBuildingCount();
+
+    /**
+     * Gets the number of projectiles in flight from the player and towers
+     * Precondition: N/A
+     * Postcondition: returns the projectile count at the end of the last tick
+     * @return the number of projectiles
+     */
+    int getProjectileCount();
+
+    /**
+     * Gets the current wave
+     * Precondition: N/A
+     * Postcondition: returns the wave count
+     * @return the current wave, 0 before the stash is placed
+     */
+    int getWave();
+
+    /**
+     * Gets the time of day shown by the HUD
+     * Precondition: N/A
+     * Postcondition: returns the time of day
+     * @return the time of day between 0.0 and 1.0, night is 0.25 to 0.75
+     */
+    float getTimeOfDay();
+
+    //************* Tick Timing *************//
+    /**
+     * Gets the number of ticks run
+     * Precondition: N/A
+     * Postcondition: returns the tick count
+     * @return the number of ticks since the game started
+     */
+    long getTickCount();
+
+    /**
+     * Gets how many ticks ran in the last second
+     * Precondition: N/A
+     * Postcondition: returns the tick rate
+     * @return the ticks per second measured over the last full second
+     */
+    double getTicksPerSecond();
+
+    /**
+     * Gets the median tick duration
+     * Precondition: N/A
+     * Postcondition: returns the 50th percentile since the game started
+     * @return the median tick time in microseconds
+     */
+    double getTickTimeP50Micros();
+
+    /**
+     * Gets the 95th percentile tick duration
+     * Precondition: N/A
+     * Postcondition: returns the 95th percentile since the game started
+     * @return the 95th percentile tick time in microseconds
+     */
+    double getTickTimeP95Micros();
+
+    /**
+     * Gets the 99th percentile tick duration
+     * Precondition: N/A
+     * Postcondition: returns the 99th percentile since the game started
+     * @return the 99th percentile tick time in microseconds
+     */
+    double getTickTimeP99Micros();
+
+    /**
+     * Gets the longest tick duration
+     * Precondition: N/A
+     * Postcondition: returns the max since the game started
+     * @return the longest tick time in microseconds
+     */
+    double getTickTimeMaxMicros();
+
+    //************* Resources *************//
+    /**
+     * Gets the player's wood
+     * Precondition: N/A
+     * Postcondition: returns the wood count at the end of the last tick
+     * @return the wood count
+     */
+    int getWood();
+
+    /**
+     * Gets the player's stone
+     * Precondition: N/A
+     * Postcondition: returns the stone count at the end of the last tick
+     * @return the stone count
+     */
+    int getStone();
+
+    /**
+     * Gets the player's gold
+     * Precondition: N/A
+     * Postcondition: returns the gold count at the end of the last tick
+     * @return the gold count
+     */
+    int getGold();
+
+    /**
+     * Gets the player's tokens
+     * Precondition: N/A
+     * Postcondition: returns the token count at the end of the last tick
+     * @return the token count
+     */
+    int getTokens();
+
+    //************* Collision Queries *************//
+    /**
+     * Gets the number of CollisionSystem queries made in the last tick
+     * Precondition: N/A
+     * Postcondition: returns the query count
+     * @return the queries counted between the last two ticks
+     */
+    long getCollisionQueriesLastTick();
+
+    /**
+     * Gets the number of CollisionSystem queries made in total
+     * Precondition: N/A
+     * Postcondition: returns the query count
+     * @return the queries counted since the game started
+     */
+    long getCollisionQueriesTotal();
+}
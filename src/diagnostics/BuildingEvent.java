@@ -0,0 +1,61 @@
+/**
+ * BuildingEvent.java
+ * The BuildingEvent class for BenumZombs, a Java Flight Recorder event for buildings being placed, upgraded, sold or destroyed
+ * @author Richard Pu
+ * @version 1.0
+ * @since 2026-10-17
+ */
+
+package diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import objects.Buildings.Building;
+
+@Name("benumzombs.Building")
+@Label("Building Change")
+@Category({"BenumZombs", "Buildings"})
+@Description("A building being placed, upgraded, sold or destroyed")
+public class BuildingEvent extends Event {
+    public static final String PLACE = "place";
+    public static final String UPGRADE = "upgrade";
+    public static final String SELL = "sell";
+    public static final String DESTROY = "destroy";
+
+    @Label("Action")
+    public String action;
+
+    @Label("Building")
+    public String building;
+
+    @Label("Level")
+    public int level;
+
+    @Label("X")
+    public int x;
+
+    @Label("Y")
+    public int y;
+
+    /**
+     * Records a change to a building
+     * Precondition: action is one of PLACE, UPGRADE, SELL or DESTROY, building is not null
+     * Postcondition: an event is committed if recording is on, otherwise nothing happens
+     * @param action what happened to the building
+     * @param building the building that changed
+     */
+    public static void emit(String action, Building building) {
+        BuildingEvent event = new BuildingEvent();
+        if (event.isEnabled()) {
+            event.action = action;
+            event.building = building.getName();
+            event.level = building.getLevel();
+            event.x = (int) building.getX();
+            event.y = (int) building.getY();
+            event.commit();
+        }
+    }
+}
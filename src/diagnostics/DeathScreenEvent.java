@@ -0,0 +1,48 @@
+/**
+ * DeathScreenEvent.java
+ * The DeathScreenEvent class for BenumZombs, a Java Flight Recorder event for the death screen being shown
+ * @author Richard Pu
+ * @version 1.0
+ * @since 2026-10-17
+ */
+
+package diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("benumzombs.DeathScreen")
+@Label("Death Screen")
+@Category({"BenumZombs", "Game"})
+@Description("The player dying or the gold stash being destroyed")
+public class DeathScreenEvent extends Event {
+    @Label("Stash Destroyed")
+    public boolean stashDestroyed;
+
+    @Label("Wave")
+    public int wave;
+
+    @Label("Zombies")
+    public int zombieCount;
+
+    /**
+     * Records the death screen being shown
+     * Precondition: N/A
+     * Postcondition: an event is committed if recording is on, otherwise nothing happens
+     * @param stashDestroyed true if the stash was destroyed, false if only the player died
+     * @param wave the wave the game reached
+     * @param zombieCount the number of zombies alive
+     */
+    public static void emit(boolean stashDestroyed, int wave, int zombieCount) {
+        DeathScreenEvent event = new DeathScreenEvent();
+        if (event.isEnabled()) {
+            event.stashDestroyed = stashDestroyed;
+            event.wave = wave;
+            event.zombieCount = zombieCount;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,515 @@
+/**
+ * FrameProfiler.java
+ * The FrameProfiler class for BenumZombs, timing each simulation and paint phase into histograms and counting the bytes each allocates
+ * @author Richard Pu
+ * @version 1.0
+ * @since 2026-10-17
+ */
+
+package diagnostics;
+
+import helpers.Log;
+import helpers.Logger;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class FrameProfiler {
+    private static final Logger LOG = Log.getLogger("FrameProfiler.java");
+
+    //************* Simulation Phases *************//
+    // Recorded on the simulation thread by GameSimulation.tick
+    public static final int TICK_MOVE = 0;
+    public static final int TICK_PLAYER = 1;
+    public static final int TICK_SWING = 2;
+    public static final int TICK_BUILDINGS = 3;
+    public static final int TICK_ANIMATION = 4;
+    public static final int TICK_ZOMBIES = 5;
+    public static final int TICK_DAMAGE = 6;
+    public static final int TICK_TOTAL = 7;
+
+    //************* Paint Phases *************//
+    // Recorded on the EDT by BenumZombsGame.paintComponent, each phase is the time spent recording its drawing calls plus the time spent drawing them
+    public static final int PAINT_BACKGROUND = 8;
+    public static final int PAINT_RESOURCES = 9;
+    public static final int PAINT_BUILDINGS = 10;
+    public static final int PAINT_ZOMBIES = 11;
+    public static final int PAINT_PROJECTILES = 12;
+    public static final int PAINT_PLAYER = 13;
+    public static final int PAINT_HUD = 14;
+    public static final int PAINT_TOTAL = 15;
+
+    public static final int PHASE_COUNT = 16;
+
+    private static final String[] PHASE_NAMES = {
+        "tick.move", "tick.player", "tick.swing", "tick.buildings", "tick.animation", "tick.zombies", "tick.damage", "tick.total",
+        "paint.background", "paint.resources", "paint.buildings", "paint.zombies", "paint.projectiles", "paint.player", "paint.hud", "paint.total"
+    };
+
+    //************* Overlay Style *************//
+    private static final Font OVERLAY_FONT = new Font(Font.MONOSPACED, Font.PLAIN, 12);
+    private static final Color OVERLAY_BACKGROUND = new Color(0, 0, 0, 170);
+    private static final int LINE_HEIGHT = 14;
+    private static final int PADDING = 8;
+    private static final int OVERLAY_WIDTH = 500;
+
+    //************* Allocation Sampling *************//
+    // Null when the JVM cannot count the bytes each thread allocates
+    private static final com.sun.management.ThreadMXBean THREAD_BEAN = getAllocationBean();
+    private static final int SIMULATION = 0; // Phase groups, each is only ever run on one thread at a time
+    private static final int PAINT = 1;
+
+    private final PhaseHistogram[] histograms = new PhaseHistogram[PHASE_COUNT];
+    private volatile boolean trackAllocations = false;
+    private final long[] groupStartBytes = {-1, -1}; // Bytes the group's thread had allocated when the group started
+    private final long[] phaseStartBytes = {-1, -1}; // Bytes the group's thread had allocated when the current phase started
+    private final long[] splitNanos = new long[PHASE_COUNT]; // Earlier parts of a phase that is timed in pieces, added in when it ends
+    private final long[] splitBytes = new long[PHASE_COUNT];
+
+    //************* Allocation Totals *************//
+    // Indexed by phase, atomic so the overlay and the budget check can read them while a phase is recorded
+    private final AtomicLongArray allocatedBytes = new AtomicLongArray(PHASE_COUNT);
+    private final AtomicLongArray allocationSamples = new AtomicLongArray(PHASE_COUNT);
+    private final AtomicLongArray maxAllocatedBytes = new AtomicLongArray(PHASE_COUNT);
+    private final long[] allocationBudgets = new long[PHASE_COUNT]; // Mean bytes per sample allowed, 0 for no budget
+
+    //************* Tick in Progress *************//
+    // Written by the simulation thread, read by TickWatchdog on its own thread
+    private static final int RECENT_TICKS = 60;
+    private volatile long tickStartNanos = -1; // -1 between ticks
+    private volatile int tickPhase = -1;
+    private volatile long finishedTicks = 0;
+    private final AtomicLongArray lastTickNanos = new AtomicLongArray(TICK_TOTAL + 1); // Each simulation phase of the last finished tick
+    private final AtomicLongArray recentTickNanos = new AtomicLongArray(RECENT_TICKS); // Tick durations, finishedTicks % RECENT_TICKS is the oldest
+
+    /**
+     * Constructor for FrameProfiler
+     * Precondition: N/A
+     * Postcondition: an empty histogram is created for every phase
+     */
+    public FrameProfiler() {
+        for (int i = 0; i < PHASE_COUNT; i++) {
+            histograms[i] = new PhaseHistogram();
+        }
+    }
+
+    /**
+     * Starts timing the phases of a simulation tick
+     * Precondition: called on the simulation thread at the start of a tick
+     * Postcondition: returns the current time for the first end call, allocations are counted from here
+     * @return the current time in nanoseconds
+     */
+    public long startTick() {
+        return start(SIMULATION);
+    }
+
+    /**
+     * Starts timing the phases of a painted frame
+     * Precondition: called on the EDT at the start of a frame
+     * Postcondition: returns the current time for the first end call, allocations are counted from here
+     * @return the current time in nanoseconds
+     */
+    public long startPaint() {
+        return start(PAINT);
+    }
+
+    /**
+     * Ends a phase and records how long it took and how much it allocated, the returned time starts the next phase
+     * Precondition: phase is between 0 and PHASE_COUNT - 1, start came from startTick, startPaint, resumePaint, split or end on the same thread
+     * Postcondition: the phase's duration is recorded, and its allocated bytes if allocations are tracked, including any parts ended with split
+     * @param phase the phase that just finished
+     * @param start the time the phase started
+     * @return the current time in nanoseconds
+     */
+    public long end(int phase, long start) {
+        long now = System.nanoTime();
+        long nanos = now - start + splitNanos[phase];
+        splitNanos[phase] = 0;
+        histograms[phase].record(nanos);
+
+        //************* Tick Progress *************//
+        if (phase <= TICK_TOTAL) {
+            lastTickNanos.set(phase, nanos);
+            if (phase == TICK_TOTAL) {
+                recentTickNanos.set((int) (finishedTicks % RECENT_TICKS), nanos);
+                finishedTicks++;
+                tickStartNanos = -1;
+                tickPhase = -1;
+            } else {
+                tickPhase = phase + 1; // Phases run in order, so the next one has begun
+            }
+        }
+
+        //************* Allocated Bytes *************//
+        int group = phase < PAINT_BACKGROUND ? SIMULATION : PAINT;
+        boolean total = phase == TICK_TOTAL || phase == PAINT_TOTAL;
+        long startBytes = total ? groupStartBytes[group] : phaseStartBytes[group];
+        long bytes = readAllocatedBytes();
+        if (startBytes >= 0 && bytes >= 0) {
+            recordAllocation(phase, bytes - startBytes + splitBytes[phase]);
+        }
+        splitBytes[phase] = 0;
+        if (!total) {
+            phaseStartBytes[group] = bytes;
+        }
+        return now;
+    }
+
+    /**
+     * Ends one part of a phase that finishes later, such as a paint phase recorded under the lock and drawn after it
+     * Precondition: phase is a paint phase other than PAINT_TOTAL, start came from startPaint, resumePaint, split or end on the same thread
+     * Postcondition: the part's duration and allocated bytes are held until end is called for the phase
+     * @param phase the phase the part belongs to
+     * @param start the time the part started
+     * @return the current time in nanoseconds
+     */
+    public long split(int phase, long start) {
+        long now = System.nanoTime();
+        splitNanos[phase] += now - start;
+
+        long bytes = readAllocatedBytes();
+        if (phaseStartBytes[PAINT] >= 0 && bytes >= 0) {
+            splitBytes[phase] += bytes - phaseStartBytes[PAINT];
+        }
+        phaseStartBytes[PAINT] = bytes;
+        return now;
+    }
+
+    /**
+     * Starts timing paint phases again partway through a frame, leaving out the time and bytes since the last split or end
+     * Precondition: called on the EDT after startPaint in the same frame
+     * Postcondition: returns the current time for the next end call, allocations are counted from here
+     * @return the current time in nanoseconds
+     */
+    public long resumePaint() {
+        phaseStartBytes[PAINT] = readAllocatedBytes();
+        return System.nanoTime();
+    }
+
+    /**
+     * Turns counting of each phase's allocated bytes on or off
+     * Precondition: N/A
+     * Postcondition: allocations are counted from the next tick or frame if tracking is on and the JVM supports it
+     * @param enabled true to count allocations
+     */
+    public void setAllocationTracking(boolean enabled) {
+        trackAllocations = enabled && THREAD_BEAN != null;
+    }
+
+    /**
+     * Checks if allocations are being counted
+     * Precondition: N/A
+     * Postcondition: returns the tracking state
+     * @return true if each phase's allocated bytes are counted
+     */
+    public boolean isTrackingAllocations() {
+        return trackAllocations;
+    }
+
+    /**
+     * Gets the mean bytes a phase allocated each time it ran
+     * Precondition: phase is between 0 and PHASE_COUNT - 1
+     * Postcondition: returns the mean
+     * @param phase the phase
+     * @return the mean bytes per tick or frame, or 0 if nothing was counted
+     */
+    public long getMeanAllocatedBytes(int phase) {
+        long samples = allocationSamples.get(phase);
+        return samples == 0 ? 0 : allocatedBytes.get(phase) / samples;
+    }
+
+    /**
+     * Gets the most bytes a phase allocated in one run
+     * Precondition: phase is between 0 and PHASE_COUNT - 1
+     * Postcondition: returns the max
+     * @param phase the phase
+     * @return the max bytes in one tick or frame
+     */
+    public long getMaxAllocatedBytes(int phase) {
+        return maxAllocatedBytes.get(phase);
+    }
+
+    /**
+     * Sets allocation budgets from a list like "tick.zombies=4096,tick.total=16384", turning tracking on
+     * Precondition: spec is not null
+     * Postcondition: each named phase has the given budget in mean bytes per run, unknown names are printed and skipped
+     * @param spec comma separated phase=bytes pairs
+     */
+    public void setAllocationBudgets(String spec) {
+        for (String entry : spec.split(",")) {
+            String[] parts = entry.trim().split("=");
+            int phase = parts.length == 2 ? getPhase(parts[0].trim()) : -1;
+            if (phase < 0) {
+                LOG.warn("Skipping allocation budget ", entry);
+                continue;
+            }
+            try {
+                allocationBudgets[phase] = Long.parseLong(parts[1].trim());
+            } catch (NumberFormatException e) {
+                LOG.warn("Skipping allocation budget ", entry);
+            }
+        }
+        setAllocationTracking(true);
+    }
+
+    /**
+     * Fails if any phase allocated more on average than its budget
+     * Precondition: budgets were set with setAllocationBudgets and some ticks or frames have run
+     * Postcondition: returns normally if every phase is within budget
+     * @throws AssertionError naming every phase over its budget
+     */
+    public void checkAllocationBudgets() {
+        StringBuilder failures = new StringBuilder();
+        for (int i = 0; i < PHASE_COUNT; i++) {
+            long mean = getMeanAllocatedBytes(i);
+            if (allocationBudgets[i] > 0 && mean > allocationBudgets[i]) {
+                failures.append(" ").append(PHASE_NAMES[i]).append(" allocated ").append(mean).append(" bytes per run, budget ").append(allocationBudgets[i]).append(";");
+            }
+        }
+        if (failures.length() > 0) {
+            throw new AssertionError("FrameProfiler.java - Allocation budget exceeded:" + failures);
+        }
+    }
+
+    /**
+     * Gets when the tick in progress started
+     * Precondition: N/A
+     * Postcondition: returns the start time
+     * @return the System.nanoTime the current tick started at, or -1 between ticks
+     */
+    public long getTickStartNanos() {
+        return tickStartNanos;
+    }
+
+    /**
+     * Gets the simulation phase running right now
+     * Precondition: N/A
+     * Postcondition: returns the phase
+     * @return the phase in progress, or -1 between ticks
+     */
+    public int getTickPhase() {
+        return tickPhase;
+    }
+
+    /**
+     * Gets how long a simulation phase took in the last finished tick
+     * Precondition: phase is between TICK_MOVE and TICK_TOTAL
+     * Postcondition: returns the duration
+     * @param phase the simulation phase
+     * @return the duration in nanoseconds
+     */
+    public long getLastTickNanos(int phase) {
+        return lastTickNanos.get(phase);
+    }
+
+    /**
+     * Gets the durations of the most recent ticks
+     * Precondition: N/A
+     * Postcondition: returns a new array, newest tick first
+     * @return up to RECENT_TICKS tick durations in nanoseconds
+     */
+    public long[] getRecentTickNanos() {
+        long finished = finishedTicks;
+        int count = (int) Math.min(finished, RECENT_TICKS);
+        long[] recent = new long[count];
+        for (int i = 0; i < count; i++) {
+            recent[i] = recentTickNanos.get((int) ((finished - 1 - i) % RECENT_TICKS));
+        }
+        return recent;
+    }
+
+    /**
+     * Gets the histogram of a phase
+     * Precondition: phase is between 0 and PHASE_COUNT - 1
+     * Postcondition: returns the histogram
+     * @param phase the phase
+     * @return the histogram of the phase
+     */
+    public PhaseHistogram getHistogram(int phase) {
+        return histograms[phase];
+    }
+
+    /**
+     * Gets the name of a phase as shown in the overlay and CSV
+     * Precondition: phase is between 0 and PHASE_COUNT - 1
+     * Postcondition: returns the name
+     * @param phase the phase
+     * @return the name of the phase
+     */
+    public static String getPhaseName(int phase) {
+        return PHASE_NAMES[phase];
+    }
+
+    /**
+     * Finds a phase by the name shown in the overlay and CSV
+     * Precondition: N/A
+     * Postcondition: returns the phase
+     * @param name the name of the phase
+     * @return the phase, or -1 if no phase has that name
+     */
+    public static int getPhase(String name) {
+        for (int i = 0; i < PHASE_COUNT; i++) {
+            if (PHASE_NAMES[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Clears every phase's histogram
+     * Precondition: N/A
+     * Postcondition: every histogram and allocation total is empty
+     */
+    public void reset() {
+        for (int i = 0; i < PHASE_COUNT; i++) {
+            histograms[i].reset();
+            allocatedBytes.set(i, 0);
+            allocationSamples.set(i, 0);
+            maxAllocatedBytes.set(i, 0);
+        }
+    }
+
+    /**
+     * Writes every phase's percentiles to a CSV file
+     * Precondition: path is a writable file path, any thread may call this since every counter it reads is atomic
+     * Postcondition: the file holds a header and one row per phase, times in microseconds and allocations in bytes per run
+     * @param path the file to write
+     * @param counts a description of the entity counts, written as a comment line
+     * @return true if the file was written, false otherwise
+     */
+    public boolean writeCsv(String path, String counts) {
+        try (PrintWriter writer = new PrintWriter(new FileWriter(path))) {
+            writer.println("# " + counts);
+            writer.println("phase,count,mean_us,p50_us,p95_us,p99_us,max_us,alloc_mean_bytes,alloc_max_bytes");
+            for (int i = 0; i < PHASE_COUNT; i++) {
+                PhaseHistogram histogram = histograms[i];
+                writer.println(PHASE_NAMES[i] + "," + histogram.getCount() + "," + toMicros(histogram.getMean()) + ","
+                    + toMicros(histogram.getPercentile(0.50)) + "," + toMicros(histogram.getPercentile(0.95)) + ","
+                    + toMicros(histogram.getPercentile(0.99)) + "," + toMicros(histogram.getMax()) + ","
+                    + getMeanAllocatedBytes(i) + "," + getMaxAllocatedBytes(i));
+            }
+            return true;
+        } catch (IOException e) {
+            LOG.warn("Could not write " + path + ": " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Draws a table of every phase's percentiles and mean allocations with the entity counts below it
+     * Precondition: g2d is not translated into the world
+     * Postcondition: the overlay is drawn with its top left corner at (x, y)
+     * @param g2d the Graphics2D object used for drawing
+     * @param x the x-coordinate of the overlay
+     * @param y the y-coordinate of the overlay
+     * @param counts a description of the entity counts
+     */
+    public void draw(Graphics2D g2d, int x, int y, String counts) {
+        int height = PADDING * 2 + LINE_HEIGHT * (PHASE_COUNT + 2);
+        g2d.setColor(OVERLAY_BACKGROUND);
+        g2d.fillRect(x, y, OVERLAY_WIDTH, height);
+
+        g2d.setFont(OVERLAY_FONT);
+        g2d.setColor(Color.WHITE);
+        int lineY = y + PADDING + LINE_HEIGHT - 3;
+        g2d.drawString(String.format("%-18s %8s %8s %8s %8s %9s", "phase (us)", "p50", "p95", "p99", "max", "alloc KB"), x + PADDING, lineY);
+
+        for (int i = 0; i < PHASE_COUNT; i++) {
+            lineY += LINE_HEIGHT;
+            PhaseHistogram histogram = histograms[i];
+            g2d.drawString(String.format("%-18s %8.1f %8.1f %8.1f %8.1f %9.1f", PHASE_NAMES[i],
+                toMicros(histogram.getPercentile(0.50)), toMicros(histogram.getPercentile(0.95)),
+                toMicros(histogram.getPercentile(0.99)), toMicros(histogram.getMax()), getMeanAllocatedBytes(i) / 1024.0), x + PADDING, lineY);
+        }
+
+        lineY += LINE_HEIGHT;
+        g2d.drawString(counts, x + PADDING, lineY);
+    }
+
+    /**
+     * Marks the start of a tick or frame for both time and allocations
+     * Precondition: group is SIMULATION or PAINT
+     * Postcondition: the group's allocation marks are reset
+     * @param group the group of phases starting
+     * @return the current time in nanoseconds
+     */
+    private long start(int group) {
+        long bytes = readAllocatedBytes();
+        groupStartBytes[group] = bytes;
+        phaseStartBytes[group] = bytes;
+
+        long now = System.nanoTime();
+        if (group == SIMULATION) {
+            tickPhase = TICK_MOVE;
+            tickStartNanos = now;
+        }
+        return now;
+    }
+
+    /**
+     * Adds one run's allocated bytes to a phase's totals
+     * Precondition: bytes is non-negative
+     * Postcondition: the totals and max are updated
+     * @param phase the phase
+     * @param bytes the bytes allocated by the run
+     */
+    private void recordAllocation(int phase, long bytes) {
+        allocatedBytes.addAndGet(phase, bytes);
+        allocationSamples.incrementAndGet(phase);
+
+        long current = maxAllocatedBytes.get(phase);
+        while (bytes > current && !maxAllocatedBytes.compareAndSet(phase, current, bytes)) {
+            current = maxAllocatedBytes.get(phase);
+        }
+    }
+
+    /**
+     * Reads how many bytes the current thread has allocated
+     * Precondition: N/A
+     * Postcondition: returns the count
+     * @return the bytes allocated by the current thread so far, or -1 if allocations are not tracked
+     */
+    private long readAllocatedBytes() { // Pool workers are not counted, so parallel zombie updates under-report tick.zombies
+        if (!trackAllocations) {
+            return -1;
+        }
+        return THREAD_BEAN.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Finds the HotSpot thread bean that counts allocated bytes
+     * Precondition: N/A
+     * Postcondition: returns the bean with allocation counting switched on
+     * @return the bean, or null if this JVM cannot count allocations per thread
+     */
+    private static com.sun.management.ThreadMXBean getAllocationBean() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+            return null;
+        }
+        com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) bean;
+        if (!allocationBean.isThreadAllocatedMemorySupported()) {
+            return null;
+        }
+        allocationBean.setThreadAllocatedMemoryEnabled(true);
+        return allocationBean;
+    }
+
+    /**
+     * Converts nanoseconds to microseconds
+     * Precondition: N/A
+     * Postcondition: returns the converted time
+     * @param nanos the time in nanoseconds
+     * @return the time in microseconds
+     */
+    private static double toMicros(long nanos) {
+        return nanos / 1000.0;
+    }
+}
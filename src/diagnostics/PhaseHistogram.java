@@ -0,0 +1,151 @@
+/**
+ * PhaseHistogram.java
+ * The PhaseHistogram class for BenumZombs, a lock-free histogram of phase durations in fixed log-linear buckets
+ * @author Richard Pu
+ * @version 1.0
+ * @since 2026-10-17
+ */
+
+package diagnostics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class PhaseHistogram {
+    //************* Bucket Layout *************//
+    // Durations are counted in units of 1024 ns, about a microsecond
+    // Units 0 to 7 get a bucket each, after that every doubling is split into 8 buckets, so a bucket is at most 12.5% wide
+    private static final int UNIT_SHIFT = 10;
+    private static final int SUB_BUCKETS = 8;
+    private static final int SUB_BITS = 3;
+    private static final int BUCKET_COUNT = SUB_BUCKETS * 22; // Top bucket starts past 2^23 units, about 8.6 seconds
+
+    //************* Counters *************//
+    // Every field is atomic so the simulation thread can record while the EDT reads without a lock
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records one duration
+     * Precondition: nanos is non-negative
+     * Postcondition: the duration is counted in its bucket and in the totals
+     * @param nanos the duration in nanoseconds
+     */
+    public void record(long nanos) {
+        buckets.incrementAndGet(getBucket(nanos));
+        count.incrementAndGet();
+        total.addAndGet(nanos);
+
+        long current = max.get();
+        while (nanos > current && !max.compareAndSet(current, nanos)) {
+            current = max.get();
+        }
+    }
+
+    /**
+     * Clears every bucket and total
+     * Precondition: N/A
+     * Postcondition: the histogram is empty, durations recorded at the same time may be partly kept
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets.set(i, 0);
+        }
+        count.set(0);
+        total.set(0);
+        max.set(0);
+    }
+
+    /**
+     * Gets the duration below which a share of the recorded durations fall
+     * Precondition: fraction is between 0.0 and 1.0
+     * Postcondition: returns the upper edge of the bucket holding that share, capped at the max
+     * @param fraction the share of durations, 0.99 for the 99th percentile
+     * @return the percentile in nanoseconds, or 0 if nothing was recorded
+     */
+    public long getPercentile(double fraction) {
+        long recorded = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            recorded += buckets.get(i);
+        }
+        if (recorded == 0) {
+            return 0;
+        }
+
+        long target = Math.max(1, (long) Math.ceil(recorded * fraction));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += buckets.get(i);
+            if (seen >= target) {
+                return Math.min(getUpperEdge(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Gets the number of recorded durations
+     * Precondition: N/A
+     * Postcondition: returns the count
+     * @return the number of durations since the last reset
+     */
+    public long getCount() {
+        return count.get();
+    }
+
+    /**
+     * Gets the mean recorded duration
+     * Precondition: N/A
+     * Postcondition: returns the mean
+     * @return the mean in nanoseconds, or 0 if nothing was recorded
+     */
+    public long getMean() {
+        long recorded = count.get();
+        return recorded == 0 ? 0 : total.get() / recorded;
+    }
+
+    /**
+     * Gets the longest recorded duration
+     * Precondition: N/A
+     * Postcondition: returns the max
+     * @return the max in nanoseconds
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Gets the bucket a duration is counted in
+     * Precondition: nanos is non-negative
+     * Postcondition: returns an index between 0 and BUCKET_COUNT - 1
+     * @param nanos the duration in nanoseconds
+     * @return the bucket index
+     */
+    private static int getBucket(long nanos) {
+        long units = nanos >> UNIT_SHIFT;
+        if (units < SUB_BUCKETS) {
+            return (int) units;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(units); // At least SUB_BITS
+        int sub = (int) (units >> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+        return Math.min(BUCKET_COUNT - 1, (exponent - SUB_BITS + 1) * SUB_BUCKETS + sub);
+    }
+
+    /**
+     * Gets the first duration past a bucket
+     * Precondition: bucket is between 0 and BUCKET_COUNT - 1
+     * Postcondition: returns the upper edge
+     * @param bucket the bucket index
+     * @return the upper edge of the bucket in nanoseconds
+     */
+    private static long getUpperEdge(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return (long) (bucket + 1) << UNIT_SHIFT;
+        }
+        int exponent = bucket / SUB_BUCKETS + SUB_BITS - 1;
+        int sub = bucket % SUB_BUCKETS;
+        return (long) (SUB_BUCKETS + sub + 1) << (exponent - SUB_BITS + UNIT_SHIFT);
+    }
+}
@@ -0,0 +1,55 @@
+/**
+ * ProjectileFireEvent.java
+ * The ProjectileFireEvent class for BenumZombs, a Java Flight Recorder event for each projectile fired
+ * @author Richard Pu
+ * @version 1.0
+ * @since 2026-10-17
+ */
+
+package diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("benumzombs.ProjectileFire")
+@Label("Projectile Fire")
+@Category({"BenumZombs", "Combat"})
+@Description("A tower or the player firing a projectile")
+@StackTrace(false) // Towers fire often, the source field already says who fired
+public class ProjectileFireEvent extends Event {
+    @Label("Source")
+    public String source;
+
+    @Label("X")
+    public double x;
+
+    @Label("Y")
+    public double y;
+
+    @Label("Damage")
+    public int damage;
+
+    /**
+     * Records a projectile being fired
+     * Precondition: source names the shooter
+     * Postcondition: an event is committed if recording is on, otherwise nothing happens
+     * @param source "tower" or "player"
+     * @param x the x-coordinate the projectile starts at
+     * @param y the y-coordinate the projectile starts at
+     * @param damage the damage the projectile deals
+     */
+    public static void emit(String source, double x, double y, int damage) {
+        ProjectileFireEvent event = new ProjectileFireEvent();
+        if (event.isEnabled()) {
+            event.source = source;
+            event.x = x;
+            event.y = y;
+            event.damage = damage;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+/**
+ * TickEvent.java
+ * The TickEvent class for BenumZombs, a Java Flight Recorder event timing one simulation tick
+ * @author Richard Pu
+ * @version 1.0
+ * @since 2026-10-17
+ */
+
+package diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("benumzombs.Tick")
+@Label("Simulation Tick")
+@Category({"BenumZombs", "Simulation"})
+@Description("One fixed step of GameSimulation, its duration is the time the step took")
+@StackTrace(false) // Sixty a second, a stack trace each would cost more than the tick
+public class TickEvent extends Event {
+    @Label("Tick")
+    public long tick;
+
+    @Label("Wave")
+    public int wave;
+
+    @Label("Zombies")
+    public int zombieCount;
+
+    @Label("Buildings")
+    public int buildingCount;
+}
@@ -0,0 +1,203 @@
+/**
+ * TickWatchdog.java
+ * The TickWatchdog class for BenumZombs, watching for ticks that run over budget and logging what the simulation thread was doing
+ * @author Richard Pu
+ * @version 1.0
+ * @since 2026-10-17
+ */
+
+package diagnostics;
+
+import helpers.Log;
+import helpers.Logger;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.time.LocalDateTime;
+import java.util.concurrent.locks.LockSupport;
+
+public class TickWatchdog {
+    private static final Logger LOG = Log.getLogger("TickWatchdog.java");
+
+    public static final String BUDGET_PROPERTY = "benumzombs.tickBudgetMillis";
+    public static final String DEFAULT_PATH = "benumzombs-stalls.log";
+
+    private static final long MAX_FILE_BYTES = 1024 * 1024; // The log is rolled over to a .1 file past this size
+    private static final long MIN_POLL_NANOS = 1_000_000L;
+
+    private final FrameProfiler profiler;
+    private final Thread simulationThread;
+    private final long budgetNanos;
+    private final String path;
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    //************* Stall State *************//
+    // Only touched by the watchdog thread
+    private long reportedTickStart = -1; // Start of the last tick written to the log, so a stall is logged once
+    private boolean awaitingEnd = false;
+
+    /**
+     * Constructor for TickWatchdog
+     * Precondition: profiler is the one simulationThread records its ticks in, budgetNanos is positive
+     * Postcondition: a watchdog is created but not started
+     * @param profiler the profiler tracking the tick in progress
+     * @param simulationThread the thread running the ticks
+     * @param budgetNanos the longest a tick may run before it is logged
+     * @param path the log file to append stalls to
+     */
+    public TickWatchdog(FrameProfiler profiler, Thread simulationThread, long budgetNanos, String path) {
+        this.profiler = profiler;
+        this.simulationThread = simulationThread;
+        this.budgetNanos = budgetNanos;
+        this.path = path;
+
+        thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                watch();
+            }
+        }, "BenumZombs-Watchdog");
+        thread.setDaemon(true);
+    }
+
+    /**
+     * Gets the tick budget, from the benumzombs.tickBudgetMillis property if it is set
+     * Precondition: defaultNanos is positive
+     * Postcondition: returns the budget, printing and ignoring a property that is not a positive number
+     * @param defaultNanos the budget to use when the property is missing
+     * @return the budget in nanoseconds
+     */
+    public static long getBudgetNanos(long defaultNanos) {
+        String value = System.getProperty(BUDGET_PROPERTY);
+        if (value == null) {
+            return defaultNanos;
+        }
+        try {
+            double millis = Double.parseDouble(value);
+            if (millis > 0) {
+                return (long) (millis * 1_000_000);
+            }
+        } catch (NumberFormatException e) { // Reported below with the other bad values
+        }
+        LOG.warn("Ignoring " + BUDGET_PROPERTY + "=" + value + ", expected a positive number of milliseconds");
+        return defaultNanos;
+    }
+
+    /**
+     * Starts watching ticks
+     * Precondition: called once
+     * Postcondition: the watchdog thread is running
+     */
+    public void start() {
+        thread.start();
+    }
+
+    /**
+     * Stops watching ticks
+     * Precondition: N/A
+     * Postcondition: the watchdog thread exits after its current check
+     */
+    public void stop() {
+        running = false;
+        LockSupport.unpark(thread);
+    }
+
+    /**
+     * Checks the tick in progress a few times per budget until stopped
+     * Precondition: called only from the watchdog thread
+     * Postcondition: every tick over budget is logged once, with a line when it finally ends
+     */
+    private void watch() {
+        long pollNanos = Math.max(MIN_POLL_NANOS, budgetNanos / 4);
+        while (running) {
+            LockSupport.parkNanos(pollNanos);
+
+            long tickStart = profiler.getTickStartNanos();
+            if (awaitingEnd && tickStart != reportedTickStart) {
+                append(String.format("Tick finished after %.1f ms%n", profiler.getLastTickNanos(FrameProfiler.TICK_TOTAL) / 1_000_000.0));
+                awaitingEnd = false;
+            }
+
+            if (tickStart < 0 || tickStart == reportedTickStart) {
+                continue;
+            }
+            long elapsed = System.nanoTime() - tickStart;
+            if (elapsed > budgetNanos) {
+                int phase = profiler.getTickPhase();
+                StackTraceElement[] stack = simulationThread.getStackTrace();
+                if (profiler.getTickStartNanos() == tickStart) { // Skip it if the tick ended while the stack was taken
+                    report(elapsed, phase, stack);
+                    reportedTickStart = tickStart;
+                    awaitingEnd = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes a stalled tick's phase, the simulation thread's stack and the recent tick timings to the log
+     * Precondition: called only from the watchdog thread
+     * Postcondition: the report is appended to the log, rolling it over first if it is too large
+     * @param elapsed how long the tick had been running in nanoseconds
+     * @param phase the phase in progress, or -1 if unknown
+     * @param stack the simulation thread's stack
+     */
+    private void report(long elapsed, int phase, StackTraceElement[] stack) {
+        StringBuilder text = new StringBuilder();
+        text.append("=== Tick stall at ").append(LocalDateTime.now()).append(" ===\n");
+        text.append(String.format("Tick running for %.1f ms, budget %.1f ms, in phase %s%n", elapsed / 1_000_000.0, budgetNanos / 1_000_000.0,
+            phase >= 0 ? FrameProfiler.getPhaseName(phase) : "unknown"));
+
+        //************* Simulation Thread Stack *************//
+        text.append("Simulation thread ").append(simulationThread.getState()).append(":\n");
+        for (StackTraceElement element : stack) {
+            text.append("    at ").append(element).append('\n');
+        }
+
+        //************* Recent Timings *************//
+        text.append("Last finished tick by phase (ms):");
+        for (int i = FrameProfiler.TICK_MOVE; i <= FrameProfiler.TICK_TOTAL; i++) {
+            text.append(String.format(" %s %.2f", FrameProfiler.getPhaseName(i), profiler.getLastTickNanos(i) / 1_000_000.0));
+        }
+        text.append("\nRecent ticks, newest first (ms):");
+        for (long nanos : profiler.getRecentTickNanos()) {
+            text.append(String.format(" %.2f", nanos / 1_000_000.0));
+        }
+        text.append("\nPhase p50 / p99 / max since start (ms):\n");
+        for (int i = FrameProfiler.TICK_MOVE; i <= FrameProfiler.TICK_TOTAL; i++) {
+            PhaseHistogram histogram = profiler.getHistogram(i);
+            text.append(String.format("    %-15s %8.2f %8.2f %8.2f%n", FrameProfiler.getPhaseName(i),
+                histogram.getPercentile(0.50) / 1_000_000.0, histogram.getPercentile(0.99) / 1_000_000.0, histogram.getMax() / 1_000_000.0));
+        }
+
+        LOG.warn("Tick stalled in " + (phase >= 0 ? FrameProfiler.getPhaseName(phase) : "unknown phase") + ", logged to " + path);
+        append(text.toString());
+    }
+
+    /**
+     * Appends text to the log file, rolling it over to a .1 file once it grows past MAX_FILE_BYTES
+     * Precondition: called only from the watchdog thread
+     * Postcondition: the text is written, or the failure is printed
+     * @param text the text to append
+     */
+    private void append(String text) {
+        File file = new File(path);
+        if (file.length() > MAX_FILE_BYTES) {
+            File previous = new File(path + ".1");
+            if (previous.exists() && !previous.delete()) {
+                LOG.warn("Could not delete ", previous.getPath());
+            }
+            if (!file.renameTo(previous)) {
+                LOG.warn("Could not roll over ", path);
+            }
+        }
+
+        try (PrintWriter writer = new PrintWriter(new FileWriter(file, true))) {
+            writer.print(text);
+        } catch (IOException e) {
+            LOG.warn("Could not write " + path + ": " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,37 @@
+/**
+ * WaveSpawnEvent.java
+ * The WaveSpawnEvent class for BenumZombs, a Java Flight Recorder event timing the spawn of a zombie wave
+ * @author Richard Pu
+ * @version 1.0
+ * @since 2026-10-17
+ */
+
+package diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("benumzombs.WaveSpawn")
+@Label("Wave Spawn")
+@Category({"BenumZombs", "Simulation"})
+@Description("ZombieSystem.spawnWave placing every zombie of a wave")
+public class WaveSpawnEvent extends Event {
+    @Label("Wave")
+    public int wave;
+
+    @Label("Tier")
+    public int tier;
+
+    @Label("Level")
+    public int level;
+
+    @Label("Zombies")
+    public int zombieCount;
+
+    @Label("Retries")
+    @Description("Spawn points thrown away because they overlapped a resource")
+    public int retries;
+}
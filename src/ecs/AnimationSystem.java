@@ -0,0 +1,53 @@
+/**
+ * AnimationSystem.java
+ * The AnimationSystem class for BenumZombs, advancing the pulse, spin, punch and shake animations entities are drawn with
+ * @author Richard Pu
+ * @version 1.0
+ * @since 2026-10-17
+ */
+
+package ecs;
+
+public class AnimationSystem {
+    private static final double PULSE_DECAY = 0.01;
+    private static final double SPIN_SPEED = 0.02;
+    private static final double PUNCH_SPEED = 0.1;
+    private static final double SHAKE_RECOVERY_RATE = 0.9;
+    private static final double SHAKE_SETTLED = 0.5;
+
+    /**
+     * Advances every animation by one tick
+     * Precondition: called once per simulation tick, after the systems that trigger animations
+     * Postcondition: animations are advanced and settled shakes are removed
+     * @param world the EntityWorld to update
+     */
+    public void update(EntityWorld world) {
+        RenderComponents renders = world.getRenders();
+
+        // Walking backwards keeps the loop valid when a settled shake is swapped out
+        for (int r = renders.size() - 1; r >= 0; r--) {
+            switch (renders.kind[r]) {
+                case RenderComponents.PULSE:
+                    if (renders.value[r] > RenderComponents.PULSE_REST) {
+                        renders.value[r] = Math.max(renders.value[r] - PULSE_DECAY, RenderComponents.PULSE_REST);
+                    }
+                    break;
+                case RenderComponents.SPIN:
+                    renders.value[r] += SPIN_SPEED;
+                    break;
+                case RenderComponents.PUNCH:
+                    renders.value[r] = renders.active[r] ? renders.value[r] + PUNCH_SPEED : 0;
+                    break;
+                case RenderComponents.SHAKE:
+                    if (Math.abs(renders.value[r]) > SHAKE_SETTLED) {
+                        renders.value[r] *= SHAKE_RECOVERY_RATE;
+                    } else {
+                        renders.remove(renders.getEntity(r));
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+}
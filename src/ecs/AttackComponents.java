@@ -0,0 +1,146 @@
+/**
+ * AttackComponents.java
+ * The AttackComponents class for BenumZombs, storing how entities target and hit zombies
+ * @author Richard Pu
+ * @version 1.0
+ * @since 2026-10-17
+ */
+
+package ecs;
+
+import java.awt.Image;
+import java.util.Arrays;
+
+public class AttackComponents extends ComponentStore {
+    //************* Attack Styles *************//
+    public static final byte PROJECTILE = 0; // Fires projectiles at the closest zombie in range
+    public static final byte MELEE = 1; // Hits the closest zombie directly once it is within reach
+
+    // Indexed by dense position, AttackSystem reads these directly
+    byte[] style = new byte[INITIAL_CAPACITY];
+    int[] damage = new int[INITIAL_CAPACITY];
+    double[] range = new double[INITIAL_CAPACITY];
+    long[] cooldown = new long[INITIAL_CAPACITY];
+    long[] readyTick = new long[INITIAL_CAPACITY]; // First tick the next attack may happen, set when attacking
+    double[] headRotation = new double[INITIAL_CAPACITY];
+    boolean[] turnsHead = new boolean[INITIAL_CAPACITY]; // Keeps aiming while cooling down, others skip targeting until ready
+    long[] awakeTick = new long[INITIAL_CAPACITY]; // Last tick a zombie was near enough to be targeted, asleep on any other tick
+
+    //************* Projectile Attacks *************//
+    double[] projectileSpeed = new double[INITIAL_CAPACITY];
+    int[] damageRadius = new int[INITIAL_CAPACITY];
+    int[] projectileCount = new int[INITIAL_CAPACITY]; // Odd, extra projectiles fan out in pairs around the aim
+    Image[] projectileSprite = new Image[INITIAL_CAPACITY];
+
+    /**
+     * Gives an entity a melee attack
+     * Precondition: the entity does not have an attack yet and also has a transform
+     * Postcondition: the attack is stored, ready to hit straight away
+     * @param entity the id of the entity
+     * @param attackDamage the damage of each hit
+     * @param attackRange the reach of the attack
+     * @param attackCooldown milliseconds between hits
+     * @return the dense position of the attack
+     */
+    public int addMelee(int entity, int attackDamage, double attackRange, long attackCooldown) {
+        int dense = insert(entity);
+        style[dense] = MELEE;
+        damage[dense] = attackDamage;
+        range[dense] = attackRange;
+        cooldown[dense] = attackCooldown;
+        readyTick[dense] = 0;
+        headRotation[dense] = 0.0;
+        turnsHead[dense] = true;
+        awakeTick[dense] = -1;
+        projectileSpeed[dense] = 0;
+        damageRadius[dense] = 0;
+        projectileCount[dense] = 0;
+        projectileSprite[dense] = null;
+        return dense;
+    }
+
+    /**
+     * Gives an entity a projectile attack
+     * Precondition: the entity does not have an attack yet and also has a transform, count is odd
+     * Postcondition: the attack is stored, ready to fire straight away
+     * @param entity the id of the entity
+     * @param attackDamage the damage of each projectile
+     * @param attackRange the targeting range
+     * @param attackCooldown milliseconds between volleys
+     * @param speed the speed of each projectile
+     * @param radius the area damage radius of each projectile, 0 for single target
+     * @param count the number of projectiles in each volley
+     * @param sprite the projectile image
+     * @param turns true if the head is drawn facing the target, so it keeps aiming between volleys
+     * @return the dense position of the attack
+     */
+    public int addProjectile(int entity, int attackDamage, double attackRange, long attackCooldown, double speed, int radius, int count, Image sprite, boolean turns) {
+        int dense = addMelee(entity, attackDamage, attackRange, attackCooldown);
+        style[dense] = PROJECTILE;
+        turnsHead[dense] = turns;
+        projectileSpeed[dense] = speed;
+        damageRadius[dense] = radius;
+        projectileCount[dense] = count;
+        projectileSprite[dense] = sprite;
+        return dense;
+    }
+
+    /**
+     * Gets the targeting range of an attack
+     * Precondition: dense is below size()
+     * Postcondition: returns the range
+     * @param dense the dense position
+     * @return the range of the attack
+     */
+    public double getRange(int dense) {
+        return range[dense];
+    }
+
+    /**
+     * Gets the direction the attacker last aimed at
+     * Precondition: dense is below size()
+     * Postcondition: returns the angle in radians
+     * @param dense the dense position
+     * @return the head rotation of the attacker
+     */
+    public double getHeadRotation(int dense) {
+        return headRotation[dense];
+    }
+
+    @Override
+    protected void grow(int capacity) {
+        style = Arrays.copyOf(style, capacity);
+        damage = Arrays.copyOf(damage, capacity);
+        range = Arrays.copyOf(range, capacity);
+        cooldown = Arrays.copyOf(cooldown, capacity);
+        readyTick = Arrays.copyOf(readyTick, capacity);
+        headRotation = Arrays.copyOf(headRotation, capacity);
+        turnsHead = Arrays.copyOf(turnsHead, capacity);
+        awakeTick = Arrays.copyOf(awakeTick, capacity);
+        projectileSpeed = Arrays.copyOf(projectileSpeed, capacity);
+        damageRadius = Arrays.copyOf(damageRadius, capacity);
+        projectileCount = Arrays.copyOf(projectileCount, capacity);
+        projectileSprite = Arrays.copyOf(projectileSprite, capacity);
+    }
+
+    @Override
+    protected void move(int from, int to) {
+        style[to] = style[from];
+        damage[to] = damage[from];
+        range[to] = range[from];
+        cooldown[to] = cooldown[from];
+        readyTick[to] = readyTick[from];
+        headRotation[to] = headRotation[from];
+        turnsHead[to] = turnsHead[from];
+        awakeTick[to] = awakeTick[from];
+        projectileSpeed[to] = projectileSpeed[from];
+        damageRadius[to] = damageRadius[from];
+        projectileCount[to] = projectileCount[from];
+        projectileSprite[to] = projectileSprite[from];
+    }
+
+    @Override
+    protected void clear(int dense) {
+        projectileSprite[dense] = null;
+    }
+}
@@ -0,0 +1,233 @@
+/**
+ * AttackSystem.java
+ * The AttackSystem class for BenumZombs, aiming every entity with an attack at the closest zombie and firing when ready
+ * @author Richard Pu
+ * @version 1.0
+ * @since 2026-10-17
+ */
+
+package ecs;
+
+import diagnostics.ProjectileFireEvent;
+import java.util.Arrays;
+import objects.Projectile;
+import objects.Zombie;
+import systems.BuildingSystem;
+import systems.DamageSystem;
+import systems.GameClock;
+import systems.ZombieIndex;
+import systems.ZombieSystem;
+
+public class AttackSystem {
+    private static final double SPREAD_ANGLE = 0.2; // Angle between projectiles of one volley
+
+    //************* Sleep and Wake *************//
+    // Each attack watches the zombie index cells findClosest would scan for it, so an attack
+    // whose cells are all empty could not find a target and sleeps without searching
+    private final int[][] cellWatchers = new int[ZombieIndex.COLUMNS * ZombieIndex.COLUMNS][];
+    private final int[] watcherCounts = new int[ZombieIndex.COLUMNS * ZombieIndex.COLUMNS];
+    private int[] watchedCells = new int[64]; // Only these counts are cleared on a rebuild
+    private int watchedCount = 0;
+    private int watchedVersion = -1; // Attack store version the watchers were built for
+    private boolean allAsleep = false;
+
+    /**
+     * Aims and fires every attack
+     * Precondition: the zombie index was rebuilt this tick
+     * Postcondition: attackers face their target, projectiles are added, melee hits are queued and each attacker's next ready tick is scheduled
+     * @param world the EntityWorld to update
+     * @param zombieSystem the ZombieSystem holding the targets
+     * @param buildingSystem the BuildingSystem fired projectiles are added to
+     * @param clock the GameClock of the simulation
+     */
+    public void update(EntityWorld world, ZombieSystem zombieSystem, BuildingSystem buildingSystem, GameClock clock) {
+        AttackComponents attacks = world.getAttacks();
+        TransformComponents transforms = world.getTransforms();
+        RenderComponents renders = world.getRenders();
+        long tick = clock.getTick();
+        long now = clock.getMillis();
+        ZombieIndex index = zombieSystem.getZombieIndex();
+
+        //************* Wake Attacks Near Zombies *************//
+        if (index.size() == 0) {
+            if (!allAsleep) {
+                stopPunching(attacks, renders); // Daytime ticks end here once every punch has stopped
+                allAsleep = true;
+            }
+            return;
+        }
+        allAsleep = false;
+        if (watchedVersion != attacks.getVersion()) {
+            rebuildWatchers(attacks, transforms);
+        }
+        for (int u = 0; u < index.getUsedCellCount(); u++) {
+            int cell = index.getUsedCell(u);
+            int[] watchers = cellWatchers[cell];
+            for (int k = 0; k < watcherCounts[cell]; k++) {
+                attacks.awakeTick[watchers[k]] = tick;
+            }
+        }
+
+        for (int a = 0; a < attacks.size(); a++) {
+            int entity = attacks.getEntity(a);
+            if (attacks.awakeTick[a] != tick) {
+                if (attacks.style[a] == AttackComponents.MELEE) {
+                    setPunching(renders, entity, false);
+                }
+                continue; // Asleep, no zombie is near enough to be found
+            }
+
+            boolean ready = tick >= attacks.readyTick[a];
+            if (!ready && !attacks.turnsHead[a]) {
+                continue; // Nothing to do until the cooldown ends
+            }
+
+            int t = transforms.indexOf(entity);
+            if (t < 0) {
+                continue;
+            }
+            int r = renders.indexOf(entity);
+            setPunching(renders, entity, false);
+
+            Zombie target = index.findClosest(transforms.x[t], transforms.y[t], attacks.range[a]);
+            if (target == null) {
+                continue;
+            }
+
+            //************* Face The Target *************//
+            double centerX = transforms.x[t] + transforms.width[t]/2;
+            double centerY = transforms.y[t] + transforms.height[t]/2;
+            double dx = (target.getX() + target.getWidth()/2) - centerX;
+            double dy = (target.getY() + target.getHeight()/2) - centerY;
+            attacks.headRotation[a] = Math.atan2(dy, dx);
+
+            if (attacks.style[a] == AttackComponents.MELEE) {
+                //************* Hit If In Reach *************//
+                if (Math.hypot(dx, dy) <= attacks.range[a]) {
+                    setPunching(renders, entity, true);
+                    if (ready) {
+                        zombieSystem.getDamageSystem().damageZombie(target.getHandle(), attacks.damage[a], DamageSystem.SOURCE_MELEE_TOWER, 0);
+                        attacks.readyTick[a] = GameClock.getTickAfter(now + attacks.cooldown[a]);
+                    }
+                }
+            } else if (ready) {
+                //************* Fire A Volley *************//
+                double angle = attacks.headRotation[a];
+                fire(attacks, a, centerX, centerY, angle, buildingSystem);
+                for (int k = 1; k <= (attacks.projectileCount[a] - 1) / 2; k++) {
+                    fire(attacks, a, centerX, centerY, angle - k * SPREAD_ANGLE, buildingSystem);
+                    fire(attacks, a, centerX, centerY, angle + k * SPREAD_ANGLE, buildingSystem);
+                }
+
+                if (r >= 0 && renders.kind[r] == RenderComponents.PULSE) {
+                    renders.value[r] = RenderComponents.PULSE_PEAK;
+                }
+                attacks.readyTick[a] = GameClock.getTickAfter(now + attacks.cooldown[a]);
+            }
+        }
+    }
+
+    /**
+     * Registers every attack with the zombie index cells its target search covers
+     * Precondition: attacks were added or removed since the last rebuild
+     * Postcondition: each cell lists the dense positions of the attacks that would scan it
+     * @param attacks the attack store
+     * @param transforms the transform store
+     */
+    private void rebuildWatchers(AttackComponents attacks, TransformComponents transforms) {
+        for (int i = 0; i < watchedCount; i++) {
+            watcherCounts[watchedCells[i]] = 0;
+        }
+        watchedCount = 0;
+
+        for (int a = 0; a < attacks.size(); a++) {
+            int t = transforms.indexOf(attacks.getEntity(a));
+            if (t < 0) {
+                continue;
+            }
+            // Same cells findClosest scans from the top left corner
+            double reach = ZombieIndex.getSearchReach(attacks.range[a]);
+            int minCol = ZombieIndex.getCellIndex(transforms.x[t] - reach);
+            int maxCol = ZombieIndex.getCellIndex(transforms.x[t] + reach);
+            int minRow = ZombieIndex.getCellIndex(transforms.y[t] - reach);
+            int maxRow = ZombieIndex.getCellIndex(transforms.y[t] + reach);
+            for (int row = minRow; row <= maxRow; row++) {
+                for (int col = minCol; col <= maxCol; col++) {
+                    addWatcher(row * ZombieIndex.COLUMNS + col, a);
+                }
+            }
+            attacks.awakeTick[a] = -1;
+        }
+        watchedVersion = attacks.getVersion();
+    }
+
+    /**
+     * Adds an attack to the watchers of a cell
+     * Precondition: cell is a valid zombie index cell
+     * Postcondition: the attack is woken whenever a zombie is indexed in the cell
+     * @param cell the cell to watch
+     * @param a the dense position of the attack
+     */
+    private void addWatcher(int cell, int a) {
+        int count = watcherCounts[cell];
+        if (count == 0) {
+            if (watchedCount == watchedCells.length) {
+                watchedCells = Arrays.copyOf(watchedCells, watchedCount * 2);
+            }
+            watchedCells[watchedCount++] = cell;
+        }
+        if (cellWatchers[cell] == null) {
+            cellWatchers[cell] = new int[4];
+        } else if (count == cellWatchers[cell].length) {
+            cellWatchers[cell] = Arrays.copyOf(cellWatchers[cell], count * 2);
+        }
+        cellWatchers[cell][count] = a;
+        watcherCounts[cell] = count + 1;
+    }
+
+    /**
+     * Stops the punch animation of every melee attack
+     * Precondition: N/A
+     * Postcondition: no punch animation is active
+     * @param attacks the attack store
+     * @param renders the render store
+     */
+    private void stopPunching(AttackComponents attacks, RenderComponents renders) {
+        for (int a = 0; a < attacks.size(); a++) {
+            if (attacks.style[a] == AttackComponents.MELEE) {
+                setPunching(renders, attacks.getEntity(a), false);
+            }
+        }
+    }
+
+    /**
+     * Sets whether an entity's punch animation is playing
+     * Precondition: N/A
+     * Postcondition: the punch is started or stopped, nothing happens if the entity has no punch animation
+     * @param renders the render store
+     * @param entity the id of the entity
+     * @param punching true while the entity is hitting a zombie
+     */
+    private void setPunching(RenderComponents renders, int entity, boolean punching) {
+        int r = renders.indexOf(entity);
+        if (r >= 0 && renders.kind[r] == RenderComponents.PUNCH) {
+            renders.active[r] = punching;
+        }
+    }
+
+    /**
+     * Fires one projectile of an attack
+     * Precondition: a is below attacks.size()
+     * Postcondition: a projectile is added to the building system
+     * @param attacks the attack store
+     * @param a the dense position of the attack
+     * @param centerX the x-coordinate the projectile starts from
+     * @param centerY the y-coordinate the projectile starts from
+     * @param angle the direction of the projectile
+     * @param buildingSystem the BuildingSystem to add the projectile to
+     */
+    private void fire(AttackComponents attacks, int a, double centerX, double centerY, double angle, BuildingSystem buildingSystem) {
+        buildingSystem.addProjectile(new Projectile(centerX, centerY, angle, attacks.projectileSpeed[a], attacks.damage[a], attacks.damageRadius[a], attacks.projectileSprite[a]));
+        ProjectileFireEvent.emit("tower", centerX, centerY, attacks.damage[a]);
+    }
+}
@@ -0,0 +1,165 @@
+/**
+ * ComponentStore.java
+ * The ComponentStore class for BenumZombs, the sparse set every component type uses to keep its data packed in dense arrays
+ * @author Richard Pu
+ * @version 1.0
+ * @since 2026-10-17
+ */
+
+package ecs;
+
+import java.util.Arrays;
+
+public abstract class ComponentStore {
+    protected static final int INITIAL_CAPACITY = 16;
+
+    // denseOf[entity index] is the entity's position in the dense arrays, or -1 without this component
+    private int[] denseOf = new int[64];
+    private int[] entities = new int[INITIAL_CAPACITY];
+    private int size = 0;
+    private int version = 0; // Changes whenever a component is added or removed, so dense positions may have moved
+
+    /**
+     * Constructor for ComponentStore
+     * Precondition: N/A
+     * Postcondition: an empty store is created
+     */
+    protected ComponentStore() {
+        Arrays.fill(denseOf, -1);
+    }
+
+    /**
+     * Gives an entity this component, subclasses fill the returned position with its data
+     * Precondition: entity is alive and does not have the component yet
+     * Postcondition: the entity is stored after the last one
+     * @param entity the id of the entity
+     * @return the dense position of the new component
+     */
+    protected final int insert(int entity) {
+        if (has(entity)) {
+            throw new IllegalStateException("Entity " + entity + " already has this component");
+        }
+        int index = EntityRegistry.getIndex(entity);
+        if (index >= denseOf.length) {
+            int oldLength = denseOf.length;
+            denseOf = Arrays.copyOf(denseOf, Math.max(index + 1, oldLength * 2));
+            Arrays.fill(denseOf, oldLength, denseOf.length, -1);
+        }
+        if (size == entities.length) {
+            entities = Arrays.copyOf(entities, size * 2);
+            grow(size * 2);
+        }
+        entities[size] = entity;
+        denseOf[index] = size;
+        version++;
+        return size++;
+    }
+
+    /**
+     * Takes the component away from an entity by moving the last component into its place
+     * Precondition: N/A
+     * Postcondition: the entity no longer has the component, nothing happens if it never had it
+     * @param entity the id of the entity
+     */
+    public final void remove(int entity) {
+        int dense = indexOf(entity);
+        if (dense < 0) {
+            return;
+        }
+        int last = --size;
+        if (dense != last) {
+            move(last, dense);
+            entities[dense] = entities[last];
+            denseOf[EntityRegistry.getIndex(entities[dense])] = dense;
+        }
+        clear(last);
+        denseOf[EntityRegistry.getIndex(entity)] = -1;
+        version++;
+    }
+
+    /**
+     * Finds the dense position of an entity's component
+     * Precondition: N/A
+     * Postcondition: returns the position, or -1 if the entity does not have the component
+     * @param entity the id of the entity
+     * @return the dense position, or -1
+     */
+    public final int indexOf(int entity) {
+        if (entity < 0) {
+            return -1;
+        }
+        int index = EntityRegistry.getIndex(entity);
+        if (index >= denseOf.length) {
+            return -1;
+        }
+        int dense = denseOf[index];
+        return (dense >= 0 && entities[dense] == entity) ? dense : -1;
+    }
+
+    /**
+     * Checks whether an entity has the component
+     * Precondition: N/A
+     * Postcondition: returns true if it does
+     * @param entity the id of the entity
+     * @return true if the entity has the component, false otherwise
+     */
+    public final boolean has(int entity) {
+        return indexOf(entity) >= 0;
+    }
+
+    /**
+     * Gets the number of entities with the component
+     * Precondition: N/A
+     * Postcondition: returns the size
+     * @return the number of components, positions 0 to size() - 1 are in use
+     */
+    public final int size() {
+        return size;
+    }
+
+    /**
+     * Gets a number that changes whenever a component is added or removed
+     * Precondition: N/A
+     * Postcondition: returns the version
+     * @return the version, anything cached by dense position is stale once it changes
+     */
+    public final int getVersion() {
+        return version;
+    }
+
+    /**
+     * Gets the entity owning the component at a dense position
+     * Precondition: dense is below size()
+     * Postcondition: returns the entity id
+     * @param dense the dense position
+     * @return the id of the entity
+     */
+    public final int getEntity(int dense) {
+        return entities[dense];
+    }
+
+    /**
+     * Grows every data array to a new capacity
+     * Precondition: capacity is larger than the current capacity
+     * Postcondition: every data array can hold capacity components
+     * @param capacity the new capacity
+     */
+    protected abstract void grow(int capacity);
+
+    /**
+     * Copies the data of one component over another
+     * Precondition: both positions are below the old size
+     * Postcondition: the data at to equals the data at from
+     * @param from the position to copy from
+     * @param to the position to copy to
+     */
+    protected abstract void move(int from, int to);
+
+    /**
+     * Drops any object references at a position that is no longer in use
+     * Precondition: dense is the old last position
+     * Postcondition: nothing at the position keeps an object alive
+     * @param dense the freed position
+     */
+    protected abstract void clear(int dense);
+}
@@ -0,0 +1,104 @@
+/**
+ * EntityRegistry.java
+ * The EntityRegistry class for BenumZombs, handing out entity ids whose generation changes every time an index is reused
+ * @author Richard Pu
+ * @version 1.0
+ * @since 2026-10-17
+ */
+
+package ecs;
+
+import java.util.Arrays;
+
+public class EntityRegistry {
+    public static final int NONE = -1; // Entity id that never matches a live entity
+
+    // An entity id is its index in the low bits and the index's generation above it, always positive
+    private static final int INDEX_BITS = 20;
+    private static final int INDEX_MASK = (1 << INDEX_BITS) - 1;
+    private static final int GENERATION_MASK = (1 << (31 - INDEX_BITS)) - 1;
+
+    private int[] generations = new int[64];
+    private boolean[] alive = new boolean[64];
+    private int[] freeIndices = new int[64];
+    private int freeCount = 0;
+    private int indexCount = 0;
+    private int liveCount = 0;
+
+    /**
+     * Creates a new entity, reusing the index of a destroyed one when there is one
+     * Precondition: fewer than 2^20 entities are alive
+     * Postcondition: the entity is alive and has no components
+     * @return the id of the new entity
+     */
+    public int create() {
+        int index;
+        if (freeCount > 0) {
+            index = freeIndices[--freeCount];
+        } else {
+            if (indexCount == generations.length) {
+                int capacity = generations.length * 2;
+                generations = Arrays.copyOf(generations, capacity);
+                alive = Arrays.copyOf(alive, capacity);
+                freeIndices = Arrays.copyOf(freeIndices, capacity);
+            }
+            index = indexCount++;
+        }
+        alive[index] = true;
+        liveCount++;
+        return (generations[index] << INDEX_BITS) | index;
+    }
+
+    /**
+     * Destroys an entity so its id stops matching
+     * Precondition: the entity's components have already been removed
+     * Postcondition: the entity is dead and its index can be reused with a new generation
+     * @param entity the id of the entity
+     */
+    public void destroy(int entity) {
+        if (!isAlive(entity)) {
+            return;
+        }
+        int index = getIndex(entity);
+        alive[index] = false;
+        generations[index] = (generations[index] + 1) & GENERATION_MASK;
+        freeIndices[freeCount++] = index;
+        liveCount--;
+    }
+
+    /**
+     * Checks whether an entity id still refers to a live entity
+     * Precondition: N/A
+     * Postcondition: returns true if the entity has not been destroyed
+     * @param entity the id of the entity
+     * @return true if the entity is alive, false otherwise
+     */
+    public boolean isAlive(int entity) {
+        if (entity < 0) {
+            return false;
+        }
+        int index = getIndex(entity);
+        return index < indexCount && alive[index] && generations[index] == (entity >>> INDEX_BITS);
+    }
+
+    /**
+     * Gets the number of live entities
+     * Precondition: N/A
+     * Postcondition: returns the live count
+     * @return the number of live entities
+     */
+    public int getLiveCount() {
+        return liveCount;
+    }
+
+    /**
+     * Gets the index part of an entity id, used to look entities up in component stores
+     * Precondition: entity is not NONE
+     * Postcondition: returns the index
+     * @param entity the id of the entity
+     * @return the index of the entity
+     */
+    public static int getIndex(int entity) {
+        return entity & INDEX_MASK;
+    }
+}
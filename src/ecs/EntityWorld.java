@@ -0,0 +1,129 @@
+/**
+ * EntityWorld.java
+ * The EntityWorld class for BenumZombs, holding the entity registry and one store per component type
+ * @author Richard Pu
+ * @version 1.0
+ * @since 2026-10-17
+ */
+
+package ecs;
+
+public class EntityWorld {
+    private final EntityRegistry registry = new EntityRegistry();
+
+    //************* Component Stores *************//
+    private final TransformComponents transforms = new TransformComponents();
+    private final HealthComponents healths = new HealthComponents();
+    private final RegenComponents regens = new RegenComponents();
+    private final AttackComponents attacks = new AttackComponents();
+    private final HarvestComponents harvests = new HarvestComponents();
+    private final RenderComponents renders = new RenderComponents();
+    private final ComponentStore[] stores = {transforms, healths, regens, attacks, harvests, renders};
+
+    /**
+     * Creates an entity with no components
+     * Precondition: N/A
+     * Postcondition: a new live entity exists
+     * @return the id of the entity
+     */
+    public int createEntity() {
+        return registry.create();
+    }
+
+    /**
+     * Destroys an entity and all of its components
+     * Precondition: N/A
+     * Postcondition: the entity is removed from every store and its id stops matching, nothing happens if it is already dead
+     * @param entity the id of the entity
+     */
+    public void destroyEntity(int entity) {
+        if (!registry.isAlive(entity)) {
+            return;
+        }
+        for (int i = 0; i < stores.length; i++) {
+            stores[i].remove(entity);
+        }
+        registry.destroy(entity);
+    }
+
+    /**
+     * Checks whether an entity is alive
+     * Precondition: N/A
+     * Postcondition: returns true if the entity has not been destroyed
+     * @param entity the id of the entity
+     * @return true if the entity is alive, false otherwise
+     */
+    public boolean isAlive(int entity) {
+        return registry.isAlive(entity);
+    }
+
+    /**
+     * Gets the number of live entities
+     * Precondition: N/A
+     * Postcondition: returns the live count
+     * @return the number of live entities
+     */
+    public int getEntityCount() {
+        return registry.getLiveCount();
+    }
+
+    /**
+     * Gets the transform store
+     * Precondition: N/A
+     * Postcondition: returns the store
+     * @return the TransformComponents of the world
+     */
+    public TransformComponents getTransforms() {
+        return transforms;
+    }
+
+    /**
+     * Gets the health store
+     * Precondition: N/A
+     * Postcondition: returns the store
+     * @return the HealthComponents of the world
+     */
+    public HealthComponents getHealths() {
+        return healths;
+    }
+
+    /**
+     * Gets the regen store
+     * Precondition: N/A
+     * Postcondition: returns the store
+     * @return the RegenComponents of the world
+     */
+    public RegenComponents getRegens() {
+        return regens;
+    }
+
+    /**
+     * Gets the attack store
+     * Precondition: N/A
+     * Postcondition: returns the store
+     * @return the AttackComponents of the world
+     */
+    public AttackComponents getAttacks() {
+        return attacks;
+    }
+
+    /**
+     * Gets the harvest store
+     * Precondition: N/A
+     * Postcondition: returns the store
+     * @return the HarvestComponents of the world
+     */
+    public HarvestComponents getHarvests() {
+        return harvests;
+    }
+
+    /**
+     * Gets the render store
+     * Precondition: N/A
+     * Postcondition: returns the store
+     * @return the RenderComponents of the world
+     */
+    public RenderComponents getRenders() {
+        return renders;
+    }
+}
@@ -0,0 +1,72 @@
+/**
+ * HarvestComponents.java
+ * The HarvestComponents class for BenumZombs, storing how entities gather resources on their own
+ * @author Richard Pu
+ * @version 1.0
+ * @since 2026-10-17
+ */
+
+package ecs;
+
+import java.util.Arrays;
+
+public class HarvestComponents extends ComponentStore {
+    //************* Harvest Kinds *************//
+    public static final byte RESOURCES = 0; // Gathers wood or stone next to the entity, interval in milliseconds
+    public static final byte GOLD = 1; // Produces gold, interval in ticks
+
+    // Indexed by dense position, HarvestSystem reads these directly
+    byte[] kind = new byte[INITIAL_CAPACITY];
+    int[] amount = new int[INITIAL_CAPACITY];
+    long[] interval = new long[INITIAL_CAPACITY];
+    long[] last = new long[INITIAL_CAPACITY]; // Time or tick of the last harvest, -1 until the first update
+
+    /**
+     * Gives an entity a harvest
+     * Precondition: the entity does not harvest yet and also has a transform
+     * Postcondition: the harvest is stored, gold starts its interval on the first update
+     * @param entity the id of the entity
+     * @param harvestKind RESOURCES or GOLD
+     * @param harvestAmount the amount gathered each time
+     * @param harvestInterval the time between harvests, in the unit of the kind
+     * @return the dense position of the harvest
+     */
+    public int add(int entity, byte harvestKind, int harvestAmount, long harvestInterval) {
+        int dense = insert(entity);
+        kind[dense] = harvestKind;
+        amount[dense] = harvestAmount;
+        interval[dense] = harvestInterval;
+        last[dense] = harvestKind == GOLD ? -1 : 0;
+        return dense;
+    }
+
+    /**
+     * Sets the amount gathered each time
+     * Precondition: dense is below size()
+     * Postcondition: the amount is updated
+     * @param dense the dense position
+     * @param value the new amount
+     */
+    public void setAmount(int dense, int value) {
+        amount[dense] = value;
+    }
+
+    @Override
+    protected void grow(int capacity) {
+        kind = Arrays.copyOf(kind, capacity);
+        amount = Arrays.copyOf(amount, capacity);
+        interval = Arrays.copyOf(interval, capacity);
+        last = Arrays.copyOf(last, capacity);
+    }
+
+    @Override
+    protected void move(int from, int to) {
+        kind[to] = kind[from];
+        amount[to] = amount[from];
+        interval[to] = interval[from];
+        last[to] = last[from];
+    }
+
+    @Override
+    protected void clear(int dense) {}
+}
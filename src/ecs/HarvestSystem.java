@@ -0,0 +1,67 @@
+/**
+ * HarvestSystem.java
+ * The HarvestSystem class for BenumZombs, gathering resources and producing gold for entities that harvest
+ * @author Richard Pu
+ * @version 1.0
+ * @since 2026-10-17
+ */
+
+package ecs;
+
+import java.awt.Rectangle;
+import systems.CollisionSystem;
+import systems.GameClock;
+import systems.ResourceSystem;
+
+public class HarvestSystem {
+    private static final int HARVEST_PADDING = 60; // Reach of a resource harvest around the entity
+    private final Rectangle harvestRangeBox = new Rectangle(); // Reused for every query
+
+    /**
+     * Runs every harvest whose interval has passed
+     * Precondition: called once per simulation tick
+     * Postcondition: wood, stone and gold are added to the resource system
+     * @param world the EntityWorld to update
+     * @param resourceSystem the ResourceSystem holding the resources
+     * @param clock the GameClock of the simulation
+     */
+    public void update(EntityWorld world, ResourceSystem resourceSystem, GameClock clock) {
+        HarvestComponents harvests = world.getHarvests();
+        TransformComponents transforms = world.getTransforms();
+
+        for (int h = 0; h < harvests.size(); h++) {
+            if (harvests.kind[h] == HarvestComponents.GOLD) {
+                //************* Produce Gold *************//
+                long tick = clock.getTick();
+                if (harvests.last[h] < 0) {
+                    harvests.last[h] = tick; // First update after placement starts the interval
+                }
+                if (tick - harvests.last[h] >= harvests.interval[h]) {
+                    harvests.last[h] = tick;
+                    resourceSystem.addGold(harvests.amount[h]);
+                }
+                continue;
+            }
+
+            //************* Gather Nearby Resources *************//
+            int t = transforms.indexOf(harvests.getEntity(h));
+            long now = clock.getMillis();
+            if (t < 0 || now - harvests.last[h] <= harvests.interval[h]) {
+                continue;
+            }
+
+            harvestRangeBox.setBounds((int)transforms.x[t] - HARVEST_PADDING, (int)transforms.y[t] - HARVEST_PADDING,
+                    transforms.width[t] + (HARVEST_PADDING*2), transforms.height[t] + (HARVEST_PADDING*2));
+            String hitObject = CollisionSystem.checkResourceHitCollision(harvestRangeBox, resourceSystem);
+
+            if (hitObject != null) { // Only update time if something was gathered
+                if (hitObject.equals("tree")) {
+                    resourceSystem.addWood(harvests.amount[h]);
+                } else {
+                    resourceSystem.addStone(harvests.amount[h]);
+                }
+                harvests.last[h] = now;
+            }
+        }
+    }
+}
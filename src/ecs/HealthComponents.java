@@ -0,0 +1,118 @@
+/**
+ * HealthComponents.java
+ * The HealthComponents class for BenumZombs, storing the health of entities in parallel arrays
+ * @author Richard Pu
+ * @version 1.0
+ * @since 2026-10-17
+ */
+
+package ecs;
+
+import java.util.Arrays;
+
+public class HealthComponents extends ComponentStore {
+    // Indexed by dense position, the ecs systems read these directly in their loops
+    int[] health = new int[INITIAL_CAPACITY];
+    int[] maxHealth = new int[INITIAL_CAPACITY];
+    long[] lastDamageTime = new long[INITIAL_CAPACITY];
+
+    //************* Damaged Entities *************//
+    // Entities damaged since RegenSystem last looked, so it only reschedules those
+    int[] damaged = new int[INITIAL_CAPACITY];
+    int damagedCount = 0;
+
+    /**
+     * Gives an entity health
+     * Precondition: the entity does not have health yet
+     * Postcondition: the health is stored, with no damage taken yet
+     * @param entity the id of the entity
+     * @param entityHealth the current health of the entity
+     * @param entityMaxHealth the maximum health of the entity
+     * @return the dense position of the health
+     */
+    public int add(int entity, int entityHealth, int entityMaxHealth) {
+        int dense = insert(entity);
+        health[dense] = entityHealth;
+        maxHealth[dense] = entityMaxHealth;
+        lastDamageTime[dense] = 0;
+        return dense;
+    }
+
+    /**
+     * Reduces an entity's health and remembers when it was hit
+     * Precondition: dense is below size(), called from DamageSystem.apply
+     * Postcondition: health is reduced, the regen delay restarts and the entity is recorded as damaged
+     * @param dense the dense position
+     * @param amount the amount of damage
+     * @param now the current simulated time in milliseconds
+     */
+    public void damage(int dense, int amount, long now) {
+        health[dense] -= amount;
+        lastDamageTime[dense] = now;
+        if (damagedCount == damaged.length) {
+            damaged = Arrays.copyOf(damaged, damagedCount * 2);
+        }
+        damaged[damagedCount++] = getEntity(dense);
+    }
+
+    /**
+     * Gets the current health
+     * Precondition: dense is below size()
+     * Postcondition: returns the health, zero or below once destroyed
+     * @param dense the dense position
+     * @return the current health
+     */
+    public int getHealth(int dense) {
+        return health[dense];
+    }
+
+    /**
+     * Sets the current health
+     * Precondition: dense is below size()
+     * Postcondition: the health is updated
+     * @param dense the dense position
+     * @param value the new health
+     */
+    public void setHealth(int dense, int value) {
+        health[dense] = value;
+    }
+
+    /**
+     * Gets the maximum health
+     * Precondition: dense is below size()
+     * Postcondition: returns the maximum health
+     * @param dense the dense position
+     * @return the maximum health
+     */
+    public int getMaxHealth(int dense) {
+        return maxHealth[dense];
+    }
+
+    /**
+     * Sets the maximum health
+     * Precondition: dense is below size()
+     * Postcondition: the maximum health is updated
+     * @param dense the dense position
+     * @param value the new maximum health
+     */
+    public void setMaxHealth(int dense, int value) {
+        maxHealth[dense] = value;
+    }
+
+    @Override
+    protected void grow(int capacity) {
+        health = Arrays.copyOf(health, capacity);
+        maxHealth = Arrays.copyOf(maxHealth, capacity);
+        lastDamageTime = Arrays.copyOf(lastDamageTime, capacity);
+    }
+
+    @Override
+    protected void move(int from, int to) {
+        health[to] = health[from];
+        maxHealth[to] = maxHealth[from];
+        lastDamageTime[to] = lastDamageTime[from];
+    }
+
+    @Override
+    protected void clear(int dense) {}
+}
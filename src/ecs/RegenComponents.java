@@ -0,0 +1,57 @@
+/**
+ * RegenComponents.java
+ * The RegenComponents class for BenumZombs, storing how entities heal after they stop taking damage
+ * @author Richard Pu
+ * @version 1.0
+ * @since 2026-10-17
+ */
+
+package ecs;
+
+import java.util.Arrays;
+
+public class RegenComponents extends ComponentStore {
+    // Indexed by dense position, RegenSystem reads these directly
+    long[] nextTick = new long[INITIAL_CAPACITY]; // Tick of the next heal, -1 while at full health
+    long[] delay = new long[INITIAL_CAPACITY];
+    int[] period = new int[INITIAL_CAPACITY];
+    int[] amount = new int[INITIAL_CAPACITY];
+
+    /**
+     * Gives an entity health regeneration
+     * Precondition: the entity does not regenerate yet and also has health
+     * Postcondition: the regen is stored
+     * @param entity the id of the entity
+     * @param regenDelay milliseconds without damage before healing starts
+     * @param regenPeriod ticks waited before each heal once healing has started
+     * @param regenAmount the health restored by each heal
+     * @return the dense position of the regen
+     */
+    public int add(int entity, long regenDelay, int regenPeriod, int regenAmount) {
+        int dense = insert(entity);
+        nextTick[dense] = -1;
+        delay[dense] = regenDelay;
+        period[dense] = regenPeriod;
+        amount[dense] = regenAmount;
+        return dense;
+    }
+
+    @Override
+    protected void grow(int capacity) {
+        nextTick = Arrays.copyOf(nextTick, capacity);
+        delay = Arrays.copyOf(delay, capacity);
+        period = Arrays.copyOf(period, capacity);
+        amount = Arrays.copyOf(amount, capacity);
+    }
+
+    @Override
+    protected void move(int from, int to) {
+        nextTick[to] = nextTick[from];
+        delay[to] = delay[from];
+        period[to] = period[from];
+        amount[to] = amount[from];
+    }
+
+    @Override
+    protected void clear(int dense) {}
+}
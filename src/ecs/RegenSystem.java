@@ -0,0 +1,69 @@
+/**
+ * RegenSystem.java
+ * The RegenSystem class for BenumZombs, healing entities that have not been damaged for a while
+ * @author Richard Pu
+ * @version 1.0
+ * @since 2026-10-17
+ */
+
+package ecs;
+
+import systems.GameClock;
+import systems.TimerWheel;
+
+public class RegenSystem {
+    private static final int WHEEL_SLOTS = 256; // Longer than the regen delay, so most heals are looked at once
+
+    // Entities are only scheduled once damaged, so buildings at full health cost nothing
+    private final TimerWheel wheel = new TimerWheel(WHEEL_SLOTS);
+
+    /**
+     * Schedules the entities damaged since the last update and heals the ones that are due
+     * Precondition: called at most once per simulation tick, heals due on skipped ticks land on the next call
+     * Postcondition: damaged entities that are still alive are healed every few ticks after their regen delay, never above their maximum
+     * @param world the EntityWorld to update
+     * @param clock the GameClock of the simulation
+     */
+    public void update(EntityWorld world, GameClock clock) {
+        RegenComponents regens = world.getRegens();
+        HealthComponents healths = world.getHealths();
+        long tick = clock.getTick();
+
+        //************* Schedule Damaged Entities *************//
+        // Damage restarts the delay, so the first heal moves to the period after the new delay ends
+        for (int i = 0; i < healths.damagedCount; i++) {
+            int entity = healths.damaged[i];
+            int r = regens.indexOf(entity);
+            int h = healths.indexOf(entity);
+            if (r < 0 || h < 0) {
+                continue;
+            }
+            long firstHeal = GameClock.getTickAfter(healths.lastDamageTime[h] + regens.delay[r]) + regens.period[r];
+            if (regens.nextTick[r] != firstHeal) {
+                regens.nextTick[r] = firstHeal;
+                wheel.schedule(entity, firstHeal);
+            }
+        }
+        healths.damagedCount = 0;
+
+        //************* Heal Due Entities *************//
+        int due = wheel.advance(tick);
+        for (int i = 0; i < due; i++) {
+            int entity = wheel.getDue(i);
+            int r = regens.indexOf(entity);
+            int h = healths.indexOf(entity);
+            if (r < 0 || h < 0 || regens.nextTick[r] < 0 || regens.nextTick[r] > tick) {
+                continue; // Destroyed, already healed, or rescheduled by later damage
+            }
+
+            regens.nextTick[r] = -1;
+            if (healths.health[h] < healths.maxHealth[h] && healths.health[h] > 0) {
+                healths.health[h] = Math.min(healths.health[h] + regens.amount[r], healths.maxHealth[h]);
+                if (healths.health[h] < healths.maxHealth[h]) {
+                    regens.nextTick[r] = tick + regens.period[r] + 1;
+                    wheel.schedule(entity, regens.nextTick[r]);
+                }
+            }
+        }
+    }
+}
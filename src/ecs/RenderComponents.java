@@ -0,0 +1,106 @@
+/**
+ * RenderComponents.java
+ * The RenderComponents class for BenumZombs, storing the animation state entities are drawn with
+ * @author Richard Pu
+ * @version 1.0
+ * @since 2026-10-17
+ */
+
+package ecs;
+
+import java.util.Arrays;
+
+public class RenderComponents extends ComponentStore {
+    //************* Animation Kinds *************//
+    public static final byte PULSE = 0; // Scale that jumps to PULSE_PEAK when firing and shrinks back to PULSE_REST
+    public static final byte SPIN = 1; // Angle that keeps turning
+    public static final byte PUNCH = 2; // Timer that runs while active and resets otherwise
+    public static final byte SHAKE = 3; // Offset that dies down, the component is removed once it settles
+
+    public static final double PULSE_REST = 0.5;
+    public static final double PULSE_PEAK = 0.6;
+    public static final double SHAKE_PEAK = 15;
+
+    // Indexed by dense position, AnimationSystem reads these directly
+    byte[] kind = new byte[INITIAL_CAPACITY];
+    double[] value = new double[INITIAL_CAPACITY];
+    boolean[] active = new boolean[INITIAL_CAPACITY];
+
+    /**
+     * Gives an entity an animation
+     * Precondition: the entity does not have an animation yet
+     * Postcondition: the animation is stored and inactive
+     * @param entity the id of the entity
+     * @param renderKind PULSE, SPIN, PUNCH or SHAKE
+     * @param initialValue the starting value of the animation
+     * @return the dense position of the animation
+     */
+    public int add(int entity, byte renderKind, double initialValue) {
+        int dense = insert(entity);
+        kind[dense] = renderKind;
+        value[dense] = initialValue;
+        active[dense] = false;
+        return dense;
+    }
+
+    /**
+     * Gets the current value of an animation
+     * Precondition: dense is below size()
+     * Postcondition: returns the scale, angle, timer or offset depending on the kind
+     * @param dense the dense position
+     * @return the animation value
+     */
+    public double getValue(int dense) {
+        return value[dense];
+    }
+
+    /**
+     * Sets the current value of an animation
+     * Precondition: dense is below size()
+     * Postcondition: the value is updated
+     * @param dense the dense position
+     * @param animationValue the new value
+     */
+    public void setValue(int dense, double animationValue) {
+        value[dense] = animationValue;
+    }
+
+    /**
+     * Checks whether an animation is active
+     * Precondition: dense is below size()
+     * Postcondition: returns the active flag
+     * @param dense the dense position
+     * @return true if the animation is active, false otherwise
+     */
+    public boolean isActive(int dense) {
+        return active[dense];
+    }
+
+    /**
+     * Sets whether an animation is active
+     * Precondition: dense is below size()
+     * Postcondition: the active flag is updated
+     * @param dense the dense position
+     * @param isActive the new active flag
+     */
+    public void setActive(int dense, boolean isActive) {
+        active[dense] = isActive;
+    }
+
+    @Override
+    protected void grow(int capacity) {
+        kind = Arrays.copyOf(kind, capacity);
+        value = Arrays.copyOf(value, capacity);
+        active = Arrays.copyOf(active, capacity);
+    }
+
+    @Override
+    protected void move(int from, int to) {
+        kind[to] = kind[from];
+        value[to] = value[from];
+        active[to] = active[from];
+    }
+
+    @Override
+    protected void clear(int dense) {}
+}
@@ -0,0 +1,102 @@
+/**
+ * TransformComponents.java
+ * The TransformComponents class for BenumZombs, storing the position and size of entities in parallel arrays
+ * @author Richard Pu
+ * @version 1.0
+ * @since 2026-10-17
+ */
+
+package ecs;
+
+import java.util.Arrays;
+
+public class TransformComponents extends ComponentStore {
+    // Indexed by dense position, the ecs systems read these directly in their loops
+    double[] x = new double[INITIAL_CAPACITY];
+    double[] y = new double[INITIAL_CAPACITY];
+    int[] width = new int[INITIAL_CAPACITY];
+    int[] height = new int[INITIAL_CAPACITY];
+
+    /**
+     * Gives an entity a position and size
+     * Precondition: the entity does not have a transform yet, width and height are positive
+     * Postcondition: the transform is stored
+     * @param entity the id of the entity
+     * @param entityX the x-coordinate of the entity's top left corner
+     * @param entityY the y-coordinate of the entity's top left corner
+     * @param entityWidth the width of the entity
+     * @param entityHeight the height of the entity
+     * @return the dense position of the transform
+     */
+    public int add(int entity, double entityX, double entityY, int entityWidth, int entityHeight) {
+        int dense = insert(entity);
+        x[dense] = entityX;
+        y[dense] = entityY;
+        width[dense] = entityWidth;
+        height[dense] = entityHeight;
+        return dense;
+    }
+
+    /**
+     * Gets the x-coordinate of a transform
+     * Precondition: dense is below size()
+     * Postcondition: returns the x-coordinate
+     * @param dense the dense position
+     * @return the x-coordinate of the entity's top left corner
+     */
+    public double getX(int dense) {
+        return x[dense];
+    }
+
+    /**
+     * Gets the y-coordinate of a transform
+     * Precondition: dense is below size()
+     * Postcondition: returns the y-coordinate
+     * @param dense the dense position
+     * @return the y-coordinate of the entity's top left corner
+     */
+    public double getY(int dense) {
+        return y[dense];
+    }
+
+    /**
+     * Gets the width of a transform
+     * Precondition: dense is below size()
+     * Postcondition: returns the width
+     * @param dense the dense position
+     * @return the width of the entity
+     */
+    public int getWidth(int dense) {
+        return width[dense];
+    }
+
+    /**
+     * Gets the height of a transform
+     * Precondition: dense is below size()
+     * Postcondition: returns the height
+     * @param dense the dense position
+     * @return the height of the entity
+     */
+    public int getHeight(int dense) {
+        return height[dense];
+    }
+
+    @Override
+    protected void grow(int capacity) {
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        width = Arrays.copyOf(width, capacity);
+        height = Arrays.copyOf(height, capacity);
+    }
+
+    @Override
+    protected void move(int from, int to) {
+        x[to] = x[from];
+        y[to] = y[from];
+        width[to] = width[from];
+        height[to] = height[from];
+    }
+
+    @Override
+    protected void clear(int dense) {}
+}
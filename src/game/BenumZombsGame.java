@@ -8,15 +8,19 @@
 
 package game;
 
-import helpers.RandomGeneration;
+import diagnostics.DeathScreenEvent;
+import diagnostics.FrameProfiler;
+import diagnostics.TickWatchdog;
+import helpers.BackgroundLayer;
+import helpers.Log;
+import helpers.Logger;
+import helpers.RecordedGraphics;
 import helpers.SoundManager;
 import java.awt.AlphaComposite;
-import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.Point;
-import java.awt.Rectangle;
 import java.awt.RenderingHints;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
@@ -25,26 +29,33 @@ import java.awt.event.KeyEvent;
 import java.awt.event.MouseEvent;
 import java.awt.event.MouseListener;
 import java.awt.event.MouseMotionAdapter;
+import java.util.concurrent.locks.LockSupport;
 import javax.swing.JPanel;
 import javax.swing.Timer;
 import objects.Buildings.Building;
 import objects.Player;
 import objects.Tools.Tool;
 import systems.BuildingSystem;
-import systems.CollisionSystem;
+import systems.GameClock;
 import systems.HeadUpDisplay;
 import systems.ResourceSystem;
 import systems.ToolSystem;
+import systems.Viewport;
 import systems.ZombieSystem;
 
 public class BenumZombsGame extends JPanel implements ActionListener {
+    private static final Logger LOG = Log.getLogger("BenumZombsGame.java");
+
     //************* Game Entities *************//
+    private final GameSimulation simulation;
     private final Player player;
     private final HeadUpDisplay headUpDisplay;
     private final ResourceSystem resourceSystem;
     private final ToolSystem toolSystem;
     private final BuildingSystem buildingSystem;
     private final ZombieSystem zombieSystem;
+    private final GameClock clock;
+    private final FrameProfiler profiler;
 
     //************* World Constants *************//
     public static final int GRID_SIZE = 35;
@@ -53,23 +64,33 @@ public class BenumZombsGame extends JPanel implements ActionListener {
     public static final int WORLD_AREA = PLAY_AREA + (OFFSET * 2); 
     public static final int BORDER_THICKNESS = GRID_SIZE * 50;
 
-    //************* Placement Constants *************//
-    private static final double MAX_PLACEMENT_DISTANCE = GRID_SIZE * 10;
-    private static final double MAX_STASH_RANGE = GRID_SIZE * 17;
-    private static final int BORDER_ZONE_BLOCKS = GRID_SIZE * 5;
-
+    //************* Placement State *************//
     private Building placementBuilding = null; 
     private Building ghostBuilding = null;
     private boolean isPlacing = false;
     private int ghostX, ghostY;
     private boolean isPlacementValid = false;
 
+    //************* Simulation Timing *************//
+    private static final long NANOS_PER_TICK = 1_000_000_000L / GameClock.TICKS_PER_SECOND;
+    private static final int MAX_CATCH_UP_TICKS = 5; // Ticks run back to back before the backlog is dropped
+    private static final int RENDER_DELAY = 7; // About 144 frames per second
+
+    private final Object simulationLock = new Object(); // Guards all game state shared between the simulation thread and the EDT
+    private final Thread simulationThread;
+    private final TickWatchdog watchdog; // Logs ticks that run past twice the timestep, or benumzombs.tickBudgetMillis
+    private volatile boolean running = true;
+    private volatile double interpolationAlpha = 1.0;
+
     //************* Instance Variables *************//
-    private int waveCount;
-    private final Timer gameTimer;
-    private float lastTime = 0.0f;
+    private final Timer renderTimer;
     private boolean up, down, left, right;
     private double worldX, worldY;
+    private final BackgroundLayer backgroundLayer = new BackgroundLayer(); // Pre-rendered grass, grid and border tiles
+    private final RecordedGraphics frame = new RecordedGraphics(); // Drawing calls made under the lock, drawn for real after it is released
+    private final Viewport viewport = new Viewport(); // Part of the world on screen, reset every frame
+    private boolean showProfiler = false; // Toggled with F3, which also counts allocations, F4 writes the profiler's numbers to a CSV file
+    private final DevConsole devConsole; // Opened with the backquote key
 
     /**
      * Constructor for BenumZombsGame
@@ -82,28 +103,21 @@ public class BenumZombsGame extends JPanel implements ActionListener {
         setBackground(new Color(105, 141, 65));
         setLayout(null);
 
-        //************* Systems Initialization and Player Spawn *************//
-        toolSystem = new ToolSystem();
-        buildingSystem = new BuildingSystem();
-        resourceSystem = new ResourceSystem();
-        resourceSystem.spawnResources(25);
-        zombieSystem = new ZombieSystem();
-
-        Point spawn; //Make sure player does not spawn on resources
-        while (true) {
-            spawn = RandomGeneration.getRandomLocation();
-            Rectangle playerHitbox = new Rectangle(spawn.x, spawn.y, 50, 50);
-            
-            if (!CollisionSystem.checkResourceCollision(playerHitbox, resourceSystem)) {
-                break; 
-            }
-        }
-        player = new Player(spawn.x, spawn.y, playerName, toolSystem);
+        //************* Simulation and Systems *************//
+        simulation = new GameSimulation(playerName);
+        clock = simulation.getClock();
+        toolSystem = simulation.getToolSystem();
+        buildingSystem = simulation.getBuildingSystem();
+        resourceSystem = simulation.getResourceSystem();
+        zombieSystem = simulation.getZombieSystem();
+        player = simulation.getPlayer();
+        profiler = simulation.getProfiler();
+        simulation.getMetrics().register(); // Readable from JConsole while the game runs
 
-        headUpDisplay = new HeadUpDisplay(this, player, toolSystem);
-        waveCount = 0;
+        headUpDisplay = new HeadUpDisplay(this, player, toolSystem, clock);
+        devConsole = new DevConsole(simulation);
 
-        updateCamera();
+        updateCamera(1.0);
 
         //************* Key Listeners *************//
         addKeyListener(new KeyAdapter() {
@@ -115,21 +129,33 @@ public class BenumZombsGame extends JPanel implements ActionListener {
             public void keyReleased(KeyEvent e) {
                 handleKeys(e.getKeyCode(), false);
             }
+            @Override
+            public void keyTyped(KeyEvent e) {
+                synchronized (simulationLock) {
+                    if (devConsole.isOpen()) {
+                        devConsole.type(e.getKeyChar());
+                    }
+                }
+            }
         });
 
         //************* Mouse Listeners *************//
         addMouseMotionListener(new MouseMotionAdapter() {
             @Override
             public void mouseMoved(MouseEvent e) {
-                if (isPlacing) {
-                    updateBuildingPosition(e.getX(), e.getY());
+                synchronized (simulationLock) {
+                    if (isPlacing) {
+                        updateBuildingPosition(e.getX(), e.getY());
+                    }
                 }
                 repaint();
             }
             @Override
             public void mouseDragged(MouseEvent e) {
-                if (isPlacing) {
-                    updateBuildingPosition(e.getX(), e.getY());
+                synchronized (simulationLock) {
+                    if (isPlacing) {
+                        updateBuildingPosition(e.getX(), e.getY());
+                    }
                 }
                 repaint();
             }
@@ -138,24 +164,26 @@ public class BenumZombsGame extends JPanel implements ActionListener {
         addMouseListener(new MouseListener() {
             @Override
             public void mousePressed(MouseEvent e) {
-                if (headUpDisplay.isDeathScreenVisible()){
-                    return;
-                }
+                synchronized (simulationLock) {
+                    if (headUpDisplay.isDeathScreenVisible()){
+                        return;
+                    }
 
-                Point p = e.getPoint();
-                if (headUpDisplay.handleMouseClick(p)) { // Clicked HUD
-                } else if (isPlacing && e.getButton() == MouseEvent.BUTTON1) { // Place building
-                    placeBuilding();
-                } else if (isPlacing && e.getButton() == MouseEvent.BUTTON3) { // Cancel placement
-                    cancelPlacement();
-                } else if (!isPlacing && e.getButton() == MouseEvent.BUTTON1) { // Start swinging
-                    int realWorldX = (int)(p.x - worldX);
-                    int realWorldY = (int)(p.y - worldY);
-                    
-                    boolean selected = buildingSystem.selectBuildingAt(realWorldX, realWorldY);
-                    
-                    if (!selected) {
-                        player.setMouseHolding(true);
+                    Point p = e.getPoint();
+                    if (headUpDisplay.handleMouseClick(p)) { // Clicked HUD
+                    } else if (isPlacing && e.getButton() == MouseEvent.BUTTON1) { // Place building
+                        placeBuilding();
+                    } else if (isPlacing && e.getButton() == MouseEvent.BUTTON3) { // Cancel placement
+                        cancelPlacement();
+                    } else if (!isPlacing && e.getButton() == MouseEvent.BUTTON1) { // Start swinging
+                        int realWorldX = (int)(p.x - worldX);
+                        int realWorldY = (int)(p.y - worldY);
+                        
+                        boolean selected = buildingSystem.selectBuildingAt(realWorldX, realWorldY);
+                        
+                        if (!selected) {
+                            player.setMouseHolding(true);
+                        }
                     }
                 }
             }
@@ -163,7 +191,9 @@ public class BenumZombsGame extends JPanel implements ActionListener {
             @Override
             public void mouseReleased(MouseEvent e) {
                 if (e.getButton() == MouseEvent.BUTTON1) { // Stop swinging
-                    player.setMouseHolding(false);
+                    synchronized (simulationLock) {
+                        player.setMouseHolding(false);
+                    }
                 }
             }
             @Override
@@ -174,18 +204,87 @@ public class BenumZombsGame extends JPanel implements ActionListener {
             public void mouseExited(MouseEvent e) {}
         });
 
-        gameTimer = new Timer(13, this); 
-        gameTimer.start();
+        //************* Simulation Thread and Render Timer *************//
+        simulationThread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                runSimulation();
+            }
+        }, "BenumZombs-Simulation");
+        simulationThread.setDaemon(true);
+        simulationThread.start();
+
+        watchdog = new TickWatchdog(profiler, simulationThread, TickWatchdog.getBudgetNanos(NANOS_PER_TICK * 2), TickWatchdog.DEFAULT_PATH);
+        watchdog.start();
+
+        renderTimer = new Timer(RENDER_DELAY, this); 
+        renderTimer.start();
+    }
+
+    /**
+     * Runs the simulation at a fixed rate on its own thread, independent of how often the EDT paints
+     * Precondition: called only from the simulation thread
+     * Postcondition: ticks run at GameClock.TICKS_PER_SECOND until the game is stopped
+     */
+    private void runSimulation() {
+        long previous = System.nanoTime();
+        long accumulator = 0;
+
+        while (running) {
+            long now = System.nanoTime();
+            accumulator += now - previous;
+            previous = now;
+
+            //************* Catch Up on Missed Ticks *************//
+            int ticks = 0;
+            while (accumulator >= NANOS_PER_TICK && ticks < MAX_CATCH_UP_TICKS) {
+                synchronized (simulationLock) {
+                    tick();
+                }
+                accumulator -= NANOS_PER_TICK;
+                ticks++;
+            }
+            if (accumulator >= NANOS_PER_TICK) {
+                accumulator %= NANOS_PER_TICK; // Too far behind, drop the backlog instead of spiralling
+            }
+
+            interpolationAlpha = (double) accumulator / NANOS_PER_TICK;
+            LockSupport.parkNanos(NANOS_PER_TICK - accumulator);
+        }
+    }
+
+    /**
+     * Stops the simulation thread, the render timer and the tick watchdog, and takes the game's metrics off JMX
+     * Precondition: called on the EDT when the game is replaced or its screen is left for good
+     * Postcondition: no further ticks or repaints are scheduled, the metrics are unregistered unless a newer game replaced them
+     */
+    public void stop() {
+        running = false;
+        LockSupport.unpark(simulationThread); // Exit now rather than after the current wait
+        renderTimer.stop();
+        watchdog.stop();
+        simulation.getMetrics().unregister(); // JConsole would otherwise keep showing this game's last values
     }
 
     /**
-     * Updates the camera position based on the player's position
+     * Gets the lock that guards the game state
      * Precondition: N/A
+     * Postcondition: returns the lock, code on other threads must hold it while touching game state
+     * @return the simulation lock
+     */
+    public Object getSimulationLock() {
+        return simulationLock;
+    }
+
+    /**
+     * Updates the camera position based on the player's interpolated position
+     * Precondition: alpha is between 0.0 and 1.0
      * Postcondition: worldX and worldY are updated to center on player
+     * @param alpha how far the renderer is between the previous and current tick
      */
-    private void updateCamera() {
-        worldX = (getWidth() / 2) - player.getCenterX();
-        worldY = (getHeight() / 2) - player.getCenterY();
+    private void updateCamera(double alpha) {
+        worldX = (getWidth() / 2) - (player.getInterpolatedX(alpha) + player.getWidth() / 2);
+        worldY = (getHeight() / 2) - (player.getInterpolatedY(alpha) + player.getHeight() / 2);
     }
 
     /**
@@ -235,7 +334,27 @@ public class BenumZombsGame extends JPanel implements ActionListener {
      * @return the current wave count
      */
     public int getWaveCount() {
-        return waveCount;
+        return simulation.getWaveCount();
+    }
+
+    /**
+     * Returns the GameSimulation driving this view
+     * Precondition: N/A
+     * Postcondition: returns the simulation
+     * @return the simulation instance
+     */
+    public GameSimulation getSimulation() {
+        return simulation;
+    }
+
+    /**
+     * Returns the viewport of the last frame, including how many objects were drawn and culled
+     * Precondition: N/A
+     * Postcondition: returns the viewport
+     * @return the viewport instance
+     */
+    public Viewport getViewport() {
+        return viewport;
     }
 
     /**
@@ -261,6 +380,44 @@ public class BenumZombsGame extends JPanel implements ActionListener {
      * @param isPressed  true if key is pressed, false if released
      */
     private void handleKeys(int keyCode, boolean isPressed) {
+        synchronized (simulationLock) {
+            handleKeysLocked(keyCode, isPressed);
+        }
+    }
+
+    /**
+     * Handles key events while holding the simulation lock
+     * Precondition: the caller holds simulationLock
+     * Postcondition: movement flags and game state are updated based on key events
+     * @param keyCode    key code of the pressed/released key
+     * @param isPressed  true if key is pressed, false if released
+     */
+    private void handleKeysLocked(int keyCode, boolean isPressed) {
+        if (isPressed && keyCode == KeyEvent.VK_F3) { // Toggle profiler overlay
+            showProfiler = !showProfiler;
+            profiler.setAllocationTracking(showProfiler); // Only pay for counting bytes while the overlay shows them
+        }
+        if (isPressed && keyCode == KeyEvent.VK_F4) { // Dump profiler to CSV
+            writeProfilerCsv("profiler-" + System.currentTimeMillis() + ".csv", getEntityCounts());
+        }
+
+        //************* Developer Console *************//
+        if (isPressed && keyCode == KeyEvent.VK_BACK_QUOTE) {
+            devConsole.toggle();
+            up = down = left = right = false; // Keys held when it opened would never see their release
+            return;
+        }
+        if (devConsole.isOpen()) { // Every other key goes to the console while it is open
+            if (isPressed && keyCode == KeyEvent.VK_ENTER) {
+                devConsole.submit();
+            } else if (isPressed && keyCode == KeyEvent.VK_BACK_SPACE) {
+                devConsole.backspace();
+            } else if (isPressed && keyCode == KeyEvent.VK_ESCAPE) {
+                devConsole.close();
+            }
+            return;
+        }
+
         if (headUpDisplay.isDeathScreenVisible()){ // Ignore input if death screen is visible 
             return;
         }
@@ -276,7 +433,7 @@ public class BenumZombsGame extends JPanel implements ActionListener {
             if (keyCode == KeyEvent.VK_B) { // Open shop
                 Main.shopScreen.setGameInstance(BenumZombsGame.this);
                 Main.showScreen("SHOP");
-                System.out.println("BenumZombsGame.java - Shop Opened via 'B'");
+                LOG.info("Shop Opened via 'B'");
                 return;
             }
 
@@ -301,12 +458,12 @@ public class BenumZombsGame extends JPanel implements ActionListener {
                 Building building = buildingSystem.getBuildingInSlot(index);
                 if (building != null && !building.isLocked()) {
                     if (buildingSystem.isLimitReached(building)) {
-                        System.out.println("BenumZombsGame.java - Building Limit Reached");
+                        LOG.debug("Building Limit Reached");
                         return;
                     }
                     if (!building.isUnlocker()) {
                         if (resourceSystem.getWoodCount() < building.getWoodCost() || resourceSystem.getStoneCount() < building.getStoneCost()) {
-                            System.out.println("BenumZombsGame.java - Not Enough Resources");
+                            LOG.debug("Not Enough Resources");
                             return;
                         }
                     }
@@ -317,7 +474,7 @@ public class BenumZombsGame extends JPanel implements ActionListener {
 
             if (keyCode == KeyEvent.VK_F12) { // Super secret dev mode key
                 resourceSystem.devModeAddResources();
-                System.out.println("BenumZombsGame.java - Dev Mode activated");
+                LOG.info("Dev Mode activated");
             }
         }
         
@@ -344,44 +501,25 @@ public class BenumZombsGame extends JPanel implements ActionListener {
     }
 
     /**
-     * Handle player movement, HUD update, camera update, and repaint
+     * Repaints the panel on every render timer tick
      * Precondition: N/A
-     * Postcondition: player is moved, HUD is updated, camera is updated, panel is repainted
-     * @param e the action event triggering the update
+     * Postcondition: a repaint is scheduled on the EDT
+     * @param e the action event triggering the repaint
      */
     @Override
     public void actionPerformed(ActionEvent e) {
-        //************* Moveable Area *************//
-        int minX = OFFSET + BORDER_THICKNESS;
-        int minY = OFFSET + BORDER_THICKNESS;
-        int maxX = OFFSET + PLAY_AREA - BORDER_THICKNESS - player.getWidth();
-        int maxY = OFFSET + PLAY_AREA - BORDER_THICKNESS - player.getHeight();
-
-        player.move(up, down, left, right, minX, maxX, minY, maxY, resourceSystem, buildingSystem);
-        
-        //************* Update Systems *************//
-        player.update();
-        player.updateSwing(resourceSystem);
-        buildingSystem.update(resourceSystem, zombieSystem);
-        headUpDisplay.update();
-        resourceSystem.update();
-
-        //************* Update Waves and Zombies *************//
-        float currentTime = headUpDisplay.getTime();
-        if (buildingSystem.isGoldStashPlaced()) {
-            if (lastTime < 0.25f && currentTime >= 0.25f) {
-                waveCount++;
-                System.out.println("BenumZombsGame.java - Wave: " + waveCount);
-            }
-            zombieSystem.update(player, buildingSystem, resourceSystem, currentTime, waveCount);
-        } else {
-            waveCount = 0; 
-        }
-        lastTime = currentTime;
+        repaint();
+    }
 
+    /**
+     * Advances the game by one fixed simulation step
+     * Precondition: the caller holds simulationLock
+     * Postcondition: player is moved, systems and waves are updated, death condition is checked
+     */
+    private void tick() {
+        simulation.setMovement(up, down, left, right);
+        simulation.tick();
         checkDeathCondition();
-        updateCamera();
-        repaint();
     }
 
     /**
@@ -434,44 +572,8 @@ public class BenumZombsGame extends JPanel implements ActionListener {
 
         ghostBuilding.setX(ghostX);
         ghostBuilding.setY(ghostY);
-        
-        //************* Border Restrictions *************//
-        int playStart = OFFSET + BORDER_THICKNESS;
-        int playEnd = OFFSET + PLAY_AREA - BORDER_THICKNESS;
-        int minX = playStart + BORDER_ZONE_BLOCKS;
-        int minY = playStart + BORDER_ZONE_BLOCKS;
-        int maxX = playEnd - BORDER_ZONE_BLOCKS;
-        int maxY = playEnd - BORDER_ZONE_BLOCKS;
-        
-        boolean insideBounds = (ghostX >= minX && ghostX + ghostBuilding.getWidth() <= maxX && ghostY >= minY && ghostY + ghostBuilding.getHeight() <= maxY);
-        Rectangle ghostRect = new Rectangle(ghostX, ghostY, ghostBuilding.getWidth(), ghostBuilding.getHeight());
-
-        //************* Collision Checks *************//
-        boolean collidesResource = CollisionSystem.checkResourceCollision(ghostRect, resourceSystem);
-        boolean collidesBuilding = CollisionSystem.checkBuildingCollision(ghostRect, buildingSystem);
-        boolean collidesZombie = CollisionSystem.checkZombieCollision(ghostRect, zombieSystem);
-        boolean collidesPlayer = CollisionSystem.checkPlayerCollision(ghostRect, player);
-
-        //************* Range Checks *************//
-        // Distance from player
-        double buildingCenterX = ghostX + (placementBuilding.getWidth() / 2);
-        double buildingCenterY = ghostY + (placementBuilding.getHeight() / 2);
-        double distance = Math.sqrt(Math.pow(buildingCenterX - player.getCenterX(), 2) + Math.pow(buildingCenterY - player.getCenterY(), 2));
-        boolean inPlayerRange = distance <= MAX_PLACEMENT_DISTANCE;
-
-        //Distance from Stash
-        boolean inStashRange = true;
-        Building stash = buildingSystem.getActiveStash();
-        if (stash != null && !placementBuilding.isUnlocker()) {
-            double sCenterX = stash.getX() + (stash.getWidth() / 2);
-            double sCenterY = stash.getY() + (stash.getHeight() / 2);
-            double distanceStash = Math.sqrt(Math.pow(buildingCenterX - sCenterX, 2) + Math.pow(buildingCenterY - sCenterY, 2));
-            inStashRange = distanceStash <= MAX_STASH_RANGE;
-        }
 
-        boolean limitReached = buildingSystem.isLimitReached(placementBuilding); // Check building number limit
-
-        this.isPlacementValid = insideBounds && !collidesResource && !collidesBuilding && !collidesPlayer && !collidesZombie && inPlayerRange && inStashRange && !limitReached; // Final result
+        this.isPlacementValid = simulation.isPlacementValid(placementBuilding, ghostX, ghostY);
     }
 
     /**
@@ -481,17 +583,12 @@ public class BenumZombsGame extends JPanel implements ActionListener {
      */
     private void placeBuilding() {
         if (!isPlacementValid || placementBuilding == null) {
-            System.out.println("BenumZombsGame.java - Invalid placement attempted");
+            LOG.debug("Invalid placement attempted");
             return;
         }
 
-        //************* Deduct Resources *************//
-        resourceSystem.addWood(-placementBuilding.getWoodCost());
-        resourceSystem.addStone(-placementBuilding.getStoneCost());
-
         //************* Place Building *************//
-        Building newBuilding = buildingSystem.createBuilding(placementBuilding, ghostX, ghostY);
-        buildingSystem.placeBuilding(newBuilding);
+        simulation.placeBuilding(placementBuilding, ghostX, ghostY);
         SoundManager.playSound("placeBuilding.wav");
 
         if (HeadUpDisplay.tutorialActive) {
@@ -526,15 +623,14 @@ public class BenumZombsGame extends JPanel implements ActionListener {
             return;
         }
         
-        Building stash = buildingSystem.getActiveStash();
-        boolean stashAlive = (stash != null && stash.getHealth() > 0);
-        
-        if (player.isDead() && stashAlive) {
+        if (player.isDead() && simulation.isStashAlive()) {
+            DeathScreenEvent.emit(false, simulation.getWaveCount(), zombieSystem.getZombieCount());
             headUpDisplay.showDeathScreen("You got killed... but fear not, your fortress survives! Get back into action!");
         }
 
-        if (!stashAlive && stash != null) {
-            headUpDisplay.showDeathScreen("Your stash has been destroyed after " + waveCount + " waves.");
+        if (simulation.isStashDestroyed()) {
+            DeathScreenEvent.emit(true, simulation.getWaveCount(), zombieSystem.getZombieCount());
+            headUpDisplay.showDeathScreen("Your stash has been destroyed after " + simulation.getWaveCount() + " waves.");
         }
     }
 
@@ -544,38 +640,19 @@ public class BenumZombsGame extends JPanel implements ActionListener {
      * Postcondition: player is respawned or game is reset
      */
     public void respawnPlayer() {
-        Building stash = buildingSystem.getActiveStash();
-        boolean stashAlive = stash != null && stash.getHealth() > 0;
-
-        if (stashAlive && stash != null) {
-            player.reset(stash.getX() + stash.getWidth()/2, stash.getY() + stash.getHeight()/2);
-            toolSystem.reset(); 
-            while (true) {
-                Rectangle test = new Rectangle((int)player.getX(), (int)player.getY(), 50, 50);
-                if (CollisionSystem.checkBuildingCollision(test, buildingSystem)){
-                    player.setY(player.getY() + 30);
-                } else {
-                    break;
-                }
-            }
-        } else {            
-            resourceSystem.reset(true);
-            toolSystem.reset();
-            buildingSystem.reset();
-            zombieSystem.reset();
-            waveCount = 0;
-            
-            Point spawn;
-            while (true) {
-                spawn = RandomGeneration.getRandomLocation();
-                Rectangle test = new Rectangle(spawn.x, spawn.y, 50, 50);
-                if (!CollisionSystem.checkResourceCollision(test, resourceSystem)){
-                    break;
-                }
-            }
-            player.reset(spawn.x, spawn.y);
+        synchronized (simulationLock) {
+            respawnPlayerLocked();
         }
-        
+    }
+
+    /**
+     * Respawns the player while holding the simulation lock
+     * Precondition: the caller holds simulationLock
+     * Postcondition: player is respawned or game is reset
+     */
+    private void respawnPlayerLocked() {
+        simulation.respawnPlayer();
+
         headUpDisplay.hideDeathScreen();
         up = false;
         down = false;
@@ -587,47 +664,57 @@ public class BenumZombsGame extends JPanel implements ActionListener {
     /**
      * Paints the game panel including world, player, night overlay, and HUD
      * Precondition: g is a valid Graphics object
-     * Postcondition: game elements are drawn on the panel
+     * Postcondition: game elements are drawn on the panel, the simulation lock is only held while the frame is recorded
      * @param g the Graphics object used for drawing
      */
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
         Graphics2D g2d = (Graphics2D) g;
-        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-
-        g2d.translate(worldX, worldY); // Move world based on camera
+        long frameStart;
+        synchronized (simulationLock) {
+            frameStart = profiler.startPaint();
+            frame.begin(g2d);
+            render(frame, interpolationAlpha, frameStart);
+        }
 
-        //************* Draw World Background and Grid *************//
-        g2d.setColor(new Color(105, 141, 65));
-        g2d.fillRect(0, 0, WORLD_AREA, WORLD_AREA);
+        // Rasterizing is the slow part of a frame, so ticks can run while it happens
+        frame.replay(g2d, profiler);
+        profiler.end(FrameProfiler.PAINT_TOTAL, frameStart);
+    }
 
-        g2d.setColor(new Color(85, 113, 58, 170));
-        g2d.setStroke(new BasicStroke(3.2f));
-        for(int i = 0; i <= WORLD_AREA; i += GRID_SIZE) {
-            g2d.drawLine(i, 0, i, WORLD_AREA);
-        }
-        for(int j = 0; j <= WORLD_AREA; j += GRID_SIZE) { 
-            g2d.drawLine(0, j, WORLD_AREA, j); 
-        }
+    /**
+     * Renders one frame of the game, blending moving objects between the last two ticks
+     * Precondition: the caller holds simulationLock, alpha is between 0.0 and 1.0, frameStart came from profiler.startPaint
+     * Postcondition: game elements are recorded into frame, each paint phase ends with a mark so replay can time its drawing
+     * @param g2d the Graphics2D object used for drawing, always frame
+     * @param alpha how far the renderer is between the previous and current tick
+     * @param frameStart the time the frame started
+     */
+    private void render(Graphics2D g2d, double alpha, long frameStart) {
+        updateCamera(alpha);
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
-        //************* Draw Play Area Borders *************//
-        g2d.setColor(new Color(0, 0, 0, 130));
+        g2d.translate(worldX, worldY); // Move world based on camera
 
-        g2d.fillRect(OFFSET, OFFSET, PLAY_AREA, BORDER_THICKNESS); // Top
-        g2d.fillRect(OFFSET, OFFSET + PLAY_AREA - BORDER_THICKNESS, PLAY_AREA, BORDER_THICKNESS); // Bottom
-        g2d.fillRect(OFFSET, OFFSET, BORDER_THICKNESS, PLAY_AREA); // Left
-        g2d.fillRect(OFFSET + PLAY_AREA - BORDER_THICKNESS, OFFSET, BORDER_THICKNESS, PLAY_AREA); // Right
+        //************* Draw World Background, Grid and Play Area Borders *************//
+        viewport.set(-worldX, -worldY, getWidth(), getHeight());
+        backgroundLayer.draw(g2d, getGraphicsConfiguration(), viewport);
+        long phaseStart = endPhase(FrameProfiler.PAINT_BACKGROUND, frameStart);
 
-        resourceSystem.draw(g2d); // Draw resources
-        buildingSystem.draw(g2d); // Draw buildings
-        zombieSystem.draw(g2d); // Draw zombies
-        player.drawProjectiles(g2d);
+        resourceSystem.draw(g2d, viewport); // Draw resources
+        phaseStart = endPhase(FrameProfiler.PAINT_RESOURCES, phaseStart);
+        buildingSystem.draw(g2d, alpha, viewport); // Draw buildings
+        phaseStart = endPhase(FrameProfiler.PAINT_BUILDINGS, phaseStart);
+        zombieSystem.draw(g2d, alpha, viewport); // Draw zombies
+        phaseStart = endPhase(FrameProfiler.PAINT_ZOMBIES, phaseStart);
+        player.drawProjectiles(g2d, alpha, viewport);
+        phaseStart = endPhase(FrameProfiler.PAINT_PROJECTILES, phaseStart);
 
         //************* Draw Building Placement Ghost with Transparency Effects *************//
-        if (isPlacing && placementBuilding != null) {
+        if (isPlacing && placementBuilding != null && ghostBuilding != null) {
             
-            Building ghost = buildingSystem.createBuilding(placementBuilding, ghostX, ghostY);
+            Building ghost = ghostBuilding; // Reuse the ghost from startPlacement instead of copying every frame
             g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.6f));
             if (isPlacementValid) {
                 ghost.draw(g2d);
@@ -654,8 +741,64 @@ public class BenumZombsGame extends JPanel implements ActionListener {
             player.drawAt(g2d, (int)screenCenterX, (int)screenCenterY, getWidth()/2, getHeight()/2);
         }
 
+        phaseStart = endPhase(FrameProfiler.PAINT_PLAYER, phaseStart); // Includes the placement ghost
+
         //************* Draw Heads Up Display and Night *************//
         drawNightOverlay(g2d);
-        headUpDisplay.draw(g2d, getWidth(), getHeight(), toolSystem, resourceSystem, waveCount);
+        headUpDisplay.draw(g2d, getWidth(), getHeight(), toolSystem, resourceSystem, simulation.getWaveCount());
+        endPhase(FrameProfiler.PAINT_HUD, phaseStart);
+
+        if (showProfiler) {
+            profiler.draw(g2d, 10, 10, getEntityCounts());
+        }
+        if (devConsole.isOpen()) {
+            devConsole.draw(g2d, getWidth(), getHeight());
+        }
+    }
+
+    /**
+     * Ends the recording part of a paint phase, the drawing part is timed when the frame is replayed
+     * Precondition: called from render, start came from profiler.startPaint or endPhase
+     * Postcondition: the part is held by the profiler and the phase's end is marked in frame
+     * @param phase the paint phase that just finished recording
+     * @param start the time the phase started recording
+     * @return the current time in nanoseconds
+     */
+    private long endPhase(int phase, long start) {
+        frame.endPhase(phase);
+        return profiler.split(phase, start);
+    }
+
+    /**
+     * Writes the profiler's numbers to a CSV file on a background thread, so the disk never holds up the lock or the EDT
+     * Precondition: counts was built while holding simulationLock
+     * Postcondition: the file is written shortly after, or the failure is logged
+     * @param path the file to write
+     * @param counts the entity counts written at the top of the file
+     */
+    private void writeProfilerCsv(final String path, final String counts) {
+        Thread writer = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                if (profiler.writeCsv(path, counts)) {
+                    LOG.info("Profiler written to ", path);
+                }
+            }
+        }, "BenumZombs-ProfilerCsv");
+        writer.start();
+    }
+
+    /**
+     * Describes how many of each kind of object are in the game, for the profiler overlay and CSV
+     * Precondition: the caller holds simulationLock
+     * Postcondition: returns the counts as one line
+     * @return the zombie, building, projectile and entity counts with the last frame's drawn and culled counts
+     */
+    private String getEntityCounts() {
+        int projectiles = player.getProjectiles().size() + buildingSystem.getProjectiles().size();
+        return "wave " + simulation.getWaveCount() + "  zombies " + zombieSystem.getZombieCount()
+            + "  buildings " + buildingSystem.getPlacedBuildings().size() + "  projectiles " + projectiles
+            + "  entities " + simulation.getEntityWorld().getEntityCount()
+            + "  drawn " + viewport.getDrawnCount() + "/" + (viewport.getDrawnCount() + viewport.getCulledCount());
     }
 }
\ No newline at end of file
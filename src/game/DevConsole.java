@@ -0,0 +1,523 @@
+/**
+ * DevConsole.java
+ * The DevConsole class for BenumZombs, an in-game console of developer commands that load a running game to a chosen size
+ * @author Richard Pu
+ * @version 1.0
+ * @since 2026-10-17
+ */
+
+package game;
+
+import diagnostics.FrameProfiler;
+import diagnostics.PhaseHistogram;
+import helpers.Log;
+import helpers.Logger;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.util.ArrayList;
+import objects.Buildings.Building;
+import objects.Player;
+import systems.BuildingSystem;
+
+public class DevConsole {
+    private static final Logger LOG = Log.getLogger("DevConsole.java");
+
+    //************* Command Constants *************//
+    private static final int GRID = BenumZombsGame.GRID_SIZE;
+    private static final int WALL_SLOT = 0;
+    private static final int STASH_SLOT = 10;
+    private static final int FIRST_TOWER_SLOT = 3; // Arrow Tower, the rest up to the Harvester follow it
+    private static final int LAST_TOWER_SLOT = 9;
+    private static final int MAX_SPAWN = 10000; // Enough for any load test, small enough that a typo cannot hang the game
+    private static final int MAX_FILL_CELLS = 10000;
+    private static final int DEFAULT_SPAWN_OFFSET = 8; // Cells right of the player that zombies spawn at if no position is given
+
+    private static final String[] HELP = {
+        "spawn <count> <tier 1-6> [level 1-10] [dx dy]  zombies, dx dy in cells from the player",
+        "walls <dx> <dy> <columns> <rows>  fill cells from the player with walls",
+        "ring <slot 3-9> <radius> [count]  towers around the stash, radius in cells",
+        "stash  place a gold stash next to the player",
+        "wave <n>  spawn wave n at the coming nightfall",
+        "time <0-1>  set the time of day, night is 0.25 to 0.75",
+        "toggle [system]  switch player, buildings, animation, zombies or damage",
+        "stats [reset]  tick and frame timings, or start them again",
+        "clear  remove every zombie",
+        "resources  fill every resource, same as F12"
+    };
+
+    //************* Display Constants *************//
+    private static final int MAX_OUTPUT_LINES = 14;
+    private static final int MAX_INPUT_LENGTH = 80;
+    private static final Font CONSOLE_FONT = new Font(Font.MONOSPACED, Font.PLAIN, 12);
+    private static final Color CONSOLE_BACKGROUND = new Color(0, 0, 0, 190);
+    private static final Color INPUT_COLOR = new Color(255, 220, 120);
+    private static final int LINE_HEIGHT = 14;
+    private static final int PADDING = 8;
+
+    private final GameSimulation simulation;
+
+    //************* Instance Variables *************//
+    private boolean open = false;
+    private final StringBuilder input = new StringBuilder();
+    private final ArrayList<String> output = new ArrayList<>();
+
+    /**
+     * Constructor for DevConsole
+     * Precondition: simulation is not null
+     * Postcondition: a closed console is created for the simulation
+     * @param simulation the simulation the commands change
+     */
+    public DevConsole(GameSimulation simulation) {
+        this.simulation = simulation;
+        output.add("Type help for commands, ` or Esc closes the console");
+    }
+
+    //************* Input *************//
+
+    /**
+     * Opens or closes the console
+     * Precondition: N/A
+     * Postcondition: the console is open if it was closed and closed if it was open
+     */
+    public void toggle() {
+        open = !open;
+    }
+
+    /**
+     * Checks whether the console is open and taking keys
+     * Precondition: N/A
+     * Postcondition: returns the console's state
+     * @return true if the console is open
+     */
+    public boolean isOpen() {
+        return open;
+    }
+
+    /**
+     * Closes the console, keeping what was typed
+     * Precondition: N/A
+     * Postcondition: the console is closed
+     */
+    public void close() {
+        open = false;
+    }
+
+    /**
+     * Adds a typed character to the command line
+     * Precondition: the console is open
+     * Postcondition: printable characters are appended, anything else is ignored
+     * @param c the character typed
+     */
+    public void type(char c) {
+        if (c >= ' ' && c < 127 && c != '`' && input.length() < MAX_INPUT_LENGTH) {
+            input.append(c);
+        }
+    }
+
+    /**
+     * Removes the last character of the command line
+     * Precondition: the console is open
+     * Postcondition: the command line is one character shorter, if it was not empty
+     */
+    public void backspace() {
+        if (input.length() > 0) {
+            input.setLength(input.length() - 1);
+        }
+    }
+
+    /**
+     * Runs the command line and clears it
+     * Precondition: the caller holds the lock guarding the simulation
+     * Postcondition: the command has run and its result is shown
+     */
+    public void submit() {
+        String line = input.toString().trim();
+        input.setLength(0);
+        if (line.isEmpty()) {
+            return;
+        }
+        print("> " + line);
+        for (String result : execute(line)) {
+            print(result);
+        }
+    }
+
+    /**
+     * Adds a line to the console output, dropping the oldest past MAX_OUTPUT_LINES
+     * Precondition: line is not null
+     * Postcondition: the line is shown at the bottom of the output
+     * @param line the line to show
+     */
+    private void print(String line) {
+        output.add(line);
+        if (output.size() > MAX_OUTPUT_LINES) {
+            output.remove(0);
+        }
+    }
+
+    //************* Commands *************//
+
+    /**
+     * Runs one command against the simulation
+     * Precondition: the caller holds the lock guarding the simulation, or owns it like HeadlessRunner
+     * Postcondition: the command has changed the simulation, or nothing changed if it was not understood
+     * @param line the command and its arguments, separated by spaces
+     * @return the lines to show for the result
+     */
+    public ArrayList<String> execute(String line) {
+        ArrayList<String> result = new ArrayList<>();
+        String[] args = line.trim().split("\\s+");
+        String command = args[0].toLowerCase();
+        LOG.info("Console: ", line);
+
+        try {
+            switch (command) {
+            case "help":
+                for (String help : HELP) {
+                    result.add(help);
+                }
+                break;
+            case "spawn":
+                spawn(args, result);
+                break;
+            case "walls":
+                walls(args, result);
+                break;
+            case "ring":
+                ring(args, result);
+                break;
+            case "stash":
+                stash(result);
+                break;
+            case "wave":
+                wave(args, result);
+                break;
+            case "time":
+                time(args, result);
+                break;
+            case "toggle":
+                toggle(args, result);
+                break;
+            case "stats":
+                stats(args, result);
+                break;
+            case "clear":
+                int removed = simulation.getZombieSystem().getZombieCount();
+                simulation.getZombieSystem().clearZombies();
+                result.add("Removed " + removed + " zombies");
+                break;
+            case "resources":
+                simulation.getResourceSystem().devModeAddResources();
+                result.add("Resources filled");
+                break;
+            default:
+                result.add("Unknown command " + command + ", type help for commands");
+                break;
+            }
+        } catch (NumberFormatException e) {
+            result.add("Expected a number in " + line + ", type help for usage");
+        } catch (IllegalArgumentException e) {
+            result.add(e.getMessage());
+        }
+        return result;
+    }
+
+    /**
+     * Spawns a block of zombies near the player
+     * Precondition: args[0] is "spawn"
+     * Postcondition: the zombies are added, or the usage is shown
+     * @param args the command and its arguments
+     * @param result the lines to show
+     */
+    private void spawn(String[] args, ArrayList<String> result) {
+        if (args.length != 3 && args.length != 4 && args.length != 6) {
+            throw new IllegalArgumentException("Usage: " + HELP[0]);
+        }
+        int count = parseInt(args[1], 1, MAX_SPAWN, "count");
+        int tier = parseInt(args[2], 1, 6, "tier");
+        int level = args.length >= 4 ? parseInt(args[3], 1, 10, "level") : 1;
+        int dx = args.length == 6 ? Integer.parseInt(args[4]) : DEFAULT_SPAWN_OFFSET;
+        int dy = args.length == 6 ? Integer.parseInt(args[5]) : 0;
+
+        Player player = simulation.getPlayer();
+        double centerX = player.getCenterX() + dx * GRID;
+        double centerY = player.getCenterY() + dy * GRID;
+        int spawned = simulation.getZombieSystem().spawnZombies(count, tier, level, centerX, centerY, simulation.getResourceSystem());
+        result.add("Spawned " + spawned + " tier " + tier + " level " + level + " zombies, " + simulation.getZombieSystem().getZombieCount() + " in total");
+        if (!simulation.getBuildingSystem().isGoldStashPlaced()) {
+            result.add("Zombies only move once a stash is placed, see stash");
+        }
+    }
+
+    /**
+     * Fills a block of cells with walls, skipping any that are blocked
+     * Precondition: args[0] is "walls"
+     * Postcondition: the walls are placed for free, or the usage is shown
+     * @param args the command and its arguments
+     * @param result the lines to show
+     */
+    private void walls(String[] args, ArrayList<String> result) {
+        if (args.length != 5) {
+            throw new IllegalArgumentException("Usage: " + HELP[1]);
+        }
+        int dx = Integer.parseInt(args[1]);
+        int dy = Integer.parseInt(args[2]);
+        int columns = parseInt(args[3], 1, MAX_FILL_CELLS, "columns");
+        int rows = parseInt(args[4], 1, MAX_FILL_CELLS / columns, "rows");
+
+        Building wall = simulation.getBuildingSystem().getBuildingInSlot(WALL_SLOT);
+        int startX = getPlayerCellX() + dx * GRID;
+        int startY = getPlayerCellY() + dy * GRID;
+        int placed = 0;
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                if (simulation.placeBuildingFree(wall, startX + column * GRID, startY + row * GRID) != null) {
+                    placed++;
+                }
+            }
+        }
+        result.add("Placed " + placed + " walls, " + (columns * rows - placed) + " cells were blocked");
+    }
+
+    /**
+     * Places a ring of one kind of tower around the stash
+     * Precondition: args[0] is "ring"
+     * Postcondition: the towers are placed for free, or the usage is shown
+     * @param args the command and its arguments
+     * @param result the lines to show
+     */
+    private void ring(String[] args, ArrayList<String> result) {
+        if (args.length != 3 && args.length != 4) {
+            throw new IllegalArgumentException("Usage: " + HELP[2]);
+        }
+        Building stash = requireStash();
+        Building tower = simulation.getBuildingSystem().getBuildingInSlot(parseInt(args[1], FIRST_TOWER_SLOT, LAST_TOWER_SLOT, "slot"));
+        int radius = parseInt(args[2], 1, 100, "radius");
+        int spacingCells = tower.getWidth() / GRID + 1; // A cell between towers, so snapping to the grid does not overlap them
+        int fits = (int) (2 * Math.PI * radius / spacingCells);
+        int count = args.length == 4 ? parseInt(args[3], 1, Math.max(1, fits), "count") : Math.max(1, fits);
+
+        double centerX = stash.getX() + stash.getWidth() / 2.0;
+        double centerY = stash.getY() + stash.getHeight() / 2.0;
+        int placed = 0;
+        for (int i = 0; i < count; i++) {
+            double angle = 2 * Math.PI * i / count;
+            int x = snapToGrid(centerX + Math.cos(angle) * radius * GRID - tower.getWidth() / 2.0);
+            int y = snapToGrid(centerY + Math.sin(angle) * radius * GRID - tower.getHeight() / 2.0);
+            if (simulation.placeBuildingFree(tower, x, y) != null) {
+                placed++;
+            }
+        }
+        result.add("Placed " + placed + " of " + count + " towers from slot " + args[1] + ", " + simulation.getBuildingSystem().getPlacedBuildings().size() + " buildings in total");
+    }
+
+    /**
+     * Places a gold stash three cells right of the player
+     * Precondition: N/A
+     * Postcondition: the stash is placed for free, or the reason it was not is shown
+     * @param result the lines to show
+     */
+    private void stash(ArrayList<String> result) {
+        BuildingSystem buildingSystem = simulation.getBuildingSystem();
+        if (buildingSystem.getActiveStash() != null) {
+            throw new IllegalArgumentException("A stash is already placed");
+        }
+        Building stash = simulation.placeBuildingFree(buildingSystem.getBuildingInSlot(STASH_SLOT), getPlayerCellX() + GRID * 3, getPlayerCellY());
+        result.add(stash != null ? "Stash placed" : "Something is in the way, move and try again");
+    }
+
+    /**
+     * Moves the game to just before the night a wave spawns
+     * Precondition: args[0] is "wave"
+     * Postcondition: the wave spawns within a few ticks, or the usage is shown
+     * @param args the command and its arguments
+     * @param result the lines to show
+     */
+    private void wave(String[] args, ArrayList<String> result) {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: " + HELP[4]);
+        }
+        requireStash();
+        int wave = parseInt(args[1], 1, 10000, "wave");
+        simulation.jumpToWave(wave);
+        result.add("Wave " + wave + " spawns at nightfall, a few ticks from now");
+    }
+
+    /**
+     * Sets the time of day
+     * Precondition: args[0] is "time"
+     * Postcondition: the clock is moved, or the usage is shown
+     * @param args the command and its arguments
+     * @param result the lines to show
+     */
+    private void time(String[] args, ArrayList<String> result) {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: " + HELP[5]);
+        }
+        float timeOfDay = Float.parseFloat(args[1]);
+        if (!(timeOfDay >= 0.0f && timeOfDay <= 1.0f)) {
+            throw new IllegalArgumentException("time must be between 0 and 1");
+        }
+        simulation.getClock().setTimeOfDay(timeOfDay);
+        result.add("Time of day is " + timeOfDay);
+    }
+
+    /**
+     * Switches one system on or off, or lists them all
+     * Precondition: args[0] is "toggle"
+     * Postcondition: the system is switched, or the state of every system is shown
+     * @param args the command and its arguments
+     * @param result the lines to show
+     */
+    private void toggle(String[] args, ArrayList<String> result) {
+        if (args.length == 1) {
+            StringBuilder states = new StringBuilder();
+            for (int i = 0; i < GameSimulation.SYSTEM_COUNT; i++) {
+                states.append(GameSimulation.getSystemName(i)).append(simulation.isSystemEnabled(i) ? " on  " : " off  ");
+            }
+            result.add(states.toString().trim());
+            return;
+        }
+        for (int i = 0; i < GameSimulation.SYSTEM_COUNT; i++) {
+            if (GameSimulation.getSystemName(i).equalsIgnoreCase(args[1])) {
+                simulation.setSystemEnabled(i, !simulation.isSystemEnabled(i));
+                result.add(GameSimulation.getSystemName(i) + (simulation.isSystemEnabled(i) ? " on" : " off"));
+                return;
+            }
+        }
+        throw new IllegalArgumentException("Unknown system " + args[1] + ", type toggle to list them");
+    }
+
+    /**
+     * Shows the tick and frame timings, or starts them again
+     * Precondition: args[0] is "stats"
+     * Postcondition: the timings are shown, or the profiler is reset
+     * @param args the command and its arguments
+     * @param result the lines to show
+     */
+    private void stats(String[] args, ArrayList<String> result) {
+        FrameProfiler profiler = simulation.getProfiler();
+        if (args.length == 2 && args[1].equalsIgnoreCase("reset")) {
+            profiler.reset();
+            result.add("Profiler reset");
+            return;
+        }
+
+        result.add(String.format("%-16s %8s %8s %8s %8s", "phase (us)", "p50", "p95", "p99", "max"));
+        for (int i = FrameProfiler.TICK_MOVE; i <= FrameProfiler.TICK_TOTAL; i++) {
+            result.add(formatPhase(profiler, i));
+        }
+        result.add(formatPhase(profiler, FrameProfiler.PAINT_TOTAL));
+        result.add("wave " + simulation.getWaveCount() + "  zombies " + simulation.getZombieSystem().getZombieCount()
+            + "  buildings " + simulation.getBuildingSystem().getPlacedBuildings().size() + "  ticks " + profiler.getHistogram(FrameProfiler.TICK_TOTAL).getCount());
+    }
+
+    /**
+     * Formats one phase's timings as a line of the stats table
+     * Precondition: phase is one of the FrameProfiler phases
+     * Postcondition: returns the line
+     * @param profiler the profiler holding the timings
+     * @param phase the phase to format
+     * @return the phase name with its p50, p95, p99 and max in microseconds
+     */
+    private static String formatPhase(FrameProfiler profiler, int phase) {
+        PhaseHistogram histogram = profiler.getHistogram(phase);
+        return String.format("%-16s %8.1f %8.1f %8.1f %8.1f", FrameProfiler.getPhaseName(phase),
+            histogram.getPercentile(0.50) / 1000.0, histogram.getPercentile(0.95) / 1000.0,
+            histogram.getPercentile(0.99) / 1000.0, histogram.getMax() / 1000.0);
+    }
+
+    //************* Helpers *************//
+
+    /**
+     * Parses a whole number and checks its range
+     * Precondition: N/A
+     * Postcondition: returns the number, or throws with a message naming the argument
+     * @param text the text to parse
+     * @param min the smallest allowed value
+     * @param max the largest allowed value
+     * @param name the argument's name for the message
+     * @return the number
+     */
+    private static int parseInt(String text, int min, int max, String name) {
+        int value = Integer.parseInt(text);
+        if (value < min || value > max) {
+            throw new IllegalArgumentException(name + " must be between " + min + " and " + max);
+        }
+        return value;
+    }
+
+    /**
+     * Gets the placed stash
+     * Precondition: N/A
+     * Postcondition: returns the stash, or throws with a message if there is none
+     * @return the active stash
+     */
+    private Building requireStash() {
+        Building stash = simulation.getBuildingSystem().getActiveStash();
+        if (stash == null) {
+            throw new IllegalArgumentException("Place a stash first, see stash");
+        }
+        return stash;
+    }
+
+    /**
+     * Rounds a coordinate down to the grid
+     * Precondition: N/A
+     * Postcondition: returns the coordinate of the cell containing value
+     * @param value the coordinate
+     * @return the grid-aligned coordinate
+     */
+    private static int snapToGrid(double value) {
+        return (int) (Math.floor(value / GRID) * GRID);
+    }
+
+    /**
+     * Gets the x-coordinate of the cell the player stands in
+     * Precondition: N/A
+     * Postcondition: returns the grid-aligned coordinate
+     * @return the x-coordinate of the player's cell
+     */
+    private int getPlayerCellX() {
+        return snapToGrid(simulation.getPlayer().getX());
+    }
+
+    /**
+     * Gets the y-coordinate of the cell the player stands in
+     * Precondition: N/A
+     * Postcondition: returns the grid-aligned coordinate
+     * @return the y-coordinate of the player's cell
+     */
+    private int getPlayerCellY() {
+        return snapToGrid(simulation.getPlayer().getY());
+    }
+
+    //************* Drawing *************//
+
+    /**
+     * Draws the console output and command line along the bottom of the screen
+     * Precondition: the console is open
+     * Postcondition: the console is drawn over whatever was there
+     * @param g2d the Graphics2D object used for drawing
+     * @param width the width of the screen
+     * @param height the height of the screen
+     */
+    public void draw(Graphics2D g2d, int width, int height) {
+        int boxHeight = PADDING * 2 + LINE_HEIGHT * (MAX_OUTPUT_LINES + 1);
+        int top = height - boxHeight;
+        g2d.setColor(CONSOLE_BACKGROUND);
+        g2d.fillRect(0, top, width, boxHeight);
+
+        g2d.setFont(CONSOLE_FONT);
+        g2d.setColor(Color.WHITE);
+        int lineY = top + PADDING + LINE_HEIGHT - 3 + LINE_HEIGHT * (MAX_OUTPUT_LINES - output.size());
+        for (String line : output) {
+            g2d.drawString(line, PADDING, lineY);
+            lineY += LINE_HEIGHT;
+        }
+
+        g2d.setColor(INPUT_COLOR);
+        g2d.drawString("> " + input + "_", PADDING, lineY);
+    }
+}
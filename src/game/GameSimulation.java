@@ -0,0 +1,577 @@
+/**
+ * GameSimulation.java
+ * The GameSimulation class for BenumZombs, owning every game system and stepping the game without any display
+ * @author Richard Pu
+ * @version 1.0
+ * @since 2026-10-17
+ */
+
+package game;
+
+import diagnostics.BenumZombsMetrics;
+import diagnostics.FrameProfiler;
+import diagnostics.TickEvent;
+import ecs.AnimationSystem;
+import ecs.EntityWorld;
+import helpers.Log;
+import helpers.Logger;
+import helpers.RandomGeneration;
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import objects.Buildings.Building;
+import objects.Player;
+import systems.BuildingSystem;
+import systems.CollisionSystem;
+import systems.DamageSystem;
+import systems.GameClock;
+import systems.ResourceSystem;
+import systems.ToolSystem;
+import systems.ZombieStore;
+import systems.ZombieSystem;
+
+public class GameSimulation {
+    private static final Logger LOG = Log.getLogger("GameSimulation.java");
+
+    //************* Game Entities *************//
+    private final GameClock clock;
+    private final EntityWorld world;
+    private final AnimationSystem animationSystem;
+    private final ToolSystem toolSystem;
+    private final BuildingSystem buildingSystem;
+    private final ResourceSystem resourceSystem;
+    private final ZombieSystem zombieSystem;
+    private final DamageSystem damageSystem;
+    private final Player player;
+    private final FrameProfiler profiler = new FrameProfiler();
+    private final BenumZombsMetrics metrics = new BenumZombsMetrics(profiler.getHistogram(FrameProfiler.TICK_TOTAL));
+
+    //************* Placement Constants *************//
+    private static final double MAX_PLACEMENT_DISTANCE = BenumZombsGame.GRID_SIZE * 10;
+    private static final double MAX_STASH_RANGE = BenumZombsGame.GRID_SIZE * 17;
+    private static final int BORDER_ZONE_BLOCKS = BenumZombsGame.GRID_SIZE * 5;
+
+    //************* Systems *************//
+    // Each can be switched off from the developer console to see what the rest cost on their own
+    public static final int SYSTEM_PLAYER = 0;
+    public static final int SYSTEM_BUILDINGS = 1;
+    public static final int SYSTEM_ANIMATION = 2;
+    public static final int SYSTEM_ZOMBIES = 3;
+    public static final int SYSTEM_DAMAGE = 4;
+    public static final int SYSTEM_COUNT = 5;
+    private static final String[] SYSTEM_NAMES = {"player", "buildings", "animation", "zombies", "damage"};
+    private static final float WAVE_JUMP_TIME = 0.2495f; // A few ticks before nightfall, so the zombie system sees one day tick first
+
+    //************* Instance Variables *************//
+    private int waveCount = 0;
+    private float lastTime = 0.0f;
+    private boolean up, down, left, right;
+    private final boolean[] systemEnabled = {true, true, true, true, true};
+
+    /**
+     * Constructor for GameSimulation
+     * Precondition: playerName is a valid String
+     * Postcondition: all systems are created, resources are spawned and the player is placed off any resource
+     * @param playerName the name of the player
+     */
+    public GameSimulation(String playerName) {
+        //************* Systems Initialization and Player Spawn *************//
+        clock = new GameClock();
+        world = new EntityWorld();
+        animationSystem = new AnimationSystem();
+        toolSystem = new ToolSystem();
+        buildingSystem = new BuildingSystem(clock, world);
+        resourceSystem = new ResourceSystem(world);
+        resourceSystem.spawnResources(25);
+        ZombieStore zombieStore = new ZombieStore();
+        damageSystem = new DamageSystem(zombieStore);
+        zombieSystem = new ZombieSystem(clock, damageSystem, zombieStore);
+
+        Point spawn = findSpawnLocation();
+        player = new Player(spawn.x, spawn.y, playerName, toolSystem, clock);
+    }
+
+    /**
+     * Finds a random spawn point that does not overlap a resource
+     * Precondition: resources have been spawned
+     * Postcondition: returns a free spawn location
+     * @return the spawn location
+     */
+    private Point findSpawnLocation() {
+        Point spawn; //Make sure player does not spawn on resources
+        while (true) {
+            spawn = RandomGeneration.getRandomLocation();
+            Rectangle playerHitbox = new Rectangle(spawn.x, spawn.y, 50, 50);
+
+            if (!CollisionSystem.checkResourceCollision(playerHitbox, resourceSystem)) {
+                return spawn;
+            }
+        }
+    }
+
+    /**
+     * Sets which movement keys are held for the next ticks
+     * Precondition: N/A
+     * Postcondition: movement flags are updated
+     * @param up true if moving up
+     * @param down true if moving down
+     * @param left true if moving left
+     * @param right true if moving right
+     */
+    public void setMovement(boolean up, boolean down, boolean left, boolean right) {
+        this.up = up;
+        this.down = down;
+        this.left = left;
+        this.right = right;
+    }
+
+    /**
+     * Advances the game by one fixed simulation step
+     * Precondition: N/A
+     * Postcondition: clock is advanced, player is moved, systems and waves are updated, then all damage is applied
+     */
+    public void tick() {
+        long tickStart = profiler.startTick();
+        TickEvent tickEvent = new TickEvent(); // Costs nothing unless a flight recording is running
+        tickEvent.begin();
+        clock.advance();
+
+        //************* Store State for Interpolation *************//
+        player.storePreviousPosition();
+        zombieSystem.storePreviousPositions();
+        buildingSystem.storePreviousPositions();
+
+        //************* Moveable Area *************//
+        int minX = BenumZombsGame.OFFSET + BenumZombsGame.BORDER_THICKNESS;
+        int minY = BenumZombsGame.OFFSET + BenumZombsGame.BORDER_THICKNESS;
+        int maxX = BenumZombsGame.OFFSET + BenumZombsGame.PLAY_AREA - BenumZombsGame.BORDER_THICKNESS - player.getWidth();
+        int maxY = BenumZombsGame.OFFSET + BenumZombsGame.PLAY_AREA - BenumZombsGame.BORDER_THICKNESS - player.getHeight();
+
+        long phaseStart = tickStart; // Interpolation bookkeeping counts towards the move phase
+        boolean playerEnabled = systemEnabled[SYSTEM_PLAYER];
+        if (playerEnabled) {
+            player.move(up, down, left, right, minX, maxX, minY, maxY, resourceSystem, buildingSystem);
+        }
+        phaseStart = profiler.end(FrameProfiler.TICK_MOVE, phaseStart);
+
+        //************* Update Systems *************//
+        if (playerEnabled) {
+            player.update();
+        }
+        phaseStart = profiler.end(FrameProfiler.TICK_PLAYER, phaseStart);
+        if (playerEnabled) {
+            player.updateSwing(resourceSystem);
+        }
+        phaseStart = profiler.end(FrameProfiler.TICK_SWING, phaseStart);
+        if (systemEnabled[SYSTEM_BUILDINGS]) {
+            buildingSystem.update(resourceSystem, zombieSystem);
+        }
+        phaseStart = profiler.end(FrameProfiler.TICK_BUILDINGS, phaseStart);
+        if (systemEnabled[SYSTEM_ANIMATION]) {
+            animationSystem.update(world);
+        }
+        phaseStart = profiler.end(FrameProfiler.TICK_ANIMATION, phaseStart);
+
+        //************* Update Waves and Zombies *************//
+        float currentTime = clock.getTimeOfDay();
+        if (buildingSystem.isGoldStashPlaced()) {
+            if (lastTime < 0.25f && currentTime >= 0.25f) {
+                waveCount++;
+                LOG.info("Wave: ", waveCount);
+            }
+            if (systemEnabled[SYSTEM_ZOMBIES]) {
+                zombieSystem.update(player, buildingSystem, resourceSystem, currentTime, waveCount);
+            }
+        } else {
+            waveCount = 0;
+        }
+        lastTime = currentTime;
+        phaseStart = profiler.end(FrameProfiler.TICK_ZOMBIES, phaseStart);
+
+        //************* Apply Damage *************//
+        // Every hit this tick lands here in the order it was queued, so no update depends on another's damage
+        if (systemEnabled[SYSTEM_DAMAGE]) {
+            damageSystem.apply(clock.getMillis());
+        } else {
+            damageSystem.discardPending();
+        }
+        zombieSystem.removeDeadZombies();
+        profiler.end(FrameProfiler.TICK_DAMAGE, phaseStart);
+        profiler.end(FrameProfiler.TICK_TOTAL, tickStart);
+        metrics.update(this);
+
+        tickEvent.end();
+        if (tickEvent.shouldCommit()) {
+            tickEvent.tick = clock.getTick();
+            tickEvent.wave = waveCount;
+            tickEvent.zombieCount = zombieSystem.getZombieCount();
+            tickEvent.buildingCount = buildingSystem.getPlacedBuildings().size();
+            tickEvent.commit();
+        }
+    }
+
+    /**
+     * Advances the game by several simulation steps back to back
+     * Precondition: ticks is non-negative
+     * Postcondition: the game is advanced by the given number of ticks
+     * @param ticks the number of ticks to run
+     */
+    public void step(int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            tick();
+        }
+    }
+
+    /**
+     * Checks whether a building may be placed at a grid position
+     * Precondition: building is a building slot prototype
+     * Postcondition: returns true if the position is inside the build zone, free, in range and under the limit
+     * @param building the building prototype to place
+     * @param x the x-coordinate of the placement
+     * @param y the y-coordinate of the placement
+     * @return true if the building can be placed at (x, y)
+     */
+    public boolean isPlacementValid(Building building, int x, int y) {
+        boolean areaFree = isAreaFree(building, x, y);
+
+        //************* Range Checks *************//
+        // Distance from player
+        double buildingCenterX = x + (building.getWidth() / 2);
+        double buildingCenterY = y + (building.getHeight() / 2);
+        double distance = Math.sqrt(Math.pow(buildingCenterX - player.getCenterX(), 2) + Math.pow(buildingCenterY - player.getCenterY(), 2));
+        boolean inPlayerRange = distance <= MAX_PLACEMENT_DISTANCE;
+
+        //Distance from Stash
+        boolean inStashRange = true;
+        Building stash = buildingSystem.getActiveStash();
+        if (stash != null && !building.isUnlocker()) {
+            double sCenterX = stash.getX() + (stash.getWidth() / 2);
+            double sCenterY = stash.getY() + (stash.getHeight() / 2);
+            double distanceStash = Math.sqrt(Math.pow(buildingCenterX - sCenterX, 2) + Math.pow(buildingCenterY - sCenterY, 2));
+            inStashRange = distanceStash <= MAX_STASH_RANGE;
+        }
+
+        boolean limitReached = buildingSystem.isLimitReached(building); // Check building number limit
+
+        return areaFree && inPlayerRange && inStashRange && !limitReached; // Final result
+    }
+
+    /**
+     * Checks whether a building's area is inside the build zone and clear of resources, buildings, zombies and the player
+     * Precondition: building is a building slot prototype
+     * Postcondition: returns true if nothing is in the way, ignoring range, limits and cost
+     * @param building the building prototype to place
+     * @param x the x-coordinate of the placement
+     * @param y the y-coordinate of the placement
+     * @return true if the area at (x, y) is free to build on
+     */
+    private boolean isAreaFree(Building building, int x, int y) {
+        //************* Border Restrictions *************//
+        int playStart = BenumZombsGame.OFFSET + BenumZombsGame.BORDER_THICKNESS;
+        int playEnd = BenumZombsGame.OFFSET + BenumZombsGame.PLAY_AREA - BenumZombsGame.BORDER_THICKNESS;
+        int minX = playStart + BORDER_ZONE_BLOCKS;
+        int minY = playStart + BORDER_ZONE_BLOCKS;
+        int maxX = playEnd - BORDER_ZONE_BLOCKS;
+        int maxY = playEnd - BORDER_ZONE_BLOCKS;
+
+        boolean insideBounds = (x >= minX && x + building.getWidth() <= maxX && y >= minY && y + building.getHeight() <= maxY);
+        Rectangle placementRect = new Rectangle(x, y, building.getWidth(), building.getHeight());
+
+        //************* Collision Checks *************//
+        boolean collidesResource = CollisionSystem.checkResourceCollision(placementRect, resourceSystem);
+        boolean collidesBuilding = CollisionSystem.checkBuildingCollision(placementRect, buildingSystem);
+        boolean collidesZombie = CollisionSystem.checkZombieCollision(placementRect, zombieSystem);
+        boolean collidesPlayer = CollisionSystem.checkPlayerCollision(placementRect, player);
+
+        return insideBounds && !collidesResource && !collidesBuilding && !collidesPlayer && !collidesZombie;
+    }
+
+    /**
+     * Pays for and places a copy of a building prototype
+     * Precondition: the placement has been validated by the caller
+     * Postcondition: resources are deducted and the new building is placed
+     * @param building the building prototype to place
+     * @param x the x-coordinate of the placement
+     * @param y the y-coordinate of the placement
+     * @return the placed building
+     */
+    public Building placeBuilding(Building building, int x, int y) {
+        //************* Deduct Resources *************//
+        resourceSystem.addWood(-building.getWoodCost());
+        resourceSystem.addStone(-building.getStoneCost());
+
+        //************* Place Building *************//
+        Building newBuilding = buildingSystem.createBuilding(building, x, y);
+        buildingSystem.placeBuilding(newBuilding);
+        return newBuilding;
+    }
+
+    /**
+     * Places a copy of a building prototype for free wherever the area is clear, for the developer console
+     * Precondition: building is a building slot prototype
+     * Postcondition: the building is placed without cost, range or limit checks if nothing is in the way
+     * @param building the building prototype to place
+     * @param x the x-coordinate of the placement
+     * @param y the y-coordinate of the placement
+     * @return the placed building, or null if the area is blocked
+     */
+    public Building placeBuildingFree(Building building, int x, int y) {
+        if (!isAreaFree(building, x, y)) {
+            return null;
+        }
+        Building newBuilding = buildingSystem.createBuilding(building, x, y);
+        buildingSystem.placeBuilding(newBuilding);
+        return newBuilding;
+    }
+
+    /**
+     * Skips ahead so the given wave spawns within a few ticks, for the developer console
+     * Precondition: wave is at least 1, the gold stash is placed
+     * Postcondition: the wave count is one below wave and the clock is just before nightfall
+     * @param wave the wave to spawn next
+     */
+    public void jumpToWave(int wave) {
+        waveCount = wave - 1;
+        clock.setTimeOfDay(WAVE_JUMP_TIME);
+        lastTime = WAVE_JUMP_TIME;
+    }
+
+    /**
+     * Switches one system's update on or off
+     * Precondition: system is one of the SYSTEM constants
+     * Postcondition: the system is skipped by tick while off, its profiler phase then times nothing
+     * @param system the system to switch
+     * @param enabled true to update the system each tick
+     */
+    public void setSystemEnabled(int system, boolean enabled) {
+        systemEnabled[system] = enabled;
+    }
+
+    /**
+     * Checks whether one system is updated each tick
+     * Precondition: system is one of the SYSTEM constants
+     * Postcondition: returns the system's state
+     * @param system the system to check
+     * @return true if the system is on
+     */
+    public boolean isSystemEnabled(int system) {
+        return systemEnabled[system];
+    }
+
+    /**
+     * Gets the name of a system as typed in the developer console
+     * Precondition: system is one of the SYSTEM constants
+     * Postcondition: returns the name
+     * @param system the system
+     * @return the system's name, like "zombies"
+     */
+    public static String getSystemName(int system) {
+        return SYSTEM_NAMES[system];
+    }
+
+    /**
+     * Checks whether the gold stash has been placed and is still standing
+     * Precondition: N/A
+     * Postcondition: returns true if the stash exists and has health left
+     * @return true if the stash is alive
+     */
+    public boolean isStashAlive() {
+        Building stash = buildingSystem.getActiveStash();
+        return stash != null && stash.getHealth() > 0;
+    }
+
+    /**
+     * Checks whether a placed gold stash has been destroyed
+     * Precondition: N/A
+     * Postcondition: returns true if a stash was placed and has no health left
+     * @return true if the stash was destroyed
+     */
+    public boolean isStashDestroyed() {
+        Building stash = buildingSystem.getActiveStash();
+        return stash != null && stash.getHealth() <= 0;
+    }
+
+    /**
+     * Respawns the player at the stash or resets the game if no stash exists
+     * Precondition: N/A
+     * Postcondition: player is respawned or game is reset
+     */
+    public void respawnPlayer() {
+        Building stash = buildingSystem.getActiveStash();
+
+        if (isStashAlive()) {
+            player.reset(stash.getX() + stash.getWidth()/2, stash.getY() + stash.getHeight()/2);
+            toolSystem.reset();
+            while (true) {
+                Rectangle test = new Rectangle((int)player.getX(), (int)player.getY(), 50, 50);
+                if (CollisionSystem.checkBuildingCollision(test, buildingSystem)){
+                    player.setY(player.getY() + 30);
+                } else {
+                    break;
+                }
+            }
+        } else {
+            resourceSystem.reset(true);
+            toolSystem.reset();
+            buildingSystem.reset();
+            zombieSystem.reset();
+            damageSystem.reset();
+            waveCount = 0;
+
+            Point spawn = findSpawnLocation();
+            player.reset(spawn.x, spawn.y);
+        }
+        setMovement(false, false, false, false);
+    }
+
+    /**
+     * Returns the Player instance
+     * Precondition: N/A
+     * Postcondition: returns the player
+     * @return the player instance
+     */
+    public Player getPlayer() {
+        return player;
+    }
+
+    /**
+     * Returns the GameClock instance
+     * Precondition: N/A
+     * Postcondition: returns the clock
+     * @return the clock instance
+     */
+    public GameClock getClock() {
+        return clock;
+    }
+
+    /**
+     * Returns the EntityWorld instance
+     * Precondition: N/A
+     * Postcondition: returns the entity world
+     * @return the entity world holding building and resource components
+     */
+    public EntityWorld getEntityWorld() {
+        return world;
+    }
+
+    /**
+     * Returns the FrameProfiler timing this simulation's phases
+     * Precondition: N/A
+     * Postcondition: returns the profiler
+     * @return the profiler, shared with the view for its paint phases
+     */
+    public FrameProfiler getProfiler() {
+        return profiler;
+    }
+
+    /**
+     * Returns the metrics this simulation publishes each tick
+     * Precondition: N/A
+     * Postcondition: returns the metrics
+     * @return the metrics, registered with JMX by whoever runs the simulation
+     */
+    public BenumZombsMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Returns the ToolSystem instance
+     * Precondition: N/A
+     * Postcondition: returns the tool system
+     * @return the tool system instance
+     */
+    public ToolSystem getToolSystem() {
+        return toolSystem;
+    }
+
+    /**
+     * Returns the BuildingSystem instance
+     * Precondition: N/A
+     * Postcondition: returns the building system
+     * @return the building system instance
+     */
+    public BuildingSystem getBuildingSystem() {
+        return buildingSystem;
+    }
+
+    /**
+     * Returns the ResourceSystem instance
+     * Precondition: N/A
+     * Postcondition: returns the resource system
+     * @return the resource system instance
+     */
+    public ResourceSystem getResourceSystem() {
+        return resourceSystem;
+    }
+
+    /**
+     * Returns the ZombieSystem instance
+     * Precondition: N/A
+     * Postcondition: returns the zombie system
+     * @return the zombie system instance
+     */
+    public ZombieSystem getZombieSystem() {
+        return zombieSystem;
+    }
+
+    /**
+     * Returns the DamageSystem instance
+     * Precondition: N/A
+     * Postcondition: returns the damage system
+     * @return the damage system instance
+     */
+    public DamageSystem getDamageSystem() {
+        return damageSystem;
+    }
+
+    /**
+     * Returns the current wave count
+     * Precondition: N/A
+     * Postcondition: returns the wave count
+     * @return the current wave count
+     */
+    public int getWaveCount() {
+        return waveCount;
+    }
+
+    /**
+     * Hashes everything a tick can change so two runs can be compared for the same end state
+     * Precondition: N/A
+     * Postcondition: returns a hash of the clock, zombies, buildings, player, resources and damage totals
+     * @return the state hash
+     */
+    public long computeStateHash() {
+        long hash = 1125899906842597L;
+        hash = 31 * hash + clock.getTick();
+        hash = 31 * hash + waveCount;
+
+        //************* Zombies *************//
+        ZombieStore zombies = zombieSystem.getZombieStore();
+        hash = 31 * hash + zombies.size();
+        for (int i = 0; i < zombies.size(); i++) {
+            hash = 31 * hash + Double.doubleToLongBits(zombies.getX(i));
+            hash = 31 * hash + Double.doubleToLongBits(zombies.getY(i));
+            hash = 31 * hash + zombies.getHealth(i);
+        }
+
+        //************* Buildings *************//
+        ArrayList<Building> buildings = buildingSystem.getPlacedBuildings();
+        hash = 31 * hash + buildings.size();
+        for (int i = 0; i < buildings.size(); i++) {
+            hash = 31 * hash + buildings.get(i).getHealth();
+        }
+
+        //************* Player and Resources *************//
+        hash = 31 * hash + Double.doubleToLongBits(player.getX());
+        hash = 31 * hash + Double.doubleToLongBits(player.getY());
+        hash = 31 * hash + player.getCurrentHealth();
+        hash = 31 * hash + player.getShieldHealth();
+        hash = 31 * hash + resourceSystem.getWoodCount();
+        hash = 31 * hash + resourceSystem.getStoneCount();
+        hash = 31 * hash + resourceSystem.getGoldCount();
+        hash = 31 * hash + damageSystem.getZombieKills();
+        hash = 31 * hash + damageSystem.getBuildingsDestroyed();
+        hash = 31 * hash + damageSystem.getPlayerDamageTaken();
+        return hash;
+    }
+}
@@ -0,0 +1,152 @@
+/**
+ * HeadlessRunner.java
+ * Runs BenumZombs waves without a window for soak tests, usage: HeadlessRunner [waves] [seed] [parallel|serial|check]
+ * Set -Dbenumzombs.allocationBudget=tick.zombies=4096,tick.total=16384 to fail the run when a phase allocates more bytes per tick
+ * @author Richard Pu
+ * @version 1.0
+ * @since 2026-10-17
+ */
+
+package game;
+
+import diagnostics.FrameProfiler;
+import helpers.Log;
+import helpers.RandomGeneration;
+import objects.Buildings.Building;
+import systems.BuildingSystem;
+import systems.ZombieSystem;
+
+public class HeadlessRunner {
+    private static final int REPORT_INTERVAL = 60 * 60; // Print progress every simulated minute
+    private static final String BUDGET_PROPERTY = "benumzombs.allocationBudget";
+
+    /**
+     * Builds a stash with a ring of towers around it and runs waves until the target is reached or the stash falls
+     * Precondition: args are optional, the number of waves, the random seed and the zombie update mode
+     * Postcondition: the run summary is printed, or the result of the determinism check in check mode
+     * @param args the command line arguments
+     */
+    public static void main(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+
+        int targetWaves = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 1L;
+        String mode = args.length > 2 ? args[2] : "parallel";
+
+        if (mode.equals("check")) {
+            checkDeterminism(targetWaves, seed);
+        } else if (mode.equals("parallel") || mode.equals("serial")) {
+            runWaves(targetWaves, seed, mode.equals("parallel"), ZombieSystem.PARALLEL_THRESHOLD, true);
+        } else {
+            System.out.println("HeadlessRunner.java - Unknown mode " + mode + ", expected parallel, serial or check");
+        }
+    }
+
+    /**
+     * Runs the same seeded waves with serial and parallel zombie updates and compares the end states
+     * Precondition: targetWaves is positive
+     * Postcondition: prints whether both runs ended in the same state
+     * @param targetWaves the wave to stop at
+     * @param seed the random seed used by both runs
+     */
+    private static void checkDeterminism(int targetWaves, long seed) {
+        // A threshold of 1 sends every tick with zombies through the pool, not just the late waves
+        GameSimulation serial = runWaves(targetWaves, seed, false, 1, false);
+        GameSimulation parallel = runWaves(targetWaves, seed, true, 1, false);
+
+        long serialHash = serial.computeStateHash();
+        long parallelHash = parallel.computeStateHash();
+        String result = serialHash == parallelHash ? "match" : "MISMATCH";
+        Log.flush();
+        System.out.printf("HeadlessRunner.java - Determinism check %s: serial %016x at tick %d, parallel %016x at tick %d%n",
+                result, serialHash, serial.getClock().getTick(), parallelHash, parallel.getClock().getTick());
+    }
+
+    /**
+     * Runs one seeded simulation until the target wave is reached or the stash falls
+     * Precondition: targetWaves is positive, parallelThreshold is at least 1
+     * Postcondition: returns the finished simulation, printing progress and a summary if asked
+     * @param targetWaves the wave to stop at
+     * @param seed the random seed
+     * @param parallel true to compute zombie intents on the ForkJoinPool, false to stay on this thread
+     * @param parallelThreshold the smallest zombie count updated in parallel
+     * @param report true to print progress and the run summary
+     * @return the finished simulation
+     */
+    private static GameSimulation runWaves(int targetWaves, long seed, boolean parallel, int parallelThreshold, boolean report) {
+        RandomGeneration.setSeed(seed);
+
+        String budgets = System.getProperty(BUDGET_PROPERTY);
+        if (report && budgets != null && parallel) {
+            // Allocations are read for the simulation thread only, pool workers would go uncounted and pass any budget
+            System.out.println("HeadlessRunner.java - Allocation budgets are set, so zombie updates run serially");
+            parallel = false;
+        }
+
+        GameSimulation simulation = new GameSimulation("Headless");
+        simulation.getZombieSystem().setParallelUpdates(parallel);
+        simulation.getZombieSystem().setParallelThreshold(parallelThreshold);
+        simulation.getResourceSystem().devModeAddResources();
+        buildBase(simulation);
+        if (report) {
+            simulation.getMetrics().register(); // Long soak runs can be watched from JConsole
+            if (budgets != null) {
+                simulation.getProfiler().setAllocationBudgets(budgets);
+            }
+        }
+
+        //************* Run Waves *************//
+        long start = System.nanoTime();
+        long ticks = 0;
+        while (simulation.getWaveCount() < targetWaves && !simulation.isStashDestroyed()) {
+            simulation.tick();
+            ticks++;
+            if (report && ticks % REPORT_INTERVAL == 0) {
+                System.out.println("HeadlessRunner.java - Tick " + ticks + ", wave " + simulation.getWaveCount() + ", zombies " + simulation.getZombieSystem().getZombieCount());
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        Log.flush(); // Game logs are written in the background, print them before the summary
+
+        if (report) {
+            System.out.println("HeadlessRunner.java - Finished at wave " + simulation.getWaveCount() + (simulation.isStashDestroyed() ? " (stash destroyed)" : "") + (parallel ? ", parallel" : ", serial") + " zombie updates");
+            System.out.printf("HeadlessRunner.java - %d ticks in %.2f s, %.0f ticks per second%n", ticks, seconds, ticks / seconds);
+
+            //************* Allocation Budgets *************//
+            FrameProfiler profiler = simulation.getProfiler();
+            if (profiler.isTrackingAllocations()) {
+                for (int phase = FrameProfiler.TICK_MOVE; phase <= FrameProfiler.TICK_TOTAL; phase++) {
+                    System.out.printf("HeadlessRunner.java - %-15s %8d bytes per tick, max %d%n", FrameProfiler.getPhaseName(phase), profiler.getMeanAllocatedBytes(phase), profiler.getMaxAllocatedBytes(phase));
+                }
+                profiler.checkAllocationBudgets();
+            }
+        }
+        return simulation;
+    }
+
+    /**
+     * Places a gold stash next to the player and surrounds it with towers
+     * Precondition: the simulation has enough resources for every building
+     * Postcondition: the stash and towers are placed
+     * @param simulation the simulation to build in
+     */
+    private static void buildBase(GameSimulation simulation) {
+        BuildingSystem buildingSystem = simulation.getBuildingSystem();
+        int grid = BenumZombsGame.GRID_SIZE;
+        int centerX = (int) (Math.floor(simulation.getPlayer().getX() / grid) * grid) + grid * 3;
+        int centerY = (int) (Math.floor(simulation.getPlayer().getY() / grid) * grid);
+
+        simulation.placeBuilding(buildingSystem.getBuildingInSlot(10), centerX, centerY); // Gold Stash
+
+        //************* Tower Ring *************//
+        int[][] offsets = {{-2, -2}, {2, -2}, {-2, 2}, {2, 2}, {0, -4}, {0, 4}};
+        for (int i = 0; i < offsets.length; i++) {
+            Building tower = buildingSystem.getBuildingInSlot(3 + (i % 5)); // Arrow, Cannon, Melee, Bomb and Mage
+            int x = centerX + offsets[i][0] * grid;
+            int y = centerY + offsets[i][1] * grid;
+            if (!buildingSystem.isLimitReached(tower)) {
+                simulation.placeBuilding(tower, x, y);
+            }
+        }
+    }
+}
@@ -9,12 +9,17 @@
 
 package game;
 
+import helpers.AssetManager;
 import helpers.FontManager;
+import helpers.Log;
+import helpers.Logger;
 import java.awt.CardLayout;
-import java.net.URL;
+import java.awt.Image;
 import javax.swing.*;
 
 public class Main {
+	private static final Logger LOG = Log.getLogger("Main.java");
+
 	public static JPanel mainPanel;
     public static CardLayout cardLayout;
     public static SettingsScreen settingsScreen;
@@ -28,13 +33,14 @@ public class Main {
         window.setResizable(true);
 		window.setExtendedState(JFrame.MAXIMIZED_BOTH);
 		
+		AssetManager.preloadImages(); // Decode every image in the background while the start menu shows
+
 		//Load Icon for the window
-		try {
-			URL iconURL = Main.class.getResource("/assets/images/appIcon.png"); 
-			ImageIcon icon = new ImageIcon(iconURL);
-			window.setIconImage(icon.getImage());
-		} catch (Exception e) {
-			System.err.println("Main.java - App icon not found and your code is very broke: " + e.getMessage());
+		Image icon = AssetManager.getImage("appIcon.png");
+		if (icon != null) {
+			window.setIconImage(icon);
+		} else {
+			System.err.println("Main.java - App icon not found and your code is very broke");
 		}
 		
 		FontManager.loadGoogleSansFlex(); // Load custom font
@@ -52,7 +58,7 @@ public class Main {
         window.add(mainPanel);
         window.setVisible(true);
 
-		System.out.println("Main.java - Game started, window created.");
+		LOG.info("Game started, window created.");
 	}
 
 	/**
@@ -62,6 +68,38 @@ public class Main {
 	 * @param screenName the name of the screen to display
 	 */
 	public static void showScreen(String screenName) {
+		if (screenName.equals("MENU")) {
+			endGame(); // Nothing leads back to the running game from the menu, so its threads would tick on unseen
+		}
         cardLayout.show(mainPanel, screenName);
     }
+
+	/**
+	 * Adds a new game as the GAME screen, stopping and removing the game it replaces
+	 * Precondition: game is a new BenumZombsGame
+	 * Postcondition: game is the only game panel, the previous game's threads and timer are stopped
+	 * @param game the game to show on the GAME screen
+	 */
+	public static void startGame(BenumZombsGame game) {
+		endGame();
+		gamePanel = game;
+		mainPanel.add(game, "GAME");
+	}
+
+	/**
+	 * Stops the current game and removes it from the window
+	 * Precondition: N/A
+	 * Postcondition: no game panel is left running and the shop and settings screens no longer point at it
+	 */
+	private static void endGame() {
+		if (gamePanel == null) {
+			return;
+		}
+		gamePanel.stop();
+		mainPanel.remove(gamePanel);
+		settingsScreen.setGameInstance(null);
+		shopScreen.setGameInstance(null);
+		gamePanel = null;
+		LOG.info("Previous game stopped.");
+	}
 }
\ No newline at end of file
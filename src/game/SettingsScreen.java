@@ -9,6 +9,8 @@
 package game;
 
 import helpers.FontManager;
+import helpers.Log;
+import helpers.Logger;
 import helpers.RoundedJButton;
 import helpers.SoundManager;
 import java.awt.Color;
@@ -23,6 +25,7 @@ import javax.swing.JPanel;
 import javax.swing.SwingConstants;
 
 public class SettingsScreen extends JPanel {
+    private static final Logger LOG = Log.getLogger("SettingsScreen.java");
 
     private final RoundedJButton backButton, soundToggleButton;
     private final JLabel settingsLabel, controlTitleLabel, leftControlLabel, rightControlLabel;
@@ -118,7 +121,7 @@ public class SettingsScreen extends JPanel {
                     soundToggleButton.setBackground(new Color(156, 106, 103));
                 }
                 SoundManager.playSound("buttonClick.wav");
-                System.out.println("SettingsScreen.java - Sound Effects toggled");
+                LOG.info("Sound Effects toggled");
             }
         });
 
@@ -129,10 +132,10 @@ public class SettingsScreen extends JPanel {
                 if (gameInstance != null) {
                     Main.showScreen("GAME");
                     gameInstance.requestFocusInWindow();
-                    System.out.println("SettingsScreen.java - Returning to game.");
+                    LOG.info("Returning to game.");
                 } else {
                     Main.showScreen("MENU");
-                    System.out.println("SettingsScreen.java - Returning to menu.");
+                    LOG.info("Returning to menu.");
                 }
                 SoundManager.playSound("buttonClick.wav");
             }
@@ -9,6 +9,8 @@
 package game;
 
 import helpers.FontManager;
+import helpers.Log;
+import helpers.Logger;
 import helpers.RoundedJButton;
 import helpers.SoundManager;
 import helpers.TextFormatter;
@@ -36,6 +38,8 @@ import systems.ToolSystem;
 
 @SuppressWarnings("Convert2Lambda")
 public class ShopScreen extends JPanel {
+    private static final Logger LOG = Log.getLogger("ShopScreen.java");
+
     private BenumZombsGame gameInstance;
     private final RoundedJButton backButton;
     private final JLabel shopLabel;
@@ -97,7 +101,7 @@ public class ShopScreen extends JPanel {
                 if (gameInstance != null) {
                     Main.showScreen("GAME");
                     gameInstance.requestFocusInWindow();
-                    System.out.println("ShopScreen.java - Returning to game from Shop Screen.");
+                    LOG.info("Returning to game from Shop Screen.");
                 }
                 SoundManager.playSound("buttonClick.wav");
             }
@@ -122,7 +126,7 @@ public class ShopScreen extends JPanel {
                     if (tabBounds[i].contains(p)) {
                         currentTab = tabs[i];
                         SoundManager.playSound("buttonClick.wav");
-                        System.out.println("ShopScreen.java - Switched tab in Shop Screen: " + currentTab);
+                        LOG.debug("Switched tab in Shop Screen: ", currentTab);
                         repaint();
                     }
                 }
@@ -132,7 +136,7 @@ public class ShopScreen extends JPanel {
                     for (int i = 0; i < weaponCardBounds.length; i++) {
                         if (weaponCardBounds[i] != null && weaponCardBounds[i].contains(p)) {
                             handlePurchase(i);
-                            System.out.println("ShopScreen.java - Clicked on weapon card in Shop Screen: " + i);
+                            LOG.debug("Clicked on weapon card in Shop Screen: ", i);
                             return;
                         }
                     }
@@ -142,7 +146,7 @@ public class ShopScreen extends JPanel {
                     for (int i = 0; i < armorCardBounds.length; i++) {
                         if (armorCardBounds[i] != null && armorCardBounds[i].contains(p)) {
                             handlePurchase(i);
-                            System.out.println("ShopScreen.java - Clicked on armor card in Shop Screen: " + i);
+                            LOG.debug("Clicked on armor card in Shop Screen: ", i);
                             return;
                         }
                     }
@@ -152,7 +156,7 @@ public class ShopScreen extends JPanel {
                     for (int i = 0; i < utilityCardBounds.length; i++) {
                         if (utilityCardBounds[i] != null && utilityCardBounds[i].contains(p)) {
                             handlePurchase(i);
-                            System.out.println("ShopScreen.java - Clicked on utility card in Shop Screen: " + i);
+                            LOG.debug("Clicked on utility card in Shop Screen: ", i);
                             return;
                         }
                     }
@@ -175,7 +179,7 @@ public class ShopScreen extends JPanel {
                     if (gameInstance != null) {
                         Main.showScreen("GAME");
                         gameInstance.requestFocusInWindow();
-                        System.out.println("ShopScreen.java - Closed via 'B'");
+                        LOG.info("Closed via 'B'");
                     }
                 }
             }
@@ -229,6 +233,19 @@ public class ShopScreen extends JPanel {
             return;
         }
 
+        synchronized (gameInstance.getSimulationLock()) {
+            handlePurchaseLocked(slotIndex);
+        }
+    }
+
+    /**
+     * Purchases or upgrades a tool while holding the game's simulation lock
+     * Precondition: gameInstance is not null and its simulation lock is held
+     * Postcondition: tool in the specified slot is purchased or upgraded if sufficient resources are available
+     * @param slotIndex the index of the tool slot to purchase or upgrade
+     */
+    private void handlePurchaseLocked(int slotIndex) {
+
         ToolSystem toolSystem = gameInstance.getToolSystem();
         ResourceSystem resourceSystem = gameInstance.getResourceSystem();
 
@@ -249,13 +266,13 @@ public class ShopScreen extends JPanel {
         //************* Purchase and Upgrade Logic *************//
         cost = tool.getUpgradeCost();
         if (cost == -1) { // Max level
-            System.out.println("ShopScreen.java - Tool max: " + tool.getToolName());
+            LOG.debug("Tool max: ", tool.getToolName());
             return;
         }
 
         if (resourceSystem.getGoldCount() >= cost) {
             if (tool.isConsumable() && tool.getIsUnlocked()) {
-                System.out.println("ShopScreen.java - Can only buy one at a time: " + tool.getToolName());
+                LOG.debug("Can only buy one at a time: ", tool.getToolName());
                 return; 
             }
             resourceSystem.addGold(-cost);
@@ -271,7 +288,7 @@ public class ShopScreen extends JPanel {
             SoundManager.playSound("purchaseSound.wav");
             repaint();
         } else {
-            System.out.println("ShopScreen.java - Not enough gold to buy, need: " + cost);
+            LOG.debug("Not enough gold to buy, need: ", cost);
         }
     }
 
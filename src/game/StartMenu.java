@@ -9,6 +9,8 @@
 package game;
 
 import helpers.FontManager;
+import helpers.Log;
+import helpers.Logger;
 import helpers.RoundedJButton;
 import helpers.RoundedJText;
 import helpers.SoundManager;
@@ -34,6 +36,7 @@ import javax.swing.JPanel;
 import javax.swing.SwingConstants;
 
 public class StartMenu extends JPanel {
+    private static final Logger LOG = Log.getLogger("StartMenu.java");
 
     private final JLabel titleLabel, subtitleLabel, versionLabel;
     private final RoundedJButton startButton, settingButton, exitButton;   
@@ -153,12 +156,12 @@ public class StartMenu extends JPanel {
                 playerName = nameField.getText();
 
                 BenumZombsGame game = new BenumZombsGame(playerName);
-                Main.mainPanel.add(game, "GAME");
+                Main.startGame(game); // Stops any game started before this one
                 
                 Main.showScreen("GAME");
                 game.requestFocusInWindow();
                 SoundManager.playSound("buttonClick.wav");
-                System.out.println("StartMenu.java - Game started from Start Menu.");
+                LOG.info("Game started from Start Menu.");
             }
         });
 
@@ -169,7 +172,7 @@ public class StartMenu extends JPanel {
                 Main.settingsScreen.setGameInstance(null);
                 Main.showScreen("SETTINGS");
                 SoundManager.playSound("buttonClick.wav");
-                System.out.println("StartMenu.java - Settings shown");
+                LOG.info("Settings shown");
             }
         });
 
@@ -177,7 +180,7 @@ public class StartMenu extends JPanel {
         exitButton.addActionListener(new ActionListener() {
              @Override
             public void actionPerformed(ActionEvent e) {
-                System.out.println("StartMenu.java - Game exited");
+                LOG.info("Game exited");
                 SoundManager.playSound("buttonClick.wav");
                 System.exit(0);
             }
@@ -190,9 +193,9 @@ public class StartMenu extends JPanel {
                 try {
                     Desktop.getDesktop().browse(new URI("https://docs.google.com/document/d/1JccsGbz9-viOxhGuASJULYrJF2vKoy3G_eF5oNd1vVI/edit?usp=sharing"));
                     SoundManager.playSound("buttonClick.wav");
-                    System.out.println("StartMenu.java - Credits shown");
+                    LOG.info("Credits shown");
                 } catch (IOException | URISyntaxException ex) {
-                    System.out.println("StartMenu.java - ur credit link is super borken rn and you better fix it" + ex.getMessage());
+                    LOG.warn("ur credit link is super borken rn and you better fix it", ex.getMessage());
                 }
             }
         });
@@ -0,0 +1,184 @@
+/**
+ * AssetManager.java
+ * Helper class for BenumZombs that decodes every image once on background threads and hands out shared copies
+ * @author Richard Pu
+ * @version 1.0
+ * @since 2026-10-17
+ */
+
+package helpers;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+import javax.imageio.ImageIO;
+
+public class AssetManager {
+    private static final Logger LOG = Log.getLogger("AssetManager.java");
+
+    private static final String IMAGE_ROOT = "/assets/images/";
+
+    // Keyed by path relative to IMAGE_ROOT, e.g. "player/arrow.png"
+    private static final ConcurrentHashMap<String, Future<BufferedImage>> images = new ConcurrentHashMap<>();
+    private static boolean preloadStarted = false;
+
+    /**
+     * Starts decoding every PNG under /assets/images on a pool of background threads
+     * Precondition: N/A
+     * Postcondition: every image is queued for loading, only the first call has any effect
+     */
+    @SuppressWarnings("Convert2Lambda")
+    public static synchronized void preloadImages() {
+        if (preloadStarted) {
+            return;
+        }
+        preloadStarted = true;
+
+        ArrayList<String> paths = findImagePaths();
+        int threads = Math.max(1, Math.min(paths.size(), Runtime.getRuntime().availableProcessors()));
+        ExecutorService loader = Executors.newFixedThreadPool(threads, new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "BenumZombs-AssetLoader");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+
+        for (int i = 0; i < paths.size(); i++) {
+            FutureTask<BufferedImage> task = createLoadTask(paths.get(i));
+            if (images.putIfAbsent(paths.get(i), task) == null) {
+                loader.execute(task);
+            }
+        }
+        loader.shutdown(); // Queued images still load, the threads exit once they are done
+
+        if (LOG.isEnabled(Log.INFO)) {
+            LOG.info("Preloading " + paths.size() + " images on " + threads + " threads");
+        }
+    }
+
+    /**
+     * Gets a shared decoded image, waiting for the preload if it is still running
+     * Precondition: path is relative to /assets/images, e.g. "resources/tree.png"
+     * Postcondition: returns the image, loading it on the calling thread only if it was never queued, a failed load is not retried
+     * @param path the path of the image relative to /assets/images
+     * @return the shared image, or null if it could not be loaded
+     */
+    public static BufferedImage getImage(String path) {
+        Future<BufferedImage> image = images.get(path);
+        if (image == null) {
+            FutureTask<BufferedImage> task = createLoadTask(path);
+            image = images.putIfAbsent(path, task);
+            if (image == null) {
+                image = task;
+                task.run(); // Not found by the preload, load it here once
+            }
+        }
+
+        try {
+            return image.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            LOG.warn("Error loading image " + path + ": ", e.getCause()); // Only an Error gets here, the task catches everything else
+            return null;
+        }
+    }
+
+    /**
+     * Creates a task that decodes one image, warning once if it cannot
+     * Precondition: path is relative to /assets/images
+     * Postcondition: returns a task that reads the image when run, its result is null if the image could not be read
+     * @param path the path of the image relative to /assets/images
+     * @return the load task
+     */
+    @SuppressWarnings("Convert2Lambda")
+    private static FutureTask<BufferedImage> createLoadTask(final String path) {
+        return new FutureTask<>(new Callable<BufferedImage>() {
+            @Override
+            public BufferedImage call() {
+                try {
+                    URL url = AssetManager.class.getResource(IMAGE_ROOT + path);
+                    if (url == null) {
+                        throw new IOException("missing resource");
+                    }
+                    BufferedImage image = ImageIO.read(url);
+                    if (image == null) {
+                        throw new IOException("unsupported image format");
+                    }
+                    return image;
+                } catch (IOException | RuntimeException e) {
+                    // The null result stays cached, so every later getImage for the path returns null without warning again
+                    LOG.warn("Error loading image " + path + ": ", e);
+                    return null;
+                }
+            }
+        });
+    }
+
+    /**
+     * Lists every PNG under /assets/images, from the file system or from the jar the game runs in
+     * Precondition: N/A
+     * Postcondition: returns the image paths relative to /assets/images
+     * @return the list of image paths
+     */
+    private static ArrayList<String> findImagePaths() {
+        ArrayList<String> paths = new ArrayList<>();
+        URL root = AssetManager.class.getResource(IMAGE_ROOT);
+        if (root == null) {
+            LOG.info("Image folder not found, images will load on demand");
+            return paths;
+        }
+
+        try {
+            if ("jar".equals(root.getProtocol())) {
+                //************* Images Inside a Jar *************//
+                JarFile jar = ((JarURLConnection) root.openConnection()).getJarFile();
+                String prefix = IMAGE_ROOT.substring(1);
+                Enumeration<JarEntry> entries = jar.entries();
+                while (entries.hasMoreElements()) {
+                    String name = entries.nextElement().getName();
+                    if (name.startsWith(prefix) && name.endsWith(".png")) {
+                        paths.add(name.substring(prefix.length()));
+                    }
+                }
+            } else {
+                //************* Images on Disk *************//
+                Path rootPath = Paths.get(root.toURI());
+                try (Stream<Path> files = Files.walk(rootPath)) {
+                    Iterator<Path> iterator = files.iterator();
+                    while (iterator.hasNext()) {
+                        Path file = iterator.next();
+                        if (file.toString().endsWith(".png")) {
+                            paths.add(rootPath.relativize(file).toString().replace('\\', '/'));
+                        }
+                    }
+                }
+            }
+        } catch (IOException | URISyntaxException | ClassCastException e) {
+            LOG.warn("Could not list images, they will load on demand: ", e.getMessage());
+        }
+        return paths;
+    }
+}
@@ -0,0 +1,136 @@
+/**
+ * BackgroundLayer.java
+ * Helper class for BenumZombs that pre-renders the grass, grid and border zones into tiles and draws only the visible ones
+ * @author Richard Pu
+ * @version 1.0
+ * @since 2026-10-17
+ */
+
+package helpers;
+
+import game.BenumZombsGame;
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import systems.Viewport;
+
+public class BackgroundLayer {
+    // Every world boundary is a multiple of 10 grid cells, so a tile is never split between zones
+    public static final int TILE_SIZE = BenumZombsGame.GRID_SIZE * 10;
+    private static final int TILE_COUNT = BenumZombsGame.WORLD_AREA / TILE_SIZE;
+
+    //************* Background Colors *************//
+    private static final Color GRASS_COLOR = new Color(105, 141, 65);
+    private static final Color GRID_COLOR = new Color(85, 113, 58, 170);
+    private static final Color BORDER_COLOR = new Color(0, 0, 0, 130);
+
+    //************* Tiles *************//
+    // Variant 0 is open grass, 1 is inside one border zone and 2 is a corner where two border zones overlap
+    private final BufferedImage[] variants = new BufferedImage[3];
+    private final int[] tileVariant = new int[TILE_COUNT * TILE_COUNT];
+
+    /**
+     * Constructor for BackgroundLayer
+     * Precondition: N/A
+     * Postcondition: every tile of the world is assigned the variant matching the border zones covering it
+     */
+    public BackgroundLayer() {
+        int offset = BenumZombsGame.OFFSET;
+        int playArea = BenumZombsGame.PLAY_AREA;
+        int border = BenumZombsGame.BORDER_THICKNESS;
+        Rectangle[] borderZones = {
+            new Rectangle(offset, offset, playArea, border), // Top
+            new Rectangle(offset, offset + playArea - border, playArea, border), // Bottom
+            new Rectangle(offset, offset, border, playArea), // Left
+            new Rectangle(offset + playArea - border, offset, border, playArea) // Right
+        };
+
+        Rectangle tile = new Rectangle(0, 0, TILE_SIZE, TILE_SIZE);
+        for (int row = 0; row < TILE_COUNT; row++) {
+            for (int col = 0; col < TILE_COUNT; col++) {
+                tile.setLocation(col * TILE_SIZE, row * TILE_SIZE);
+                int covered = 0;
+                for (int i = 0; i < borderZones.length; i++) {
+                    if (borderZones[i].contains(tile)) {
+                        covered++;
+                    }
+                }
+                tileVariant[row * TILE_COUNT + col] = covered;
+            }
+        }
+    }
+
+    /**
+     * Draws the tiles overlapping the visible part of the world
+     * Precondition: g2d is translated into world space, config may be null when there is no screen
+     * Postcondition: the background under the viewport is drawn, rendering the tile images the first time
+     * @param g2d the Graphics2D object to draw with
+     * @param config the graphics configuration of the panel, used to create images in the screen's format
+     * @param viewport the part of the world on screen
+     */
+    public void draw(Graphics2D g2d, GraphicsConfiguration config, Viewport viewport) {
+        if (variants[0] == null) {
+            renderVariants(config);
+        }
+
+        // The tile grid is its own index, so only the tiles under the screen are looked at
+        int minCol = Math.max(0, (int) Math.floor(viewport.getX() / TILE_SIZE));
+        int minRow = Math.max(0, (int) Math.floor(viewport.getY() / TILE_SIZE));
+        int maxCol = Math.min(TILE_COUNT - 1, (int) Math.floor((viewport.getX() + viewport.getWidth()) / TILE_SIZE));
+        int maxRow = Math.min(TILE_COUNT - 1, (int) Math.floor((viewport.getY() + viewport.getHeight()) / TILE_SIZE));
+
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int col = minCol; col <= maxCol; col++) {
+                g2d.drawImage(variants[tileVariant[row * TILE_COUNT + col]], col * TILE_SIZE, row * TILE_SIZE, null);
+            }
+        }
+    }
+
+    /**
+     * Renders the grass, grid lines and border shading of each tile variant once
+     * Precondition: config may be null
+     * Postcondition: all tile variants are rendered
+     * @param config the graphics configuration to create compatible images with
+     */
+    private void renderVariants(GraphicsConfiguration config) {
+        for (int variant = 0; variant < variants.length; variant++) {
+            BufferedImage image;
+            if (config != null) {
+                image = config.createCompatibleImage(TILE_SIZE, TILE_SIZE, Transparency.OPAQUE);
+            } else {
+                image = new BufferedImage(TILE_SIZE, TILE_SIZE, BufferedImage.TYPE_INT_RGB);
+            }
+
+            Graphics2D g2d = image.createGraphics();
+            g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+
+            g2d.setColor(GRASS_COLOR);
+            g2d.fillRect(0, 0, TILE_SIZE, TILE_SIZE);
+
+            //************* Grid Lines *************//
+            // Lines on the tile edges are clipped in half, the neighbouring tile draws the other half
+            g2d.setColor(GRID_COLOR);
+            g2d.setStroke(new BasicStroke(3.2f));
+            for (int i = 0; i <= TILE_SIZE; i += BenumZombsGame.GRID_SIZE) {
+                g2d.drawLine(i, 0, i, TILE_SIZE);
+            }
+            for (int j = 0; j <= TILE_SIZE; j += BenumZombsGame.GRID_SIZE) {
+                g2d.drawLine(0, j, TILE_SIZE, j);
+            }
+
+            //************* Border Shading *************//
+            g2d.setColor(BORDER_COLOR);
+            for (int i = 0; i < variant; i++) {
+                g2d.fillRect(0, 0, TILE_SIZE, TILE_SIZE);
+            }
+
+            g2d.dispose();
+            variants[variant] = image;
+        }
+    }
+}
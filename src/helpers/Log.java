@@ -0,0 +1,170 @@
+/**
+ * Log.java
+ * The Log class for BenumZombs, handing out per-class loggers and writing their lines to the console from a background thread
+ * @author Richard Pu
+ * @version 1.0
+ * @since 2026-10-17
+ */
+
+package helpers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.LockSupport;
+
+public class Log {
+    //************* Levels *************//
+    public static final int DEBUG = 0;
+    public static final int INFO = 1;
+    public static final int WARN = 2;
+    public static final int ERROR = 3;
+    public static final int OFF = 4;
+    private static final String[] LEVEL_NAMES = {"DEBUG", "INFO", "WARN", "ERROR", "OFF"};
+
+    //************* Configuration *************//
+    // -Dbenumzombs.log.level=warn sets every logger, -Dbenumzombs.log.ZombieSystem=debug sets one
+    public static final String LEVEL_PROPERTY = "benumzombs.log.level";
+    private static final String SOURCE_PROPERTY_PREFIX = "benumzombs.log.";
+
+    private static final int BUFFER_CAPACITY = 4096; // Lines held while the console is slow, later ones are dropped
+    private static final long DRAIN_INTERVAL_NANOS = 10_000_000L;
+
+    private static final ConcurrentHashMap<String, Logger> loggers = new ConcurrentHashMap<>();
+    private static final LogBuffer buffer = new LogBuffer(BUFFER_CAPACITY);
+    private static final Object drainLock = new Object(); // Only the drain thread and flush take it, never a logging thread
+    private static volatile int defaultLevel = parseLevel(System.getProperty(LEVEL_PROPERTY), INFO);
+
+    static {
+        //************* Drain Thread *************//
+        Thread drainThread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                while (true) {
+                    flush();
+                    LockSupport.parkNanos(DRAIN_INTERVAL_NANOS);
+                }
+            }
+        }, "BenumZombs-Log");
+        drainThread.setDaemon(true);
+        drainThread.start();
+
+        Runtime.getRuntime().addShutdownHook(new Thread(new Runnable() {
+            @Override
+            public void run() {
+                flush();
+            }
+        }, "BenumZombs-Log-Flush"));
+    }
+
+    /**
+     * Gets the logger for a class, creating it on first use
+     * Precondition: source is the class's file name, like "ZombieSystem.java"
+     * Postcondition: returns the same logger for every call with the same source
+     * @param source the file name shown before each message
+     * @return the logger for the source
+     */
+    public static Logger getLogger(String source) {
+        Logger logger = loggers.get(source);
+        if (logger == null) {
+            String name = source.endsWith(".java") ? source.substring(0, source.length() - 5) : source;
+            int level = parseLevel(System.getProperty(SOURCE_PROPERTY_PREFIX + name), defaultLevel);
+            Logger created = new Logger(source, level);
+            logger = loggers.putIfAbsent(source, created);
+            if (logger == null) {
+                logger = created;
+            }
+        }
+        return logger;
+    }
+
+    /**
+     * Gets every logger created so far
+     * Precondition: N/A
+     * Postcondition: returns a new list sorted by source
+     * @return the loggers
+     */
+    public static ArrayList<Logger> getLoggers() {
+        ArrayList<String> sources = new ArrayList<>(loggers.keySet());
+        Collections.sort(sources);
+        ArrayList<Logger> result = new ArrayList<>();
+        for (String source : sources) {
+            result.add(loggers.get(source));
+        }
+        return result;
+    }
+
+    /**
+     * Sets the level of every logger, including ones created later
+     * Precondition: level is one of the Log levels
+     * Postcondition: every logger writes messages at or above the level
+     * @param level the lowest level to write
+     */
+    public static void setLevel(int level) {
+        defaultLevel = level;
+        for (Logger logger : loggers.values()) {
+            logger.setLevel(level);
+        }
+    }
+
+    /**
+     * Queues a line for the drain thread, never waiting on the console
+     * Precondition: called by a Logger after checking its level
+     * Postcondition: the line is queued, or dropped and counted if the buffer is full
+     * @param level the level of the message
+     * @param source the file name of the class logging
+     * @param message the message
+     */
+    static void write(int level, String source, String message) {
+        buffer.offer(LEVEL_NAMES[level] + " " + source + " - " + message);
+    }
+
+    /**
+     * Writes every queued line to the console on the calling thread
+     * Precondition: not called from the game loop, it waits on the console
+     * Postcondition: every line queued before the call has been printed
+     */
+    public static void flush() {
+        synchronized (drainLock) {
+            String line;
+            while ((line = buffer.poll()) != null) {
+                System.out.println(line);
+            }
+
+            long dropped = buffer.takeDroppedCount();
+            if (dropped > 0) {
+                System.out.println("WARN Log.java - Dropped " + dropped + " lines while the console was behind");
+            }
+        }
+    }
+
+    /**
+     * Turns a level name into its level
+     * Precondition: N/A
+     * Postcondition: returns the level, ignoring case
+     * @param name the level name, like "debug" or "WARN"
+     * @param fallback the level to return when name is null or unknown
+     * @return the level
+     */
+    public static int parseLevel(String name, int fallback) {
+        if (name != null) {
+            for (int i = 0; i < LEVEL_NAMES.length; i++) {
+                if (LEVEL_NAMES[i].equalsIgnoreCase(name.trim())) {
+                    return i;
+                }
+            }
+        }
+        return fallback;
+    }
+
+    /**
+     * Gets the name of a level
+     * Precondition: level is one of the Log levels
+     * Postcondition: returns the name
+     * @param level the level
+     * @return the level's name, like "INFO"
+     */
+    public static String getLevelName(int level) {
+        return LEVEL_NAMES[level];
+    }
+}
@@ -0,0 +1,84 @@
+/**
+ * LogBuffer.java
+ * The LogBuffer class for BenumZombs, a fixed size lock-free ring of log lines written by any thread and drained by one
+ * @author Richard Pu
+ * @version 1.0
+ * @since 2026-10-17
+ */
+
+package helpers;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+public class LogBuffer {
+    private final AtomicReferenceArray<String> slots;
+    private final int mask;
+
+    //************* Positions *************//
+    // Writers claim tail with a CAS, only the drainer moves head
+    // A claimed slot stays null until its writer stores the line, so the drainer waits for it instead of skipping it
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head = 0;
+    private final LongAdder dropped = new LongAdder();
+
+    /**
+     * Constructor for LogBuffer
+     * Precondition: capacity is a power of two
+     * Postcondition: an empty buffer is created
+     * @param capacity the most lines held before new ones are dropped
+     */
+    public LogBuffer(int capacity) {
+        slots = new AtomicReferenceArray<>(capacity);
+        mask = capacity - 1;
+    }
+
+    /**
+     * Adds a line without ever waiting
+     * Precondition: line is not null
+     * Postcondition: the line is queued, or counted as dropped if the buffer is full
+     * @param line the line to queue
+     * @return true if the line was queued, false if it was dropped
+     */
+    public boolean offer(String line) {
+        while (true) {
+            long position = tail.get();
+            if (position - head > mask) {
+                dropped.increment();
+                return false;
+            }
+            if (tail.compareAndSet(position, position + 1)) {
+                slots.set((int) (position & mask), line);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Takes the oldest line
+     * Precondition: only one thread drains at a time
+     * Postcondition: the line is removed from the buffer
+     * @return the oldest line, or null if the buffer is empty or its oldest line is still being written
+     */
+    public String poll() {
+        int slot = (int) (head & mask);
+        String line = slots.get(slot);
+        if (line == null) {
+            return null;
+        }
+        slots.set(slot, null); // Cleared before head moves, so a writer never sees a full slot as free
+        head = head + 1;
+        return line;
+    }
+
+    /**
+     * Gets the number of lines dropped since the last call and starts counting again
+     * Precondition: N/A
+     * Postcondition: returns the count
+     * @return the number of lines dropped because the buffer was full
+     */
+    public long takeDroppedCount() {
+        return dropped.sumThenReset();
+    }
+}
@@ -0,0 +1,169 @@
+/**
+ * Logger.java
+ * The Logger class for BenumZombs, one class's handle on the log with its own level
+ * @author Richard Pu
+ * @version 1.0
+ * @since 2026-10-17
+ */
+
+package helpers;
+
+public class Logger {
+    private final String source;
+    private volatile int level;
+
+    /**
+     * Constructor for Logger
+     * Precondition: only called by Log.getLogger
+     * Postcondition: a logger is created for the source at the given level
+     * @param source the file name shown before each message, like "ZombieSystem.java"
+     * @param level the lowest level written
+     */
+    Logger(String source, int level) {
+        this.source = source;
+        this.level = level;
+    }
+
+    /**
+     * Gets the name shown before each message
+     * Precondition: N/A
+     * Postcondition: returns the source
+     * @return the source of this logger
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Gets the lowest level this logger writes
+     * Precondition: N/A
+     * Postcondition: returns the level
+     * @return one of Log.DEBUG, Log.INFO, Log.WARN, Log.ERROR or Log.OFF
+     */
+    public int getLevel() {
+        return level;
+    }
+
+    /**
+     * Sets the lowest level this logger writes
+     * Precondition: level is one of the Log levels
+     * Postcondition: messages below the level are skipped from now on
+     * @param level the lowest level to write
+     */
+    public void setLevel(int level) {
+        this.level = level;
+    }
+
+    /**
+     * Checks if messages at a level would be written, for callers that build expensive messages
+     * Precondition: N/A
+     * Postcondition: returns true if the level is enabled
+     * @param messageLevel the level of the message
+     * @return true if a message at that level is written
+     */
+    public boolean isEnabled(int messageLevel) {
+        return messageLevel >= level;
+    }
+
+    //************* Levels *************//
+
+    /**
+     * Queues a debug message
+     * Precondition: N/A
+     * Postcondition: the message is queued if debug is enabled
+     * @param message the message
+     */
+    public void debug(String message) {
+        if (Log.DEBUG >= level) {
+            Log.write(Log.DEBUG, source, message);
+        }
+    }
+
+    /**
+     * Queues a debug message with a value appended, which is only turned into text if debug is enabled
+     * Precondition: N/A
+     * Postcondition: the message is queued if debug is enabled
+     * @param message the message
+     * @param value the value to append
+     */
+    public void debug(String message, Object value) {
+        if (Log.DEBUG >= level) {
+            Log.write(Log.DEBUG, source, message + value);
+        }
+    }
+
+    /**
+     * Queues an info message
+     * Precondition: N/A
+     * Postcondition: the message is queued if info is enabled
+     * @param message the message
+     */
+    public void info(String message) {
+        if (Log.INFO >= level) {
+            Log.write(Log.INFO, source, message);
+        }
+    }
+
+    /**
+     * Queues an info message with a value appended, which is only turned into text if info is enabled
+     * Precondition: N/A
+     * Postcondition: the message is queued if info is enabled
+     * @param message the message
+     * @param value the value to append
+     */
+    public void info(String message, Object value) {
+        if (Log.INFO >= level) {
+            Log.write(Log.INFO, source, message + value);
+        }
+    }
+
+    /**
+     * Queues a warning
+     * Precondition: N/A
+     * Postcondition: the message is queued if warnings are enabled
+     * @param message the message
+     */
+    public void warn(String message) {
+        if (Log.WARN >= level) {
+            Log.write(Log.WARN, source, message);
+        }
+    }
+
+    /**
+     * Queues a warning with a value appended, which is only turned into text if warnings are enabled
+     * Precondition: N/A
+     * Postcondition: the message is queued if warnings are enabled
+     * @param message the message
+     * @param value the value to append
+     */
+    public void warn(String message, Object value) {
+        if (Log.WARN >= level) {
+            Log.write(Log.WARN, source, message + value);
+        }
+    }
+
+    /**
+     * Queues an error
+     * Precondition: N/A
+     * Postcondition: the message is queued if errors are enabled
+     * @param message the message
+     */
+    public void error(String message) {
+        if (Log.ERROR >= level) {
+            Log.write(Log.ERROR, source, message);
+        }
+    }
+
+    /**
+     * Queues an error with a value appended, which is only turned into text if errors are enabled
+     * Precondition: N/A
+     * Postcondition: the message is queued if errors are enabled
+     * @param message the message
+     * @param value the value to append
+     */
+    public void error(String message, Object value) {
+        if (Log.ERROR >= level) {
+            Log.write(Log.ERROR, source, message + value);
+        }
+    }
+}
@@ -25,6 +25,26 @@ public class RandomGeneration {
     private static final int MIN_Y = BenumZombsGame.OFFSET + BenumZombsGame.BORDER_THICKNESS;
     private static final int MAX_Y = BenumZombsGame.PLAY_AREA - BenumZombsGame.BORDER_THICKNESS - 100;
 
+    /**
+     * Seeds the shared random generator so world layouts and waves can be reproduced
+     * Precondition: N/A
+     * Postcondition: all following random values are determined by the seed
+     * @param seed the seed for the random generator
+     */
+    public static void setSeed(long seed) {
+        random.setSeed(seed);
+    }
+
+    /**
+     * Gets a random float from the shared generator
+     * Precondition: N/A
+     * Postcondition: returns a float between 0.0 and 1.0
+     * @return a random float
+     */
+    public static float nextFloat() {
+        return random.nextFloat();
+    }
+
     /**
      * Gets a random location within the game boundaries
      * Precondition: N/A
@@ -60,8 +80,8 @@ public class RandomGeneration {
         }
 
         //************* Generate Random Point Around Base *************//
-        double angle = Math.random() * Math.PI * 2;
-        double radius = SPAWN_RADIUS + (Math.random() * 100 - 100);
+        double angle = random.nextDouble() * Math.PI * 2;
+        double radius = SPAWN_RADIUS + (random.nextDouble() * 100 - 100);
 
         int randomX = (int) (centerX + radius * Math.cos(angle));
         int randomY = (int) (centerY + radius * Math.sin(angle));
@@ -0,0 +1,992 @@
+/**
+ * RecordedGraphics.java
+ * The RecordedGraphics class for BenumZombs, a Graphics2D that only writes down drawing calls so a frame can be drawn later on another Graphics2D
+ * @author Richard Pu
+ * @version 1.0
+ * @since 2026-10-17
+ */
+
+package helpers;
+
+import diagnostics.FrameProfiler;
+import java.awt.Color;
+import java.awt.Composite;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Image;
+import java.awt.Paint;
+import java.awt.Polygon;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.Shape;
+import java.awt.Stroke;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Arc2D;
+import java.awt.geom.Area;
+import java.awt.geom.Path2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.BufferedImageOp;
+import java.awt.image.ImageObserver;
+import java.awt.image.RenderedImage;
+import java.awt.image.renderable.RenderableImage;
+import java.text.AttributedCharacterIterator;
+import java.text.AttributedString;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
+
+public class RecordedGraphics extends Graphics2D {
+    //************* Operations *************//
+    // Each call is stored as a code, a fixed number of numbers and a fixed number of references, read back in the same order by replay
+    private static final int COLOR = 0;
+    private static final int PAINT = 1;
+    private static final int FONT = 2;
+    private static final int STROKE = 3;
+    private static final int COMPOSITE = 4;
+    private static final int BACKGROUND = 5;
+    private static final int HINT = 6;
+    private static final int HINTS = 7;
+    private static final int TRANSLATE = 8;
+    private static final int ROTATE = 9;
+    private static final int ROTATE_ABOUT = 10;
+    private static final int SCALE = 11;
+    private static final int SHEAR = 12;
+    private static final int TRANSFORM = 13;
+    private static final int SET_TRANSFORM = 14;
+    private static final int SET_CLIP = 15;
+    private static final int CLIP = 16;
+    private static final int FILL_RECT = 17;
+    private static final int CLEAR_RECT = 18;
+    private static final int FILL_ROUND_RECT = 19;
+    private static final int DRAW_ROUND_RECT = 20;
+    private static final int FILL_OVAL = 21;
+    private static final int DRAW_OVAL = 22;
+    private static final int DRAW_LINE = 23;
+    private static final int DRAW_STRING = 24;
+    private static final int DRAW_SHAPE = 25;
+    private static final int FILL_SHAPE = 26;
+    private static final int IMAGE = 27;
+    private static final int IMAGE_SIZED = 28;
+    private static final int IMAGE_REGION = 29;
+    private static final int IMAGE_TRANSFORM = 30;
+    private static final int PHASE_END = 31;
+    private static final int SAVE = 32;
+    private static final int RESTORE = 33;
+    private static final int XOR_MODE = 34;
+    private static final int PAINT_MODE = 35;
+    private static final int DRAW_ATTRIBUTED = 36;
+    private static final int RENDERED_IMAGE = 37;
+    private static final int RENDERABLE_IMAGE = 38;
+    private static final int COPY_AREA = 39;
+
+    //************* Recorded Frame *************//
+    private int[] codes = new int[1024];
+    private double[] numbers = new double[4096];
+    private Object[] references = new Object[1024];
+    private int codeCount = 0;
+    private int numberCount = 0;
+    private int referenceCount = 0;
+
+    //************* Current State *************//
+    // Kept so the drawing code can read back what it set, the transform and clip are relative to the Graphics2D the frame is replayed on
+    private Color color;
+    private Paint paint;
+    private Font font;
+    private Stroke stroke;
+    private Composite composite;
+    private Color background;
+    private RenderingHints hints;
+    private final AffineTransform transform = new AffineTransform();
+    private Shape clip;
+
+    //************* Saved State *************//
+    // One entry per create not yet disposed, entries are reused from frame to frame
+    private final ArrayList<SavedState> saved = new ArrayList<>();
+    private int savedCount = 0;
+
+    //************* Replay Scratch *************//
+    private final AffineTransform replayTransform = new AffineTransform();
+    private final AffineTransform recordedTransform = new AffineTransform();
+    private final Graphics2D measure = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB).createGraphics(); // Answers font questions
+    private Graphics2D[] replayCopies = new Graphics2D[4]; // The Graphics2D each SAVE replaced, put back by its RESTORE
+
+    /**
+     * Starts recording a new frame that will be replayed on target
+     * Precondition: called on the thread that draws, before any drawing call
+     * Postcondition: the last frame is forgotten and the state matches target's, with no transform or clip of its own
+     * @param target the Graphics2D the frame will be replayed on
+     */
+    public void begin(Graphics2D target) {
+        Arrays.fill(references, 0, referenceCount, null); // Let the last frame's images and shapes go
+        codeCount = 0;
+        numberCount = 0;
+        referenceCount = 0;
+
+        color = target.getColor();
+        paint = target.getPaint();
+        font = target.getFont();
+        stroke = target.getStroke();
+        composite = target.getComposite();
+        background = target.getBackground();
+        hints = (RenderingHints) target.getRenderingHints().clone();
+        transform.setToIdentity();
+        clip = null;
+        savedCount = 0;
+    }
+
+    /**
+     * Marks the end of a profiler phase, so replay can time the drawing recorded since the last mark
+     * Precondition: phase is one of the FrameProfiler.PAINT_ phases
+     * Postcondition: the mark is recorded
+     * @param phase the phase that just finished
+     */
+    public void endPhase(int phase) {
+        code(PHASE_END);
+        number(phase);
+    }
+
+    /**
+     * Draws the recorded frame, timing the calls between phase marks into their phases
+     * Precondition: target is the Graphics2D passed to begin, the recording is finished, called on the thread that started the frame with profiler.startPaint
+     * Postcondition: every recorded call is made on target in order, on top of target's own transform and clip
+     * @param target the Graphics2D to draw on
+     * @param profiler the profiler the frame is timed with
+     */
+    public void replay(Graphics2D target, FrameProfiler profiler) {
+        AffineTransform base = target.getTransform();
+        Shape baseClip = target.getClip();
+        int n = 0;
+        int r = 0;
+        long phaseStart = profiler.resumePaint();
+        int copies = 0;
+
+        for (int i = 0; i < codeCount; i++) {
+            switch (codes[i]) {
+                case COLOR:
+                    target.setColor((Color) references[r++]);
+                    break;
+                case PAINT:
+                    target.setPaint((Paint) references[r++]);
+                    break;
+                case FONT:
+                    target.setFont((Font) references[r++]);
+                    break;
+                case STROKE:
+                    target.setStroke((Stroke) references[r++]);
+                    break;
+                case COMPOSITE:
+                    target.setComposite((Composite) references[r++]);
+                    break;
+                case BACKGROUND:
+                    target.setBackground((Color) references[r++]);
+                    break;
+                case HINT:
+                    target.setRenderingHint((RenderingHints.Key) references[r], references[r + 1]);
+                    r += 2;
+                    break;
+                case HINTS:
+                    target.setRenderingHints((Map<?, ?>) references[r++]);
+                    break;
+                case TRANSLATE:
+                    target.translate(numbers[n], numbers[n + 1]);
+                    n += 2;
+                    break;
+                case ROTATE:
+                    target.rotate(numbers[n++]);
+                    break;
+                case ROTATE_ABOUT:
+                    target.rotate(numbers[n], numbers[n + 1], numbers[n + 2]);
+                    n += 3;
+                    break;
+                case SCALE:
+                    target.scale(numbers[n], numbers[n + 1]);
+                    n += 2;
+                    break;
+                case SHEAR:
+                    target.shear(numbers[n], numbers[n + 1]);
+                    n += 2;
+                    break;
+                case TRANSFORM:
+                    recordedTransform.setTransform(numbers[n], numbers[n + 1], numbers[n + 2], numbers[n + 3], numbers[n + 4], numbers[n + 5]);
+                    n += 6;
+                    target.transform(recordedTransform);
+                    break;
+                case SET_TRANSFORM:
+                    recordedTransform.setTransform(numbers[n], numbers[n + 1], numbers[n + 2], numbers[n + 3], numbers[n + 4], numbers[n + 5]);
+                    n += 6;
+                    replayTransform.setTransform(base);
+                    replayTransform.concatenate(recordedTransform);
+                    target.setTransform(replayTransform);
+                    break;
+                case SET_CLIP:
+                    // A recorded clip is always inside the target's own clip, like drawing straight onto it would be
+                    AffineTransform current = target.getTransform();
+                    target.setTransform(base);
+                    target.setClip(baseClip);
+                    target.setTransform(current);
+                    Shape newClip = (Shape) references[r++];
+                    if (newClip != null) {
+                        target.clip(newClip);
+                    }
+                    break;
+                case CLIP:
+                    target.clip((Shape) references[r++]);
+                    break;
+                case FILL_RECT:
+                    target.fillRect((int) numbers[n], (int) numbers[n + 1], (int) numbers[n + 2], (int) numbers[n + 3]);
+                    n += 4;
+                    break;
+                case CLEAR_RECT:
+                    target.clearRect((int) numbers[n], (int) numbers[n + 1], (int) numbers[n + 2], (int) numbers[n + 3]);
+                    n += 4;
+                    break;
+                case FILL_ROUND_RECT:
+                    target.fillRoundRect((int) numbers[n], (int) numbers[n + 1], (int) numbers[n + 2], (int) numbers[n + 3], (int) numbers[n + 4], (int) numbers[n + 5]);
+                    n += 6;
+                    break;
+                case DRAW_ROUND_RECT:
+                    target.drawRoundRect((int) numbers[n], (int) numbers[n + 1], (int) numbers[n + 2], (int) numbers[n + 3], (int) numbers[n + 4], (int) numbers[n + 5]);
+                    n += 6;
+                    break;
+                case FILL_OVAL:
+                    target.fillOval((int) numbers[n], (int) numbers[n + 1], (int) numbers[n + 2], (int) numbers[n + 3]);
+                    n += 4;
+                    break;
+                case DRAW_OVAL:
+                    target.drawOval((int) numbers[n], (int) numbers[n + 1], (int) numbers[n + 2], (int) numbers[n + 3]);
+                    n += 4;
+                    break;
+                case DRAW_LINE:
+                    target.drawLine((int) numbers[n], (int) numbers[n + 1], (int) numbers[n + 2], (int) numbers[n + 3]);
+                    n += 4;
+                    break;
+                case DRAW_STRING:
+                    target.drawString((String) references[r++], (float) numbers[n], (float) numbers[n + 1]);
+                    n += 2;
+                    break;
+                case DRAW_SHAPE:
+                    target.draw((Shape) references[r++]);
+                    break;
+                case FILL_SHAPE:
+                    target.fill((Shape) references[r++]);
+                    break;
+                case IMAGE:
+                    target.drawImage((Image) references[r], (int) numbers[n], (int) numbers[n + 1], (Color) references[r + 1], null);
+                    r += 2;
+                    n += 2;
+                    break;
+                case IMAGE_SIZED:
+                    target.drawImage((Image) references[r], (int) numbers[n], (int) numbers[n + 1], (int) numbers[n + 2], (int) numbers[n + 3], (Color) references[r + 1], null);
+                    r += 2;
+                    n += 4;
+                    break;
+                case IMAGE_REGION:
+                    target.drawImage((Image) references[r], (int) numbers[n], (int) numbers[n + 1], (int) numbers[n + 2], (int) numbers[n + 3],
+                        (int) numbers[n + 4], (int) numbers[n + 5], (int) numbers[n + 6], (int) numbers[n + 7], (Color) references[r + 1], null);
+                    r += 2;
+                    n += 8;
+                    break;
+                case IMAGE_TRANSFORM:
+                    recordedTransform.setTransform(numbers[n], numbers[n + 1], numbers[n + 2], numbers[n + 3], numbers[n + 4], numbers[n + 5]);
+                    n += 6;
+                    target.drawImage((Image) references[r++], recordedTransform, null);
+                    break;
+                case PHASE_END:
+                    phaseStart = profiler.end((int) numbers[n++], phaseStart);
+                    break;
+                case SAVE:
+                    if (copies == replayCopies.length) {
+                        replayCopies = Arrays.copyOf(replayCopies, copies * 2);
+                    }
+                    replayCopies[copies++] = target;
+                    target = (Graphics2D) target.create();
+                    break;
+                case RESTORE:
+                    target.dispose();
+                    target = replayCopies[--copies];
+                    replayCopies[copies] = null;
+                    break;
+                case XOR_MODE:
+                    target.setXORMode((Color) references[r++]);
+                    break;
+                case PAINT_MODE:
+                    target.setPaintMode();
+                    break;
+                case DRAW_ATTRIBUTED:
+                    target.drawString((AttributedCharacterIterator) references[r++], (float) numbers[n], (float) numbers[n + 1]);
+                    n += 2;
+                    break;
+                case RENDERED_IMAGE:
+                    recordedTransform.setTransform(numbers[n], numbers[n + 1], numbers[n + 2], numbers[n + 3], numbers[n + 4], numbers[n + 5]);
+                    n += 6;
+                    target.drawRenderedImage((RenderedImage) references[r++], recordedTransform);
+                    break;
+                case RENDERABLE_IMAGE:
+                    recordedTransform.setTransform(numbers[n], numbers[n + 1], numbers[n + 2], numbers[n + 3], numbers[n + 4], numbers[n + 5]);
+                    n += 6;
+                    target.drawRenderableImage((RenderableImage) references[r++], recordedTransform);
+                    break;
+                case COPY_AREA:
+                    target.copyArea((int) numbers[n], (int) numbers[n + 1], (int) numbers[n + 2], (int) numbers[n + 3], (int) numbers[n + 4], (int) numbers[n + 5]);
+                    n += 6;
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        while (copies > 0) { // A copy that was never disposed
+            target.dispose();
+            target = replayCopies[--copies];
+            replayCopies[copies] = null;
+        }
+    }
+
+    //************* Recording *************//
+
+    /**
+     * Starts recording one call
+     * Precondition: the call's numbers and references are added right after with number and reference
+     * Postcondition: the code is stored
+     * @param code the call's operation code
+     */
+    private void code(int code) {
+        if (codeCount == codes.length) {
+            codes = Arrays.copyOf(codes, codeCount * 2);
+        }
+        codes[codeCount++] = code;
+    }
+
+    /**
+     * Stores one number of the call being recorded
+     * Precondition: code has been called for the call
+     * Postcondition: the number is stored
+     * @param value the number
+     */
+    private void number(double value) {
+        if (numberCount == numbers.length) {
+            numbers = Arrays.copyOf(numbers, numberCount * 2);
+        }
+        numbers[numberCount++] = value;
+    }
+
+    /**
+     * Stores one reference of the call being recorded
+     * Precondition: code has been called for the call, value is never changed once recorded
+     * Postcondition: the reference is stored
+     * @param value the reference, such as an image or colour
+     */
+    private void reference(Object value) {
+        if (referenceCount == references.length) {
+            references = Arrays.copyOf(references, referenceCount * 2);
+        }
+        references[referenceCount++] = value;
+    }
+
+    /**
+     * Stores the six numbers of a transform
+     * Precondition: code has been called for the call
+     * Postcondition: the transform's matrix is stored
+     * @param value the transform
+     */
+    private void matrix(AffineTransform value) {
+        number(value.getScaleX());
+        number(value.getShearY());
+        number(value.getShearX());
+        number(value.getScaleY());
+        number(value.getTranslateX());
+        number(value.getTranslateY());
+    }
+
+    /**
+     * Stores four whole numbers, the shape of most rectangle calls
+     * Precondition: code has been called for the call
+     * Postcondition: the numbers are stored
+     * @param x the first number
+     * @param y the second number
+     * @param width the third number
+     * @param height the fourth number
+     */
+    private void rectangle(int x, int y, int width, int height) {
+        number(x);
+        number(y);
+        number(width);
+        number(height);
+    }
+
+    /**
+     * Copies a shape so the caller may change its own after drawing it
+     * Precondition: N/A
+     * Postcondition: returns an unchanging copy, or null for null
+     * @param shape the shape to copy
+     * @return the copy
+     */
+    private static Shape copy(Shape shape) {
+        return shape == null ? null : new Path2D.Double(shape);
+    }
+
+    //************* State *************//
+
+    @Override
+    public void setColor(Color c) {
+        if (c == null) {
+            return; // Graphics ignores a null colour
+        }
+        color = c;
+        paint = c;
+        code(COLOR);
+        reference(c);
+    }
+
+    @Override
+    public Color getColor() {
+        return color;
+    }
+
+    @Override
+    public void setPaint(Paint p) {
+        if (p == null) {
+            return;
+        }
+        paint = p;
+        if (p instanceof Color) {
+            color = (Color) p;
+        }
+        code(PAINT);
+        reference(p);
+    }
+
+    @Override
+    public Paint getPaint() {
+        return paint;
+    }
+
+    @Override
+    public void setFont(Font f) {
+        if (f == null) {
+            return;
+        }
+        font = f;
+        code(FONT);
+        reference(f);
+    }
+
+    @Override
+    public Font getFont() {
+        return font;
+    }
+
+    @Override
+    public void setStroke(Stroke s) {
+        stroke = s;
+        code(STROKE);
+        reference(s);
+    }
+
+    @Override
+    public Stroke getStroke() {
+        return stroke;
+    }
+
+    @Override
+    public void setComposite(Composite comp) {
+        composite = comp;
+        code(COMPOSITE);
+        reference(comp);
+    }
+
+    @Override
+    public Composite getComposite() {
+        return composite;
+    }
+
+    @Override
+    public void setBackground(Color c) {
+        background = c;
+        code(BACKGROUND);
+        reference(c);
+    }
+
+    @Override
+    public Color getBackground() {
+        return background;
+    }
+
+    @Override
+    public void setRenderingHint(RenderingHints.Key hintKey, Object hintValue) {
+        hints.put(hintKey, hintValue);
+        code(HINT);
+        reference(hintKey);
+        reference(hintValue);
+    }
+
+    @Override
+    public Object getRenderingHint(RenderingHints.Key hintKey) {
+        return hints.get(hintKey);
+    }
+
+    @Override
+    public void setRenderingHints(Map<?, ?> newHints) {
+        hints = new RenderingHints(null);
+        hints.putAll(newHints);
+        code(HINTS);
+        reference(hints.clone());
+    }
+
+    @Override
+    public void addRenderingHints(Map<?, ?> newHints) {
+        for (Map.Entry<?, ?> entry : newHints.entrySet()) {
+            setRenderingHint((RenderingHints.Key) entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Override
+    public RenderingHints getRenderingHints() {
+        return (RenderingHints) hints.clone();
+    }
+
+    @Override
+    public void setPaintMode() {
+        code(PAINT_MODE);
+    }
+
+    @Override
+    public void setXORMode(Color c1) {
+        code(XOR_MODE);
+        reference(c1);
+    }
+
+    //************* Transform *************//
+
+    @Override
+    public void translate(int x, int y) {
+        translate((double) x, (double) y);
+    }
+
+    @Override
+    public void translate(double tx, double ty) {
+        transform.translate(tx, ty);
+        code(TRANSLATE);
+        number(tx);
+        number(ty);
+    }
+
+    @Override
+    public void rotate(double theta) {
+        transform.rotate(theta);
+        code(ROTATE);
+        number(theta);
+    }
+
+    @Override
+    public void rotate(double theta, double x, double y) {
+        transform.rotate(theta, x, y);
+        code(ROTATE_ABOUT);
+        number(theta);
+        number(x);
+        number(y);
+    }
+
+    @Override
+    public void scale(double sx, double sy) {
+        transform.scale(sx, sy);
+        code(SCALE);
+        number(sx);
+        number(sy);
+    }
+
+    @Override
+    public void shear(double shx, double shy) {
+        transform.shear(shx, shy);
+        code(SHEAR);
+        number(shx);
+        number(shy);
+    }
+
+    @Override
+    public void transform(AffineTransform tx) {
+        transform.concatenate(tx);
+        code(TRANSFORM);
+        matrix(tx);
+    }
+
+    @Override
+    public void setTransform(AffineTransform tx) {
+        transform.setTransform(tx);
+        code(SET_TRANSFORM);
+        matrix(tx);
+    }
+
+    @Override
+    public AffineTransform getTransform() {
+        return new AffineTransform(transform);
+    }
+
+    //************* Clip *************//
+    // The clip is kept in the coordinates it was set in, enough for the save, set and restore pattern the drawing code uses
+
+    @Override
+    public Shape getClip() {
+        return clip;
+    }
+
+    @Override
+    public Rectangle getClipBounds() {
+        return clip == null ? null : clip.getBounds();
+    }
+
+    @Override
+    public void setClip(Shape newClip) {
+        clip = copy(newClip);
+        code(SET_CLIP);
+        reference(clip);
+    }
+
+    @Override
+    public void setClip(int x, int y, int width, int height) {
+        setClip(new Rectangle(x, y, width, height));
+    }
+
+    @Override
+    public void clip(Shape s) {
+        Shape added = copy(s);
+        if (clip == null) {
+            clip = added;
+        } else {
+            Area area = new Area(clip);
+            area.intersect(new Area(added));
+            clip = area;
+        }
+        code(CLIP);
+        reference(added);
+    }
+
+    @Override
+    public void clipRect(int x, int y, int width, int height) {
+        clip(new Rectangle(x, y, width, height));
+    }
+
+    //************* Shapes *************//
+
+    @Override
+    public void fillRect(int x, int y, int width, int height) {
+        code(FILL_RECT);
+        rectangle(x, y, width, height);
+    }
+
+    @Override
+    public void clearRect(int x, int y, int width, int height) {
+        code(CLEAR_RECT);
+        rectangle(x, y, width, height);
+    }
+
+    @Override
+    public void fillRoundRect(int x, int y, int width, int height, int arcWidth, int arcHeight) {
+        code(FILL_ROUND_RECT);
+        rectangle(x, y, width, height);
+        number(arcWidth);
+        number(arcHeight);
+    }
+
+    @Override
+    public void drawRoundRect(int x, int y, int width, int height, int arcWidth, int arcHeight) {
+        code(DRAW_ROUND_RECT);
+        rectangle(x, y, width, height);
+        number(arcWidth);
+        number(arcHeight);
+    }
+
+    @Override
+    public void fillOval(int x, int y, int width, int height) {
+        code(FILL_OVAL);
+        rectangle(x, y, width, height);
+    }
+
+    @Override
+    public void drawOval(int x, int y, int width, int height) {
+        code(DRAW_OVAL);
+        rectangle(x, y, width, height);
+    }
+
+    @Override
+    public void drawLine(int x1, int y1, int x2, int y2) {
+        code(DRAW_LINE);
+        rectangle(x1, y1, x2, y2);
+    }
+
+    @Override
+    public void draw(Shape s) {
+        code(DRAW_SHAPE);
+        reference(copy(s));
+    }
+
+    @Override
+    public void fill(Shape s) {
+        code(FILL_SHAPE);
+        reference(copy(s));
+    }
+
+    @Override
+    public void drawArc(int x, int y, int width, int height, int startAngle, int arcAngle) {
+        draw(new Arc2D.Double(x, y, width, height, startAngle, arcAngle, Arc2D.OPEN));
+    }
+
+    @Override
+    public void fillArc(int x, int y, int width, int height, int startAngle, int arcAngle) {
+        fill(new Arc2D.Double(x, y, width, height, startAngle, arcAngle, Arc2D.PIE));
+    }
+
+    @Override
+    public void drawPolyline(int[] xPoints, int[] yPoints, int nPoints) {
+        if (nPoints < 1) {
+            return;
+        }
+        Path2D.Double line = new Path2D.Double();
+        line.moveTo(xPoints[0], yPoints[0]);
+        for (int i = 1; i < nPoints; i++) {
+            line.lineTo(xPoints[i], yPoints[i]);
+        }
+        draw(line);
+    }
+
+    @Override
+    public void drawPolygon(int[] xPoints, int[] yPoints, int nPoints) {
+        draw(new Polygon(xPoints, yPoints, nPoints));
+    }
+
+    @Override
+    public void fillPolygon(int[] xPoints, int[] yPoints, int nPoints) {
+        fill(new Polygon(xPoints, yPoints, nPoints));
+    }
+
+    @Override
+    public boolean hit(Rectangle rect, Shape s, boolean onStroke) {
+        Shape area = onStroke ? stroke.createStrokedShape(s) : s;
+        return transform.createTransformedShape(area).intersects(rect);
+    }
+
+    //************* Text *************//
+
+    @Override
+    public void drawString(String str, int x, int y) {
+        drawString(str, (float) x, (float) y);
+    }
+
+    @Override
+    public void drawString(String str, float x, float y) {
+        if (str == null) {
+            throw new NullPointerException("String is null");
+        }
+        code(DRAW_STRING);
+        reference(str);
+        number(x);
+        number(y);
+    }
+
+    @Override
+    public void drawString(AttributedCharacterIterator iterator, int x, int y) {
+        drawString(iterator, (float) x, (float) y);
+    }
+
+    @Override
+    public void drawString(AttributedCharacterIterator iterator, float x, float y) {
+        code(DRAW_ATTRIBUTED);
+        reference(new AttributedString(iterator).getIterator()); // The caller's iterator may move or change after this
+        number(x);
+        number(y);
+    }
+
+    @Override
+    public void drawGlyphVector(GlyphVector g, float x, float y) {
+        fill(g.getOutline(x, y));
+    }
+
+    @Override
+    public FontMetrics getFontMetrics(Font f) {
+        measure.setRenderingHints(hints);
+        return measure.getFontMetrics(f);
+    }
+
+    @Override
+    public FontRenderContext getFontRenderContext() {
+        measure.setRenderingHints(hints);
+        measure.setTransform(transform);
+        return measure.getFontRenderContext();
+    }
+
+    //************* Images *************//
+    // Images are stored by reference, so only images that are never drawn into again may be drawn
+
+    @Override
+    public boolean drawImage(Image img, int x, int y, ImageObserver observer) {
+        return drawImage(img, x, y, null, observer);
+    }
+
+    @Override
+    public boolean drawImage(Image img, int x, int y, Color bgcolor, ImageObserver observer) {
+        code(IMAGE);
+        reference(img);
+        reference(bgcolor);
+        number(x);
+        number(y);
+        return true;
+    }
+
+    @Override
+    public boolean drawImage(Image img, int x, int y, int width, int height, ImageObserver observer) {
+        return drawImage(img, x, y, width, height, null, observer);
+    }
+
+    @Override
+    public boolean drawImage(Image img, int x, int y, int width, int height, Color bgcolor, ImageObserver observer) {
+        code(IMAGE_SIZED);
+        reference(img);
+        reference(bgcolor);
+        rectangle(x, y, width, height);
+        return true;
+    }
+
+    @Override
+    public boolean drawImage(Image img, int dx1, int dy1, int dx2, int dy2, int sx1, int sy1, int sx2, int sy2, ImageObserver observer) {
+        return drawImage(img, dx1, dy1, dx2, dy2, sx1, sy1, sx2, sy2, null, observer);
+    }
+
+    @Override
+    public boolean drawImage(Image img, int dx1, int dy1, int dx2, int dy2, int sx1, int sy1, int sx2, int sy2, Color bgcolor, ImageObserver observer) {
+        code(IMAGE_REGION);
+        reference(img);
+        reference(bgcolor);
+        rectangle(dx1, dy1, dx2, dy2);
+        rectangle(sx1, sy1, sx2, sy2);
+        return true;
+    }
+
+    @Override
+    public boolean drawImage(Image img, AffineTransform xform, ImageObserver obs) {
+        code(IMAGE_TRANSFORM);
+        matrix(xform == null ? new AffineTransform() : xform);
+        reference(img);
+        return true;
+    }
+
+    @Override
+    public void drawImage(BufferedImage img, BufferedImageOp op, int x, int y) {
+        drawImage(op == null ? img : op.filter(img, null), x, y, null);
+    }
+
+    @Override
+    public void drawRenderedImage(RenderedImage img, AffineTransform xform) {
+        code(RENDERED_IMAGE);
+        matrix(xform == null ? new AffineTransform() : xform);
+        reference(img);
+    }
+
+    @Override
+    public void drawRenderableImage(RenderableImage img, AffineTransform xform) {
+        code(RENDERABLE_IMAGE);
+        matrix(xform == null ? new AffineTransform() : xform);
+        reference(img);
+    }
+
+    @Override
+    public void copyArea(int x, int y, int width, int height, int dx, int dy) {
+        code(COPY_AREA); // Replayed in order, so it copies whatever was drawn before it
+        rectangle(x, y, width, height);
+        number(dx);
+        number(dy);
+    }
+
+    //************* Device and Copies *************//
+
+    @Override
+    public GraphicsConfiguration getDeviceConfiguration() {
+        return measure.getDeviceConfiguration();
+    }
+
+    /**
+     * Copies the graphics the way RoundedJButton does with (Graphics2D) g.create(), saving the state to put back on dispose
+     * Precondition: the original is not drawn on until the copy is disposed, as with every create and dispose pair in the drawing code
+     * Postcondition: the state is saved and a save is recorded, replay draws the calls until dispose on a real copy
+     * @return this recorder, standing in for the copy
+     */
+    @Override
+    public Graphics create() {
+        if (savedCount == saved.size()) {
+            saved.add(new SavedState());
+        }
+        saved.get(savedCount++).save(this);
+        code(SAVE);
+        return this;
+    }
+
+    /**
+     * Disposes the copy made by the last create, putting back the state from before it
+     * Precondition: N/A
+     * Postcondition: the state saved by the last create is restored and a restore is recorded, does nothing if no copy is open
+     */
+    @Override
+    public void dispose() {
+        if (savedCount == 0) {
+            return; // The recorder itself, the frame stays until the next begin
+        }
+        saved.get(--savedCount).restore(this);
+        code(RESTORE);
+    }
+
+    //************* Saved State Entry *************//
+
+    private static class SavedState {
+        private Color color;
+        private Paint paint;
+        private Font font;
+        private Stroke stroke;
+        private Composite composite;
+        private Color background;
+        private RenderingHints hints;
+        private final AffineTransform transform = new AffineTransform();
+        private Shape clip;
+
+        /**
+         * Copies the recorder's current state into this entry
+         * Precondition: graphics is not null
+         * Postcondition: the state is held until restore
+         * @param graphics the recorder to save
+         */
+        private void save(RecordedGraphics graphics) {
+            color = graphics.color;
+            paint = graphics.paint;
+            font = graphics.font;
+            stroke = graphics.stroke;
+            composite = graphics.composite;
+            background = graphics.background;
+            hints = (RenderingHints) graphics.hints.clone();
+            transform.setTransform(graphics.transform);
+            clip = graphics.clip;
+        }
+
+        /**
+         * Puts the saved state back on the recorder
+         * Precondition: save was called
+         * Postcondition: the recorder's state matches the save, the entry lets go of its references
+         * @param graphics the recorder to restore
+         */
+        private void restore(RecordedGraphics graphics) {
+            graphics.color = color;
+            graphics.paint = paint;
+            graphics.font = font;
+            graphics.stroke = stroke;
+            graphics.composite = composite;
+            graphics.background = background;
+            graphics.hints = hints;
+            graphics.transform.setTransform(transform);
+            graphics.clip = clip;
+            hints = null;
+            clip = null;
+        }
+    }
+}
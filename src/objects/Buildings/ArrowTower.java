@@ -8,15 +8,16 @@
 
 package objects.Buildings;
 
+import ecs.EntityWorld;
 import java.awt.Graphics2D;
 import java.awt.geom.AffineTransform;
-import objects.Projectile;
-import objects.Zombie;
-import systems.BuildingSystem;
-import systems.ResourceSystem;
-import systems.ZombieSystem;
 
 public class ArrowTower extends Building {
+    private static final BuildingType TYPE = new BuildingType("Arrow Tower", "Single target, fast firing tower.", "arrowTower.png", 5, 5, 6,
+            new int[] {100, 200, 600, 1200, 2000, 8000, 35000},
+            new int[] {25, 30, 40, 50, 70, 300, 800},
+            new int[] {25, 30, 40, 50, 70, 300, 800})
+            .loadSprites("arrowTower", false, true, false, "arrowTower_projectile.png");
 
     /**
      * Constructor for ArrowTower
@@ -26,26 +27,11 @@ public class ArrowTower extends Building {
      * @param y the y-coordinate of the ArrowTower
      */
     public ArrowTower(double x, double y) {
-        super(x, y, 35, 35, "Arrow Tower", "arrowTower.png");
-        this.woodCost = 5;
-        this.stoneCost = 5;
-        this.description = "Single target, fast firing tower.";
+        super(x, y, 35, 35, TYPE);
         this.isLocked = true;
 
         this.maxHealth = 150 + (level * 100);
         this.health = maxHealth;
-
-        this.limits = 6;
-
-        this.attackCooldown = 800;
-        this.range = 400 + (level * 20);
-        this.damage = 30 + (level * 15);
-
-        loadSprites("arrowTower", false, true, false, "arrowTower_projectile.png");
-
-        this.upgradeGoldCosts = new int[] {100, 200, 600, 1200, 2000, 8000, 35000};
-        this.upgradeWoodCosts = new int[] {25, 30, 40, 50, 70, 300, 800};
-        this.upgradeStoneCosts = new int[] {25, 30, 40, 50, 70, 300, 800};
     }
 
     /**
@@ -62,42 +48,15 @@ public class ArrowTower extends Building {
     }
 
     /**
-     * Gets the description of the ArrowTower
-     * Precondition: N/A
-     * Postcondition: returns the description of the ArrowTower
-     * @return the description of the ArrowTower
-     */
-    @Override
-    public String getDescription() {
-        return description;
-    }
-
-    /**
-     * Updates the ArrowTower state
-     * Precondition: N/A
-     * Postcondition: The ArrowTower state is updated
-     * @param resourceSystem the ResourceSystem object
-     * @param zombieSystem the ZombieSystem object
-     * @param buildingSystem the BuildingSystem object
+     * Adds the ArrowTower's attack
+     * Precondition: called by spawn
+     * Postcondition: the ArrowTower's entity can target and attack zombies
+     * @param entityWorld the EntityWorld the entity lives in
+     * @param buildingEntity the id of the ArrowTower's entity
      */
     @Override
-    public void update(ResourceSystem resourceSystem, ZombieSystem zombieSystem, BuildingSystem buildingSystem) {
-        super.update(resourceSystem, zombieSystem, buildingSystem);
-        Zombie target = findClosestZombie(zombieSystem);
-        if (target != null) {
-            //************* Calculate angle to face the target *************//
-            double dx = (target.getX() + target.getWidth()/2) - (x + width/2);
-            double dy = (target.getY() + target.getHeight()/2) - (y + height/2);
-            headRotation = Math.atan2(dy, dx);
-            
-            //****************** Attack if in range ****************//
-            long now = System.currentTimeMillis();
-            if (now - lastAttackTime > attackCooldown) {
-                Projectile p = new Projectile(x + width/2, y + height/2, headRotation, 10, damage, 0, projectileSprite);
-                buildingSystem.addProjectile(p);
-                lastAttackTime = now;
-            }
-        }
+    protected void addComponents(EntityWorld entityWorld, int buildingEntity) {
+        entityWorld.getAttacks().addProjectile(buildingEntity, 30 + (level * 15), 400 + (level * 20), 800, 10, 0, 1, type.getProjectileSprite(), true);
     }
 
     /**
@@ -109,20 +68,17 @@ public class ArrowTower extends Building {
     @Override
     public void draw(Graphics2D g2d) {
         //************* Draw base *************//
-        if (baseSprites != null) {
-            g2d.drawImage(baseSprites[level-1], (int)x, (int)y, width, height, null);
+        if (type.getBaseSprite(level) != null) {
+            g2d.drawImage(type.getBaseSprite(level), (int)x, (int)y, width, height, null);
         }
         
         //************* Draw top *************//
-        if (topSprites != null) {
+        if (type.getTopSprite(level) != null) {
             AffineTransform old = g2d.getTransform(); // Save the current transform
             g2d.translate(x + width/2, y + height/2);
-            g2d.rotate(headRotation);
-            g2d.drawImage(topSprites[level-1], -width/2, -height/2, width, height, null);
+            g2d.rotate(getHeadRotation());
+            g2d.drawImage(type.getTopSprite(level), -width/2, -height/2, width, height, null);
             g2d.setTransform(old); // Restore the original transform
         }
     }
-
-    @Override
-    public void update() {}
 }
\ No newline at end of file
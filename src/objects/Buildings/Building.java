@@ -8,143 +8,62 @@
 
 package objects.Buildings;
 
+import ecs.EntityRegistry;
+import ecs.EntityWorld;
+import ecs.HealthComponents;
 import helpers.HealthManager;
 import java.awt.Color;
 import java.awt.Graphics2D;
 import java.awt.Image;
 import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
-import java.io.IOException;
-import javax.imageio.ImageIO;
 import objects.GameObject;
 import objects.Zombie;
-import systems.BuildingSystem;
-import systems.ResourceSystem;
 import systems.ZombieSystem;
 
 public abstract class Building extends GameObject {
-    protected String name;
-    protected String type;
-    protected String description;
+    protected final BuildingType type;
     protected int level = 1;
-    protected int maxLevel = 8;
-
-    //************* Start Settings *************//
-    protected int woodCost;
-    protected int stoneCost;
     protected boolean isLocked = true;
-    protected int limits; // Limit for number of buildings of a type
-
-    //************* Upgrade Costs *************//
-    protected int[] upgradeWoodCosts;
-    protected int[] upgradeStoneCosts;
-    protected int[] upgradeGoldCosts;
 
     //************* Tower Health *************//
+    // Only used while the Building has no entity, a placed Building keeps its health in the world's HealthComponents
     protected int maxHealth;
     protected int health;
 
-    protected long lastDamageTime = 0;
-    protected static final long REGEN_DELAY = 3000;
-    protected int regenCounter = 0;
-
-    //************* Attack Properties *************//
-    protected long lastAttackTime = 0;
-    protected long attackCooldown = 1000;
-    protected int damage = 20;
-    protected double range = 300;
-    protected double headRotation = 0.0;
-
-    //************* Tower Sprites *************//
-    protected BufferedImage[] baseSprites;
-    protected BufferedImage[] middleSprites;
-    protected BufferedImage[] topSprites;
-    protected BufferedImage[] otherSprites;
-    protected BufferedImage projectileSprite;
+    private static final long REGEN_DELAY = 3000;
+    private static final int REGEN_PERIOD = 5;
+    private static final int REGEN_AMOUNT = 2;
 
-    protected Image icon;
-    protected float animation = 0.0f;
+    //************* Entity *************//
+    protected EntityWorld world = null;
+    protected int entity = EntityRegistry.NONE;
 
     /**
      * Constructor for Building
-     * Precondition: width and height are positive integers
+     * Precondition: width and height are positive integers, type is not null
      * Postcondition: Building is created
      * @param x the x-coordinate of the building
      * @param y the y-coordinate of the building
      * @param width the width of the building
      * @param height the height of the building
-     * @param name the name of the building
-     * @param iconName the filename of the building's icon image
+     * @param type the shared BuildingType holding the sprites, costs and description
      */
-    public Building(double x, double y, int width, int height, String name, String iconName) {
+    public Building(double x, double y, int width, int height, BuildingType type) {
         super(x, y, width, height, null, null); 
-        this.name = name;
+        this.type = type;
         this.health = 100;
         this.maxHealth = 100;
-
-        upgradeWoodCosts = new int[maxLevel];
-        upgradeStoneCosts = new int[maxLevel];
-        upgradeGoldCosts = new int[maxLevel];
-
-        baseSprites = new BufferedImage[maxLevel];
-        middleSprites = new BufferedImage[maxLevel];
-        topSprites = new BufferedImage[maxLevel];
-        otherSprites = new BufferedImage[maxLevel];
-        
-        //************* Load Building Icon *************//
-        try {
-            if (iconName != null) {
-                this.icon = ImageIO.read(getClass().getResource("/assets/images/buildings/toolbar/" + iconName));
-            }
-        } catch (IOException | IllegalArgumentException e) {
-            System.out.println("Building.java - Error loading toolbar icon: " + iconName);
-        }
     }
 
     /**
-     * Loads the sprites for the Building
+     * Gets the shared type of the Building
      * Precondition: N/A
-     * Postcondition: sprites are loaded for the Building at all levels
-     * @param name the base name of the building sprites
-     * @param hasMiddle whether the building has middle sprites
-     * @param hasHead whether the building has head/top sprites
-     * @param hasClaw whether the building has claw/other sprites
-     * @param projectileName the filename of the projectile sprite, or null if building doesn't shoot
-     */
-    protected void loadSprites(String name, boolean hasMiddle, boolean hasHead, boolean hasClaw, String projectileName) {
-        try {
-            for (int i = 0; i < maxLevel; i++) {
-                //************* Load Base Sprite *************//
-                int lvl = i + 1;
-                String basePath = "/assets/images/buildings/" + name + "/base_" + lvl + ".png";
-                baseSprites[i] = ImageIO.read(getClass().getResource(basePath));
-
-                //************* Load Middle Sprites *************//
-                if (hasMiddle) {
-                    String middlePath = "/assets/images/buildings/" + name + "/middle_" + lvl + ".png";
-                    middleSprites[i] = ImageIO.read(getClass().getResource(middlePath));
-                }
-
-                //************* Load Top Sprites *************//
-                if (hasHead) {
-                    String topPath = "/assets/images/buildings/" + name + "/head_" + lvl + ".png";
-                    topSprites[i] = ImageIO.read(getClass().getResource(topPath));
-                }
-                
-                //************* Load Other Sprites *************//
-                if (hasClaw) {
-                    String clawPath = "/assets/images/buildings/" + name + "/claw_" + lvl + ".png";
-                    otherSprites[i] = ImageIO.read(getClass().getResource(clawPath));
-                }
-
-                if (projectileName != null) {
-                    String projectilePath = "/assets/images/buildings/" + name + "/" + projectileName;
-                    projectileSprite = ImageIO.read(getClass().getResource(projectilePath));
-                }
-            }
-        } catch (IOException | IllegalArgumentException e) {
-            System.out.println("Building.java - Error loading sprites for " + name + ": " + e.getMessage());
-        }
+     * Postcondition: returns the BuildingType of the Building
+     * @return the BuildingType of the Building
+     */
+    public BuildingType getType() {
+        return type;
     }
 
     /**
@@ -154,7 +73,7 @@ public abstract class Building extends GameObject {
      * @return the icon of the Building
      */
     public Image getIcon() { 
-        return icon; 
+        return type.getIcon(); 
     }
 
     /**
@@ -164,7 +83,7 @@ public abstract class Building extends GameObject {
      * @return the projectile image of the Building
      */
     public BufferedImage getProjectileImage() {
-        return projectileSprite;
+        return type.getProjectileSprite();
     }
 
     /**
@@ -174,7 +93,7 @@ public abstract class Building extends GameObject {
      * @return the name of the Building
      */
     public String getName() { 
-        return name; 
+        return type.getName(); 
     }
 
     /**
@@ -194,7 +113,7 @@ public abstract class Building extends GameObject {
      * @return the maximum level of the Building
      */
     public int getMaxLevel() { 
-        return maxLevel; 
+        return BuildingType.MAX_LEVEL; 
     }
 
     /**
@@ -204,7 +123,7 @@ public abstract class Building extends GameObject {
      * @return the wood cost of the Building
      */
     public int getWoodCost() { 
-        return woodCost; 
+        return type.getWoodCost(); 
     }
 
     /**
@@ -214,7 +133,7 @@ public abstract class Building extends GameObject {
      * @return the stone cost of the Building
      */
     public int getStoneCost() { 
-        return stoneCost; 
+        return type.getStoneCost(); 
     }
 
     /**
@@ -254,7 +173,7 @@ public abstract class Building extends GameObject {
      * @return the limit of the Building type
      */
     public int getLimit() {
-        return limits;
+        return type.getLimit();
     }
 
     /**
@@ -286,7 +205,8 @@ public abstract class Building extends GameObject {
      * @return the current health of the Building
      */
     public int getHealth() { 
-        return health; 
+        int h = getHealthIndex();
+        return h >= 0 ? world.getHealths().getHealth(h) : health; 
     }
 
     /**
@@ -296,18 +216,24 @@ public abstract class Building extends GameObject {
      * @return the maximum health of the Building
      */
     public int getMaxHealth() { 
-        return maxHealth; 
+        int h = getHealthIndex();
+        return h >= 0 ? world.getHealths().getMaxHealth(h) : maxHealth; 
     }
 
     /**
      * Damages the Building by a specified amount
-     * Precondition: amount is a non-negative integer
+     * Precondition: amount is a non-negative integer, called from DamageSystem.apply
      * Postcondition: reduces the health of the Building by the specified amount
      * @param amount the amount of damage to inflict
+     * @param now the current simulated time in milliseconds
      */
-    public void takeDamage(int amount) {
-        this.health -= amount;
-        this.lastDamageTime = System.currentTimeMillis();
+    public void takeDamage(int amount, long now) {
+        int h = getHealthIndex();
+        if (h >= 0) {
+            world.getHealths().damage(h, amount, now);
+        } else {
+            this.health -= amount;
+        }
     }
 
     /**
@@ -317,7 +243,7 @@ public abstract class Building extends GameObject {
      * @return true if the Building is destroyed, false otherwise
      */
     public boolean isDestroyed() {
-        return this.health <= 0;
+        return getHealth() <= 0;
     }
 
     /**
@@ -326,10 +252,17 @@ public abstract class Building extends GameObject {
      * Postcondition: upgrades the Building level and heals building
      */
     public void upgrade() {
-        if (level < maxLevel) {
+        if (level < BuildingType.MAX_LEVEL) {
             level++;
-            this.maxHealth = (int)(this.maxHealth * 1.2);
-            this.health = this.maxHealth; 
+            int h = getHealthIndex();
+            if (h >= 0) {
+                HealthComponents healths = world.getHealths();
+                healths.setMaxHealth(h, (int)(healths.getMaxHealth(h) * 1.2));
+                healths.setHealth(h, healths.getMaxHealth(h));
+            } else {
+                this.maxHealth = (int)(this.maxHealth * 1.2);
+                this.health = this.maxHealth; 
+            }
         }
     }
 
@@ -341,11 +274,11 @@ public abstract class Building extends GameObject {
      * @return true if the Building can be upgraded, false otherwise
      */
     public boolean canUpgrade(int activeStashLevel) {
-        if (level >= maxLevel) {
+        if (level >= BuildingType.MAX_LEVEL) {
             return false;
         }
         
-        if (this.name.equals("Gold Stash")) {
+        if (getName().equals("Gold Stash")) {
             return true;
         }
         
@@ -359,14 +292,14 @@ public abstract class Building extends GameObject {
      * @return the wood cost to upgrade the Building
      */
     public int getUpgradeWoodCost() {
-        if (level >= maxLevel) {
+        if (level >= BuildingType.MAX_LEVEL) {
             return 0;
         }
-        int index = level - 1;
-        if (index < upgradeWoodCosts.length) {
-            return upgradeWoodCosts[index];
+        int cost = type.getUpgradeWoodCost(level);
+        if (cost >= 0) {
+            return cost;
         }
-        return woodCost * (level + 1);
+        return type.getWoodCost() * (level + 1);
     }
 
     /**
@@ -376,14 +309,14 @@ public abstract class Building extends GameObject {
      * @return the stone cost to upgrade the Building
      */
     public int getUpgradeStoneCost() {
-        if (level >= maxLevel) {
+        if (level >= BuildingType.MAX_LEVEL) {
             return 0;
         }
-        int index = level - 1;
-        if (index < upgradeStoneCosts.length) {
-            return upgradeStoneCosts[index];
+        int cost = type.getUpgradeStoneCost(level);
+        if (cost >= 0) {
+            return cost;
         }
-        return stoneCost * (level + 1);
+        return type.getStoneCost() * (level + 1);
     }
 
     /**
@@ -393,12 +326,12 @@ public abstract class Building extends GameObject {
      * @return the gold cost to upgrade the Building
      */
     public int getUpgradeGoldCost() {
-        if (level >= maxLevel) {
+        if (level >= BuildingType.MAX_LEVEL) {
             return 0;
         }
-        int index = level - 1;
-        if (index < upgradeGoldCosts.length) {
-            return upgradeGoldCosts[index];
+        int cost = type.getUpgradeGoldCost(level);
+        if (cost >= 0) {
+            return cost;
         }
         return 0; 
     }
@@ -421,9 +354,9 @@ public abstract class Building extends GameObject {
      */
     public int getWoodSellValue() {
         if (getUpgradeWoodCost() == 0) {
-            return upgradeWoodCosts[6] / 2;
+            return type.getUpgradeWoodCost(7) / 2;
         } else if (getLevel() == 1) {
-            return woodCost / 2;
+            return type.getWoodCost() / 2;
         } else {
             return getUpgradeWoodCost() / 2;
         }
@@ -437,9 +370,9 @@ public abstract class Building extends GameObject {
      */
     public int getStoneSellValue() {
         if (getUpgradeStoneCost() == 0) {
-            return upgradeStoneCosts[6] / 2;
+            return type.getUpgradeStoneCost(7) / 2;
         } else if (getLevel() == 1) {
-            return stoneCost / 2;
+            return type.getStoneCost() / 2;
         } else {
             return getUpgradeStoneCost() / 2;
         }
@@ -452,64 +385,124 @@ public abstract class Building extends GameObject {
      * @param g2d the Graphics2D object to draw on
      */
     public void drawHealthBar(Graphics2D g2d) {
-        if (health < maxHealth) {
-            HealthManager.drawStatusBar(g2d, health, maxHealth, (int)x + 5, (int)y + height - 5, width - 10, 5, new Color(99, 183, 32), false);
+        int currentHealth = getHealth();
+        int currentMaxHealth = getMaxHealth();
+        if (currentHealth < currentMaxHealth) {
+            HealthManager.drawStatusBar(g2d, currentHealth, currentMaxHealth, (int)x + 5, (int)y + height - 5, width - 10, 5, new Color(99, 183, 32), false);
         }
     }
 
     /**
      * Finds the closest zombie within range
      * Precondition: zombieSystem is not null
-     * Postcondition: returns the closest zombie within range, or null if none found
+     * Postcondition: returns the closest zombie within the attack range, or null if none found or the Building cannot attack
      * @param zombieSystem the ZombieSystem to search for zombies
      * @return the closest zombie within range, or null if none found
      */
-    protected Zombie findClosestZombie(ZombieSystem zombieSystem) {
-        Zombie closest = null;
-        double minDist = range;
-        
-        for (int i = 0; i < zombieSystem.getZombies().size(); i++) {
-            Zombie zombie = zombieSystem.getZombies().get(i);
-            double dist = Math.hypot(zombie.getX() - x, zombie.getY() - y);
-            if (dist < minDist) {
-                minDist = dist;
-                closest = zombie;
-            }
+    public Zombie findClosestZombie(ZombieSystem zombieSystem) {
+        int a = world != null ? world.getAttacks().indexOf(entity) : -1;
+        if (a < 0) {
+            return null;
         }
-        return closest;
+        return zombieSystem.getZombieIndex().findClosest(x, y, world.getAttacks().getRange(a));
     }
 
+    //************* Entity Components *************//
+
     /**
-     * Updates the Building state
+     * Creates the Building's entity once it is placed, moving its health into the world
+     * Precondition: the Building is not spawned yet
+     * Postcondition: the entity has a transform, health, regen and the components added by addComponents
+     * @param entityWorld the EntityWorld to create the entity in
+     */
+    public void spawn(EntityWorld entityWorld) {
+        world = entityWorld;
+        entity = world.createEntity();
+        world.getTransforms().add(entity, x, y, width, height);
+        world.getHealths().add(entity, health, maxHealth);
+        world.getRegens().add(entity, REGEN_DELAY, REGEN_PERIOD, REGEN_AMOUNT);
+        addComponents(world, entity);
+    }
+
+    /**
+     * Destroys the Building's entity once it is removed, keeping its final health
      * Precondition: N/A
-     * Postcondition: the Building state is updated
-     * @param resourceSystem the ResourceSystem object
-     * @param zombieSystem the ZombieSystem object
-     * @param buildingSystem the BuildingSystem object
-     */
-    public void update(ResourceSystem resourceSystem, ZombieSystem zombieSystem, BuildingSystem buildingSystem) {
-        //************* Update Animation *************//
-        animation += 0.01f;
-        if (animation > 2) {
-            animation = 0;
+     * Postcondition: the health is copied back into the Building and the entity is destroyed, nothing happens if it was not spawned
+     */
+    public void despawn() {
+        int h = getHealthIndex();
+        if (h >= 0) {
+            health = world.getHealths().getHealth(h);
+            maxHealth = world.getHealths().getMaxHealth(h);
         }
-
-        //************* Regenerate Health *************//
-        if (health < maxHealth && health > 0) {
-            long now = System.currentTimeMillis();
-            if (now - lastDamageTime > REGEN_DELAY) {
-                regenCounter++;
-                if (regenCounter > 5) {
-                    health += 2;
-                    if (health > maxHealth) {
-                        health = maxHealth;
-                    }
-                    regenCounter = 0;
-                }
-            }
+        if (world != null) {
+            world.destroyEntity(entity);
         }
+        world = null;
+        entity = EntityRegistry.NONE;
+    }
+
+    /**
+     * Adds the components specific to this kind of Building
+     * Precondition: called by spawn after the shared components are added
+     * Postcondition: the Building's attack, harvest or render components are added, none by default
+     * @param entityWorld the EntityWorld the entity lives in
+     * @param buildingEntity the id of the Building's entity
+     */
+    protected void addComponents(EntityWorld entityWorld, int buildingEntity) {}
+
+    /**
+     * Gets the direction the Building last aimed at
+     * Precondition: N/A
+     * Postcondition: returns the head rotation, or 0 if the Building has no attack
+     * @return the head rotation in radians
+     */
+    protected double getHeadRotation() {
+        int a = world != null ? world.getAttacks().indexOf(entity) : -1;
+        return a >= 0 ? world.getAttacks().getHeadRotation(a) : 0.0;
+    }
+
+    /**
+     * Gets the value of the Building's animation
+     * Precondition: N/A
+     * Postcondition: returns the animation value, or the given default if the Building has no animation
+     * @param defaultValue the value to use when there is no animation, such as for the placement ghost
+     * @return the animation value
+     */
+    protected double getAnimationValue(double defaultValue) {
+        int r = world != null ? world.getRenders().indexOf(entity) : -1;
+        return r >= 0 ? world.getRenders().getValue(r) : defaultValue;
+    }
+
+    /**
+     * Checks whether the Building's animation is active
+     * Precondition: N/A
+     * Postcondition: returns the active flag, or false if the Building has no animation
+     * @return true if the animation is active, false otherwise
+     */
+    protected boolean isAnimationActive() {
+        int r = world != null ? world.getRenders().indexOf(entity) : -1;
+        return r >= 0 && world.getRenders().isActive(r);
+    }
+
+    /**
+     * Gets the dense position of the Building's health in the world
+     * Precondition: N/A
+     * Postcondition: returns the position, or -1 if the Building is not spawned
+     * @return the dense health position, or -1
+     */
+    private int getHealthIndex() {
+        return world != null ? world.getHealths().indexOf(entity) : -1;
     }
 
+    /**
+     * Updates the Building state
+     * Precondition: N/A
+     * Postcondition: nothing happens, placed Buildings are updated through their entity by the ecs systems
+     */
+    @Override
+    public void update() {}
+
     /**
      * Gets the hitbox of the Building
      * Precondition: N/A
@@ -520,8 +513,17 @@ public abstract class Building extends GameObject {
         return new Rectangle((int)x, (int)y, width, height); 
     }
     
+    /**
+     * Gets the description of the Building
+     * Precondition: N/A
+     * Postcondition: returns the description of the Building
+     * @return the description of the Building
+     */
+    public String getDescription() {
+        return type.getDescription();
+    }
+    
     @Override
     public abstract void draw(Graphics2D g2d);
-    public abstract String getDescription();
     public abstract Building createCopy(double x, double y);
 }
@@ -0,0 +1,272 @@
+/**
+ * BuildingType.java
+ * The BuildingType class for BenumZombs, holding the data shared by every building of one kind
+ * @author Richard Pu
+ * @version 1.0
+ * @since 2026-10-17
+ */
+
+package objects.Buildings;
+
+import helpers.AssetManager;
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+
+public class BuildingType {
+    public static final int MAX_LEVEL = 8;
+
+    private final String name;
+    private final String description;
+
+    //************* Start Settings *************//
+    private final int woodCost;
+    private final int stoneCost;
+    private final int limits; // Limit for number of buildings of a type
+
+    //************* Upgrade Costs *************//
+    private final int[] upgradeGoldCosts;
+    private final int[] upgradeWoodCosts;
+    private final int[] upgradeStoneCosts;
+
+    //************* Sprites *************//
+    private final BufferedImage[] baseSprites = new BufferedImage[MAX_LEVEL];
+    private final BufferedImage[] middleSprites = new BufferedImage[MAX_LEVEL];
+    private final BufferedImage[] topSprites = new BufferedImage[MAX_LEVEL];
+    private final BufferedImage[] otherSprites = new BufferedImage[MAX_LEVEL];
+    private BufferedImage projectileSprite;
+    private Image icon;
+
+    /**
+     * Constructor for BuildingType
+     * Precondition: the cost arrays are indexed by level - 1
+     * Postcondition: BuildingType is created and its toolbar icon is loaded
+     * @param name the name of the building
+     * @param description the description shown in the toolbar
+     * @param iconName the filename of the building's toolbar icon
+     * @param woodCost the wood cost to place the building
+     * @param stoneCost the stone cost to place the building
+     * @param limits the maximum number of buildings of this type
+     * @param upgradeGoldCosts the gold cost to upgrade from each level
+     * @param upgradeWoodCosts the wood cost to upgrade from each level
+     * @param upgradeStoneCosts the stone cost to upgrade from each level
+     */
+    public BuildingType(String name, String description, String iconName, int woodCost, int stoneCost, int limits, int[] upgradeGoldCosts, int[] upgradeWoodCosts, int[] upgradeStoneCosts) {
+        this.name = name;
+        this.description = description;
+        this.woodCost = woodCost;
+        this.stoneCost = stoneCost;
+        this.limits = limits;
+        this.upgradeGoldCosts = upgradeGoldCosts;
+        this.upgradeWoodCosts = upgradeWoodCosts;
+        this.upgradeStoneCosts = upgradeStoneCosts;
+
+        //************* Look Up Building Icon *************//
+        if (iconName != null) {
+            this.icon = AssetManager.getImage("buildings/toolbar/" + iconName);
+        }
+    }
+
+    /**
+     * Looks up the sprites for every level of the building, only called once per type
+     * Precondition: N/A
+     * Postcondition: sprites are loaded for the BuildingType at all levels
+     * @param spriteName the base name of the building sprites
+     * @param hasMiddle whether the building has middle sprites
+     * @param hasHead whether the building has head/top sprites
+     * @param hasClaw whether the building has claw/other sprites
+     * @param projectileName the filename of the projectile sprite, or null if building doesn't shoot
+     * @return this BuildingType
+     */
+    BuildingType loadSprites(String spriteName, boolean hasMiddle, boolean hasHead, boolean hasClaw, String projectileName) {
+        String folder = "buildings/" + spriteName + "/";
+        for (int i = 0; i < MAX_LEVEL; i++) {
+            //************* Base Sprite *************//
+            int lvl = i + 1;
+            baseSprites[i] = AssetManager.getImage(folder + "base_" + lvl + ".png");
+
+            //************* Middle Sprites *************//
+            if (hasMiddle) {
+                middleSprites[i] = AssetManager.getImage(folder + "middle_" + lvl + ".png");
+            }
+
+            //************* Top Sprites *************//
+            if (hasHead) {
+                topSprites[i] = AssetManager.getImage(folder + "head_" + lvl + ".png");
+            }
+
+            //************* Other Sprites *************//
+            if (hasClaw) {
+                otherSprites[i] = AssetManager.getImage(folder + "claw_" + lvl + ".png");
+            }
+        }
+
+        //************* Projectile Sprite *************//
+        if (projectileName != null) {
+            projectileSprite = AssetManager.getImage(folder + projectileName);
+        }
+        return this;
+    }
+
+    /**
+     * Gets the name of the BuildingType
+     * Precondition: N/A
+     * Postcondition: returns the name
+     * @return the name of the BuildingType
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the description of the BuildingType
+     * Precondition: N/A
+     * Postcondition: returns the description
+     * @return the description of the BuildingType
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Gets the wood cost to place the building
+     * Precondition: N/A
+     * Postcondition: returns the wood cost
+     * @return the wood cost of the BuildingType
+     */
+    public int getWoodCost() {
+        return woodCost;
+    }
+
+    /**
+     * Gets the stone cost to place the building
+     * Precondition: N/A
+     * Postcondition: returns the stone cost
+     * @return the stone cost of the BuildingType
+     */
+    public int getStoneCost() {
+        return stoneCost;
+    }
+
+    /**
+     * Gets the limit of buildings of this type
+     * Precondition: N/A
+     * Postcondition: returns the limit
+     * @return the limit of the BuildingType
+     */
+    public int getLimit() {
+        return limits;
+    }
+
+    /**
+     * Gets the gold cost to upgrade from a level
+     * Precondition: N/A
+     * Postcondition: returns the gold cost, or -1 if the table has no entry for the level
+     * @param level the current level of the building
+     * @return the gold cost to upgrade from the level
+     */
+    public int getUpgradeGoldCost(int level) {
+        return costAt(upgradeGoldCosts, level);
+    }
+
+    /**
+     * Gets the wood cost to upgrade from a level
+     * Precondition: N/A
+     * Postcondition: returns the wood cost, or -1 if the table has no entry for the level
+     * @param level the current level of the building
+     * @return the wood cost to upgrade from the level
+     */
+    public int getUpgradeWoodCost(int level) {
+        return costAt(upgradeWoodCosts, level);
+    }
+
+    /**
+     * Gets the stone cost to upgrade from a level
+     * Precondition: N/A
+     * Postcondition: returns the stone cost, or -1 if the table has no entry for the level
+     * @param level the current level of the building
+     * @return the stone cost to upgrade from the level
+     */
+    public int getUpgradeStoneCost(int level) {
+        return costAt(upgradeStoneCosts, level);
+    }
+
+    /**
+     * Looks up a cost table entry for a level
+     * Precondition: costs is not null
+     * Postcondition: returns the entry, or -1 if the table has no entry for the level
+     * @param costs the cost table
+     * @param level the level to look up
+     * @return the cost for the level, or -1
+     */
+    private static int costAt(int[] costs, int level) {
+        int index = level - 1;
+        if (index >= 0 && index < costs.length) {
+            return costs[index];
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the base sprite for a level
+     * Precondition: level is between 1 and MAX_LEVEL
+     * Postcondition: returns the sprite, or null if none was loaded
+     * @param level the level of the building
+     * @return the base sprite for the level
+     */
+    public BufferedImage getBaseSprite(int level) {
+        return baseSprites[level - 1];
+    }
+
+    /**
+     * Gets the middle sprite for a level
+     * Precondition: level is between 1 and MAX_LEVEL
+     * Postcondition: returns the sprite, or null if none was loaded
+     * @param level the level of the building
+     * @return the middle sprite for the level
+     */
+    public BufferedImage getMiddleSprite(int level) {
+        return middleSprites[level - 1];
+    }
+
+    /**
+     * Gets the head/top sprite for a level
+     * Precondition: level is between 1 and MAX_LEVEL
+     * Postcondition: returns the sprite, or null if none was loaded
+     * @param level the level of the building
+     * @return the top sprite for the level
+     */
+    public BufferedImage getTopSprite(int level) {
+        return topSprites[level - 1];
+    }
+
+    /**
+     * Gets the claw/other sprite for a level
+     * Precondition: level is between 1 and MAX_LEVEL
+     * Postcondition: returns the sprite, or null if none was loaded
+     * @param level the level of the building
+     * @return the other sprite for the level
+     */
+    public BufferedImage getOtherSprite(int level) {
+        return otherSprites[level - 1];
+    }
+
+    /**
+     * Gets the projectile sprite
+     * Precondition: N/A
+     * Postcondition: returns the sprite, or null if the building doesn't shoot
+     * @return the projectile sprite
+     */
+    public BufferedImage getProjectileSprite() {
+        return projectileSprite;
+    }
+
+    /**
+     * Gets the toolbar icon
+     * Precondition: N/A
+     * Postcondition: returns the icon, or null if it could not be loaded
+     * @return the toolbar icon
+     */
+    public Image getIcon() {
+        return icon;
+    }
+}
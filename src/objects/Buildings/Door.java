@@ -11,6 +11,11 @@ package objects.Buildings;
 import java.awt.Graphics2D;
 
 public class Door extends Building {
+    private static final BuildingType TYPE = new BuildingType("Door", "Allows party members to enter your base.", "door.png", 5, 5, 40,
+            new int[] {0, 10, 50, 70, 150, 200, 400, 800},
+            new int[] {5, 5, 0, 0, 0, 0, 0},
+            new int[] {5, 5, 0, 0, 0, 0, 0})
+            .loadSprites("door", false, false, false, null);
 
     /**
      * Constructor for Door
@@ -20,22 +25,11 @@ public class Door extends Building {
      * @param y the y-coordinate of the Door
      */
     public Door(double x, double y) {
-        super(x, y, 35, 35, "Door", "door.png");
-        this.woodCost = 5;
-        this.stoneCost = 5;
-        this.description = "Allows party members to enter your base.";
+        super(x, y, 35, 35, TYPE);
         this.isLocked = true;
 
         this.maxHealth = 500 + (level * 100);
         this.health = maxHealth;
-
-        this.limits = 40;
-
-        loadSprites("door", false, false, false, null);
-
-        this.upgradeGoldCosts = new int[] {0, 10, 50, 70, 150, 200, 400, 800};
-        this.upgradeWoodCosts = new int[] {5, 5, 0, 0, 0, 0, 0};
-        this.upgradeStoneCosts = new int[] {5, 5, 0, 0, 0, 0, 0};
     }
 
     /**
@@ -51,17 +45,6 @@ public class Door extends Building {
         return new Door(x, y);
     }
 
-    /**
-     * Gets the description of the Door
-     * Precondition: N/A
-     * Postcondition: returns the description of the Door
-     * @return the description of the Door
-     */
-    @Override
-    public String getDescription() {
-        return description;
-    }
-
     /**
      * Draws the Door
      * Precondition: N/A
@@ -71,16 +54,8 @@ public class Door extends Building {
     @Override
     public void draw(Graphics2D g2d) {
         //************* Draw base *************//
-        if (baseSprites != null) {
-            g2d.drawImage(baseSprites[level-1], (int)x, (int)y, width, height, null);
+        if (type.getBaseSprite(level) != null) {
+            g2d.drawImage(type.getBaseSprite(level), (int)x, (int)y, width, height, null);
         }
     }
-
-    /**
-     * Updates the Door
-     * Precondition: N/A
-     * Postcondition: The Door state is updated
-     */
-    @Override
-    public void update() {}
 }
\ No newline at end of file
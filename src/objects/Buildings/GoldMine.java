@@ -8,19 +8,23 @@
 
 package objects.Buildings;
 
+import ecs.EntityWorld;
+import ecs.HarvestComponents;
+import ecs.RenderComponents;
 import java.awt.Graphics2D;
 import java.awt.geom.AffineTransform;
-import systems.BuildingSystem;
-import systems.ResourceSystem;
-import systems.ZombieSystem;
+import systems.GameClock;
 
 public class GoldMine extends Building {
-    private double spinAngle = 0.0;
+    private static final BuildingType TYPE = new BuildingType("Gold Mine", "Generates gold every second for your party.", "goldMine.png", 5, 5, 8,
+            new int[] {200, 300, 600, 800, 2000, 8000, 30000},
+            new int[] {15, 25, 35, 45, 55, 700, 1600},
+            new int[] {15, 25, 35, 45, 55, 700, 1600})
+            .loadSprites("goldMine", false, true, false, null);
 
     private final int[] goldProduction = {4, 6, 7, 10, 12, 15, 25, 53};
 
-    private int frames = 0;
-    private static final int GENERATION_INTERVAL = 60;
+    private static final int GENERATION_INTERVAL = GameClock.TICKS_PER_SECOND;
 
     /**
      * Constructor for GoldMine
@@ -30,22 +34,11 @@ public class GoldMine extends Building {
      * @param y the y-coordinate of the GoldMine
      */
     public GoldMine(double x, double y) {
-        super(x, y, 35, 35, "Gold Mine", "goldMine.png");
-        this.woodCost = 5;
-        this.stoneCost = 5;
-        this.description = "Generates gold every second for your party.";
+        super(x, y, 35, 35, TYPE);
         this.isLocked = true;
 
         this.maxHealth = 150 + (level * 100);
         this.health = maxHealth;
-
-        this.limits = 8;
-
-        loadSprites("goldMine", false, true, false, null);
-
-        this.upgradeGoldCosts = new int[] {200, 300, 600, 800, 2000, 8000, 30000};
-        this.upgradeWoodCosts = new int[] {15, 25, 35, 45, 55, 700, 1600};
-        this.upgradeStoneCosts = new int[] {15, 25, 35, 45, 55, 700, 1600};
     }
 
     /**
@@ -62,45 +55,43 @@ public class GoldMine extends Building {
     }
 
     /**
-     * Gets the description of the GoldMine
-     * Precondition: N/A
-     * Postcondition: returns the description of the GoldMine
-     * @return the description of the GoldMine
+     * Adds the GoldMine's gold production and its spin animation
+     * Precondition: called by spawn
+     * Postcondition: the GoldMine's entity produces gold every second
+     * @param entityWorld the EntityWorld the entity lives in
+     * @param buildingEntity the id of the GoldMine's entity
      */
     @Override
-    public String getDescription() {
-        return description;
+    protected void addComponents(EntityWorld entityWorld, int buildingEntity) {
+        entityWorld.getHarvests().add(buildingEntity, HarvestComponents.GOLD, getGoldProduction(), GENERATION_INTERVAL);
+        entityWorld.getRenders().add(buildingEntity, RenderComponents.SPIN, 0.0);
     }
 
     /**
-     * Updates the GoldMine
+     * Upgrades the GoldMine and raises its gold production
      * Precondition: N/A
-     * Postcondition: The GoldMine state is updated
-     * @param resourceSystem the ResourceSystem object
-     * @param zombieSystem the ZombieSystem object
-     * @param buildingSystem the BuildingSystem object
+     * Postcondition: the GoldMine is upgraded and produces the gold of its new level
      */
     @Override
-    public void update(ResourceSystem resourceSystem, ZombieSystem zombieSystem, BuildingSystem buildingSystem) {
-        super.update(resourceSystem, zombieSystem, buildingSystem);
-        spinAngle += 0.02; // Rotate the top part
+    public void upgrade() {
+        super.upgrade();
+        int h = world != null ? world.getHarvests().indexOf(entity) : -1;
+        if (h >= 0) {
+            world.getHarvests().setAmount(h, getGoldProduction());
+        }
+    }
 
-        //************* Generate gold over time *************//
-        frames++;
-        if (frames >= GENERATION_INTERVAL) {
-            frames = 0;
-            
-            int amount;
-            if (level <= goldProduction.length) {
-                amount = goldProduction[level - 1];
-            } else {
-                amount = goldProduction[goldProduction.length - 1]; 
-            }
-            
-            if (resourceSystem != null) {
-                resourceSystem.addGold(amount);
-            }
+    /**
+     * Gets the gold produced each second at the current level
+     * Precondition: level is at least 1
+     * Postcondition: returns the gold production
+     * @return the gold produced each second
+     */
+    private int getGoldProduction() {
+        if (level <= goldProduction.length) {
+            return goldProduction[level - 1];
         }
+        return goldProduction[goldProduction.length - 1];
     }
 
     /**
@@ -112,20 +103,17 @@ public class GoldMine extends Building {
     @Override
     public void draw(Graphics2D g2d) {
         //************* Draw base *************//
-        if (baseSprites != null && level - 1 < baseSprites.length) {
-            g2d.drawImage(baseSprites[level-1], (int)x, (int)y, width, height, null);
+        if (type.getBaseSprite(level) != null) {
+            g2d.drawImage(type.getBaseSprite(level), (int)x, (int)y, width, height, null);
         }
         
         //************* Draw top *************//
-        if (topSprites != null && level - 1 < topSprites.length) {
+        if (type.getTopSprite(level) != null) {
             AffineTransform old = g2d.getTransform(); // Save the current transform
             g2d.translate(x + width / 2, y + height / 2);
-            g2d.rotate(spinAngle);
-            g2d.drawImage(topSprites[level-1], -width / 2, -height / 2, width, height, null);
+            g2d.rotate(getAnimationValue(0.0));
+            g2d.drawImage(type.getTopSprite(level), -width / 2, -height / 2, width, height, null);
             g2d.setTransform(old); // Restore the original transform
         }
     }
-
-    @Override
-    public void update() {}
 }
\ No newline at end of file
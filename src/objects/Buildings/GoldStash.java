@@ -11,6 +11,11 @@ package objects.Buildings;
 import java.awt.Graphics2D;
 
 public class GoldStash extends Building {
+    private static final BuildingType TYPE = new BuildingType("Gold Stash", "Establishes your base and holds your gold. Protect this!", "goldStash.png", 0, 0, 1,
+            new int[] {5000, 10000, 16000, 20000, 32000, 10000, 40000},
+            new int[] {0, 0, 0, 0, 0, 0, 0},
+            new int[] {0, 0, 0, 0, 0, 0, 0})
+            .loadSprites("goldStash", false, false, false, null);
 
     /**
      * Constructor for GoldStash
@@ -20,22 +25,11 @@ public class GoldStash extends Building {
      * @param y the y-coordinate of the GoldStash
      */
     public GoldStash(double x, double y) {
-        super(x, y, 35, 35, "Gold Stash", "goldStash.png");
-        this.woodCost = 0;
-        this.stoneCost = 0;
-        this.description = "Establishes your base and holds your gold. Protect this!";
+        super(x, y, 35, 35, TYPE);
         this.isLocked = false;
 
         this.maxHealth = 1500 + (level * 500);
         this.health = maxHealth;
-
-        this.limits = 1;
-
-        loadSprites("goldStash", false, false, false, null);
-
-        this.upgradeGoldCosts = new int[] {5000, 10000, 16000, 20000, 32000, 10000, 40000};
-        this.upgradeWoodCosts = new int[] {0, 0, 0, 0, 0, 0, 0};
-        this.upgradeStoneCosts = new int[] {0, 0, 0, 0, 0, 0, 0};
     }
 
     /**
@@ -73,17 +67,6 @@ public class GoldStash extends Building {
         return false; 
     }
 
-    /**
-     * Gets the description of the GoldStash
-     * Precondition: N/A
-     * Postcondition: returns the description of the GoldStash
-     * @return the description of the GoldStash
-     */
-    @Override
-    public String getDescription() {
-        return description;
-    }
-
     /**
      * Draws the GoldStash
      * Precondition: N/A
@@ -93,16 +76,8 @@ public class GoldStash extends Building {
     @Override
     public void draw(Graphics2D g2d) {
         //************* Draw base *************//
-        if (baseSprites != null) {
-            g2d.drawImage(baseSprites[level-1], (int)x, (int)y, width, height, null);
+        if (type.getBaseSprite(level) != null) {
+            g2d.drawImage(type.getBaseSprite(level), (int)x, (int)y, width, height, null);
         }
     }
-    
-    /**
-     * Updates the GoldStash
-     * Precondition: N/A
-     * Postcondition: The GoldStash state is updated
-     */
-    @Override
-    public void update() {}
 }
\ No newline at end of file
@@ -9,18 +9,16 @@
 
 package objects.Buildings;
 
+import ecs.EntityWorld;
+import ecs.HarvestComponents;
 import java.awt.Graphics2D;
-import java.awt.Rectangle;
-import systems.BuildingSystem;
-import systems.CollisionSystem;
-import systems.ResourceSystem;
-import systems.ZombieSystem;
 
 public class Harvester extends Building {
-    private long lastHarvestTime = 0;
-    private long harvestCooldown = 2500;
-    private int harvestAmount = 1;
-    private Rectangle harvestRangeBox;
+    private static final BuildingType TYPE = new BuildingType("Harvester", "Harvests resources automatically over time.", "harvester.png", 5, 5, 2,
+            new int[] {100, 200, 600, 1200, 2000, 8000, 10000},
+            new int[] {25, 30, 40, 50, 70, 300, 600},
+            new int[] {25, 30, 40, 50, 70, 300, 600})
+            .loadSprites("harvester", false, true, false, null);
 
     /**
      * Constructor for Harvester
@@ -30,25 +28,11 @@ public class Harvester extends Building {
      * @param y the y-coordinate of the Harvester
      */
     public Harvester(double x, double y) {
-        super(x, y, 35, 35, "Harvester", "harvester.png");
-        this.woodCost = 5;
-        this.stoneCost = 5;
-        this.description = "Harvests resources automatically over time.";
+        super(x, y, 35, 35, TYPE);
         this.isLocked = true;
 
         this.maxHealth = 150 + (level * 100);
         this.health = maxHealth;
-
-        this.limits = 2;
-
-        this.harvestCooldown = 2500 - (level * 100);
-        this.harvestAmount = 1 + level;
-        
-        loadSprites("harvester", false, true, false, null);
-
-        this.upgradeGoldCosts = new int[] {100, 200, 600, 1200, 2000, 8000, 10000};
-        this.upgradeWoodCosts = new int[] {25, 30, 40, 50, 70, 300, 600};
-        this.upgradeStoneCosts = new int[] {25, 30, 40, 50, 70, 300, 600};
     }
 
     /**
@@ -65,55 +49,15 @@ public class Harvester extends Building {
     }
 
     /**
-     * Gets the description of the Harvester
-     * Precondition: N/A
-     * Postcondition: returns the description of the Harvester
-     * @return the description of the Harvester
-     */
-    @Override
-    public String getDescription() {
-        return description;
-    }
-
-    /**
-     * Updates the Harvester
-     * Precondition: N/A
-     * Postcondition: The Harvester state is updated
-     * @param resourceSystem the ResourceSystem object
-     * @param zombieSystem the ZombieSystem object
-     * @param buildingSystem the BuildingSystem object
+     * Adds the Harvester's resource harvest
+     * Precondition: called by spawn
+     * Postcondition: the Harvester's entity gathers wood and stone from resources next to it
+     * @param entityWorld the EntityWorld the entity lives in
+     * @param buildingEntity the id of the Harvester's entity
      */
     @Override
-    public void update(ResourceSystem resourceSystem, ZombieSystem zombieSystem, BuildingSystem buildingSystem) {
-        super.update(resourceSystem, zombieSystem, buildingSystem);
-        if (harvestRangeBox == null) {
-            int padding = 60;
-            harvestRangeBox = new Rectangle((int)x - padding, (int)y - padding, width + (padding*2), height + (padding*2));
-        }
-        
-        //************* Harvest resources *************//
-        long now = System.currentTimeMillis();
-        if (now - lastHarvestTime > harvestCooldown) {
-            boolean gathered = false;
-
-            String hitObject = CollisionSystem.checkResourceHitCollision(harvestRangeBox, resourceSystem);
-
-            if (hitObject != null) {     
-                //************* Check trees in range *************//
-                if (hitObject.equals("tree")) {
-                    resourceSystem.addWood(harvestAmount);
-                    gathered = true;
-                //************* Check stones in range *************//
-                } else if (hitObject.equals("stone")) {
-                    resourceSystem.addStone(harvestAmount);
-                    gathered = true;
-                }
-            }
-            
-            if (gathered) { // Only update time if something was gathered
-                lastHarvestTime = now;
-            }
-        }
+    protected void addComponents(EntityWorld entityWorld, int buildingEntity) {
+        entityWorld.getHarvests().add(buildingEntity, HarvestComponents.RESOURCES, 1 + level, 2500 - (level * 100));
     }
 
     /**
@@ -125,16 +69,13 @@ public class Harvester extends Building {
     @Override
     public void draw(Graphics2D g2d) {
         //************* Draw base *************//
-        if (baseSprites != null) {
-            g2d.drawImage(baseSprites[level-1], (int)x, (int)y, width, height, null);
+        if (type.getBaseSprite(level) != null) {
+            g2d.drawImage(type.getBaseSprite(level), (int)x, (int)y, width, height, null);
         }
 
         //************* Draw top*************//
-        if (topSprites != null && level - 1 < topSprites.length) {
-            g2d.drawImage(topSprites[level-1], (int)x, (int) (y + (height - (height * 0.75)) / 2), width, (int) (height * 0.75), null);
+        if (type.getTopSprite(level) != null) {
+            g2d.drawImage(type.getTopSprite(level), (int)x, (int) (y + (height - (height * 0.75)) / 2), width, (int) (height * 0.75), null);
         }
     }
-
-    @Override
-    public void update() {}
 }
\ No newline at end of file
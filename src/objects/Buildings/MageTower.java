@@ -8,18 +8,17 @@
 
 package objects.Buildings;
 
+import ecs.EntityWorld;
+import ecs.RenderComponents;
 import java.awt.Graphics2D;
 import java.awt.geom.AffineTransform;
-import objects.Projectile;
-import objects.Zombie;
-import systems.BuildingSystem;
-import systems.ResourceSystem;
-import systems.ZombieSystem;
 
 public class MageTower extends Building {
-    private double pulse = 0.5;
-    private static final double BASE_SCALE = 0.5;
-    private static final double MAX_SCALE = 0.6;
+    private static final BuildingType TYPE = new BuildingType("Mage Tower", "Multiple projectile, short range, fast firing tower.", "mageTower.png", 15, 15, 6,
+            new int[] {100, 200, 600, 1200, 2000, 8000, 35000},
+            new int[] {25, 30, 40, 50, 70, 300, 800},
+            new int[] {25, 30, 40, 50, 70, 300, 800})
+            .loadSprites("mageTower", false, true, false, "mageTower_projectile.png");
 
     /**
      * Constructor for MageTower
@@ -29,26 +28,11 @@ public class MageTower extends Building {
      * @param y the y-coordinate of the MageTower
      */
     public MageTower(double x, double y) {
-        super(x, y, 35, 35, "Mage Tower", "mageTower.png");
-        this.woodCost = 15;
-        this.stoneCost = 15;
-        this.description = "Multiple projectile, short range, fast firing tower.";
+        super(x, y, 35, 35, TYPE);
         this.isLocked = true;
         
         this.maxHealth = 150 + (level * 100);
         this.health = maxHealth;
-
-        this.limits = 6;
-
-        this.attackCooldown = 1200;
-        this.range = 450 + (level * 20);
-        this.damage = 35 + (level * 15);
-
-        loadSprites("mageTower", false, true, false, "mageTower_projectile.png");
-
-        this.upgradeGoldCosts = new int[] {100, 200, 600, 1200, 2000, 8000, 35000};
-        this.upgradeWoodCosts = new int[] {25, 30, 40, 50, 70, 300, 800};
-        this.upgradeStoneCosts = new int[] {25, 30, 40, 50, 70, 300, 800};
     }
 
     /**
@@ -65,53 +49,16 @@ public class MageTower extends Building {
     }
 
     /**
-     * Gets the description of the MageTower
-     * Precondition: N/A
-     * Postcondition: returns the description of the MageTower
-     * @return the description of the MageTower
-     */
-    @Override
-    public String getDescription() {
-        return description;
-    }
-
-    /**
-     * Updates the MageTower
-     * Precondition: N/A
-     * Postcondition: The MageTower state is updated
-     * @param resourceSystem the ResourceSystem object
-     * @param zombieSystem the ZombieSystem object
-     * @param buildingSystem the BuildingSystem object
+     * Adds the MageTower's attack and its pulse animation
+     * Precondition: called by spawn
+     * Postcondition: the MageTower's entity can target and attack zombies
+     * @param entityWorld the EntityWorld the entity lives in
+     * @param buildingEntity the id of the MageTower's entity
      */
     @Override
-    public void update(ResourceSystem resourceSystem, ZombieSystem zombieSystem, BuildingSystem buildingSystem) {
-        super.update(resourceSystem, zombieSystem, buildingSystem);
-        //************* Update pulse effect *************//
-        if (pulse > BASE_SCALE) {
-            pulse -= 0.01; 
-            if (pulse < BASE_SCALE) {
-                pulse = BASE_SCALE;
-            }
-        }
-
-        //************* Attack Logic *************//
-        Zombie target = findClosestZombie(zombieSystem);
-        if (target != null) {
-            long now = System.currentTimeMillis();
-            if (now - lastAttackTime > attackCooldown) {
-                //************* Fire projectiles *************//
-                double dx = (target.getX() + target.getWidth()/2) - (x + width/2);
-                double dy = (target.getY() + target.getHeight()/2) - (y + height/2);
-                double angle = Math.atan2(dy, dx);
-                
-                buildingSystem.addProjectile(new Projectile(x + width/2, y + height/2, angle, 11, damage, 20, projectileSprite));
-                buildingSystem.addProjectile(new Projectile(x + width/2, y + height/2, angle - 0.2, 11, damage, 20, projectileSprite));
-                buildingSystem.addProjectile(new Projectile(x + width/2, y + height/2, angle + 0.2, 11, damage, 20, projectileSprite));
-                
-                pulse = MAX_SCALE;
-                lastAttackTime = now;
-            }
-        }
+    protected void addComponents(EntityWorld entityWorld, int buildingEntity) {
+        entityWorld.getAttacks().addProjectile(buildingEntity, 35 + (level * 15), 450 + (level * 20), 1200, 11, 20, 3, type.getProjectileSprite(), false);
+        entityWorld.getRenders().add(buildingEntity, RenderComponents.PULSE, RenderComponents.PULSE_REST);
     }
 
     /**
@@ -122,21 +69,19 @@ public class MageTower extends Building {
      */
     @Override
     public void draw(Graphics2D g2d) {
-        if (baseSprites != null) {
+        if (type.getBaseSprite(level) != null) {
             //************* Draw base *************//
-            g2d.drawImage(baseSprites[level-1], (int)x, (int)y, width, height, null);
+            g2d.drawImage(type.getBaseSprite(level), (int)x, (int)y, width, height, null);
         }
         
         //************* Draw top *************//
-        if (topSprites != null) {
+        if (type.getTopSprite(level) != null) {
             AffineTransform old = g2d.getTransform(); // Save the current transform
             g2d.translate(x + width/2, y + height/2);
+            double pulse = getAnimationValue(RenderComponents.PULSE_REST);
             g2d.scale(pulse, pulse);
-            g2d.drawImage(topSprites[level-1], -width/2, -height/2, width, height, null);
+            g2d.drawImage(type.getTopSprite(level), -width/2, -height/2, width, height, null);
             g2d.setTransform(old); // Restore the original transform
         }
     }
-
-    @Override
-    public void update() {}
 }
\ No newline at end of file
@@ -8,16 +8,17 @@
 
 package objects.Buildings;
 
+import ecs.EntityWorld;
+import ecs.RenderComponents;
 import java.awt.Graphics2D;
 import java.awt.geom.AffineTransform;
-import objects.Zombie;
-import systems.BuildingSystem;
-import systems.ResourceSystem;
-import systems.ZombieSystem;
 
 public class MeleeTower extends Building {
-    private double animationTimer = 0;
-    private boolean isAttacking = false;
+    private static final BuildingType TYPE = new BuildingType("Melee Tower", "High damage, single target, close-range directional tower.", "meleeTower.png", 10, 10, 6,
+            new int[] {100, 200, 600, 1200, 2000, 8000, 35000},
+            new int[] {25, 30, 40, 50, 70, 300, 800},
+            new int[] {25, 30, 40, 50, 70, 300, 800})
+            .loadSprites("meleeTower", true, true, false, null);
 
     /**
      * Constructor for MeleeTower
@@ -27,26 +28,11 @@ public class MeleeTower extends Building {
      * @param y the y-coordinate of the MeleeTower
      */
     public MeleeTower(double x, double y) {
-        super(x, y, 35, 35, "Melee Tower", "meleeTower.png");
-        this.woodCost = 10;
-        this.stoneCost = 10;
-        this.description = "High damage, single target, close-range directional tower.";
+        super(x, y, 35, 35, TYPE);
         this.isLocked = true;
 
         this.maxHealth = 200 + (level * 100);
         this.health = maxHealth;
-
-        this.limits = 6;
-
-        this.attackCooldown = 500;
-        this.range = 100 + (level * 20);
-        this.damage = 25 + (level * 15);
-
-        loadSprites("meleeTower", true, true, false, null);
-
-        this.upgradeGoldCosts = new int[] {100, 200, 600, 1200, 2000, 8000, 35000};
-        this.upgradeWoodCosts = new int[] {25, 30, 40, 50, 70, 300, 800};
-        this.upgradeStoneCosts = new int[] {25, 30, 40, 50, 70, 300, 800};
     }
 
     /**
@@ -63,56 +49,16 @@ public class MeleeTower extends Building {
     }
 
     /**
-     * Gets the description of the MeleeTower
-     * Precondition: N/A
-     * Postcondition: returns the description of the MeleeTower
-     * @return the description of the MeleeTower
+     * Adds the MeleeTower's attack and its punch animation
+     * Precondition: called by spawn
+     * Postcondition: the MeleeTower's entity can target and attack zombies
+     * @param entityWorld the EntityWorld the entity lives in
+     * @param buildingEntity the id of the MeleeTower's entity
      */
     @Override
-    public String getDescription() {
-        return description;
-    }
-
-    /**
-     * Updates the MeleeTower
-     * Precondition: N/A
-     * Postcondition: The MeleeTower state is updated
-     * @param resourceSystem the ResourceSystem object
-     * @param zombieSystem the ZombieSystem object
-     * @param buildingSystem the BuildingSystem object
-     */
-    @Override
-    public void update(ResourceSystem resourceSystem, ZombieSystem zombieSystem, BuildingSystem buildingSystem) {
-        super.update(resourceSystem, zombieSystem, buildingSystem);
-
-        Zombie zombie = findClosestZombie(zombieSystem);
-        isAttacking = false;
-
-        if (zombie != null) {
-            //*************** Calculate angle to face the zombie *************//
-            double dx = (zombie.getX() + zombie.getWidth()/2) - (x + width/2);
-            double dy = (zombie.getY() + zombie.getHeight()/2) - (y + height/2);
-            headRotation = Math.atan2(dy, dx);
-            
-            double dist = Math.hypot(dx, dy);
-            
-            //**************** Attack if in range ****************//
-            if (dist <= range) {
-                isAttacking = true;
-                long now = System.currentTimeMillis();
-                if (now - lastAttackTime > attackCooldown) {
-                    zombie.takeDamage(damage, false);
-                    lastAttackTime = now;
-                }
-            }
-        }
-        
-        //**************** Update animation timer ****************//
-        if (isAttacking) {
-            animationTimer += 0.1;
-        } else {
-            animationTimer = 0;
-        }
+    protected void addComponents(EntityWorld entityWorld, int buildingEntity) {
+        entityWorld.getAttacks().addMelee(buildingEntity, 25 + (level * 15), 100 + (level * 20), 500);
+        entityWorld.getRenders().add(buildingEntity, RenderComponents.PUNCH, 0);
     }
 
     /**
@@ -124,36 +70,33 @@ public class MeleeTower extends Building {
     @Override
     public void draw(Graphics2D g2d) {
         //************* Draw base *************//
-        if (baseSprites != null && level - 1 < baseSprites.length) {
-            g2d.drawImage(baseSprites[level-1], (int)x, (int)y, width, height, null);
+        if (type.getBaseSprite(level) != null) {
+            g2d.drawImage(type.getBaseSprite(level), (int)x, (int)y, width, height, null);
         }
 
         AffineTransform old = g2d.getTransform(); // Save the current transform
         g2d.translate(x + width / 2, y + height / 2);
-        g2d.rotate(headRotation); 
+        g2d.rotate(getHeadRotation()); 
         g2d.scale(0.7, 0.7);
 
         //************* Draw middle with attack animation *************//
-        if (middleSprites != null && level - 1 < middleSprites.length) {
+        if (type.getMiddleSprite(level) != null) {
             double punchAmount = 0;
-            if (isAttacking) {
-                punchAmount = 20 * Math.abs(Math.sin(animationTimer * 5));
+            if (isAnimationActive()) {
+                punchAmount = 20 * Math.abs(Math.sin(getAnimationValue(0) * 5));
             }
             
             int punchX = (int)(-width / 4 + punchAmount);
             int punchY = -height / 2;
             
-            g2d.drawImage(middleSprites[level-1], punchX, punchY, width, height, null);
+            g2d.drawImage(type.getMiddleSprite(level), punchX, punchY, width, height, null);
         }
         
         //************* Draw top *************//
-        if (topSprites != null && level - 1 < topSprites.length) {
-            g2d.drawImage(topSprites[level-1], -width / 2, -height / 2, width, height, null);
+        if (type.getTopSprite(level) != null) {
+            g2d.drawImage(type.getTopSprite(level), -width / 2, -height / 2, width, height, null);
         }
 
         g2d.setTransform(old); // Restore the original transform
     }
-
-    @Override
-    public void update() {}
 }
\ No newline at end of file
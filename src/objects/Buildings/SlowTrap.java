@@ -11,6 +11,11 @@ package objects.Buildings;
 import java.awt.Graphics2D;
 
 public class SlowTrap extends Building {
+    private static final BuildingType TYPE = new BuildingType("Slow Trap", "Slows enemies from entering your base.", "slowTrap.png", 5, 5, 12,
+            new int[] {100, 200, 400, 600, 800, 1000, 1500},
+            new int[] {25, 30, 40, 50, 70, 300, 800},
+            new int[] {25, 30, 40, 50, 70, 300, 800})
+            .loadSprites("slowTrap", false, false, false, null);
 
     /**
      * Constructor for SlowTrap
@@ -20,22 +25,11 @@ public class SlowTrap extends Building {
      * @param y the y-coordinate of the SlowTrap
      */
     public SlowTrap(double x, double y) {
-        super(x, y, 35, 35, "Slow Trap", "slowTrap.png");
-        this.woodCost = 5;
-        this.stoneCost = 5;
-        this.description = "Slows enemies from entering your base.";
+        super(x, y, 35, 35, TYPE);
         this.isLocked = true;
 
         this.maxHealth = 150 + (level * 100);
         this.health = maxHealth;
-
-        this.limits = 12;
-
-        loadSprites("slowTrap", false, false, false, null);
-
-        this.upgradeGoldCosts = new int[] {100, 200, 400, 600, 800, 1000, 1500};
-        this.upgradeWoodCosts = new int[] {25, 30, 40, 50, 70, 300, 800};
-        this.upgradeStoneCosts = new int[] {25, 30, 40, 50, 70, 300, 800};
     }
 
     /**
@@ -51,17 +45,6 @@ public class SlowTrap extends Building {
         return new SlowTrap(x, y);
     }
 
-    /**
-     * Gets the description of the SlowTrap
-     * Precondition: N/A
-     * Postcondition: returns the description of the SlowTrap
-     * @return the description of the SlowTrap
-     */
-    @Override
-    public String getDescription() {
-        return description;
-    }
-
     /**
      * Draws the SlowTrap
      * Precondition: N/A
@@ -71,17 +54,8 @@ public class SlowTrap extends Building {
     @Override
     public void draw(Graphics2D g2d) {
         //************* Draw base *************//
-        if (baseSprites != null) {
-            g2d.drawImage(baseSprites[level-1], (int)x, (int)y, width, height, null);
+        if (type.getBaseSprite(level) != null) {
+            g2d.drawImage(type.getBaseSprite(level), (int)x, (int)y, width, height, null);
         }
     }
-
-
-    /**
-     * Updates the SlowTrap
-     * Precondition: N/A
-     * Postcondition: The SlowTrap state is updated
-     */
-    @Override
-    public void update() {}
 }
\ No newline at end of file
@@ -11,6 +11,11 @@ package objects.Buildings;
 import java.awt.Graphics2D;
 
 public class Wall extends Building {
+    private static final BuildingType TYPE = new BuildingType("Wall", "Blocks enemies from reaching your towers.", "wall.png", 2, 0, 250,
+            new int[] {0, 5, 30, 60, 80, 100, 250, 800},
+            new int[] {2, 0, 0, 0, 0, 0, 0},
+            new int[] {0, 2, 0, 0, 0, 0, 0})
+            .loadSprites("wall", false, false, false, null);
 
     /**
      * Constructor for Wall
@@ -20,22 +25,11 @@ public class Wall extends Building {
      * @param y the y-coordinate of the Wall
      */
     public Wall(double x, double y) {
-        super(x, y, 35, 35, "Wall", "wall.png");
-        this.woodCost = 2;
-        this.stoneCost = 0;
-        this.description = "Blocks enemies from reaching your towers.";
+        super(x, y, 35, 35, TYPE);
         this.isLocked = true;
 
         this.maxHealth = 150 + (level * 100);
         this.health = maxHealth;
-
-        this.limits = 250;
-
-        loadSprites("wall", false, false, false, null);
-
-        this.upgradeGoldCosts = new int[] {0, 5, 30, 60, 80, 100, 250, 800};
-        this.upgradeWoodCosts = new int[] {2, 0, 0, 0, 0, 0, 0};
-        this.upgradeStoneCosts = new int[] {0, 2, 0, 0, 0, 0, 0};
     }
 
     /**
@@ -51,17 +45,6 @@ public class Wall extends Building {
         return new Wall(x, y);
     }
 
-    /**
-     * Gets the description of the Wall
-     * Precondition: N/A
-     * Postcondition: returns the description of the Wall
-     * @return the description of the Wall
-     */
-    @Override
-    public String getDescription() {
-        return description;
-    }
-
     /**
      * Draws the Wall
      * Precondition: N/A
@@ -71,16 +54,8 @@ public class Wall extends Building {
     @Override
     public void draw(Graphics2D g2d) {
         //************* Draw base *************//
-        if (baseSprites != null) {
-            g2d.drawImage(baseSprites[level-1], (int)x, (int)y, width, height, null);
+        if (type.getBaseSprite(level) != null) {
+            g2d.drawImage(type.getBaseSprite(level), (int)x, (int)y, width, height, null);
         }
     }
-
-    /**
-     * Updates the Wall
-     * Precondition: N/A
-     * Postcondition: The Wall state is updated
-     */
-    @Override
-    public void update() {}
 }
\ No newline at end of file
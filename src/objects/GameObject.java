@@ -13,6 +13,7 @@ import java.awt.image.BufferedImage;
 
 public abstract class GameObject {
     protected double x, y;
+    protected double prevX, prevY; // Position at the start of the last simulation tick, used for interpolation
     protected int width, height;
     protected Color color;
     protected BufferedImage sprite;
@@ -32,6 +33,8 @@ public abstract class GameObject {
     public GameObject(double x, double y, int width, int height, Color color, BufferedImage sprite) {
         this.x = x;
         this.y = y;
+        this.prevX = x;
+        this.prevY = y;
         this.width = width;
         this.height = height;
         this.color = color;
@@ -118,6 +121,53 @@ public abstract class GameObject {
         this.height = height; 
     }
 
+    /**
+     * Remembers the current position as the previous simulation state
+     * Precondition: called once at the start of every simulation tick
+     * Postcondition: prevX and prevY are set to the current position
+     */
+    public void storePreviousPosition() {
+        this.prevX = x;
+        this.prevY = y;
+    }
+
+    /**
+     * Gets the x-coordinate blended between the last two simulation states
+     * Precondition: alpha is between 0.0 and 1.0
+     * Postcondition: returns the interpolated x-coordinate
+     * @param alpha how far the renderer is between the previous and current tick
+     * @return the interpolated x-coordinate
+     */
+    public double getInterpolatedX(double alpha) {
+        return prevX + (x - prevX) * alpha;
+    }
+
+    /**
+     * Gets the y-coordinate blended between the last two simulation states
+     * Precondition: alpha is between 0.0 and 1.0
+     * Postcondition: returns the interpolated y-coordinate
+     * @param alpha how far the renderer is between the previous and current tick
+     * @return the interpolated y-coordinate
+     */
+    public double getInterpolatedY(double alpha) {
+        return prevY + (y - prevY) * alpha;
+    }
+
+    /**
+     * Draws the GameObject at its interpolated position
+     * Precondition: g2d is a valid Graphics2D object, alpha is between 0.0 and 1.0
+     * Postcondition: GameObject is drawn offset from its current position to the interpolated one
+     * @param g2d the Graphics2D object used for drawing
+     * @param alpha how far the renderer is between the previous and current tick
+     */
+    public void drawInterpolated(Graphics2D g2d, double alpha) {
+        double offsetX = getInterpolatedX(alpha) - x;
+        double offsetY = getInterpolatedY(alpha) - y;
+        g2d.translate(offsetX, offsetY);
+        draw(g2d);
+        g2d.translate(-offsetX, -offsetY);
+    }
+
     /**
      * Abstract method to update the GameObject state
      * Precondition: N/A
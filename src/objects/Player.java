@@ -8,7 +8,10 @@
 
 package objects;
 
+import diagnostics.ProjectileFireEvent;
 import helpers.FontManager;
+import helpers.Log;
+import helpers.Logger;
 import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Font;
@@ -22,11 +25,14 @@ import objects.Tools.Armor;
 import objects.Tools.Tool;
 import systems.BuildingSystem;
 import systems.CollisionSystem;
+import systems.GameClock;
 import systems.HeadUpDisplay;
 import systems.ResourceSystem;
 import systems.ToolSystem;
+import systems.Viewport;
 
 public class Player extends GameObject {
+    private static final Logger LOG = Log.getLogger("Player.java");
 
     //************* Player Properties *************//
     private static final double SPEED = 3; //player speed
@@ -53,6 +59,7 @@ public class Player extends GameObject {
     //************* Player Projectiles *************//
     private final ArrayList<Projectile> projectiles = new ArrayList<>();
     private long lastAttackTime = 0;
+    private final GameClock clock;
 
     /**
      * Constructor for Player
@@ -62,11 +69,13 @@ public class Player extends GameObject {
      * @param y the y-coordinate of the player
      * @param name the name of the player
      * @param toolSystem the ToolSystem managing the player's tools
+     * @param clock the GameClock driving the player's cooldowns
      */
-    public Player(double x, double y, String name, ToolSystem toolSystem) {
+    public Player(double x, double y, String name, ToolSystem toolSystem, GameClock clock) {
         super(x, y, 50, 50, new Color(252, 200, 117), null);
         this.name = name;
         this.toolSystem = toolSystem;
+        this.clock = clock;
     }
 
     /**
@@ -185,6 +194,8 @@ public class Player extends GameObject {
     public void reset(double x, double y) {
         this.x = x;
         this.y = y;
+        this.prevX = x; // Teleport without interpolating across the map
+        this.prevY = y;
         this.currentHealth = 1000;
         this.projectiles.clear();
     }
@@ -285,7 +296,7 @@ public class Player extends GameObject {
 
     /**
      * Reduces the player's health by the specified amount
-     * Precondition: amount is non-negative
+     * Precondition: amount is non-negative, called from DamageSystem.apply
      * Postcondition: currentHealth is decreased by amount, not below 0
      * @param amount the amount of damage to take
      */
@@ -301,7 +312,7 @@ public class Player extends GameObject {
         } else {
             currentHealth = Math.max(0, currentHealth - amount);
         }
-        lastDamageTime = System.currentTimeMillis();
+        lastDamageTime = clock.getMillis();
     }
 
     /**
@@ -320,7 +331,7 @@ public class Player extends GameObject {
             
             toolSystem.setActiveSlot(0); 
             
-            System.out.println("Player.java - Used health potion");
+            LOG.info("Used health potion");
         }
     }
     
@@ -378,12 +389,13 @@ public class Player extends GameObject {
         //************* Arrows *************//
         if (activeTool != null && activeTool.isRanged()) {
             if (isMouseHolding || spaceToggle) {
-                long currentTime = System.currentTimeMillis();
+                long currentTime = clock.getMillis();
                 
                 long cooldown = (long)(10000 / activeTool.getAttackSpeed());
                 
                 if (currentTime - lastAttackTime > cooldown) {
                     projectiles.add(new Projectile(getCenterX(), getCenterY(), baseAngle, activeTool.getAttackSpeed(), (int) activeTool.getDamage(), 2,  "arrow.png"));
+                    ProjectileFireEvent.emit("player", getCenterX(), getCenterY(), (int) activeTool.getDamage());
                     lastAttackTime = currentTime;
                 }
             }
@@ -416,14 +428,32 @@ public class Player extends GameObject {
     }
 
     /**
-     * Draws the player's projectiles
-     * Precondition: g2d is a valid Graphics2D object
-     * Postcondition: projectiles are drawn on screen
+     * Stores the current position of the player and its projectiles for render interpolation
+     * Precondition: called at the start of a simulation tick
+     * Postcondition: previous positions are set to the current positions
+     */
+    @Override
+    public void storePreviousPosition() {
+        super.storePreviousPosition();
+        for (int i = 0; i < projectiles.size(); i++) {
+            projectiles.get(i).storePreviousPosition();
+        }
+    }
+
+    /**
+     * Draws the player's projectiles that are on screen
+     * Precondition: g2d is a valid Graphics2D object, alpha is between 0.0 and 1.0, viewport is set for this frame
+     * Postcondition: projectiles inside the viewport are drawn on screen
      * @param g2d the Graphics2D object to draw on
+     * @param alpha how far the renderer is between the previous and current tick
+     * @param viewport the part of the world on screen
      */
-    public void drawProjectiles(Graphics2D g2d) {
+    public void drawProjectiles(Graphics2D g2d, double alpha, Viewport viewport) {
         for (int i = 0; i < projectiles.size(); i++) {
-            projectiles.get(i).draw(g2d);
+            Projectile projectile = projectiles.get(i);
+            if (viewport.isVisible(projectile.getX(), projectile.getY(), projectile.getWidth(), projectile.getHeight())) {
+                projectile.drawInterpolated(g2d, alpha);
+            }
         }
     }
 
@@ -469,7 +499,7 @@ public class Player extends GameObject {
     @Override
     public void update() {
         //************* Shield Regeneration *************//
-        long now = System.currentTimeMillis();
+        long now = clock.getMillis();
 
         Armor armor = (Armor) toolSystem.getToolInSlot(4); 
         if (armor != null && armor.getIsUnlocked()) {
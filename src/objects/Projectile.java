@@ -9,12 +9,11 @@
 package objects;
 
 import game.BenumZombsGame;
+import helpers.AssetManager;
 import java.awt.Graphics2D;
 import java.awt.Image;
 import java.awt.Rectangle;
 import java.awt.geom.AffineTransform;
-import java.io.IOException;
-import javax.imageio.ImageIO;
 
 public class Projectile extends GameObject {
     private final double angle;
@@ -72,13 +71,9 @@ public class Projectile extends GameObject {
         this.damage = damage;
         this.damageRadius = 0;
         
-        //************* Load Projectile Image *************//
-        try {
-            if (imageName != null) {
-                this.image = ImageIO.read(getClass().getResource("/assets/images/player/" + imageName)); 
-            }
-        } catch (IOException | IllegalArgumentException | NullPointerException e) {
-            System.out.println("Projectile.java - Error loading projectile image: " + imageName);
+        //************* Look Up Shared Projectile Image *************//
+        if (imageName != null) {
+            this.image = AssetManager.getImage("player/" + imageName); 
         }
     }
 
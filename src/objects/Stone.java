@@ -8,16 +8,18 @@
 
 package objects;
 
+import ecs.EntityWorld;
+import ecs.RenderComponents;
+import helpers.AssetManager;
 import java.awt.*;
-import java.io.IOException;
-import javax.imageio.ImageIO;
+import systems.CollisionSystem;
 
 public class Stone {
     private final int x, y;
     private static final int SIZE = 120; //size of rock
-    private double shakeOffset = 0;
-    private static final double RECOVERY_RATE = 0.9;
-    private static Image stoneImage;
+    private final EntityWorld world;
+    private final int entity; // Only has a shake animation while shaking
+    private static final Image STONE_IMAGE = AssetManager.getImage("resources/stone.png"); // Looked up once, null if it failed to load
 
     /**
      * Constructor for Stone object
@@ -25,18 +27,13 @@ public class Stone {
      * Postcondition: A Stone object is created at the specified coordinates
      * @param x the x-coordinate of the stone
      * @param y the y-coordinate of the stone
+     * @param world the EntityWorld holding the stone's animation
      */
-    public Stone(int x, int y) {
+    public Stone(int x, int y, EntityWorld world) {
         this.x = x;
         this.y = y;
-        
-        if (stoneImage == null) {
-            try {
-                stoneImage = ImageIO.read(getClass().getResource("/assets/images/resources/stone.png"));
-            } catch (IOException | IllegalArgumentException | NullPointerException e) {
-                System.out.println("Stone.java - Could not find stone image, enjoy a game without stones: " + e.getMessage());
-            }
-        }
+        this.world = world;
+        this.entity = world.createEntity();
     }
 
     /**
@@ -45,19 +42,12 @@ public class Stone {
      * Postcondition: The stone's shake offset is set to initiate the animation
      */
     public void playAnimation() {
-        this.shakeOffset = 15;
-    }
-
-    /**
-     * Updates the stone's animation state
-     * Precondition: N/A
-     * Postcondition: The stone's shake offset is updated
-     */
-    public void update() {
-        if (Math.abs(shakeOffset) > 0.5) {
-            shakeOffset *= RECOVERY_RATE;
+        RenderComponents renders = world.getRenders();
+        int r = renders.indexOf(entity);
+        if (r >= 0) {
+            renders.setValue(r, RenderComponents.SHAKE_PEAK);
         } else {
-            shakeOffset = 0;
+            renders.add(entity, RenderComponents.SHAKE, RenderComponents.SHAKE_PEAK);
         }
     }
 
@@ -68,8 +58,10 @@ public class Stone {
      * @param g2d the Graphics2D object to draw on
      */
     public void draw(Graphics2D g2d) {
-        if (stoneImage != null) {
-            g2d.drawImage(stoneImage, x + (int)shakeOffset, y, SIZE, SIZE, null);
+        if (STONE_IMAGE != null) {
+            int r = world.getRenders().indexOf(entity);
+            int shakeOffset = r >= 0 ? (int)world.getRenders().getValue(r) : 0;
+            g2d.drawImage(STONE_IMAGE, x + shakeOffset, y, SIZE, SIZE, null);
         }
     }
 
@@ -83,5 +75,17 @@ public class Stone {
         int buffer = SIZE / 4; 
         return new Rectangle(x + buffer, y + buffer, SIZE - 2 * buffer, SIZE - 2 * buffer);
     }
+
+    /**
+     * Checks if a box overlaps the stone's collision bounds without allocating them, used by zombie movement on any thread
+     * Precondition: box is a valid Rectangle
+     * Postcondition: returns the same result as box.intersects(getBounds())
+     * @param box the bounding box to check
+     * @return true if the box overlaps the stone, false otherwise
+     */
+    public boolean intersects(Rectangle box) {
+        int buffer = SIZE / 4;
+        return CollisionSystem.intersects(box, x + buffer, y + buffer, SIZE - 2 * buffer, SIZE - 2 * buffer);
+    }
 }
 
@@ -1,6 +1,6 @@
 /**
  * Zombie.java
- * The Zombie class for BenumZombs, defining zombie properties and behaviors
+ * The Zombie class for BenumZombs, a lightweight view of one zombie whose state lives in a ZombieStore
  * @author Richard Pu
  * @version 1.0
  * @since 2026-01-18
@@ -8,6 +8,7 @@
 
 package objects;
 
+import helpers.AssetManager;
 import helpers.HealthManager;
 import java.awt.BasicStroke;
 import java.awt.Color;
@@ -16,242 +17,211 @@ import java.awt.Image;
 import java.awt.Rectangle;
 import java.awt.RenderingHints;
 import java.awt.geom.AffineTransform;
-import java.io.IOException;
-import javax.imageio.ImageIO;
-import objects.Buildings.Building;
-import systems.BuildingSystem;
-import systems.CollisionSystem;
-import systems.ResourceSystem;
-
-public class Zombie extends GameObject {
-    private double speed;
-    private int damage;
-    
-    private int maxHealth;
-    private int currentHealth;
-
-    private static Image teacherImage;
-    private Color tierColor;
+import systems.ZombieStore;
+
+public class Zombie {
+    private static final Image TEACHER_IMAGE = AssetManager.getImage("zombies/benum.png"); // Looked up once, null if it failed to load
+
+    //************* Tier Colors *************//
+    // Indexed by tier, shared by every zombie instead of each one holding its own
+    private static final Color[] TIER_COLORS = {
+        new Color(50, 77, 58), // Unused, tiers start at 1
+        new Color(50, 77, 58), // Green
+        new Color(41, 74, 121), // Blue
+        new Color(121, 26, 50), // Red
+        new Color(147, 118, 43), // Yellow
+        new Color(116, 38, 187), // Purple
+        new Color(176, 87, 60) // Orange Red
+    };
+    private static final Color[] TIER_TINTS = new Color[TIER_COLORS.length];
+    private static final Color HEALTH_BAR_COLOR = new Color(122, 55, 32);
+    private static final BasicStroke OUTLINE_STROKE = new BasicStroke(3f);
+
+    static {
+        for (int i = 0; i < TIER_COLORS.length; i++) {
+            TIER_TINTS[i] = new Color(TIER_COLORS[i].getRed(), TIER_COLORS[i].getGreen(), TIER_COLORS[i].getBlue(), 100);
+        }
+    }
 
-    //************* Targeting and Attack *************//
-    private Building targetBuilding = null;
-    private double rotationAngle = 0.0;
-    private long lastAttackTime = 0;
-    private static final long ATTACK_COOLDOWN = 1000;
+    private final ZombieStore store;
+    private final int id;
 
     /**
      * Constructor for Zombie
-     * Precondition: N/A
-     * Postcondition: Zombie object is created
-     * @param x the x-coordinate of the Zombie
-     * @param y the y-coordinate of the Zombie
-     * @param tier the tier of the Zombie
-     * @param level the level of the Zombie
+     * Precondition: only called by ZombieStore, once per id
+     * Postcondition: a view of whichever zombie holds the id is created
+     * @param store the ZombieStore holding the zombie's state
+     * @param id the id of the zombie in the store
      */
-    public Zombie(double x, double y, int tier, int level) {
-        super(x, y, 35, 35, null, null);
+    public Zombie(ZombieStore store, int id) {
+        this.store = store;
+        this.id = id;
+    }
 
-        this.maxHealth = 100 + (tier * 50) + (level * 20);
-        this.currentHealth = this.maxHealth;
-        this.damage = (int) (10 + (tier * 5) + (level * 2));
-        this.speed = 2;
+    /**
+     * Gets the handle of the zombie, which unlike the view stops matching once the zombie is removed
+     * Precondition: the zombie is still in the store
+     * Postcondition: returns the handle
+     * @return the handle of the zombie
+     */
+    public long getHandle() {
+        return store.getHandle(store.getSlotOfId(id));
+    }
 
-        //************* Set Tier Color *************//
-        switch (tier) {
-            case 1:
-                tierColor = new Color(50, 77, 58); // Green
-                break;
-            case 2:
-                tierColor = new Color(41, 74, 121); // Blue
-                break;
-            case 3:
-                tierColor = new Color(121, 26, 50); // Red
-                break;
-            case 4:
-                tierColor = new Color(147, 118, 43); // Yellow
-                break;
-            case 5:
-                tierColor = new Color(116, 38, 187); // Purple
-                break;
-            case 6:
-                tierColor = new Color(176, 87, 60); // Orange Red
-                break;
-            default:
-                tierColor = new Color(50, 77, 58);
-        }
+    /**
+     * Gets the x-coordinate of the zombie
+     * Precondition: the zombie is still in the store
+     * Postcondition: returns the x-coordinate
+     * @return the x-coordinate of the zombie
+     */
+    public double getX() {
+        return store.getX(store.getSlotOfId(id));
+    }
 
-        //************* Load Zombie Image *************//
-        if (teacherImage == null) {
-            try {
-                teacherImage = ImageIO.read(getClass().getResource("/assets/images/zombies/benum.png"));
-            } catch (IOException | IllegalArgumentException | NullPointerException e) {
-                System.err.println("Error loading teacher image and you won't have a working game: " + e.getMessage());
-            }
-        }
+    /**
+     * Gets the y-coordinate of the zombie
+     * Precondition: the zombie is still in the store
+     * Postcondition: returns the y-coordinate
+     * @return the y-coordinate of the zombie
+     */
+    public double getY() {
+        return store.getY(store.getSlotOfId(id));
     }
 
     /**
-     * Updates the zombie's position and attack behavior
+     * Gets the width of the zombie
      * Precondition: N/A
-     * Postcondition: Zombie's position and attack state are updated
-     * @param player the Player object
-     * @param buildingSystem the BuildingSystem object
-     * @param resourceSystem the ResourceSystem object
-     */ 
-    public void update(Player player, BuildingSystem buildingSystem, ResourceSystem resourceSystem) {
-        //************* Check Current Target Building *************//
-        if (targetBuilding != null) {
-            if (!buildingSystem.getPlacedBuildings().contains(targetBuilding) || targetBuilding.getHealth() <= 0) {
-                targetBuilding = null;
-            }
-        }
+     * Postcondition: returns the width
+     * @return the width of the zombie
+     */
+    public int getWidth() {
+        return ZombieStore.SIZE;
+    }
 
-        double destX, destY;
+    /**
+     * Gets the height of the zombie
+     * Precondition: N/A
+     * Postcondition: returns the height
+     * @return the height of the zombie
+     */
+    public int getHeight() {
+        return ZombieStore.SIZE;
+    }
 
-        if (targetBuilding != null) {
-            destX = targetBuilding.getX() + targetBuilding.getWidth() / 2 - width / 2;
-            destY = targetBuilding.getY() + targetBuilding.getHeight() / 2 - height / 2;
-        } else {
-            Building stash = buildingSystem.getActiveStash();
-            if (stash != null) {
-                destX = stash.getX() + stash.getWidth() / 2 - width / 2;
-                destY = stash.getY() + stash.getHeight() / 2 - height / 2;
-            } else {
-                destX = player.getX();
-                destY = player.getY();
-            }
-        }
-    
-        //************* Target Movement *************//
-        double dx = destX - x;
-        double dy = destY - y;
-        rotationAngle = Math.atan2(dy, dx);
-        
-        double moveX = Math.cos(rotationAngle) * speed;
-        double moveY = Math.sin(rotationAngle) * speed;
+    /**
+     * Checks if the zombie is dead
+     * Precondition: the zombie is still in the store
+     * Postcondition: returns true if the zombie's health is zero or below
+     * @return true if the zombie is dead, false otherwise
+     */
+    public boolean isDead() {
+        return getHealth() <= 0;
+    }
 
-        //************* Collision Check *************//
-        Rectangle futureRect = new Rectangle((int)(x + moveX), (int)(y + moveY), width, height); 
-        if (targetBuilding == null) {
-            Building collidedBuilding = CollisionSystem.getCollidingBuilding(futureRect, buildingSystem);
-            if (collidedBuilding != null) {
-                targetBuilding = collidedBuilding;
-                moveX = 0;
-                moveY = 0;
-            }
-        } else {
-            if (futureRect.intersects(targetBuilding.getHitbox())) {
-                moveX = 0;
-                moveY = 0;
-            }
-        }
+    /**
+     * Gets the zombie's current health
+     * Precondition: the zombie is still in the store
+     * Postcondition: returns the current health, zero or below once dead
+     * @return the current health of the zombie
+     */
+    public int getHealth() {
+        return store.getHealth(store.getSlotOfId(id));
+    }
 
-        if (!CollisionSystem.checkResourceCollision(futureRect, resourceSystem) && !CollisionSystem.checkPlayerCollision(futureRect, player)) {
-            x += moveX;
-            y += moveY;
-        }
+    /**
+     * Gets the damage value of the zombie
+     * Precondition: the zombie is still in the store
+     * Postcondition: returns the damage value of the zombie
+     * @return the damage value of the zombie
+     */
+    public int getDamage() {
+        return store.getDamage(store.getSlotOfId(id));
+    }
 
-        //************* Attack Handling *************//
-        Rectangle zombieBounds = new Rectangle((int)x - 5, (int)y - 5, width + 10, height + 10);
-        long now = System.currentTimeMillis();
-        if (targetBuilding != null) {
-            if (CollisionSystem.checkBuildingCollision(zombieBounds, buildingSystem)) {
-                if (now - lastAttackTime > ATTACK_COOLDOWN) {
-                    targetBuilding.takeDamage(damage);
-                    lastAttackTime = now;
-                }
-            }
-        }
-        if (CollisionSystem.checkPlayerCollision(zombieBounds, player)) {
-            player.takeDamage(damage / 5); 
-        }
+    /**
+     * Gets the bounding rectangle of the zombie for hit detection
+     * Precondition: the zombie is still in the store
+     * Postcondition: returns Rectangle of zombie's hitbox
+     * @return the Rectangle representing the zombie's hitbox
+     */
+    public Rectangle getBounds() {
+        return new Rectangle((int) getX(), (int) getY(), ZombieStore.SIZE, ZombieStore.SIZE);
     }
 
     /**
-     * Draws the zombie on the screen
-     * Precondition: N/A
+     * Draws the zombie at its position blended between the last two simulation states
+     * Precondition: the zombie is still in the store, alpha is between 0.0 and 1.0
+     * Postcondition: Zombie is drawn on the screen
+     * @param g2d the Graphics2D object for drawing
+     * @param alpha how far the renderer is between the previous and current tick
+     */
+    public void drawInterpolated(Graphics2D g2d, double alpha) {
+        int slot = store.getSlotOfId(id);
+        double offsetX = (store.getPrevX(slot) - store.getX(slot)) * (1 - alpha);
+        double offsetY = (store.getPrevY(slot) - store.getY(slot)) * (1 - alpha);
+        g2d.translate(offsetX, offsetY);
+        draw(g2d, slot);
+        g2d.translate(-offsetX, -offsetY);
+    }
+
+    /**
+     * Draws the zombie at its current position
+     * Precondition: the zombie is still in the store
      * Postcondition: Zombie is drawn on the screen
      * @param g2d the Graphics2D object for drawing
      */
-    @Override
     public void draw(Graphics2D g2d) {
+        draw(g2d, store.getSlotOfId(id));
+    }
+
+    /**
+     * Draws the zombie's hands, body and health bar from its state in the store
+     * Precondition: slot is the zombie's current slot
+     * Postcondition: Zombie is drawn on the screen
+     * @param g2d the Graphics2D object for drawing
+     * @param slot the slot of the zombie in the store
+     */
+    private void draw(Graphics2D g2d, int slot) {
         g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
-        double centerX = x + width / 2;
-        double centerY = y + height / 2;
+        double x = store.getX(slot);
+        double y = store.getY(slot);
+        int size = ZombieStore.SIZE;
+        int tier = store.getTier(slot);
+        Color tierColor = tier < TIER_COLORS.length ? TIER_COLORS[tier] : TIER_COLORS[0];
+        Color tierTint = tier < TIER_TINTS.length ? TIER_TINTS[tier] : TIER_TINTS[0];
+
+        double centerX = x + size / 2;
+        double centerY = y + size / 2;
 
         AffineTransform oldTransform = g2d.getTransform(); // Save current transform
-        g2d.rotate(rotationAngle - Math.PI / 2, centerX, centerY);
+        g2d.rotate(store.getRotation(slot) - Math.PI / 2, centerX, centerY);
 
         //************* Draw Zombie Hands *************//
-        g2d.setColor(tierColor); 
-        g2d.fillOval((int)x + 3, (int)y + 28, 12, 12); 
-        g2d.fillOval((int)x + width - 17, (int)y + 28, 12, 12);
-        
+        g2d.setColor(tierColor);
+        g2d.fillOval((int)x + 3, (int)y + 28, 12, 12);
+        g2d.fillOval((int)x + size - 17, (int)y + 28, 12, 12);
+
         g2d.setColor(Color.BLACK);
-        g2d.setStroke(new BasicStroke(3f));
+        g2d.setStroke(OUTLINE_STROKE);
         g2d.drawOval((int)x + 3, (int)y + 28, 12, 12);
-        g2d.drawOval((int)x + width - 17, (int)y + 28, 12, 12);
+        g2d.drawOval((int)x + size - 17, (int)y + 28, 12, 12);
 
         //************* Draw Zombie Body *************//
-        if (teacherImage != null) {
-            g2d.drawImage(teacherImage, (int)x, (int)y, width, height, null);
-            g2d.setColor(new Color(tierColor.getRed(), tierColor.getGreen(), tierColor.getBlue(), 100)); 
-            g2d.fillOval((int)x, (int)y, width, height); 
+        if (TEACHER_IMAGE != null) {
+            g2d.drawImage(TEACHER_IMAGE, (int)x, (int)y, size, size, null);
+            g2d.setColor(tierTint);
+            g2d.fillOval((int)x, (int)y, size, size);
         } else {
             g2d.setColor(tierColor);
-            g2d.fillOval((int)x, (int)y, width, height); 
+            g2d.fillOval((int)x, (int)y, size, size);
         }
         g2d.setColor(Color.BLACK);
-        g2d.setStroke(new BasicStroke(3f)); 
-        g2d.drawOval((int)x, (int)y, width, height);
+        g2d.setStroke(OUTLINE_STROKE);
+        g2d.drawOval((int)x, (int)y, size, size);
 
         g2d.setTransform(oldTransform); // Restore original transform
 
-        HealthManager.drawStatusBar(g2d, currentHealth, maxHealth, (int)x + (width - 30) / 2, (int)y + 20, 30, 5, new Color(122, 55, 32), false);
+        HealthManager.drawStatusBar(g2d, store.getHealth(slot), store.getMaxHealth(slot), (int)x + (size - 30) / 2, (int)y + 20, 30, 5, HEALTH_BAR_COLOR, false);
     }
-
-    /**
-     * Checks if the zombie is dead
-     * Precondition: N/A
-     * Postcondition: returns true if the zombie's health is zero or below
-     * @return true if the zombie is dead, false otherwise
-     */
-    public boolean isDead() { 
-        return currentHealth <= 0; 
-    }
-
-    /**
-     * Gets the bounding rectangle of the zombie for hit detection
-     * Precondition: N/A
-     * Postcondition: returns Rectangle of zombie's hitbox
-     * @return the Rectangle representing the zombie's hitbox
-     */
-    public Rectangle getBounds() { 
-        return new Rectangle((int)x, (int)y, width, height); 
-    }
-
-    /**
-     * Reduces the zombie's health by the specified damage amount
-     * Precondition: N/A
-     * Postcondition: zombie's health is reduced
-     * @param damage the amount of damage to inflict
-     * @param fromPlayer true if damage is from player, false otherwise
-     */
-    public void takeDamage(int damage, boolean fromPlayer) { 
-        currentHealth -= damage; 
-    }
-
-    /**
-     * Gets the damage value of the zombie
-     * Precondition: N/A
-     * Postcondition: returns the damage value of the zombie
-     * @return the damage value of the zombie
-     */
-    public int getDamage() { 
-        return damage; 
-    }
-
-    @Override
-    public void update() {}
-}
\ No newline at end of file
+}
@@ -8,7 +8,14 @@
 
 package systems;
 
+import diagnostics.BuildingEvent;
+import ecs.AttackSystem;
+import ecs.EntityWorld;
+import ecs.HarvestSystem;
+import ecs.RegenSystem;
 import game.BenumZombsGame;
+import helpers.Log;
+import helpers.Logger;
 import java.awt.Graphics2D;
 import java.awt.Rectangle;
 import java.util.ArrayList;
@@ -27,21 +34,37 @@ import objects.Buildings.Wall;
 import objects.Projectile;
 
 public class BuildingSystem {
+    private static final Logger LOG = Log.getLogger("BuildingSystem.java");
+
     private final Building[] slots = new Building[11];
     private final ArrayList<Building> placedBuildings = new ArrayList<>();
     private final ArrayList<Projectile> projectiles = new ArrayList<>();
+    private final SpatialGrid<Building> buildingGrid = new SpatialGrid<>(BenumZombsGame.GRID_SIZE, BenumZombsGame.WORLD_AREA);
+    private final FlowField flowField = new FlowField();
 
     private Building activeStash = null;
     private boolean goldStashPlaced = false;
 
     private Building selectedBuilding = null;
+    private final GameClock clock;
+
+    //************* Entity Systems *************//
+    // Placed buildings keep their health, attack and harvest state as components in the world
+    private final EntityWorld world;
+    private final RegenSystem regenSystem = new RegenSystem();
+    private final AttackSystem attackSystem = new AttackSystem();
+    private final HarvestSystem harvestSystem = new HarvestSystem();
 
     /**
      * Constructor for Building System
      * Precondition: N/A
      * Postcondition: Buildings are initialized in their respective slots
+     * @param clock the GameClock driving building cooldowns and regen
+     * @param world the EntityWorld placed buildings are spawned into
      */
-    public BuildingSystem() {
+    public BuildingSystem(GameClock clock, EntityWorld world) {
+        this.clock = clock;
+        this.world = world;
         int smallSize = BenumZombsGame.GRID_SIZE; 
         int largeSize = BenumZombsGame.GRID_SIZE * 2;
 
@@ -113,14 +136,20 @@ public class BuildingSystem {
     /**
      * Places a building in the game world
      * Precondition: building is not null
-     * Postcondition: building is added to the placed buildings list
+     * Postcondition: building is spawned into the world, added to the placed buildings list and the flow field is marked for repathing
      * @param building the Building to place
      */
     public void placeBuilding(Building building) {
+        building.spawn(world);
         placedBuildings.add(building);
+        BuildingEvent.emit(BuildingEvent.PLACE, building);
+        buildingGrid.insert(building, building.getHitbox());
         if (building.isUnlocker()) {
             this.activeStash = building;
+            flowField.invalidate();
             onGoldStashPlaced();
+        } else {
+            flowField.markChanged(building.getHitbox());
         }
     }
 
@@ -133,14 +162,16 @@ public class BuildingSystem {
      * @return true if a building was selected, false otherwise
      */
     public boolean selectBuildingAt(int worldX, int worldY) {
-        for (int i = placedBuildings.size() - 1; i >= 0; i--) {
-            Building building = placedBuildings.get(i);
-            Rectangle buildingRect = new Rectangle((int)building.getX(), (int)building.getY(), building.getWidth(), building.getHeight());
-            
-            // Check if click is within building bounds
-            if (buildingRect.contains(worldX, worldY)) {
-                selectedBuilding = building;
-                return true;
+        ArrayList<Building> cell = buildingGrid.getCell(buildingGrid.getColumn(worldX), buildingGrid.getRow(worldY));
+        if (cell != null) {
+            for (int i = cell.size() - 1; i >= 0; i--) {
+                Building building = cell.get(i);
+
+                // Check if click is within building bounds
+                if (building.getHitbox().contains(worldX, worldY)) {
+                    selectedBuilding = building;
+                    return true;
+                }
             }
         }
         
@@ -168,14 +199,36 @@ public class BuildingSystem {
         return selectedBuilding;
     }
     
+    /**
+     * Upgrades a placed building
+     * Precondition: building is placed and can be upgraded
+     * Postcondition: building is upgraded and its cells are marked for repathing, since its max health changed
+     * @param building the Building to upgrade
+     */
+    public void upgradeBuilding(Building building) {
+        building.upgrade();
+        BuildingEvent.emit(BuildingEvent.UPGRADE, building);
+        if (!building.isUnlocker()) {
+            flowField.markChanged(building.getHitbox());
+        }
+    }
+
     /**
      * Removes a building from the placed buildings list
      * Precondition: building is not null
-     * Postcondition: building is removed from the placed buildings list
+     * Postcondition: building is despawned, removed from the placed buildings list and the flow field is marked for repathing
      * @param building the Building to remove
      */
     public void removeBuilding(Building building) {
-        placedBuildings.remove(building);
+        if (placedBuildings.remove(building)) {
+            building.despawn();
+            buildingGrid.remove(building, building.getHitbox());
+            if (building == activeStash) {
+                flowField.invalidate();
+            } else {
+                flowField.markChanged(building.getHitbox());
+            }
+        }
         if (building == selectedBuilding) {
             selectedBuilding = null;
         }
@@ -189,14 +242,19 @@ public class BuildingSystem {
      * @return true if the area is occupied, false otherwise
      */
     public boolean isOccupied(Rectangle area) {
-        for (int i = 0; i < placedBuildings.size(); i++) {
-            Building building = placedBuildings.get(i);
-            Rectangle buildingRect = new Rectangle((int)building.getX(), (int)building.getY(), building.getWidth(), building.getHeight());
-            if (buildingRect.intersects(area)) {
-                return true;
-            }
-        }
-        return false;
+        return CollisionSystem.checkBuildingCollision(area, this);
+    }
+
+    /**
+     * Checks if a building is currently placed in the world
+     * Precondition: building is not null
+     * Postcondition: returns true if the building is placed, false otherwise
+     * @param building the Building to check
+     * @return true if the building is placed, false otherwise
+     */
+    public boolean isPlaced(Building building) {
+        ArrayList<Building> cell = buildingGrid.getCell(buildingGrid.getColumn(building.getX()), buildingGrid.getRow(building.getY()));
+        return cell != null && cell.contains(building);
     }
 
     /**
@@ -212,7 +270,7 @@ public class BuildingSystem {
                 slot.setLocked(false);
             }
         }
-        System.out.println("BuildingSystem.java - Gold Stash Placed");
+        LOG.info("Gold Stash Placed");
     }
 
     /**
@@ -304,6 +362,26 @@ public class BuildingSystem {
         return placedBuildings;
     }
 
+    /**
+     * Gets the spatial grid of placed buildings used for collision checks
+     * Precondition: N/A
+     * Postcondition: returns the building grid
+     * @return the SpatialGrid of placed buildings
+     */
+    public SpatialGrid<Building> getBuildingGrid() {
+        return buildingGrid;
+    }
+
+    /**
+     * Gets the flow field zombies follow toward the stash
+     * Precondition: N/A
+     * Postcondition: returns the flow field
+     * @return the FlowField kept in sync with placed buildings
+     */
+    public FlowField getFlowField() {
+        return flowField;
+    }
+
     /**
      * Adds a projectile to the projectile list
      * Precondition: projectile is not null
@@ -327,10 +405,15 @@ public class BuildingSystem {
     /**
      * Resets the BuildingSystem to its initial state
      * Precondition: N/A
-     * Postcondition: All placed buildings and projectiles are cleared, and building slots are locked
+     * Postcondition: All placed buildings are despawned, buildings and projectiles are cleared, and building slots are locked
      */
     public void reset() {
+        for (int i = 0; i < placedBuildings.size(); i++) {
+            placedBuildings.get(i).despawn();
+        }
         placedBuildings.clear();
+        buildingGrid.clear();
+        flowField.invalidate();
         projectiles.clear();
         activeStash = null;
         goldStashPlaced = false;
@@ -346,18 +429,21 @@ public class BuildingSystem {
     /**
      * Updates all placed buildings
      * Precondition: N/A
-     * Postcondition: all placed buildings are updated
+     * Postcondition: buildings regenerate, attack and harvest, destroyed buildings are removed and projectiles move
      * @param resourceSystem the ResourceSystem object
      * @param zombieSystem the ZombieSystem object
      */
     public void update(ResourceSystem resourceSystem, ZombieSystem zombieSystem) {
-        //************* Update Placed Buildings *************//
+        //************* Update Building Entities *************//
+        regenSystem.update(world, clock);
+        attackSystem.update(world, zombieSystem, this, clock);
+        harvestSystem.update(world, resourceSystem, clock);
+
+        //************* Remove Destroyed Buildings *************//
         for (int i = 0; i < placedBuildings.size(); i++) {
             Building building = placedBuildings.get(i);
-            building.update(resourceSystem, zombieSystem, this);
-
-            //************* Remove Destroyed Buildings *************//
             if (building.getHealth() <= 0) {
+                BuildingEvent.emit(BuildingEvent.DESTROY, building);
                 removeBuilding(building);
                 i--; 
             }
@@ -375,14 +461,40 @@ public class BuildingSystem {
     }
 
     /**
-     * Draws all placed buildings
-     * Precondition: g2d is not null
-     * Postcondition: all placed buildings are drawn
+     * Gets the clock shared by the simulation
+     * Precondition: N/A
+     * Postcondition: returns the GameClock
+     * @return the GameClock used for building timing
+     */
+    public GameClock getClock() {
+        return clock;
+    }
+
+    /**
+     * Stores the current position of every projectile for render interpolation
+     * Precondition: called at the start of a simulation tick
+     * Postcondition: every projectile's previous position is its current position
+     */
+    public void storePreviousPositions() {
+        for (int i = 0; i < projectiles.size(); i++) {
+            projectiles.get(i).storePreviousPosition();
+        }
+    }
+
+    /**
+     * Draws the placed buildings and projectiles that are on screen
+     * Precondition: g2d is not null, alpha is between 0.0 and 1.0, viewport is set for this frame
+     * Postcondition: all placed buildings and projectiles inside the viewport are drawn
      * @param g2d the Graphics2D object to draw with
+     * @param alpha how far the renderer is between the previous and current tick
+     * @param viewport the part of the world on screen
      */
-    public void draw(Graphics2D g2d) {
+    public void draw(Graphics2D g2d, double alpha, Viewport viewport) {
         for (int i = 0; i < placedBuildings.size(); i++) {
             Building building = placedBuildings.get(i);
+            if (!viewport.isVisible(building.getX(), building.getY(), building.getWidth(), building.getHeight())) {
+                continue;
+            }
             building.draw(g2d);
 
             building.drawHealthBar(g2d);
@@ -391,7 +503,9 @@ public class BuildingSystem {
         //************* Draw Projectiles *************//
         for (int i = 0; i < projectiles.size(); i++) {
             Projectile projectile = projectiles.get(i);
-            projectile.draw(g2d);
+            if (viewport.isVisible(projectile.getX(), projectile.getY(), projectile.getWidth(), projectile.getHeight())) {
+                projectile.drawInterpolated(g2d, alpha);
+            }
         }
     }
 }
\ No newline at end of file
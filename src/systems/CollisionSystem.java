@@ -10,13 +10,16 @@ package systems;
 
 import java.awt.Rectangle;
 import java.util.ArrayList;
+import java.util.concurrent.atomic.LongAdder;
 import objects.Buildings.Building;
 import objects.Player;
 import objects.Stone;
 import objects.Tree;
-import objects.Zombie;
 
 public class CollisionSystem {
+    // Counted from the simulation thread, the zombie update pool and the EDT, LongAdder keeps them from contending
+    private static final LongAdder queryCount = new LongAdder();
+
     /**
      * Checks for collisions between a bounding box and resources (trees and stones)
      * Precondition: bouds is a valid Rectangle, resourceSystem is a valid ResourceSystem
@@ -26,22 +29,8 @@ public class CollisionSystem {
      * @return true if a collision is detected, false otherwise
      */
     public static boolean checkResourceCollision(Rectangle bouds, ResourceSystem resourceSystem) {
-        //************* Check Collisions Against Trees *************//
-        for (int i = 0; i < resourceSystem.getTrees().size(); i++) {
-            Tree tree = resourceSystem.getTrees().get(i);
-            if (bouds.intersects(tree.getBounds())) {
-                return true;
-            }
-        } 
-
-        //************* Check Collisions Against Stones *************//
-        for (int i = 0; i < resourceSystem.getStones().size(); i++) {
-            Stone stone = resourceSystem.getStones().get(i);
-            if (bouds.intersects(stone.getBounds())) {
-                return true;
-            }
-        }
-        return false;
+        queryCount.increment();
+        return findTree(bouds, resourceSystem) != null || findStone(bouds, resourceSystem) != null;
     }
 
     /**
@@ -53,22 +42,19 @@ public class CollisionSystem {
      * @return "tree" if a tree is hit, "stone" if a stone is hit, null otherwise
      */
     public static String checkResourceHitCollision(Rectangle toolBounds, ResourceSystem resourceSystem) {
+        queryCount.increment();
         //************* Check Collisions Against Trees *************//
-        for (int i = 0; i < resourceSystem.getTrees().size(); i++) {
-            Tree tree = resourceSystem.getTrees().get(i);
-            if (toolBounds.intersects(tree.getBounds())) {
-                tree.playAnimation();
-                return "tree";
-            }
-        } 
+        Tree tree = findTree(toolBounds, resourceSystem);
+        if (tree != null) {
+            tree.playAnimation();
+            return "tree";
+        }
 
         //************* Check Collisions Against Stones *************//
-        for (int i = 0; i < resourceSystem.getStones().size(); i++) {
-            Stone stone = resourceSystem.getStones().get(i);
-            if (toolBounds.intersects(stone.getBounds())) {
-                stone.playAnimation();
-                return "stone";
-            }
+        Stone stone = findStone(toolBounds, resourceSystem);
+        if (stone != null) {
+            stone.playAnimation();
+            return "stone";
         }
 
         return null;
@@ -83,15 +69,8 @@ public class CollisionSystem {
      * @return true if a collision is detected, false otherwise
      */
     public static boolean checkBuildingCollision(Rectangle box, BuildingSystem buildingSystem) {
-        ArrayList<Building> buildings = buildingSystem.getPlacedBuildings();
-        for (int i = 0; i < buildings.size(); i++) {
-            Building building = buildings.get(i);
-            Rectangle buildingRect = new Rectangle((int)building.getX(), (int)building.getY(), building.getWidth(), building.getHeight());
-            if (buildingRect.intersects(box)) {
-                return true;
-            }
-        }
-        return false;
+        queryCount.increment();
+        return findBuilding(box, buildingSystem, 0, false) != null;
     }
 
     /**
@@ -103,21 +82,8 @@ public class CollisionSystem {
      * @return true if a collision is detected with a solid building, false otherwise
      */
     public static boolean checkSolidBuildingCollision(Rectangle box, BuildingSystem buildingSystem) {
-        ArrayList<Building> buildings = buildingSystem.getPlacedBuildings();
-        for (int i = 0; i < buildings.size(); i++) {
-            Building building = buildings.get(i);
-            
-            // Check if the building is non-solid
-            if (building.getName().equals("Door") || building.getName().equals("Slow Trap")) {
-                continue;
-            }
-
-            Rectangle buildingRect = new Rectangle((int)building.getX(), (int)building.getY(), building.getWidth(), building.getHeight());
-            if (buildingRect.intersects(box)) {
-                return true;
-            }
-        }
-        return false;
+        queryCount.increment();
+        return findBuilding(box, buildingSystem, 0, true) != null;
     }
 
     /**
@@ -129,9 +95,10 @@ public class CollisionSystem {
      * @return true if a collision is detected, false otherwise
      */
     public static boolean checkZombieCollision(Rectangle box, ZombieSystem zombieSystem) {
-        for (int i = 0; i < zombieSystem.getZombies().size(); i++) {
-            Zombie zombie = zombieSystem.getZombies().get(i);
-            if (zombie.getBounds().intersects(box)) {
+        queryCount.increment();
+        ZombieStore zombies = zombieSystem.getZombieStore();
+        for (int i = 0; i < zombies.size(); i++) {
+            if (intersects(box, (int) zombies.getX(i), (int) zombies.getY(i), ZombieStore.SIZE, ZombieStore.SIZE)) {
                 return true;
             }
         }
@@ -147,8 +114,8 @@ public class CollisionSystem {
      * @return true if a collision is detected, false otherwise
      */
     public static boolean checkPlayerCollision(Rectangle box, Player player) {
-        Rectangle playerRect = player.getBounds();
-        return box.intersects(playerRect);
+        queryCount.increment();
+        return intersects(box, (int) player.getX(), (int) player.getY(), player.getWidth(), player.getHeight());
     }
 
     /**
@@ -160,12 +127,150 @@ public class CollisionSystem {
      * @return the colliding building, or null if no collision is detected
      */
     public static Building getCollidingBuilding(Rectangle box, BuildingSystem buildingSystem) {
-        ArrayList<Building> buildings = buildingSystem.getPlacedBuildings();
-        for (int i = 0; i < buildings.size(); i++) {
-            Building building = buildings.get(i);            
-            Rectangle buildingRect = new Rectangle((int)building.getX() - 2, (int)building.getY() - 2, building.getWidth() + 4, building.getHeight() + 4);
-            if (buildingRect.intersects(box)) {
-                return building;
+        queryCount.increment();
+        return findBuilding(box, buildingSystem, 2, false);
+    }
+
+    /**
+     * Gets the building that the given bounding box actually overlaps, without the padding used by getCollidingBuilding
+     * Precondition: box is a valid Rectangle, buildingSystem is a valid BuildingSystem
+     * Postcondition: returns the overlapping building, or null if there is none
+     * @param box the bounding box to check for collisions
+     * @param buildingSystem the building system containing placed buildings
+     * @return the overlapping building, or null if there is none
+     */
+    public static Building getOverlappingBuilding(Rectangle box, BuildingSystem buildingSystem) {
+        queryCount.increment();
+        return findBuilding(box, buildingSystem, 0, false);
+    }
+
+    /**
+     * Gets the number of collision queries made since the last call and starts counting again
+     * Precondition: N/A
+     * Postcondition: returns the count, queries made during the call may land in either count
+     * @return the number of queries since the last call
+     */
+    public static long takeQueryCount() {
+        return queryCount.sumThenReset();
+    }
+
+    /**
+     * Checks if a bounding box overlaps a rectangle given by its position and size
+     * Precondition: box is a valid Rectangle
+     * Postcondition: returns the same result as Rectangle.intersects without allocating a Rectangle
+     * @param box the bounding box to check
+     * @param x the x-coordinate of the rectangle
+     * @param y the y-coordinate of the rectangle
+     * @param width the width of the rectangle
+     * @param height the height of the rectangle
+     * @return true if the two rectangles overlap, false otherwise
+     */
+    public static boolean intersects(Rectangle box, int x, int y, int width, int height) {
+        if (box.width <= 0 || box.height <= 0 || width <= 0 || height <= 0) {
+            return false;
+        }
+        return x < box.x + box.width && y < box.y + box.height && box.x < x + width && box.y < y + height;
+    }
+
+    /**
+     * Finds a tree whose bounds overlap the bounding box using the resource grid
+     * Precondition: box is a valid Rectangle, resourceSystem is a valid ResourceSystem
+     * Postcondition: returns an overlapping tree, or null if there is none
+     * @param box the bounding box to check
+     * @param resourceSystem the resource system containing trees
+     * @return an overlapping tree, or null
+     */
+    private static Tree findTree(Rectangle box, ResourceSystem resourceSystem) {
+        SpatialGrid<Tree> grid = resourceSystem.getTreeGrid();
+        int minCol = grid.getColumn(box.x);
+        int maxCol = grid.getColumn(box.x + box.width - 1);
+        int minRow = grid.getRow(box.y);
+        int maxRow = grid.getRow(box.y + box.height - 1);
+
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int col = minCol; col <= maxCol; col++) {
+                ArrayList<Tree> cell = grid.getCell(col, row);
+                if (cell == null) {
+                    continue;
+                }
+                for (int i = 0; i < cell.size(); i++) {
+                    Tree tree = cell.get(i);
+                    if (tree.intersects(box)) {
+                        return tree;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Finds a stone whose bounds overlap the bounding box using the resource grid
+     * Precondition: box is a valid Rectangle, resourceSystem is a valid ResourceSystem
+     * Postcondition: returns an overlapping stone, or null if there is none
+     * @param box the bounding box to check
+     * @param resourceSystem the resource system containing stones
+     * @return an overlapping stone, or null
+     */
+    private static Stone findStone(Rectangle box, ResourceSystem resourceSystem) {
+        SpatialGrid<Stone> grid = resourceSystem.getStoneGrid();
+        int minCol = grid.getColumn(box.x);
+        int maxCol = grid.getColumn(box.x + box.width - 1);
+        int minRow = grid.getRow(box.y);
+        int maxRow = grid.getRow(box.y + box.height - 1);
+
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int col = minCol; col <= maxCol; col++) {
+                ArrayList<Stone> cell = grid.getCell(col, row);
+                if (cell == null) {
+                    continue;
+                }
+                for (int i = 0; i < cell.size(); i++) {
+                    Stone stone = cell.get(i);
+                    if (stone.intersects(box)) {
+                        return stone;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Finds a placed building overlapping the bounding box using the building grid
+     * Precondition: box is a valid Rectangle, buildingSystem is a valid BuildingSystem, padding is non-negative
+     * Postcondition: returns an overlapping building, or null if there is none
+     * @param box the bounding box to check
+     * @param buildingSystem the building system containing placed buildings
+     * @param padding extra space added around every building before checking
+     * @param solidOnly true to ignore buildings that can be walked through (Door and Slow Trap)
+     * @return an overlapping building, or null
+     */
+    private static Building findBuilding(Rectangle box, BuildingSystem buildingSystem, int padding, boolean solidOnly) {
+        SpatialGrid<Building> grid = buildingSystem.getBuildingGrid();
+        int minCol = grid.getColumn(box.x - padding);
+        int maxCol = grid.getColumn(box.x + box.width - 1 + padding);
+        int minRow = grid.getRow(box.y - padding);
+        int maxRow = grid.getRow(box.y + box.height - 1 + padding);
+
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int col = minCol; col <= maxCol; col++) {
+                ArrayList<Building> cell = grid.getCell(col, row);
+                if (cell == null) {
+                    continue;
+                }
+                for (int i = 0; i < cell.size(); i++) {
+                    Building building = cell.get(i);
+
+                    // Check if the building is non-solid
+                    if (solidOnly && (building.getName().equals("Door") || building.getName().equals("Slow Trap"))) {
+                        continue;
+                    }
+
+                    if (intersects(box, (int)building.getX() - padding, (int)building.getY() - padding, building.getWidth() + padding * 2, building.getHeight() + padding * 2)) {
+                        return building;
+                    }
+                }
             }
         }
         return null;
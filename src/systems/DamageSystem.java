@@ -0,0 +1,280 @@
+/**
+ * DamageSystem.java
+ * The DamageSystem class for BenumZombs, queueing every hit during a tick and applying them together in one phase at the end
+ * @author Richard Pu
+ * @version 1.0
+ * @since 2026-10-17
+ */
+
+package systems;
+
+import java.util.Arrays;
+import objects.Buildings.Building;
+import objects.GameObject;
+import objects.Player;
+
+public class DamageSystem {
+    //************* Target Kinds *************//
+    private static final byte TARGET_ZOMBIE = 0;
+    private static final byte TARGET_BUILDING = 1;
+    private static final byte TARGET_PLAYER = 2;
+
+    //************* Damage Sources *************//
+    public static final int SOURCE_PLAYER_TOOL = 0;
+    public static final int SOURCE_PROJECTILE = 1;
+    public static final int SOURCE_AREA = 2;
+    public static final int SOURCE_MELEE_TOWER = 3;
+    public static final int SOURCE_ZOMBIE = 4;
+    public static final int SOURCE_COUNT = 5;
+
+    //************* Event Flags *************//
+    public static final int FLAG_FROM_PLAYER = 1;
+
+    //************* Event Ring Buffer *************//
+    // Events are stored across parallel arrays, the capacity is always a power of two so indices wrap with a mask
+    // Zombies are referred to by handle, so one removed before its damage is applied is skipped
+    private GameObject[] targets = new GameObject[256];
+    private long[] zombieHandles = new long[256];
+    private byte[] kinds = new byte[256];
+    private int[] amounts = new int[256];
+    private byte[] sources = new byte[256];
+    private byte[] flags = new byte[256];
+    private int head = 0;
+    private int size = 0;
+
+    //************* Statistics *************//
+    private final long[] damageBySource = new long[SOURCE_COUNT];
+    private int zombieKills = 0;
+    private int buildingsDestroyed = 0;
+    private long playerDamageTaken = 0;
+
+    private final ZombieStore zombieStore;
+
+    /**
+     * Constructor for DamageSystem
+     * Precondition: zombieStore is not null
+     * Postcondition: an empty DamageSystem is created
+     * @param zombieStore the ZombieStore that zombie handles are looked up in
+     */
+    public DamageSystem(ZombieStore zombieStore) {
+        this.zombieStore = zombieStore;
+    }
+
+    /**
+     * Queues damage to a zombie
+     * Precondition: handle came from the ZombieStore, amount is non-negative
+     * Postcondition: the event is appended and applied at the end of the tick
+     * @param handle the handle of the zombie to damage
+     * @param amount the amount of damage
+     * @param source the SOURCE_ constant describing what dealt the damage
+     * @param eventFlags a combination of FLAG_ constants
+     */
+    public void damageZombie(long handle, int amount, int source, int eventFlags) {
+        int slot = append(null, TARGET_ZOMBIE, amount, source, eventFlags);
+        zombieHandles[slot] = handle;
+    }
+
+    /**
+     * Queues damage to a building
+     * Precondition: building is not null, amount is non-negative
+     * Postcondition: the event is appended and applied at the end of the tick
+     * @param building the building to damage
+     * @param amount the amount of damage
+     * @param source the SOURCE_ constant describing what dealt the damage
+     */
+    public void damageBuilding(Building building, int amount, int source) {
+        append(building, TARGET_BUILDING, amount, source, 0);
+    }
+
+    /**
+     * Queues damage to the player
+     * Precondition: player is not null, amount is non-negative
+     * Postcondition: the event is appended and applied at the end of the tick
+     * @param player the player to damage
+     * @param amount the amount of damage
+     * @param source the SOURCE_ constant describing what dealt the damage
+     */
+    public void damagePlayer(Player player, int amount, int source) {
+        append(player, TARGET_PLAYER, amount, source, 0);
+    }
+
+    /**
+     * Adds an event to the end of the ring buffer, doubling it if it is full
+     * Precondition: N/A
+     * Postcondition: the event is stored after every earlier event
+     * @param target the object being damaged
+     * @param kind the TARGET_ constant of the object
+     * @param amount the amount of damage
+     * @param source the SOURCE_ constant describing what dealt the damage
+     * @param eventFlags a combination of FLAG_ constants
+     * @return the ring buffer slot the event was stored in
+     */
+    private int append(GameObject target, byte kind, int amount, int source, int eventFlags) {
+        if (size == targets.length) {
+            grow();
+        }
+        int slot = (head + size) & (targets.length - 1);
+        targets[slot] = target;
+        kinds[slot] = kind;
+        amounts[slot] = amount;
+        sources[slot] = (byte) source;
+        flags[slot] = (byte) eventFlags;
+        size++;
+        return slot;
+    }
+
+    /**
+     * Doubles the ring buffer, unwrapping the queued events to the start
+     * Precondition: the buffer is full
+     * Postcondition: the capacity is doubled and event order is kept
+     */
+    private void grow() {
+        int capacity = targets.length;
+        GameObject[] newTargets = new GameObject[capacity * 2];
+        long[] newHandles = new long[capacity * 2];
+        byte[] newKinds = new byte[capacity * 2];
+        int[] newAmounts = new int[capacity * 2];
+        byte[] newSources = new byte[capacity * 2];
+        byte[] newFlags = new byte[capacity * 2];
+        for (int i = 0; i < size; i++) {
+            int slot = (head + i) & (capacity - 1);
+            newTargets[i] = targets[slot];
+            newHandles[i] = zombieHandles[slot];
+            newKinds[i] = kinds[slot];
+            newAmounts[i] = amounts[slot];
+            newSources[i] = sources[slot];
+            newFlags[i] = flags[slot];
+        }
+        targets = newTargets;
+        zombieHandles = newHandles;
+        kinds = newKinds;
+        amounts = newAmounts;
+        sources = newSources;
+        flags = newFlags;
+        head = 0;
+    }
+
+    /**
+     * Applies every queued event in the order it was queued and updates the statistics
+     * Precondition: called once at the end of a tick, after every system has updated
+     * Postcondition: the queue is empty and all damage has been dealt
+     * @param now the current simulated time in milliseconds
+     */
+    public void apply(long now) {
+        int mask = targets.length - 1;
+        while (size > 0) {
+            int slot = head;
+            GameObject target = targets[slot];
+            int amount = amounts[slot];
+            targets[slot] = null;
+            head = (head + 1) & mask;
+            size--;
+
+            damageBySource[sources[slot]] += amount;
+            switch (kinds[slot]) {
+                case TARGET_ZOMBIE:
+                    int zombieSlot = zombieStore.getSlot(zombieHandles[slot]);
+                    if (zombieSlot < 0) {
+                        break; // Removed before the hit landed
+                    }
+                    boolean wasAlive = zombieStore.getHealth(zombieSlot) > 0;
+                    zombieStore.takeDamage(zombieSlot, amount);
+                    if (wasAlive && zombieStore.getHealth(zombieSlot) <= 0) {
+                        zombieKills++;
+                    }
+                    break;
+                case TARGET_BUILDING:
+                    Building building = (Building) target;
+                    boolean wasStanding = !building.isDestroyed();
+                    building.takeDamage(amount, now);
+                    if (wasStanding && building.isDestroyed()) {
+                        buildingsDestroyed++;
+                    }
+                    break;
+                case TARGET_PLAYER:
+                    ((Player) target).takeDamage(amount);
+                    playerDamageTaken += amount;
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Drops any queued events without applying them, used while damage is switched off from the developer console
+     * Precondition: N/A
+     * Postcondition: the queue is empty and the statistics are unchanged
+     */
+    public void discardPending() {
+        Arrays.fill(targets, null);
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * Drops any queued events and clears the statistics
+     * Precondition: N/A
+     * Postcondition: the queue and statistics are empty
+     */
+    public void reset() {
+        Arrays.fill(targets, null);
+        head = 0;
+        size = 0;
+        Arrays.fill(damageBySource, 0);
+        zombieKills = 0;
+        buildingsDestroyed = 0;
+        playerDamageTaken = 0;
+    }
+
+    /**
+     * Gets the number of events waiting to be applied
+     * Precondition: N/A
+     * Postcondition: returns the queue size
+     * @return the number of queued events
+     */
+    public int getPendingCount() {
+        return size;
+    }
+
+    /**
+     * Gets the total damage dealt by one source since the last reset
+     * Precondition: source is one of the SOURCE_ constants
+     * Postcondition: returns the total damage
+     * @param source the SOURCE_ constant to look up
+     * @return the total damage dealt by the source
+     */
+    public long getDamageBySource(int source) {
+        return damageBySource[source];
+    }
+
+    /**
+     * Gets the number of zombies killed since the last reset
+     * Precondition: N/A
+     * Postcondition: returns the kill count
+     * @return the number of zombies killed
+     */
+    public int getZombieKills() {
+        return zombieKills;
+    }
+
+    /**
+     * Gets the number of buildings destroyed since the last reset
+     * Precondition: N/A
+     * Postcondition: returns the destroyed count
+     * @return the number of buildings destroyed
+     */
+    public int getBuildingsDestroyed() {
+        return buildingsDestroyed;
+    }
+
+    /**
+     * Gets the total damage the player has taken since the last reset
+     * Precondition: N/A
+     * Postcondition: returns the damage taken
+     * @return the damage taken by the player
+     */
+    public long getPlayerDamageTaken() {
+        return playerDamageTaken;
+    }
+}
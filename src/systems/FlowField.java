@@ -0,0 +1,455 @@
+/**
+ * FlowField.java
+ * The FlowField class for BenumZombs, storing the cheapest step toward the Gold Stash for every grid cell so zombies can path around walls
+ * @author Richard Pu
+ * @version 1.0
+ * @since 2026-10-17
+ */
+
+package systems;
+
+import game.BenumZombsGame;
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import objects.Buildings.Building;
+
+public class FlowField {
+    //************* Path Costs *************//
+    private static final int INFINITE = Integer.MAX_VALUE;
+    private static final int BLOCKED = -1; // Resources cannot be walked or broken through
+    private static final int STRAIGHT_COST = 10;
+    private static final int DIAGONAL_COST = 14;
+    // Every 25 max health of a building costs as much as walking one more cell
+    // Max health only changes on placement and upgrade, which both repath, so damage and regen never leave a cost stale
+    private static final int HEALTH_PER_CELL = 25;
+
+    private static final int[] NEIGHBOUR_COL = {1, -1, 0, 0, 1, 1, -1, -1};
+    private static final int[] NEIGHBOUR_ROW = {0, 0, 1, -1, 1, -1, 1, -1};
+
+    //************* Grid *************//
+    private final int cellSize = BenumZombsGame.GRID_SIZE;
+    private final int columns = (BenumZombsGame.WORLD_AREA + cellSize - 1) / cellSize;
+    private final int[] cellCost = new int[columns * columns]; // Extra cost to enter a cell, or BLOCKED
+    private final boolean[] target = new boolean[columns * columns];
+    private final int[] distance = new int[columns * columns];
+    private final int[] next = new int[columns * columns]; // Neighbour one step closer to the stash, or -1
+
+    //************* Update State *************//
+    private final ArrayList<Rectangle> pendingChanges = new ArrayList<>();
+    private boolean rebuildNeeded = true;
+    private boolean ready = false;
+    private final boolean[] affected = new boolean[columns * columns];
+    private int[] affectedCells = new int[64];
+    private int affectedCount = 0;
+
+    //************* Priority Queue *************//
+    private int[] heapCells = new int[256];
+    private int[] heapKeys = new int[256];
+    private int heapSize = 0;
+
+    /**
+     * Constructor for FlowField
+     * Precondition: N/A
+     * Postcondition: an empty flow field is created that has no path until the stash is placed
+     */
+    public FlowField() {
+        Arrays.fill(distance, INFINITE);
+        Arrays.fill(next, -1);
+    }
+
+    /**
+     * Marks the area under a placed, upgraded or removed building so it is repathed on the next refresh
+     * Precondition: area is not null
+     * Postcondition: area is queued for an incremental update
+     * @param area the hitbox of the building that changed
+     */
+    public void markChanged(Rectangle area) {
+        if (!rebuildNeeded) {
+            pendingChanges.add(new Rectangle(area));
+        }
+    }
+
+    /**
+     * Throws away the whole field, used when the stash itself is placed, removed or the game resets
+     * Precondition: N/A
+     * Postcondition: the field is fully rebuilt on the next refresh
+     */
+    public void invalidate() {
+        rebuildNeeded = true;
+        pendingChanges.clear();
+    }
+
+    /**
+     * Brings the field up to date with every building change since the last refresh
+     * Precondition: called once per tick before zombies move
+     * Postcondition: the field is rebuilt, incrementally repathed or left as it is
+     * @param buildingSystem the building system holding the stash and placed buildings
+     * @param resourceSystem the resource system holding trees and stones
+     */
+    public void refresh(BuildingSystem buildingSystem, ResourceSystem resourceSystem) {
+        if (rebuildNeeded) {
+            rebuild(buildingSystem, resourceSystem);
+        } else if (!pendingChanges.isEmpty()) {
+            repath(buildingSystem, resourceSystem);
+        }
+    }
+
+    /**
+     * Computes the whole field from scratch with Dijkstra's algorithm outward from the stash
+     * Precondition: N/A
+     * Postcondition: every reachable cell has its distance and next step, or the field is empty if there is no stash
+     * @param buildingSystem the building system holding the stash and placed buildings
+     * @param resourceSystem the resource system holding trees and stones
+     */
+    private void rebuild(BuildingSystem buildingSystem, ResourceSystem resourceSystem) {
+        rebuildNeeded = false;
+        pendingChanges.clear();
+        Arrays.fill(distance, INFINITE);
+        Arrays.fill(next, -1);
+        Arrays.fill(target, false);
+        heapSize = 0;
+
+        Building stash = buildingSystem.getActiveStash();
+        ready = stash != null;
+        if (!ready) {
+            return;
+        }
+
+        for (int cell = 0; cell < cellCost.length; cell++) {
+            cellCost[cell] = computeCellCost(cell % columns, cell / columns, buildingSystem, resourceSystem);
+        }
+
+        //************* Seed From the Stash *************//
+        Rectangle hitbox = stash.getHitbox();
+        for (int row = getIndex(hitbox.y); row <= getIndex(hitbox.y + hitbox.height - 1); row++) {
+            for (int col = getIndex(hitbox.x); col <= getIndex(hitbox.x + hitbox.width - 1); col++) {
+                int cell = row * columns + col;
+                target[cell] = true;
+                distance[cell] = 0;
+                push(cell, 0);
+            }
+        }
+        propagate();
+    }
+
+    /**
+     * Repaths only the cells whose route ran through a changed area, then lets any shorter routes spread outward
+     * Precondition: the field has been built
+     * Postcondition: every cell's distance and next step match a full rebuild
+     * @param buildingSystem the building system holding the placed buildings
+     * @param resourceSystem the resource system holding trees and stones
+     */
+    private void repath(BuildingSystem buildingSystem, ResourceSystem resourceSystem) {
+        if (!ready) {
+            pendingChanges.clear();
+            return;
+        }
+
+        //************* Update Costs Around Each Change *************//
+        // The ring around a change is included because diagonal steps depend on their neighbours
+        for (int i = 0; i < pendingChanges.size(); i++) {
+            Rectangle area = pendingChanges.get(i);
+            int minCol = Math.max(0, getIndex(area.x) - 1);
+            int maxCol = Math.min(columns - 1, getIndex(area.x + area.width - 1) + 1);
+            int minRow = Math.max(0, getIndex(area.y) - 1);
+            int maxRow = Math.min(columns - 1, getIndex(area.y + area.height - 1) + 1);
+            for (int row = minRow; row <= maxRow; row++) {
+                for (int col = minCol; col <= maxCol; col++) {
+                    int cell = row * columns + col;
+                    cellCost[cell] = computeCellCost(col, row, buildingSystem, resourceSystem);
+                    if (!target[cell]) {
+                        markAffected(cell);
+                    }
+                }
+            }
+        }
+        pendingChanges.clear();
+
+        //************* Invalidate Routes Through the Changes *************//
+        for (int i = 0; i < affectedCount; i++) {
+            int cell = affectedCells[i];
+            int col = cell % columns;
+            int row = cell / columns;
+            for (int n = 0; n < NEIGHBOUR_COL.length; n++) {
+                int neighbour = getNeighbour(col, row, n);
+                if (neighbour >= 0 && !affected[neighbour] && next[neighbour] == cell) {
+                    markAffected(neighbour);
+                }
+            }
+        }
+        for (int i = 0; i < affectedCount; i++) {
+            distance[affectedCells[i]] = INFINITE;
+            next[affectedCells[i]] = -1;
+        }
+
+        //************* Reseed From the Untouched Border *************//
+        heapSize = 0;
+        for (int i = 0; i < affectedCount; i++) {
+            int cell = affectedCells[i];
+            int col = cell % columns;
+            int row = cell / columns;
+            for (int n = 0; n < NEIGHBOUR_COL.length; n++) {
+                int neighbour = getNeighbour(col, row, n);
+                if (neighbour < 0 || affected[neighbour] || distance[neighbour] == INFINITE || cellCost[neighbour] == BLOCKED) {
+                    continue;
+                }
+                int stepCost = getStepCost(cell, neighbour, n);
+                if (stepCost > 0 && distance[neighbour] + stepCost < distance[cell]) {
+                    distance[cell] = distance[neighbour] + stepCost;
+                    next[cell] = neighbour;
+                }
+            }
+            if (distance[cell] != INFINITE) {
+                push(cell, distance[cell]);
+            }
+        }
+
+        for (int i = 0; i < affectedCount; i++) {
+            affected[affectedCells[i]] = false;
+        }
+        affectedCount = 0;
+
+        propagate();
+    }
+
+    /**
+     * Runs Dijkstra's algorithm from the queued cells, relaxing every neighbour that can step into them
+     * Precondition: queued cells have their final distances
+     * Postcondition: the queue is empty and every reachable cell has its shortest distance
+     */
+    private void propagate() {
+        while (heapSize > 0) {
+            int key = heapKeys[0];
+            int cell = pop();
+            if (key != distance[cell] || cellCost[cell] == BLOCKED) {
+                continue; // Stale entry, or a resource cell that nothing may step through
+            }
+
+            int col = cell % columns;
+            int row = cell / columns;
+            for (int n = 0; n < NEIGHBOUR_COL.length; n++) {
+                int neighbour = getNeighbour(col, row, n);
+                if (neighbour < 0 || target[neighbour]) {
+                    continue;
+                }
+                int stepCost = getStepCost(neighbour, cell, n);
+                if (stepCost > 0 && key + stepCost < distance[neighbour]) {
+                    distance[neighbour] = key + stepCost;
+                    next[neighbour] = cell;
+                    push(neighbour, key + stepCost);
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the cost of stepping from one cell into a neighbouring cell
+     * Precondition: to is the neighbour of from in direction n, or from is the neighbour of to in direction n
+     * Postcondition: returns the step cost, or 0 if the step is not allowed
+     * @param from the cell the zombie steps out of
+     * @param to the cell the zombie steps into
+     * @param n the direction index between the two cells
+     * @return the step cost, or 0 if the step is not allowed
+     */
+    private int getStepCost(int from, int to, int n) {
+        if (cellCost[to] == BLOCKED) {
+            return 0;
+        }
+        if (n < 4) {
+            return STRAIGHT_COST + cellCost[to];
+        }
+
+        // Diagonal steps may not cut the corner of a building or resource
+        int fromCol = from % columns;
+        int toCol = to % columns;
+        int fromRow = from / columns;
+        int toRow = to / columns;
+        if (cellCost[fromRow * columns + toCol] != 0 || cellCost[toRow * columns + fromCol] != 0) {
+            return 0;
+        }
+        return DIAGONAL_COST + cellCost[to];
+    }
+
+    /**
+     * Works out the extra cost of entering a cell from what occupies it
+     * Precondition: col and row are valid cell coordinates
+     * Postcondition: returns BLOCKED for resources, a max health based cost for buildings, or 0 for open ground
+     * @param col the column of the cell
+     * @param row the row of the cell
+     * @param buildingSystem the building system holding the placed buildings
+     * @param resourceSystem the resource system holding trees and stones
+     * @return the extra cost of entering the cell
+     */
+    private int computeCellCost(int col, int row, BuildingSystem buildingSystem, ResourceSystem resourceSystem) {
+        ArrayList<?> trees = resourceSystem.getTreeGrid().getCell(col, row);
+        ArrayList<?> stones = resourceSystem.getStoneGrid().getCell(col, row);
+        if ((trees != null && !trees.isEmpty()) || (stones != null && !stones.isEmpty())) {
+            return BLOCKED;
+        }
+
+        int cost = 0;
+        ArrayList<Building> buildings = buildingSystem.getBuildingGrid().getCell(col, row);
+        if (buildings != null) {
+            for (int i = 0; i < buildings.size(); i++) {
+                int health = Math.max(1, buildings.get(i).getMaxHealth());
+                cost = Math.max(cost, STRAIGHT_COST + (health / HEALTH_PER_CELL) * STRAIGHT_COST);
+            }
+        }
+        return cost;
+    }
+
+    /**
+     * Adds a cell to the list of cells being repathed
+     * Precondition: cell is not already marked
+     * Postcondition: cell is marked as affected
+     * @param cell the cell to mark
+     */
+    private void markAffected(int cell) {
+        if (affected[cell]) {
+            return;
+        }
+        if (affectedCount == affectedCells.length) {
+            affectedCells = Arrays.copyOf(affectedCells, affectedCount * 2);
+        }
+        affected[cell] = true;
+        affectedCells[affectedCount++] = cell;
+    }
+
+    /**
+     * Gets the neighbouring cell in a direction
+     * Precondition: n is between 0 and 7
+     * Postcondition: returns the neighbour's index, or -1 if it is outside the grid
+     * @param col the column of the cell
+     * @param row the row of the cell
+     * @param n the direction index
+     * @return the neighbouring cell, or -1
+     */
+    private int getNeighbour(int col, int row, int n) {
+        int neighbourCol = col + NEIGHBOUR_COL[n];
+        int neighbourRow = row + NEIGHBOUR_ROW[n];
+        if (neighbourCol < 0 || neighbourRow < 0 || neighbourCol >= columns || neighbourRow >= columns) {
+            return -1;
+        }
+        return neighbourRow * columns + neighbourCol;
+    }
+
+    /**
+     * Gets the row or column containing a world coordinate, clamped to the grid
+     * Precondition: N/A
+     * Postcondition: returns an index between 0 and columns - 1
+     * @param coordinate the world x or y coordinate
+     * @return the index of the cell containing the coordinate
+     */
+    private int getIndex(double coordinate) {
+        int index = (int) Math.floor(coordinate / cellSize);
+        return Math.max(0, Math.min(columns - 1, index));
+    }
+
+    /**
+     * Adds a cell to the priority queue
+     * Precondition: N/A
+     * Postcondition: the cell is queued with the given key
+     * @param cell the cell to add
+     * @param key the distance of the cell
+     */
+    private void push(int cell, int key) {
+        if (heapSize == heapCells.length) {
+            heapCells = Arrays.copyOf(heapCells, heapSize * 2);
+            heapKeys = Arrays.copyOf(heapKeys, heapSize * 2);
+        }
+        int i = heapSize++;
+        while (i > 0) {
+            int parent = (i - 1) / 2;
+            if (heapKeys[parent] <= key) {
+                break;
+            }
+            heapCells[i] = heapCells[parent];
+            heapKeys[i] = heapKeys[parent];
+            i = parent;
+        }
+        heapCells[i] = cell;
+        heapKeys[i] = key;
+    }
+
+    /**
+     * Removes the cell with the smallest key from the priority queue
+     * Precondition: the queue is not empty
+     * Postcondition: the smallest entry is removed
+     * @return the cell with the smallest key
+     */
+    private int pop() {
+        int top = heapCells[0];
+        heapSize--;
+        int cell = heapCells[heapSize];
+        int key = heapKeys[heapSize];
+        int i = 0;
+        while (true) {
+            int child = i * 2 + 1;
+            if (child >= heapSize) {
+                break;
+            }
+            if (child + 1 < heapSize && heapKeys[child + 1] < heapKeys[child]) {
+                child++;
+            }
+            if (heapKeys[child] >= key) {
+                break;
+            }
+            heapCells[i] = heapCells[child];
+            heapKeys[i] = heapKeys[child];
+            i = child;
+        }
+        heapCells[i] = cell;
+        heapKeys[i] = key;
+        return top;
+    }
+
+    /**
+     * Looks up the next cell toward the stash from a world position
+     * Precondition: N/A
+     * Postcondition: returns the next cell, or -1 if the position is on the stash, unreachable or there is no field
+     * @param x the world x-coordinate
+     * @param y the world y-coordinate
+     * @return the next cell to walk to, or -1
+     */
+    public int getNextCell(double x, double y) {
+        if (!ready) {
+            return -1;
+        }
+        return next[getIndex(y) * columns + getIndex(x)];
+    }
+
+    /**
+     * Gets the world x-coordinate of the middle of a cell
+     * Precondition: cell is a valid cell index
+     * Postcondition: returns the x-coordinate of the cell's centre
+     * @param cell the cell index
+     * @return the x-coordinate of the cell's centre
+     */
+    public double getCellCenterX(int cell) {
+        return (cell % columns) * cellSize + cellSize / 2.0;
+    }
+
+    /**
+     * Gets the world y-coordinate of the middle of a cell
+     * Precondition: cell is a valid cell index
+     * Postcondition: returns the y-coordinate of the cell's centre
+     * @param cell the cell index
+     * @return the y-coordinate of the cell's centre
+     */
+    public double getCellCenterY(int cell) {
+        return (cell / columns) * cellSize + cellSize / 2.0;
+    }
+
+    /**
+     * Gets the path cost from a world position to the stash
+     * Precondition: N/A
+     * Postcondition: returns the distance, or Integer.MAX_VALUE if unreachable
+     * @param x the world x-coordinate
+     * @param y the world y-coordinate
+     * @return the path cost to the stash
+     */
+    public int getDistance(double x, double y) {
+        return distance[getIndex(y) * columns + getIndex(x)];
+    }
+}
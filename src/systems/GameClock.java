@@ -0,0 +1,92 @@
+/**
+ * GameClock.java
+ * The GameClock class for BenumZombs, counting simulation ticks so all timing follows the simulation instead of the wall clock
+ * @author Richard Pu
+ * @version 1.0
+ * @since 2026-10-17
+ */
+
+package systems;
+
+public class GameClock {
+    public static final int TICKS_PER_SECOND = 60;
+    private static final float DAY_LENGTH = 0.00009f; // Speed of day-night cycle per tick
+
+    private long tick = 0;
+    private float timeOfDay = 0.0f;
+
+    /**
+     * Advances the clock by one simulation tick
+     * Precondition: called exactly once per simulation tick
+     * Postcondition: tick count and time of day are advanced
+     */
+    public void advance() {
+        tick++;
+        timeOfDay += DAY_LENGTH;
+        if (timeOfDay > 1.0f) {
+            timeOfDay = 0.0f;
+        }
+    }
+
+    /**
+     * Gets the number of ticks simulated so far
+     * Precondition: N/A
+     * Postcondition: returns the tick count
+     * @return the current tick
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Gets the simulated time in milliseconds, used for cooldowns and regen delays
+     * Precondition: N/A
+     * Postcondition: returns the simulated milliseconds since the clock started
+     * @return the simulated time in milliseconds
+     */
+    public long getMillis() {
+        return toMillis(tick);
+    }
+
+    /**
+     * Converts a tick to the simulated time it starts at
+     * Precondition: tick is non-negative
+     * Postcondition: returns the simulated milliseconds at the tick
+     * @param tick the tick to convert
+     * @return the simulated time in milliseconds
+     */
+    public static long toMillis(long tick) {
+        return tick * 1000 / TICKS_PER_SECOND;
+    }
+
+    /**
+     * Gets the first tick whose simulated time is past a given time, used to schedule cooldowns and regen delays
+     * Precondition: millis is non-negative
+     * Postcondition: returns the smallest tick t with getMillis() at t greater than millis
+     * @param millis the simulated time in milliseconds
+     * @return the first tick after the given time
+     */
+    public static long getTickAfter(long millis) {
+        return ((millis + 1) * TICKS_PER_SECOND + 999) / 1000;
+    }
+
+    /**
+     * Gets the current time value for day-night cycle
+     * Precondition: N/A
+     * Postcondition: returns time value between 0.0 and 1.0
+     * @return the current time of day
+     */
+    public float getTimeOfDay() {
+        return timeOfDay;
+    }
+
+    /**
+     * Sets the time of day
+     * Precondition: timeOfDay is between 0.0 and 1.0
+     * Postcondition: the day-night cycle continues from the given time
+     * @param timeOfDay the new time of day
+     */
+    public void setTimeOfDay(float timeOfDay) {
+        this.timeOfDay = timeOfDay;
+    }
+}
@@ -8,9 +8,13 @@
 
 package systems;
 
+import diagnostics.BuildingEvent;
 import game.BenumZombsGame;
 import game.Main;
+import helpers.AssetManager;
 import helpers.FontManager;
+import helpers.Log;
+import helpers.Logger;
 import helpers.RoundedJButton;
 import helpers.SoundManager;
 import helpers.TextFormatter;
@@ -26,17 +30,16 @@ import java.awt.Shape;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.awt.geom.RoundRectangle2D;
-import java.io.IOException;
 import java.util.ArrayList;
-import javax.imageio.ImageIO;
 import objects.Buildings.Building;
 import objects.Player;
 import objects.Tools.Tool;
 
 public class HeadUpDisplay {
+    private static final Logger LOG = Log.getLogger("HeadUpDisplay.java");
+
     private final Player player;
-    private float time = 0.0f;
-    private final float dayLength = 0.00009f; // Speed of day-night cycle
+    private final GameClock clock;
 
     public Rectangle settingsButtonBounds;
     public Rectangle shopButtonBounds;
@@ -63,11 +66,13 @@ public class HeadUpDisplay {
      * @param player  the Player object for whom the HUD is created
      * @param game the main game object
      * @param toolSystem the ToolSystem object managing tools
+     * @param clock the GameClock holding the time of day
      */
-    public HeadUpDisplay(BenumZombsGame game, Player player, ToolSystem toolSystem) {
+    public HeadUpDisplay(BenumZombsGame game, Player player, ToolSystem toolSystem, GameClock clock) {
         this.game = game;
         this.player = player;
         this.toolSystem = toolSystem;
+        this.clock = clock;
 
         initializeRespawnButton();
         loadIcons();
@@ -79,12 +84,8 @@ public class HeadUpDisplay {
      * Postcondition: icons are loaded for settings and shop buttons
      */
     private void loadIcons() {
-        try {
-            settingsIcon = ImageIO.read(getClass().getResource("/assets/images/settingIcon.png"));
-            shopIcon = ImageIO.read(getClass().getResource("/assets/images/shopIcon.png"));
-        } catch (IOException | IllegalArgumentException | NullPointerException e) {
-            System.out.println("HeadUpDisplay.java - Your icons are very broken. Good luck!!!! :)))): " + e.getMessage());
-        }
+        settingsIcon = AssetManager.getImage("settingIcon.png");
+        shopIcon = AssetManager.getImage("shopIcon.png");
     }
 
     /**
@@ -149,9 +150,9 @@ public class HeadUpDisplay {
                         resourceSystem.addStone(-stoneCost);
                         resourceSystem.addGold(-goldCost); 
 
-                        building.upgrade();
+                        buildingSystem.upgradeBuilding(building);
                         SoundManager.playSound("upgradeSound.wav");
-                        System.out.println("HeadUpDisplay.java - Upgraded Building: " + building.getName());
+                        LOG.info("Upgraded Building: ", building.getName());
                     }
                 }
                 return true;
@@ -162,9 +163,10 @@ public class HeadUpDisplay {
                 if (building.canBeSold()) {
                     resourceSystem.addWood(building.getWoodSellValue()); 
                     resourceSystem.addStone(building.getStoneSellValue());
+                    BuildingEvent.emit(BuildingEvent.SELL, building);
                     buildingSystem.removeBuilding(building);
                     SoundManager.playSound("sellSound.wav");
-                    System.out.println("HeadUpDisplay.java - Sold Building: " + building.getName());
+                    LOG.info("Sold Building: ", building.getName());
                 }
                 return true;
             }
@@ -175,7 +177,7 @@ public class HeadUpDisplay {
             Main.settingsScreen.setGameInstance(game);
             Main.showScreen("SETTINGS");
             SoundManager.playSound("buttonClick.wav");
-            System.out.println("HeadUpDisplay.java - Opened Settings Screen");
+            LOG.info("Opened Settings Screen");
             return true;
         }
 
@@ -184,7 +186,7 @@ public class HeadUpDisplay {
             Main.shopScreen.setGameInstance(game);
             Main.showScreen("SHOP");
             SoundManager.playSound("buttonClick.wav");
-            System.out.println("HeadUpDisplay.java - Opened Shop Screen");
+            LOG.info("Opened Shop Screen");
             return true;
         }
 
@@ -224,7 +226,7 @@ public class HeadUpDisplay {
                     if (tool != null && tool.getIsUnlocked()) {
                         toolSystem.setActiveSlot(i);
                         SoundManager.playSound("buttonClick.wav");
-                        System.out.println("HeadUpDisplay.java - Switched to: " + tool.getToolName());
+                        LOG.debug("Switched to: ", tool.getToolName());
                     }
                 }
             }
@@ -252,25 +254,25 @@ public class HeadUpDisplay {
                         if (building != null && !building.isLocked()) {
                             
                             if (building.isUnlocker() && buildingSystem.isGoldStashPlaced()) { // Only one Gold Stash allowed
-                                System.out.println("HeadUpDisplay.java - Gold Stash already placed");
+                                LOG.debug("Gold Stash already placed");
                                 return true;
                             }
 
                             if (buildingSystem.isLimitReached(building)) { // Building limit reached
-                                System.out.println("HeadUpDisplay.java - Building Limit Reached");
+                                LOG.debug("Building Limit Reached");
                                 return true;
                             }
 
                             if (!building.isUnlocker()) {
                                 if (resourceSystem.getWoodCount() < building.getWoodCost() || resourceSystem.getStoneCount() < building.getStoneCost()) { // Check resources
-                                    System.out.println("HeadUpDisplay.java - Not enough resources");
+                                    LOG.debug("Not enough resources");
                                     return true;
                                 }
                             }
 
                             game.startPlacement(building); 
                             SoundManager.playSound("buttonClick.wav");
-                            System.out.println("HeadUpDisplay.java - Started placement for: " + building.getName());
+                            LOG.debug("Started placement for: ", building.getName());
                         }
                     }
                 }
@@ -279,18 +281,6 @@ public class HeadUpDisplay {
         return clickedToolbar || clickedBuildingBar;
     }
 
-    /**
-     * Keeps track of time for day-night cycle
-     * Precondition: N/A
-     * Postcondition: time is updated for day-night cycle
-     */
-    public void update() {
-        time += dayLength;
-        if (time > 1.0f) {
-            time = 0.0f;
-        }
-    }
-
     /**
      * Gets the current time value for day-night cycle
      * Precondition: N/A
@@ -298,7 +288,7 @@ public class HeadUpDisplay {
      * @return the current time value for day-night cycle
      */
     public float getTime() {
-        return time;
+        return clock.getTimeOfDay();
     }
 
     /**
@@ -455,7 +445,7 @@ public class HeadUpDisplay {
         int barW = 150, barH = 20;
         int barX = 20, barY = screenH - 200;
 
-        int offset = (int)(time * barW);
+        int offset = (int)(clock.getTimeOfDay() * barW);
         int shift = barW / 4;
 
         Shape oldClip = g2d.getClip(); // Save current clip
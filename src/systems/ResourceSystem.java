@@ -8,16 +8,20 @@
 
 package systems;
 
+import ecs.EntityWorld;
+import game.BenumZombsGame;
 import helpers.RandomGeneration;
 import java.awt.*;
 import java.util.ArrayList;
-import java.util.Random;
 import objects.Stone;
 import objects.Tree;
 
 public class ResourceSystem {
     private final ArrayList<Tree> trees;
     private final ArrayList<Stone> stones;
+    private final SpatialGrid<Tree> treeGrid;
+    private final SpatialGrid<Stone> stoneGrid;
+    private final EntityWorld world;
 
     private int woodCount;
     private int stoneCount;
@@ -28,10 +32,14 @@ public class ResourceSystem {
      * Constructor for Resource System
      * Precondition: N/A
      * Postcondition: ResourceSystem object is created
+     * @param world the EntityWorld holding the resources' shake animations
      */
-    public ResourceSystem() {
+    public ResourceSystem(EntityWorld world) {
+        this.world = world;
         trees = new ArrayList<>();
         stones = new ArrayList<>();
+        treeGrid = new SpatialGrid<>(BenumZombsGame.GRID_SIZE, BenumZombsGame.WORLD_AREA);
+        stoneGrid = new SpatialGrid<>(BenumZombsGame.GRID_SIZE, BenumZombsGame.WORLD_AREA);
 
         woodCount = 0;
         stoneCount = 0;
@@ -46,48 +54,40 @@ public class ResourceSystem {
      * @param count the number of resources to spawn
      */
     public void spawnResources( int count) {
-        Random random = new Random();
-
         for (int i = 0; i < count; i++) {
             Point point = RandomGeneration.getRandomLocation();
 
-            if (random.nextFloat() < 0.5) { // 50% chance for tree or stone
-                trees.add(new Tree(point.x, point.y));
+            if (RandomGeneration.nextFloat() < 0.5) { // 50% chance for tree or stone
+                Tree tree = new Tree(point.x, point.y, world);
+                trees.add(tree);
+                treeGrid.insert(tree, tree.getBounds());
             } else {
-                stones.add(new Stone(point.x, point.y));
+                Stone stone = new Stone(point.x, point.y, world);
+                stones.add(stone);
+                stoneGrid.insert(stone, stone.getBounds());
             }
         }
     }
 
     /**
-     * Updates the resources' animation states
-     * Precondition: N/A
-     * Postcondition: Resources are updated
-     */
-    public void update() {
-        for (int j = 0; j < trees.size(); j++) {
-            Tree tree = trees.get(j);
-            tree.update();
-        }
-
-        for (int i = 0; i < stones.size(); i++) {
-            Stone stone = stones.get(i);
-            stone.update();
-        }
-    }
-
-    /**
-     * Draws the resources on the screen
-     * Precondition: g2d is a valid Graphics2D object
-     * Postcondition: Resources are drawn on the screen
+     * Draws the resources that are on screen
+     * Precondition: g2d is a valid Graphics2D object, viewport is set for this frame
+     * Postcondition: Resources inside the viewport are drawn on the screen
      * @param g2d the Graphics2D object used for drawing
+     * @param viewport the part of the world on screen
      */
-    public void draw(Graphics2D g2d) {
+    public void draw(Graphics2D g2d, Viewport viewport) {
         for (int i = 0; i < trees.size(); i++) {
-            trees.get(i).draw(g2d);
+            Tree tree = trees.get(i);
+            if (viewport.isVisible(tree.getBounds())) {
+                tree.draw(g2d);
+            }
         }
         for (int i = 0; i < stones.size(); i++) {
-            stones.get(i).draw(g2d);
+            Stone stone = stones.get(i);
+            if (viewport.isVisible(stone.getBounds())) {
+                stone.draw(g2d);
+            }
         }
     }
 
@@ -111,6 +111,26 @@ public class ResourceSystem {
         return stones;
     }
 
+    /**
+     * Gets the spatial grid of trees used for collision checks
+     * Precondition: N/A
+     * Postcondition: Tree grid is returned
+     * @return the SpatialGrid of Tree objects
+     */
+    public SpatialGrid<Tree> getTreeGrid() {
+        return treeGrid;
+    }
+
+    /**
+     * Gets the spatial grid of stones used for collision checks
+     * Precondition: N/A
+     * Postcondition: Stone grid is returned
+     * @return the SpatialGrid of Stone objects
+     */
+    public SpatialGrid<Stone> getStoneGrid() {
+        return stoneGrid;
+    }
+
     /**
      * Adds wood to the resource count
      * Precondition: amount is a integer
@@ -0,0 +1,146 @@
+/**
+ * SpatialGrid.java
+ * The SpatialGrid class for BenumZombs, bucketing static objects into fixed size cells for fast area lookups
+ * @author Richard Pu
+ * @version 1.0
+ * @since 2026-10-17
+ */
+
+package systems;
+
+import java.awt.Rectangle;
+import java.util.ArrayList;
+
+public class SpatialGrid<T> {
+    private final int cellSize;
+    private final int columns;
+    private final int rows;
+    private final ArrayList<ArrayList<T>> cells;
+
+    /**
+     * Constructor for SpatialGrid
+     * Precondition: cellSize and worldSize are positive integers
+     * Postcondition: an empty grid covering the square world is created
+     * @param cellSize the width and height of a single cell
+     * @param worldSize the width and height of the world covered by the grid
+     */
+    public SpatialGrid(int cellSize, int worldSize) {
+        this.cellSize = cellSize;
+        this.columns = (worldSize + cellSize - 1) / cellSize;
+        this.rows = columns;
+
+        cells = new ArrayList<>(columns * rows);
+        for (int i = 0; i < columns * rows; i++) {
+            cells.add(null); // Cells are only allocated once something is stored in them
+        }
+    }
+
+    /**
+     * Adds an object to every cell its bounds overlap
+     * Precondition: item and bounds are not null
+     * Postcondition: item is stored in all overlapped cells
+     * @param item the object to add
+     * @param bounds the bounding box of the object
+     */
+    public void insert(T item, Rectangle bounds) {
+        int minCol = getColumn(bounds.x);
+        int maxCol = getColumn(bounds.x + bounds.width - 1);
+        int minRow = getRow(bounds.y);
+        int maxRow = getRow(bounds.y + bounds.height - 1);
+
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int col = minCol; col <= maxCol; col++) {
+                int index = row * columns + col;
+                ArrayList<T> cell = cells.get(index);
+                if (cell == null) {
+                    cell = new ArrayList<>(2);
+                    cells.set(index, cell);
+                }
+                cell.add(item);
+            }
+        }
+    }
+
+    /**
+     * Removes an object from every cell its bounds overlap
+     * Precondition: bounds are the same bounds the item was inserted with
+     * Postcondition: item is no longer stored in the grid
+     * @param item the object to remove
+     * @param bounds the bounding box of the object
+     */
+    public void remove(T item, Rectangle bounds) {
+        int minCol = getColumn(bounds.x);
+        int maxCol = getColumn(bounds.x + bounds.width - 1);
+        int minRow = getRow(bounds.y);
+        int maxRow = getRow(bounds.y + bounds.height - 1);
+
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int col = minCol; col <= maxCol; col++) {
+                ArrayList<T> cell = cells.get(row * columns + col);
+                if (cell != null) {
+                    cell.remove(item);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes every object from the grid
+     * Precondition: N/A
+     * Postcondition: all cells are empty
+     */
+    public void clear() {
+        for (int i = 0; i < cells.size(); i++) {
+            ArrayList<T> cell = cells.get(i);
+            if (cell != null) {
+                cell.clear();
+            }
+        }
+    }
+
+    /**
+     * Gets the objects stored in a cell
+     * Precondition: col and row are valid cell coordinates
+     * Postcondition: returns the objects in the cell, or null if nothing was ever stored there
+     * @param col the column of the cell
+     * @param row the row of the cell
+     * @return the list of objects in the cell, or null
+     */
+    public ArrayList<T> getCell(int col, int row) {
+        return cells.get(row * columns + col);
+    }
+
+    /**
+     * Gets the column containing a world x-coordinate, clamped to the grid
+     * Precondition: N/A
+     * Postcondition: returns a column between 0 and columns - 1
+     * @param x the world x-coordinate
+     * @return the column containing x
+     */
+    public int getColumn(double x) {
+        int col = (int) Math.floor(x / cellSize);
+        return Math.max(0, Math.min(columns - 1, col));
+    }
+
+    /**
+     * Gets the row containing a world y-coordinate, clamped to the grid
+     * Precondition: N/A
+     * Postcondition: returns a row between 0 and rows - 1
+     * @param y the world y-coordinate
+     * @return the row containing y
+     */
+    public int getRow(double y) {
+        int row = (int) Math.floor(y / cellSize);
+        return Math.max(0, Math.min(rows - 1, row));
+    }
+
+    /**
+     * Gets the size of a single cell
+     * Precondition: N/A
+     * Postcondition: returns the cell size
+     * @return the width and height of a cell
+     */
+    public int getCellSize() {
+        return cellSize;
+    }
+}
@@ -0,0 +1,153 @@
+/**
+ * TimerWheel.java
+ * The TimerWheel class for BenumZombs, a hashed timing wheel that hands back the ids scheduled for each simulation tick
+ * @author Richard Pu
+ * @version 1.0
+ * @since 2026-10-17
+ */
+
+package systems;
+
+import java.util.Arrays;
+
+public class TimerWheel {
+    //************* Buckets *************//
+    // An entry due at tick t waits in bucket t & mask, entries more than one turn away stay put until their turn comes
+    private final int mask;
+    private final int[][] bucketIds;
+    private final long[][] bucketTicks;
+    private final int[] bucketSizes;
+    private int size = 0;
+    private long currentTick = -1; // Last tick passed to advance
+
+    //************* Due Entries *************//
+    private int[] due = new int[64];
+
+    /**
+     * Constructor for TimerWheel
+     * Precondition: slotCount is a power of two
+     * Postcondition: an empty wheel is created
+     * @param slotCount the number of buckets, delays shorter than this are handed back without being looked at twice
+     */
+    public TimerWheel(int slotCount) {
+        if (Integer.bitCount(slotCount) != 1) {
+            throw new IllegalArgumentException("Slot count must be a power of two: " + slotCount);
+        }
+        mask = slotCount - 1;
+        bucketIds = new int[slotCount][];
+        bucketTicks = new long[slotCount][];
+        bucketSizes = new int[slotCount];
+    }
+
+    /**
+     * Schedules an id for a tick
+     * Precondition: N/A
+     * Postcondition: the id is handed back by advance on the due tick, or on the next tick if that one has passed
+     * @param id the id to hand back, such as an entity
+     * @param dueTick the tick to hand it back on
+     */
+    public void schedule(int id, long dueTick) {
+        if (dueTick <= currentTick) {
+            dueTick = currentTick + 1;
+        }
+        int bucket = (int) (dueTick & mask);
+        int count = bucketSizes[bucket];
+        if (bucketIds[bucket] == null) {
+            bucketIds[bucket] = new int[4];
+            bucketTicks[bucket] = new long[4];
+        } else if (count == bucketIds[bucket].length) {
+            bucketIds[bucket] = Arrays.copyOf(bucketIds[bucket], count * 2);
+            bucketTicks[bucket] = Arrays.copyOf(bucketTicks[bucket], count * 2);
+        }
+        bucketIds[bucket][count] = id;
+        bucketTicks[bucket][count] = dueTick;
+        bucketSizes[bucket] = count + 1;
+        size++;
+    }
+
+    /**
+     * Moves the wheel to a tick and collects the ids due on it or on any tick skipped since the last advance
+     * Precondition: tick is not before the last tick passed to advance
+     * Postcondition: the due ids are removed from the wheel and stored for getDue, bucket by bucket in the order they were scheduled
+     * @param tick the current tick
+     * @return the number of due ids
+     */
+    public int advance(long tick) {
+        // Normally one bucket, but a caller that skipped ticks must still get the entries that came due meanwhile
+        long first = currentTick < 0 ? tick : currentTick + 1;
+        long buckets = Math.min(tick - first + 1, mask + 1L);
+        currentTick = tick;
+
+        int found = 0;
+        for (long t = tick - buckets + 1; t <= tick; t++) {
+            found = collect((int) (t & mask), tick, found);
+        }
+        size -= found;
+        return found;
+    }
+
+    /**
+     * Moves the ids in one bucket that are due by a tick to the due list
+     * Precondition: bucket is below the slot count, found ids are already in the due list
+     * Postcondition: the bucket only holds ids due after tick
+     * @param bucket the bucket to check
+     * @param tick the current tick
+     * @param found the number of ids already in the due list
+     * @return the number of ids in the due list afterwards
+     */
+    private int collect(int bucket, long tick, int found) {
+        int count = bucketSizes[bucket];
+        if (count == 0) {
+            return found;
+        }
+
+        int[] ids = bucketIds[bucket];
+        long[] ticks = bucketTicks[bucket];
+        int kept = 0;
+        for (int i = 0; i < count; i++) {
+            if (ticks[i] <= tick) {
+                if (found == due.length) {
+                    due = Arrays.copyOf(due, found * 2);
+                }
+                due[found++] = ids[i];
+            } else {
+                ids[kept] = ids[i];
+                ticks[kept] = ticks[i];
+                kept++;
+            }
+        }
+        bucketSizes[bucket] = kept;
+        return found;
+    }
+
+    /**
+     * Gets an id collected by the last advance
+     * Precondition: index is below the count returned by advance
+     * Postcondition: returns the id
+     * @param index the position in the due ids
+     * @return the due id
+     */
+    public int getDue(int index) {
+        return due[index];
+    }
+
+    /**
+     * Gets the number of scheduled ids
+     * Precondition: N/A
+     * Postcondition: returns the count
+     * @return the number of ids still waiting
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes every scheduled id
+     * Precondition: N/A
+     * Postcondition: the wheel is empty
+     */
+    public void clear() {
+        Arrays.fill(bucketSizes, 0);
+        size = 0;
+    }
+}
@@ -0,0 +1,134 @@
+/**
+ * Viewport.java
+ * The Viewport class for BenumZombs, describing the part of the world on screen so off-screen objects are not drawn
+ * @author Richard Pu
+ * @version 1.0
+ * @since 2026-10-17
+ */
+
+package systems;
+
+import game.BenumZombsGame;
+import java.awt.Rectangle;
+
+public class Viewport {
+    // Extra space around the screen for rotated sprites, tree shakes and health bars hanging past an object's bounds
+    public static final int MARGIN = BenumZombsGame.GRID_SIZE * 2;
+
+    private double x, y;
+    private int width, height;
+
+    //************* Frame Counters *************//
+    private int drawnCount = 0;
+    private int culledCount = 0;
+
+    /**
+     * Moves the viewport to the area on screen for a new frame
+     * Precondition: width and height are non-negative
+     * Postcondition: the viewport covers the given world area and the frame counters are reset
+     * @param x the world x-coordinate of the top left of the screen
+     * @param y the world y-coordinate of the top left of the screen
+     * @param width the width of the screen
+     * @param height the height of the screen
+     */
+    public void set(double x, double y, int width, int height) {
+        this.x = x;
+        this.y = y;
+        this.width = width;
+        this.height = height;
+        drawnCount = 0;
+        culledCount = 0;
+    }
+
+    /**
+     * Checks whether an object overlaps the screen plus the margin, counting it as drawn or culled
+     * Precondition: N/A
+     * Postcondition: returns true if the object should be drawn and updates the frame counters
+     * @param objectX the world x-coordinate of the object
+     * @param objectY the world y-coordinate of the object
+     * @param objectWidth the width of the object
+     * @param objectHeight the height of the object
+     * @return true if the object is on screen, false otherwise
+     */
+    public boolean isVisible(double objectX, double objectY, int objectWidth, int objectHeight) {
+        boolean visible = objectX < x + width + MARGIN && objectX + objectWidth > x - MARGIN
+                && objectY < y + height + MARGIN && objectY + objectHeight > y - MARGIN;
+        if (visible) {
+            drawnCount++;
+        } else {
+            culledCount++;
+        }
+        return visible;
+    }
+
+    /**
+     * Checks whether a bounding box overlaps the screen plus the margin, counting it as drawn or culled
+     * Precondition: bounds is not null
+     * Postcondition: returns true if the box should be drawn and updates the frame counters
+     * @param bounds the world bounds of the object
+     * @return true if the object is on screen, false otherwise
+     */
+    public boolean isVisible(Rectangle bounds) {
+        return isVisible(bounds.x, bounds.y, bounds.width, bounds.height);
+    }
+
+    /**
+     * Gets the world x-coordinate of the top left of the screen
+     * Precondition: N/A
+     * Postcondition: returns the x-coordinate
+     * @return the x-coordinate of the viewport
+     */
+    public double getX() {
+        return x;
+    }
+
+    /**
+     * Gets the world y-coordinate of the top left of the screen
+     * Precondition: N/A
+     * Postcondition: returns the y-coordinate
+     * @return the y-coordinate of the viewport
+     */
+    public double getY() {
+        return y;
+    }
+
+    /**
+     * Gets the width of the screen
+     * Precondition: N/A
+     * Postcondition: returns the width
+     * @return the width of the viewport
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Gets the height of the screen
+     * Precondition: N/A
+     * Postcondition: returns the height
+     * @return the height of the viewport
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Gets the number of objects drawn since the viewport was last set
+     * Precondition: N/A
+     * Postcondition: returns the drawn count
+     * @return the number of objects drawn this frame
+     */
+    public int getDrawnCount() {
+        return drawnCount;
+    }
+
+    /**
+     * Gets the number of objects skipped since the viewport was last set
+     * Precondition: N/A
+     * Postcondition: returns the culled count
+     * @return the number of objects culled this frame
+     */
+    public int getCulledCount() {
+        return culledCount;
+    }
+}
@@ -0,0 +1,220 @@
+/**
+ * ZombieIndex.java
+ * The ZombieIndex class for BenumZombs, a flat spatial hash of zombie slots rebuilt once per tick for range queries
+ * @author Richard Pu
+ * @version 1.0
+ * @since 2026-10-17
+ */
+
+package systems;
+
+import game.BenumZombsGame;
+import java.util.Arrays;
+import objects.Zombie;
+
+public class ZombieIndex {
+    private static final int CELL_SIZE = BenumZombsGame.GRID_SIZE * 4;
+    public static final int COLUMNS = (BenumZombsGame.WORLD_AREA + CELL_SIZE - 1) / CELL_SIZE; // Cell c is row c / COLUMNS, column c % COLUMNS
+
+    // Zombies that already moved this tick may be up to this far from where they were indexed
+    private static final double SLACK = ZombieStore.MAX_SPEED + 1;
+    private static final double HALF_SIZE = ZombieStore.SIZE / 2.0;
+
+    //************* Snapshot *************//
+    // Indexed by store slot, the store itself is read for current positions
+    private ZombieStore store;
+    private double[] zombieX = new double[64];
+    private double[] zombieY = new double[64];
+    private int count = 0;
+
+    //************* Cells *************//
+    // Zombies of cell c are cellHead[c], nextInCell[cellHead[c]] and so on until -1, in list order
+    private final int[] cellHead = new int[COLUMNS * COLUMNS];
+    private int[] nextInCell = new int[64];
+    private int[] usedCells = new int[64]; // Only these heads are cleared on a rebuild, so the cost follows the zombie count
+    private int usedCount = 0;
+
+    //************* Query Results *************//
+    private int[] results = new int[64];
+
+    /**
+     * Constructor for ZombieIndex
+     * Precondition: N/A
+     * Postcondition: an empty index is created
+     */
+    public ZombieIndex() {
+        Arrays.fill(cellHead, -1);
+    }
+
+    /**
+     * Rebuilds the index from the current zombie positions
+     * Precondition: zombieStore is not null
+     * Postcondition: every zombie is stored in the cell containing its top left corner
+     * @param zombieStore the zombies to index, in slot order
+     */
+    public void rebuild(ZombieStore zombieStore) {
+        //************* Clear Last Tick's Cells *************//
+        for (int i = 0; i < usedCount; i++) {
+            cellHead[usedCells[i]] = -1;
+        }
+        usedCount = 0;
+
+        store = zombieStore;
+        count = zombieStore.size();
+        if (count > zombieX.length) {
+            int capacity = Math.max(count, zombieX.length * 2);
+            zombieX = new double[capacity];
+            zombieY = new double[capacity];
+            nextInCell = new int[capacity];
+            usedCells = new int[capacity];
+            results = new int[capacity];
+        }
+
+        //************* Link Zombies Into Cells *************//
+        // Walking the slots backwards leaves every cell's chain in slot order
+        for (int i = count - 1; i >= 0; i--) {
+            zombieX[i] = zombieStore.x[i];
+            zombieY[i] = zombieStore.y[i];
+
+            int cell = getCellIndex(zombieY[i]) * COLUMNS + getCellIndex(zombieX[i]);
+            if (cellHead[cell] == -1) {
+                usedCells[usedCount++] = cell;
+            }
+            nextInCell[i] = cellHead[cell];
+            cellHead[cell] = i;
+        }
+    }
+
+    /**
+     * Finds the closest zombie to a point, measured between top left corners like tower targeting always has
+     * Precondition: the index was rebuilt this tick
+     * Postcondition: returns the same zombie as a scan of the slots in order would
+     * @param x the x-coordinate of the searcher's top left corner
+     * @param y the y-coordinate of the searcher's top left corner
+     * @param range the zombie must be strictly closer than this
+     * @return a view of the closest zombie in range, the lowest slot on a tie, or null
+     */
+    public Zombie findClosest(double x, double y, double range) {
+        double reach = getSearchReach(range);
+        int minCol = getCellIndex(x - reach);
+        int maxCol = getCellIndex(x + reach);
+        int minRow = getCellIndex(y - reach);
+        int maxRow = getCellIndex(y + reach);
+
+        int closest = -1;
+        double minDist = range;
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int col = minCol; col <= maxCol; col++) {
+                for (int i = cellHead[row * COLUMNS + col]; i >= 0; i = nextInCell[i]) {
+                    double dx = zombieX[i] - x;
+                    double dy = zombieY[i] - y;
+                    if (dx * dx + dy * dy > reach * reach) {
+                        continue;
+                    }
+
+                    double dist = Math.hypot(store.x[i] - x, store.y[i] - y);
+                    if (dist < minDist || (dist == minDist && closest >= 0 && i < closest)) {
+                        minDist = dist;
+                        closest = i;
+                    }
+                }
+            }
+        }
+        return closest >= 0 ? store.getView(closest) : null;
+    }
+
+    /**
+     * Collects every zombie whose centre is within a radius of a point
+     * Precondition: the index was rebuilt this tick
+     * Postcondition: the matches are stored for getResult, replacing the last query's results
+     * @param centerX the x-coordinate of the point
+     * @param centerY the y-coordinate of the point
+     * @param radius the largest distance from the point to a zombie's centre
+     * @return the number of zombies found
+     */
+    public int findWithinRadius(double centerX, double centerY, double radius) {
+        double reach = radius + SLACK + HALF_SIZE; // Cells hold top left corners, not centres
+        int minCol = getCellIndex(centerX - reach);
+        int maxCol = getCellIndex(centerX + reach);
+        int minRow = getCellIndex(centerY - reach);
+        int maxRow = getCellIndex(centerY + reach);
+
+        int found = 0;
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int col = minCol; col <= maxCol; col++) {
+                for (int i = cellHead[row * COLUMNS + col]; i >= 0; i = nextInCell[i]) {
+                    double dist = Math.hypot(store.x[i] + ZombieStore.SIZE/2 - centerX, store.y[i] + ZombieStore.SIZE/2 - centerY);
+                    if (dist <= radius) {
+                        results[found++] = i;
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Gets the slot of a zombie found by the last findWithinRadius call
+     * Precondition: index is below the count returned by findWithinRadius
+     * Postcondition: returns the slot
+     * @param index the position in the results
+     * @return the store slot of the zombie at that position
+     */
+    public int getResult(int index) {
+        return results[index];
+    }
+
+    /**
+     * Gets the number of zombies in the index
+     * Precondition: N/A
+     * Postcondition: returns the zombie count
+     * @return the number of indexed zombies
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Gets the number of cells holding at least one zombie
+     * Precondition: the index was rebuilt this tick
+     * Postcondition: returns the used cell count
+     * @return the number of occupied cells
+     */
+    public int getUsedCellCount() {
+        return usedCount;
+    }
+
+    /**
+     * Gets a cell holding at least one zombie
+     * Precondition: index is below getUsedCellCount()
+     * Postcondition: returns the cell
+     * @param index the position in the used cells
+     * @return the cell, row * COLUMNS + column
+     */
+    public int getUsedCell(int index) {
+        return usedCells[index];
+    }
+
+    /**
+     * Gets how far around a searcher findClosest looks for a given range
+     * Precondition: range is non-negative
+     * Postcondition: returns the range plus the distance zombies may have moved since the rebuild
+     * @param range the range passed to findClosest
+     * @return the distance covered by the cells findClosest scans
+     */
+    public static double getSearchReach(double range) {
+        return range + SLACK;
+    }
+
+    /**
+     * Gets the row or column containing a world coordinate, clamped to the grid
+     * Precondition: N/A
+     * Postcondition: returns an index between 0 and COLUMNS - 1
+     * @param coordinate the world x or y coordinate
+     * @return the index of the cell containing the coordinate
+     */
+    public static int getCellIndex(double coordinate) {
+        int index = (int) Math.floor(coordinate / CELL_SIZE);
+        return Math.max(0, Math.min(COLUMNS - 1, index));
+    }
+}
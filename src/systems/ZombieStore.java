@@ -0,0 +1,372 @@
+/**
+ * ZombieStore.java
+ * The ZombieStore class for BenumZombs, holding every zombie's state in parallel primitive arrays with swap and pop removal
+ * @author Richard Pu
+ * @version 1.0
+ * @since 2026-10-17
+ */
+
+package systems;
+
+import java.util.Arrays;
+import objects.Buildings.Building;
+import objects.Zombie;
+
+public class ZombieStore {
+    public static final int SIZE = 35; // Width and height of every zombie
+    public static final double MAX_SPEED = 2; // Furthest a zombie moves in one tick
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    //************* Zombie State *************//
+    // Indexed by slot, slots 0 to count - 1 are alive and packed together
+    // ZombieSystem and ZombieIndex read and write these directly in their per-zombie loops
+    double[] x = new double[INITIAL_CAPACITY];
+    double[] y = new double[INITIAL_CAPACITY];
+    double[] prevX = new double[INITIAL_CAPACITY];
+    double[] prevY = new double[INITIAL_CAPACITY];
+    double[] speed = new double[INITIAL_CAPACITY];
+    double[] rotation = new double[INITIAL_CAPACITY];
+    int[] health = new int[INITIAL_CAPACITY];
+    int[] maxHealth = new int[INITIAL_CAPACITY];
+    int[] damage = new int[INITIAL_CAPACITY];
+    byte[] tier = new byte[INITIAL_CAPACITY];
+    long[] nextAttackTick = new long[INITIAL_CAPACITY]; // First tick the zombie may hit a building again
+    Building[] targetBuilding = new Building[INITIAL_CAPACITY];
+
+    //************* Update Intent *************//
+    // Written by ZombieSystem.computeIntent, possibly on a worker thread, and applied by commitIntent in slot order
+    double[] nextX = new double[INITIAL_CAPACITY];
+    double[] nextY = new double[INITIAL_CAPACITY];
+    Building[] buildingToAttack = new Building[INITIAL_CAPACITY];
+    boolean[] attacksPlayer = new boolean[INITIAL_CAPACITY];
+    private int count = 0;
+
+    //************* Generational Ids *************//
+    // A handle is the id in the low 32 bits and the id's generation in the high 32 bits
+    // The generation is bumped when a zombie is removed, so old handles stop matching when the id is reused
+    private int[] slotId = new int[INITIAL_CAPACITY];
+    private int[] idSlot = new int[INITIAL_CAPACITY];
+    private int[] idGeneration = new int[INITIAL_CAPACITY];
+    private Zombie[] views = new Zombie[INITIAL_CAPACITY];
+    private int[] freeIds = new int[INITIAL_CAPACITY];
+    private int freeCount = 0;
+    private int idCount = 0;
+
+    /**
+     * Adds a zombie with the stats of its tier and level
+     * Precondition: tier is between 1 and 6, level is between 1 and 10
+     * Postcondition: the zombie is stored in the slot after the last one
+     * @param spawnX the x-coordinate of the zombie
+     * @param spawnY the y-coordinate of the zombie
+     * @param zombieTier the tier of the zombie
+     * @param level the level of the zombie
+     * @return the handle of the new zombie
+     */
+    public long add(double spawnX, double spawnY, int zombieTier, int level) {
+        if (count == x.length) {
+            growSlots();
+        }
+
+        int id;
+        if (freeCount > 0) {
+            id = freeIds[--freeCount];
+        } else {
+            if (idCount == idSlot.length) {
+                growIds();
+            }
+            id = idCount++;
+        }
+
+        int slot = count++;
+        x[slot] = spawnX;
+        y[slot] = spawnY;
+        prevX[slot] = spawnX;
+        prevY[slot] = spawnY;
+        speed[slot] = MAX_SPEED;
+        rotation[slot] = 0.0;
+        maxHealth[slot] = 100 + (zombieTier * 50) + (level * 20);
+        health[slot] = maxHealth[slot];
+        damage[slot] = 10 + (zombieTier * 5) + (level * 2);
+        tier[slot] = (byte) zombieTier;
+        nextAttackTick[slot] = 0;
+        targetBuilding[slot] = null;
+        buildingToAttack[slot] = null;
+        attacksPlayer[slot] = false;
+
+        slotId[slot] = id;
+        idSlot[id] = slot;
+        if (views[id] == null) {
+            views[id] = new Zombie(this, id);
+        }
+        return getHandle(slot);
+    }
+
+    /**
+     * Removes a zombie by moving the last zombie into its slot
+     * Precondition: slot is below size()
+     * Postcondition: the zombie is gone, the last zombie now lives in slot and the removed id's handles are stale
+     * @param slot the slot of the zombie to remove
+     */
+    public void remove(int slot) {
+        int id = slotId[slot];
+        int last = --count;
+        if (slot != last) {
+            x[slot] = x[last];
+            y[slot] = y[last];
+            prevX[slot] = prevX[last];
+            prevY[slot] = prevY[last];
+            speed[slot] = speed[last];
+            rotation[slot] = rotation[last];
+            health[slot] = health[last];
+            maxHealth[slot] = maxHealth[last];
+            damage[slot] = damage[last];
+            tier[slot] = tier[last];
+            nextAttackTick[slot] = nextAttackTick[last];
+            targetBuilding[slot] = targetBuilding[last];
+            nextX[slot] = nextX[last];
+            nextY[slot] = nextY[last];
+            buildingToAttack[slot] = buildingToAttack[last];
+            attacksPlayer[slot] = attacksPlayer[last];
+            slotId[slot] = slotId[last];
+            idSlot[slotId[slot]] = slot;
+        }
+        targetBuilding[last] = null; // Let removed buildings be collected
+        buildingToAttack[last] = null;
+
+        idSlot[id] = -1;
+        idGeneration[id]++;
+        freeIds[freeCount++] = id;
+    }
+
+    /**
+     * Removes every zombie
+     * Precondition: N/A
+     * Postcondition: the store is empty and every handle given out so far is stale
+     */
+    public void clear() {
+        while (count > 0) {
+            remove(count - 1);
+        }
+    }
+
+    /**
+     * Gets the number of zombies in the store
+     * Precondition: N/A
+     * Postcondition: returns the zombie count
+     * @return the number of zombies, slots 0 to size() - 1 are in use
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Gets the handle of the zombie in a slot, which stays valid while the zombie moves between slots
+     * Precondition: slot is below size()
+     * Postcondition: returns the handle
+     * @param slot the slot of the zombie
+     * @return the handle of the zombie
+     */
+    public long getHandle(int slot) {
+        int id = slotId[slot];
+        return ((long) idGeneration[id] << 32) | id;
+    }
+
+    /**
+     * Finds the current slot of a zombie from its handle
+     * Precondition: N/A
+     * Postcondition: returns the slot, or -1 if the zombie has been removed
+     * @param handle the handle of the zombie
+     * @return the slot of the zombie, or -1
+     */
+    public int getSlot(long handle) {
+        int id = (int) handle;
+        if (id < 0 || id >= idCount || idGeneration[id] != (int) (handle >>> 32)) {
+            return -1;
+        }
+        return idSlot[id];
+    }
+
+    /**
+     * Gets the current slot of a zombie id, used by Zombie views
+     * Precondition: id was given to a Zombie view by this store
+     * Postcondition: returns the slot, or -1 if no zombie holds the id
+     * @param id the id of the zombie
+     * @return the slot of the zombie, or -1
+     */
+    public int getSlotOfId(int id) {
+        return idSlot[id];
+    }
+
+    /**
+     * Gets the shared view of the zombie in a slot
+     * Precondition: slot is below size()
+     * Postcondition: returns the view, which follows the zombie when it changes slot
+     * @param slot the slot of the zombie
+     * @return the Zombie view
+     */
+    public Zombie getView(int slot) {
+        return views[slotId[slot]];
+    }
+
+    /**
+     * Reduces a zombie's health
+     * Precondition: called from DamageSystem.apply, other code queues damage instead
+     * Postcondition: the zombie's health is reduced
+     * @param slot the slot of the zombie
+     * @param amount the amount of damage
+     */
+    public void takeDamage(int slot, int amount) {
+        health[slot] -= amount;
+    }
+
+    /**
+     * Stores the current position of every zombie for render interpolation
+     * Precondition: called at the start of a simulation tick
+     * Postcondition: every zombie's previous position is its current position
+     */
+    public void storePreviousPositions() {
+        System.arraycopy(x, 0, prevX, 0, count);
+        System.arraycopy(y, 0, prevY, 0, count);
+    }
+
+    //************* Slot Getters *************//
+
+    /**
+     * Gets the x-coordinate of a zombie
+     * Precondition: slot is below size()
+     * Postcondition: returns the x-coordinate
+     * @param slot the slot of the zombie
+     * @return the x-coordinate of the zombie
+     */
+    public double getX(int slot) {
+        return x[slot];
+    }
+
+    /**
+     * Gets the y-coordinate of a zombie
+     * Precondition: slot is below size()
+     * Postcondition: returns the y-coordinate
+     * @param slot the slot of the zombie
+     * @return the y-coordinate of the zombie
+     */
+    public double getY(int slot) {
+        return y[slot];
+    }
+
+    /**
+     * Gets the x-coordinate of a zombie at the start of the last tick
+     * Precondition: slot is below size()
+     * Postcondition: returns the previous x-coordinate
+     * @param slot the slot of the zombie
+     * @return the previous x-coordinate of the zombie
+     */
+    public double getPrevX(int slot) {
+        return prevX[slot];
+    }
+
+    /**
+     * Gets the y-coordinate of a zombie at the start of the last tick
+     * Precondition: slot is below size()
+     * Postcondition: returns the previous y-coordinate
+     * @param slot the slot of the zombie
+     * @return the previous y-coordinate of the zombie
+     */
+    public double getPrevY(int slot) {
+        return prevY[slot];
+    }
+
+    /**
+     * Gets the direction a zombie is facing
+     * Precondition: slot is below size()
+     * Postcondition: returns the angle in radians
+     * @param slot the slot of the zombie
+     * @return the rotation of the zombie
+     */
+    public double getRotation(int slot) {
+        return rotation[slot];
+    }
+
+    /**
+     * Gets the current health of a zombie
+     * Precondition: slot is below size()
+     * Postcondition: returns the health, zero or below once dead
+     * @param slot the slot of the zombie
+     * @return the current health of the zombie
+     */
+    public int getHealth(int slot) {
+        return health[slot];
+    }
+
+    /**
+     * Gets the maximum health of a zombie
+     * Precondition: slot is below size()
+     * Postcondition: returns the maximum health
+     * @param slot the slot of the zombie
+     * @return the maximum health of the zombie
+     */
+    public int getMaxHealth(int slot) {
+        return maxHealth[slot];
+    }
+
+    /**
+     * Gets the damage a zombie deals to buildings
+     * Precondition: slot is below size()
+     * Postcondition: returns the damage
+     * @param slot the slot of the zombie
+     * @return the damage of the zombie
+     */
+    public int getDamage(int slot) {
+        return damage[slot];
+    }
+
+    /**
+     * Gets the tier of a zombie
+     * Precondition: slot is below size()
+     * Postcondition: returns the tier
+     * @param slot the slot of the zombie
+     * @return the tier of the zombie
+     */
+    public int getTier(int slot) {
+        return tier[slot];
+    }
+
+    /**
+     * Doubles the capacity of every slot array
+     * Precondition: every slot is in use
+     * Postcondition: the capacity is doubled and every zombie is kept
+     */
+    private void growSlots() {
+        int capacity = x.length * 2;
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        prevX = Arrays.copyOf(prevX, capacity);
+        prevY = Arrays.copyOf(prevY, capacity);
+        speed = Arrays.copyOf(speed, capacity);
+        rotation = Arrays.copyOf(rotation, capacity);
+        health = Arrays.copyOf(health, capacity);
+        maxHealth = Arrays.copyOf(maxHealth, capacity);
+        damage = Arrays.copyOf(damage, capacity);
+        tier = Arrays.copyOf(tier, capacity);
+        nextAttackTick = Arrays.copyOf(nextAttackTick, capacity);
+        targetBuilding = Arrays.copyOf(targetBuilding, capacity);
+        nextX = Arrays.copyOf(nextX, capacity);
+        nextY = Arrays.copyOf(nextY, capacity);
+        buildingToAttack = Arrays.copyOf(buildingToAttack, capacity);
+        attacksPlayer = Arrays.copyOf(attacksPlayer, capacity);
+        slotId = Arrays.copyOf(slotId, capacity);
+    }
+
+    /**
+     * Doubles the capacity of every id array
+     * Precondition: every id has been given out
+     * Postcondition: the capacity is doubled and every id is kept
+     */
+    private void growIds() {
+        int capacity = idSlot.length * 2;
+        idSlot = Arrays.copyOf(idSlot, capacity);
+        idGeneration = Arrays.copyOf(idGeneration, capacity);
+        views = Arrays.copyOf(views, capacity);
+        freeIds = Arrays.copyOf(freeIds, capacity);
+    }
+}
@@ -8,18 +8,62 @@
 
 package systems;
 
+import diagnostics.WaveSpawnEvent;
+import game.BenumZombsGame;
+import helpers.Log;
+import helpers.Logger;
 import helpers.RandomGeneration;
 import java.awt.Graphics2D;
 import java.awt.Point;
 import java.awt.Rectangle;
 import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import objects.Buildings.Building;
 import objects.Player;
 import objects.Projectile;
-import objects.Zombie;
 
 public class ZombieSystem {
-    private final ArrayList<Zombie> zombies = new ArrayList<>();
+    private static final Logger LOG = Log.getLogger("ZombieSystem.java");
+
+    private static final long ATTACK_COOLDOWN = 1000;
+
+    private final ZombieStore zombies;
     private boolean waveSpawnedForNight = false;
+    private final GameClock clock;
+    private final DamageSystem damageSystem;
+
+    //************* Projectile Broad Phase *************//
+    private static final int PROJECTILE_CELL_SIZE = BenumZombsGame.GRID_SIZE * 4;
+    private final SpatialGrid<Projectile> projectileGrid = new SpatialGrid<>(PROJECTILE_CELL_SIZE, BenumZombsGame.WORLD_AREA);
+    private final Rectangle scratchBounds = new Rectangle();
+    private final Rectangle zombieBounds = new Rectangle();
+    private final Rectangle intentBounds = new Rectangle(); // computeIntent's box on the simulation thread, pool partitions each use their own
+
+    //************* Zombie Index *************//
+    private final ZombieIndex zombieIndex = new ZombieIndex();
+    private long indexTick = -1;
+
+    //************* Parallel Update *************//
+    // Below this many zombies the pool costs more than it saves, so intents are computed on the simulation thread
+    public static final int PARALLEL_THRESHOLD = 128;
+    private static final int PARTITION_SIZE = 32; // Zombies per task once the range is split
+    private boolean parallelUpdates = true;
+    private int parallelThreshold = PARALLEL_THRESHOLD;
+
+    /**
+     * Constructor for ZombieSystem
+     * Precondition: clock, damageSystem and zombieStore are not null, damageSystem applies zombie damage to zombieStore
+     * Postcondition: ZombieSystem is created with no zombies
+     * @param clock the GameClock driving zombie attack cooldowns
+     * @param damageSystem the DamageSystem that zombie hits and hits on zombies are queued in
+     * @param zombieStore the ZombieStore holding the state of every zombie
+     */
+    public ZombieSystem(GameClock clock, DamageSystem damageSystem, ZombieStore zombieStore) {
+        this.clock = clock;
+        this.damageSystem = damageSystem;
+        this.zombies = zombieStore;
+    }
 
     /**
      * Updates the state of all zombies in the system
@@ -40,42 +84,362 @@ public class ZombieSystem {
         //************* Spawn Waves *************//
         if (buildingSystem.isGoldStashPlaced() && isNight && !waveSpawnedForNight) {
             spawnWave(waveCount, buildingSystem, resourceSystem);
+            indexTick = -1; // New zombies must be findable by area damage this tick
             waveSpawnedForNight = true;
-            System.out.println("ZombieSystem.java - Spawned wave " + waveCount);
+            LOG.info("Spawned wave ", waveCount);
         }
 
         //************* Update Zombies *************//
         Rectangle playerTool = player.getToolBounds();
         int toolDamage = player.getToolDamage();
-        ArrayList<Projectile> allProjectiles= new ArrayList<>();
-        allProjectiles.addAll(player.getProjectiles());
-        allProjectiles.addAll(buildingSystem.getProjectiles());
 
-        for (int i = 0; i < zombies.size(); i++) {
-            Zombie zombie = zombies.get(i);
-            zombie.update(player, buildingSystem, resourceSystem);
+        // Projectiles do not move while zombies update, so they are bucketed once per tick
+        projectileGrid.clear();
+        int projectileCount = bucketProjectiles(player.getProjectiles()) + bucketProjectiles(buildingSystem.getProjectiles());
+
+        // Building changes since the last tick are repathed once, before any zombie reads the field
+        buildingSystem.getFlowField().refresh(buildingSystem, resourceSystem);
+
+        long tick = clock.getTick();
+
+        //************* Compute Intents *************//
+        // Zombies only read buildings, resources and the player here, so they can be worked out on any thread
+        int count = zombies.size();
+        if (parallelUpdates && count >= parallelThreshold) {
+            ForkJoinPool.commonPool().invoke(new IntentTask(0, count, player, buildingSystem, resourceSystem, tick));
+        } else {
+            for (int i = 0; i < count; i++) {
+                computeIntent(i, player, buildingSystem, resourceSystem, tick, intentBounds);
+            }
+        }
+
+        //************* Commit Intents *************//
+        // Movement, damage and projectile hits are applied in slot order so both paths give the same result
+        for (int i = 0; i < count; i++) {
+            commitIntent(i, player);
+            zombieBounds.setBounds((int) zombies.x[i], (int) zombies.y[i], ZombieStore.SIZE, ZombieStore.SIZE);
 
             //************* Handle Player Tool Damage *************//
-            if (playerTool != null && zombie.getBounds().intersects(playerTool)) {
-                zombie.takeDamage(toolDamage, true); 
+            if (playerTool != null && zombieBounds.intersects(playerTool)) {
+                damageSystem.damageZombie(zombies.getHandle(i), toolDamage, DamageSystem.SOURCE_PLAYER_TOOL, DamageSystem.FLAG_FROM_PLAYER);
             }
 
             //************* Handle Projectile Damage *************//
-            for (int j = 0; j < allProjectiles.size(); j++) {
-                Projectile projectile = allProjectiles.get(j);
-                if (projectile.getActive() && zombie.getBounds().intersects(projectile.getBounds())) {
-                    zombie.takeDamage((int) projectile.getDamage(), projectile.getDamageRadius() == 0); 
-                    if (projectile.getDamageRadius() > 0) {
-                        applyAreaDamage(projectile.getX() + projectile.getWidth()/2, projectile.getY() + projectile.getHeight()/2, projectile.getDamageRadius(), projectile.getDamage());
-                    }
-                    projectile.setActive(false);
+            if (projectileCount > 0) {
+                checkProjectileHits(i, zombieBounds);
+            }
+        }
+    }
+
+    /**
+     * Moves one zombie and queues its attacks, the serial form of a zombie's part of update
+     * Precondition: slot is below getZombieCount(), the flow field is up to date
+     * Postcondition: the zombie is moved and its attacks are queued
+     * @param slot the slot of the zombie in the store
+     * @param player the player object
+     * @param buildingSystem the building system
+     * @param resourceSystem the resource system
+     * @param tick the current simulation tick
+     */
+    public void updateZombie(int slot, Player player, BuildingSystem buildingSystem, ResourceSystem resourceSystem, long tick) {
+        computeIntent(slot, player, buildingSystem, resourceSystem, tick, intentBounds);
+        commitIntent(slot, player);
+    }
+
+    /**
+     * Works out where a zombie moves and what it attacks this tick without changing anything outside its slot
+     * Precondition: buildings, resources and the player are not changed while intents are computed
+     * Postcondition: the next position and attacks are stored in the slot for commitIntent
+     * @param slot the slot of the zombie in the store
+     * @param player the player object
+     * @param buildingSystem the building system
+     * @param resourceSystem the resource system
+     * @param tick the current simulation tick
+     * @param futureRect a box to hold the zombie's next bounds, not shared with any other thread
+     */
+    private void computeIntent(int slot, Player player, BuildingSystem buildingSystem, ResourceSystem resourceSystem, long tick, Rectangle futureRect) {
+        ZombieStore z = zombies;
+        int size = ZombieStore.SIZE;
+        double x = z.x[slot];
+        double y = z.y[slot];
+
+        //************* Check Current Target Building *************//
+        Building targetBuilding = z.targetBuilding[slot];
+        if (targetBuilding != null) {
+            if (!buildingSystem.isPlaced(targetBuilding) || targetBuilding.getHealth() <= 0) {
+                targetBuilding = null;
+            }
+        }
+
+        double destX, destY;
+        boolean followingField = false;
+
+        if (targetBuilding != null) {
+            destX = targetBuilding.getX() + targetBuilding.getWidth() / 2 - size / 2;
+            destY = targetBuilding.getY() + targetBuilding.getHeight() / 2 - size / 2;
+        } else {
+            Building stash = buildingSystem.getActiveStash();
+            FlowField flowField = buildingSystem.getFlowField();
+            int nextCell = (stash != null) ? flowField.getNextCell(x + size / 2.0, y + size / 2.0) : -1;
+            if (nextCell >= 0) {
+                //************* Follow Flow Field *************//
+                destX = flowField.getCellCenterX(nextCell) - size / 2.0;
+                destY = flowField.getCellCenterY(nextCell) - size / 2.0;
+                followingField = true;
+            } else if (stash != null) {
+                // Already on the stash or walled in by resources, walk straight at it
+                destX = stash.getX() + stash.getWidth() / 2 - size / 2;
+                destY = stash.getY() + stash.getHeight() / 2 - size / 2;
+            } else {
+                destX = player.getX();
+                destY = player.getY();
+            }
+        }
+
+        //************* Target Movement *************//
+        double rotation = Math.atan2(destY - y, destX - x);
+        z.rotation[slot] = rotation;
+
+        double moveX = Math.cos(rotation) * z.speed[slot];
+        double moveY = Math.sin(rotation) * z.speed[slot];
+
+        //************* Collision Check *************//
+        futureRect.setBounds((int)(x + moveX), (int)(y + moveY), size, size);
+        if (targetBuilding == null) {
+            // The field already routes around buildings, so only one actually stepped into is attacked
+            Building collidedBuilding = followingField ? CollisionSystem.getOverlappingBuilding(futureRect, buildingSystem) : CollisionSystem.getCollidingBuilding(futureRect, buildingSystem);
+            if (collidedBuilding != null) {
+                targetBuilding = collidedBuilding;
+                moveX = 0;
+                moveY = 0;
+            }
+        } else {
+            if (CollisionSystem.intersects(futureRect, (int) targetBuilding.getX(), (int) targetBuilding.getY(), targetBuilding.getWidth(), targetBuilding.getHeight())) {
+                moveX = 0;
+                moveY = 0;
+            }
+        }
+        z.targetBuilding[slot] = targetBuilding;
+
+        double nextX = x;
+        double nextY = y;
+        if (canMoveTo(futureRect, player, resourceSystem)) {
+            nextX += moveX;
+            nextY += moveY;
+        } else if (moveX != 0 || moveY != 0) {
+            //************* Slide Along Obstacles *************//
+            futureRect.setLocation((int)(x + moveX), (int)y);
+            if (moveX != 0 && canMoveTo(futureRect, player, resourceSystem)) {
+                nextX += moveX;
+            } else {
+                futureRect.setLocation((int)x, (int)(y + moveY));
+                if (moveY != 0 && canMoveTo(futureRect, player, resourceSystem)) {
+                    nextY += moveY;
+                }
+            }
+        }
+        z.nextX[slot] = nextX;
+        z.nextY[slot] = nextY;
+
+        //************* Attack Handling *************//
+        Rectangle attackBounds = futureRect;
+        attackBounds.setBounds((int)nextX - 5, (int)nextY - 5, size + 10, size + 10);
+        z.buildingToAttack[slot] = null;
+        if (targetBuilding != null && tick >= z.nextAttackTick[slot]) { // The cheap cooldown check skips the building query between swings
+            if (CollisionSystem.checkBuildingCollision(attackBounds, buildingSystem)) {
+                z.buildingToAttack[slot] = targetBuilding;
+                z.nextAttackTick[slot] = GameClock.getTickAfter(GameClock.toMillis(tick) + ATTACK_COOLDOWN);
+            }
+        }
+        z.attacksPlayer[slot] = CollisionSystem.checkPlayerCollision(attackBounds, player);
+    }
+
+    /**
+     * Applies the movement and queues the attacks worked out by computeIntent
+     * Precondition: computeIntent has run for the slot this tick, called on the simulation thread in slot order
+     * Postcondition: the zombie is moved and its attacks are queued
+     * @param slot the slot of the zombie in the store
+     * @param player the player object
+     */
+    private void commitIntent(int slot, Player player) {
+        ZombieStore z = zombies;
+        z.x[slot] = z.nextX[slot];
+        z.y[slot] = z.nextY[slot];
+        if (z.buildingToAttack[slot] != null) {
+            damageSystem.damageBuilding(z.buildingToAttack[slot], z.damage[slot], DamageSystem.SOURCE_ZOMBIE);
+            z.buildingToAttack[slot] = null;
+        }
+        if (z.attacksPlayer[slot]) {
+            damageSystem.damagePlayer(player, z.damage[slot] / 5, DamageSystem.SOURCE_ZOMBIE);
+            z.attacksPlayer[slot] = false;
+        }
+    }
+
+    /**
+     * Checks whether a zombie may move into an area without walking into a resource or the player
+     * Precondition: futureRect is the zombie's bounds after the move
+     * Postcondition: returns true if the area is free
+     * @param futureRect the zombie's bounds after the move
+     * @param player the player object
+     * @param resourceSystem the resource system
+     * @return true if the zombie can move there, false otherwise
+     */
+    private static boolean canMoveTo(Rectangle futureRect, Player player, ResourceSystem resourceSystem) {
+        return !CollisionSystem.checkResourceCollision(futureRect, resourceSystem) && !CollisionSystem.checkPlayerCollision(futureRect, player);
+    }
+
+    /**
+     * Sets whether zombie intents may be computed on the shared ForkJoinPool
+     * Precondition: N/A
+     * Postcondition: later updates use the chosen path, the result is the same either way
+     * @param parallelUpdates true to use the pool for large waves, false to always stay on the simulation thread
+     */
+    public void setParallelUpdates(boolean parallelUpdates) {
+        this.parallelUpdates = parallelUpdates;
+    }
+
+    /**
+     * Checks whether zombie intents may be computed on the shared ForkJoinPool
+     * Precondition: N/A
+     * Postcondition: returns the parallel update setting
+     * @return true if large waves are updated in parallel, false otherwise
+     */
+    public boolean isParallelUpdates() {
+        return parallelUpdates;
+    }
+
+    /**
+     * Sets how many zombies there must be before the pool is used
+     * Precondition: minZombies is at least 1
+     * Postcondition: later parallel updates only use the pool at or above this zombie count
+     * @param minZombies the smallest zombie count updated in parallel
+     */
+    public void setParallelThreshold(int minZombies) {
+        this.parallelThreshold = Math.max(1, minZombies);
+    }
+
+    /**
+     * Task that computes the intents of a range of slots, splitting it in half until the pieces are small
+     */
+    private final class IntentTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L; // RecursiveAction is Serializable, tasks never are serialized
+        private final int start, end;
+        private final Player player;
+        private final BuildingSystem buildingSystem;
+        private final ResourceSystem resourceSystem;
+        private final long tick;
+
+        /**
+         * Constructor for IntentTask
+         * Precondition: 0 <= start <= end <= the zombie count
+         * Postcondition: a task covering the slots from start up to end is created
+         * @param start the first slot in the range
+         * @param end one past the last slot in the range
+         * @param player the player object
+         * @param buildingSystem the building system
+         * @param resourceSystem the resource system
+         * @param tick the current simulation tick
+         */
+        IntentTask(int start, int end, Player player, BuildingSystem buildingSystem, ResourceSystem resourceSystem, long tick) {
+            this.start = start;
+            this.end = end;
+            this.player = player;
+            this.buildingSystem = buildingSystem;
+            this.resourceSystem = resourceSystem;
+            this.tick = tick;
+        }
+
+        /**
+         * Computes the intents of the range, or splits it between two subtasks
+         * Precondition: nothing outside the zombie slots is changed until the task finishes
+         * Postcondition: every zombie in the range has its intent for this tick
+         */
+        @Override
+        protected void compute() {
+            if (end - start <= PARTITION_SIZE) {
+                Rectangle futureRect = new Rectangle(); // One per partition rather than one per zombie
+                for (int i = start; i < end; i++) {
+                    computeIntent(i, player, buildingSystem, resourceSystem, tick, futureRect);
                 }
+                return;
+            }
+            int middle = (start + end) >>> 1;
+            invokeAll(new IntentTask(start, middle, player, buildingSystem, resourceSystem, tick),
+                    new IntentTask(middle, end, player, buildingSystem, resourceSystem, tick));
+        }
+    }
+
+    /**
+     * Removes every zombie killed by the damage applied this tick
+     * Precondition: called after DamageSystem.apply
+     * Postcondition: no dead zombies are left, each removal moves the last zombie into the freed slot
+     */
+    public void removeDeadZombies() {
+        int before = zombies.size();
+        int i = 0;
+        while (i < zombies.size()) {
+            if (zombies.health[i] <= 0) {
+                zombies.remove(i); // The zombie moved into slot i has not been checked yet
+            } else {
+                i++;
+            }
+        }
+        if (zombies.size() != before) {
+            indexTick = -1; // Slots changed, so the index no longer matches them
+        }
+    }
+
+    /**
+     * Adds the active projectiles of a list to the projectile grid
+     * Precondition: projectiles is not null
+     * Postcondition: every active projectile is stored in the cells its bounds overlap
+     * @param projectiles the projectiles to add
+     * @return the number of projectiles added
+     */
+    private int bucketProjectiles(ArrayList<Projectile> projectiles) {
+        int count = 0;
+        for (int i = 0; i < projectiles.size(); i++) {
+            Projectile projectile = projectiles.get(i);
+            if (projectile.getActive()) {
+                scratchBounds.setBounds((int) projectile.getX(), (int) projectile.getY(), projectile.getWidth(), projectile.getHeight());
+                projectileGrid.insert(projectile, scratchBounds);
+                count++;
             }
+        }
+        return count;
+    }
 
-            //************* Remove Dead Zombies *************//
-            if (zombie.isDead()) {
-                zombies.remove(i);
-                i--;
+    /**
+     * Damages a zombie with every active projectile that overlaps it, only testing projectiles in the zombie's cells
+     * Precondition: the projectile grid was filled this tick
+     * Postcondition: overlapping projectiles deal their damage and are deactivated
+     * @param slot the slot of the zombie to check
+     * @param zombieBounds the current bounds of the zombie
+     */
+    private void checkProjectileHits(int slot, Rectangle zombieBounds) {
+        int minCol = projectileGrid.getColumn(zombieBounds.x);
+        int maxCol = projectileGrid.getColumn(zombieBounds.x + zombieBounds.width - 1);
+        int minRow = projectileGrid.getRow(zombieBounds.y);
+        int maxRow = projectileGrid.getRow(zombieBounds.y + zombieBounds.height - 1);
+
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int col = minCol; col <= maxCol; col++) {
+                ArrayList<Projectile> cell = projectileGrid.getCell(col, row);
+                if (cell == null) {
+                    continue;
+                }
+
+                // A projectile spanning several cells is seen again, but it is inactive after its first hit
+                for (int j = 0; j < cell.size(); j++) {
+                    Projectile projectile = cell.get(j);
+                    if (projectile.getActive() && CollisionSystem.intersects(zombieBounds, (int) projectile.getX(), (int) projectile.getY(), projectile.getWidth(), projectile.getHeight())) {
+                        damageSystem.damageZombie(zombies.getHandle(slot), (int) projectile.getDamage(), DamageSystem.SOURCE_PROJECTILE, projectile.getDamageRadius() == 0 ? DamageSystem.FLAG_FROM_PLAYER : 0);
+                        if (projectile.getDamageRadius() > 0) {
+                            applyAreaDamage(projectile.getX() + projectile.getWidth()/2, projectile.getY() + projectile.getHeight()/2, projectile.getDamageRadius(), projectile.getDamage());
+                        }
+                        projectile.setActive(false);
+                    }
+                }
             }
         }
     }
@@ -89,6 +453,9 @@ public class ZombieSystem {
      * @param resourceSystem the resource system
      */
     private void spawnWave(int waveCount, BuildingSystem buildingSystem, ResourceSystem resourceSystem) {
+        WaveSpawnEvent event = new WaveSpawnEvent();
+        event.begin();
+
         // Calculate tier (increases every 10 waves) and level (cycles 1-10 within each tier)
         int tier = ((waveCount - 1) / 10) + 1;
         int level = ((waveCount - 1) % 10) + 1;
@@ -98,6 +465,7 @@ public class ZombieSystem {
         }
 
         int zombieCount = 10 + (waveCount * 2); // Increase zombie count with each wave
+        int retries = 0;
         for (int i = 0; i < zombieCount; i++) {
             Point spawnPoint; //Make sure zombies does not spawn on resources
             while (true) {
@@ -107,51 +475,155 @@ public class ZombieSystem {
                 if (!CollisionSystem.checkResourceCollision(zombieBounds, resourceSystem)) {
                     break; 
                 }
+                retries++;
             }
-            zombies.add(new Zombie(spawnPoint.x, spawnPoint.y, tier, level));
-        
+            zombies.add(spawnPoint.x, spawnPoint.y, tier, level);
+        }
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.wave = waveCount;
+            event.tier = tier;
+            event.level = level;
+            event.zombieCount = zombieCount;
+            event.retries = retries;
+            event.commit();
         }
     }
 
     /**
-     * Applies area damage to zombies within a certain radius
+     * Spawns a square block of zombies around a point, for loading the game to a chosen size from the developer console
+     * Precondition: tier is between 1 and 6, level is between 1 and 10, count is non-negative
+     * Postcondition: up to count zombies are added one zombie apart, skipping spots on resources or outside the play area
+     * @param count the number of zombies to spawn
+     * @param tier the tier of every zombie
+     * @param level the level of every zombie
+     * @param centerX the x-coordinate of the middle of the block
+     * @param centerY the y-coordinate of the middle of the block
+     * @param resourceSystem the resource system, so no zombie is stuck inside a resource
+     * @return the number of zombies spawned
+     */
+    public int spawnZombies(int count, int tier, int level, double centerX, double centerY, ResourceSystem resourceSystem) {
+        int side = (int) Math.ceil(Math.sqrt(count));
+        int minPosition = BenumZombsGame.OFFSET + BenumZombsGame.BORDER_THICKNESS;
+        int maxPosition = BenumZombsGame.OFFSET + BenumZombsGame.PLAY_AREA - BenumZombsGame.BORDER_THICKNESS - ZombieStore.SIZE;
+        double startX = centerX - (side * ZombieStore.SIZE) / 2.0;
+        double startY = centerY - (side * ZombieStore.SIZE) / 2.0;
+
+        int spawned = 0;
+        int maxSpots = side * side * 4; // Spots on resources are skipped, so the block may grow past its square
+        for (int spot = 0; spot < maxSpots && spawned < count; spot++) {
+            double x = startX + (spot % side) * ZombieStore.SIZE;
+            double y = startY + (spot / side) * ZombieStore.SIZE;
+            if (x < minPosition || x > maxPosition || y < minPosition || y > maxPosition) {
+                continue;
+            }
+
+            scratchBounds.setBounds((int) x, (int) y, ZombieStore.SIZE, ZombieStore.SIZE);
+            if (!CollisionSystem.checkResourceCollision(scratchBounds, resourceSystem)) {
+                zombies.add(x, y, tier, level);
+                spawned++;
+            }
+        }
+
+        indexTick = -1; // New zombies must be findable by area damage this tick
+        return spawned;
+    }
+
+    /**
+     * Removes every zombie without touching the wave state
      * Precondition: N/A
-     * Postcondition: All zombies within the specified radius take damage
+     * Postcondition: no zombies are left and the night's wave is not spawned again
+     */
+    public void clearZombies() {
+        zombies.clear();
+        indexTick = -1;
+    }
+
+    /**
+     * Queues area damage for zombies within a certain radius
+     * Precondition: N/A
+     * Postcondition: All zombies within the specified radius are queued to take damage
      * @param cx the x-coordinate of the center of the damage area
      * @param cy the y-coordinate of the center of the damage area
      * @param radius the radius of the damage area
      * @param damage the amount of damage to apply
      */
     private void applyAreaDamage(double cx, double cy, double radius, double damage) {
-        for (int i = 0; i < zombies.size(); i++) {
-            Zombie zombie = zombies.get(i);
-            double dist = Math.hypot(zombie.getX() + zombie.getWidth()/2 - cx, zombie.getY() + zombie.getHeight()/2 - cy);
-            if (dist <= radius) {
-                zombie.takeDamage( (int) damage, false);
-            }
+        ZombieIndex index = getZombieIndex();
+        int found = index.findWithinRadius(cx, cy, radius);
+        for (int i = 0; i < found; i++) {
+            damageSystem.damageZombie(zombies.getHandle(index.getResult(i)), (int) damage, DamageSystem.SOURCE_AREA, 0);
         }
     }
 
     /**
-     * Draws all zombies in the system
+     * Gets the spatial index of zombie positions, rebuilding it on the first use each tick
      * Precondition: N/A
-     * Postcondition: All zombies are drawn to the provided Graphics2D context
+     * Postcondition: returns an index built this tick
+     * @return the ZombieIndex for range queries
+     */
+    public ZombieIndex getZombieIndex() {
+        if (indexTick != clock.getTick()) {
+            zombieIndex.rebuild(zombies);
+            indexTick = clock.getTick();
+        }
+        return zombieIndex;
+    }
+
+    /**
+     * Stores the current position of every zombie for render interpolation
+     * Precondition: called at the start of a simulation tick
+     * Postcondition: every zombie's previous position is its current position
+     */
+    public void storePreviousPositions() {
+        zombies.storePreviousPositions();
+    }
+
+    /**
+     * Draws the zombies that are on screen
+     * Precondition: alpha is between 0.0 and 1.0, viewport is set for this frame
+     * Postcondition: All zombies inside the viewport are drawn to the provided Graphics2D context
      * @param g2d the Graphics2D context to draw on
+     * @param alpha how far the renderer is between the previous and current tick
+     * @param viewport the part of the world on screen
      */
-    public void draw(Graphics2D g2d) {
+    public void draw(Graphics2D g2d, double alpha, Viewport viewport) {
         for (int i = 0; i < zombies.size(); i++) {
-            zombies.get(i).draw(g2d);
+            if (viewport.isVisible(zombies.x[i], zombies.y[i], ZombieStore.SIZE, ZombieStore.SIZE)) {
+                zombies.getView(i).drawInterpolated(g2d, alpha);
+            }
         }
     }
     
     /**
-     * Gets the list of zombies in the system
+     * Gets the damage queue shared by zombies and the buildings attacking them
+     * Precondition: N/A
+     * Postcondition: returns the DamageSystem
+     * @return the DamageSystem
+     */
+    public DamageSystem getDamageSystem() {
+        return damageSystem;
+    }
+
+    /**
+     * Gets the store holding the state of every zombie
+     * Precondition: N/A
+     * Postcondition: The ZombieStore is returned
+     * @return the ZombieStore
+     */
+    public ZombieStore getZombieStore() {
+        return zombies;
+    }
+
+    /**
+     * Gets the number of zombies alive
      * Precondition: N/A
-     * Postcondition: The list of zombies is returned
-     * @return the list of zombies
+     * Postcondition: The zombie count is returned
+     * @return the number of zombies
      */
-    public ArrayList<Zombie> getZombies() {
-        return zombies; 
+    public int getZombieCount() {
+        return zombies.size();
     }
 
     /**
@@ -161,6 +633,7 @@ public class ZombieSystem {
      */
     public void reset() {
         zombies.clear();
+        indexTick = -1;
         waveSpawnedForNight = false;
     }
 }
\ No newline at end of file